@@ -13,7 +13,7 @@ TARGET="komposten.github.io/leapjna/v$MAJOR"
 echo "Copying javadocs to $TARGET"
 rm -rf $TARGET
 mkdir -p $TARGET 
-cp -r LeapJna/target/site/apidocs/. $TARGET
+cp -r LeapJna/leapjna/target/site/apidocs/. $TARGET
 
 # Create a new branch, commit and push
 echo "Creating a new branch and committing the docs"
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.util.ArrayPointer;
+import komposten.leapjna.leapc.util.PrimitiveArrayPointer;
+
+
+/**
+ * <p>
+ * Measures element access in {@link ArrayPointer} and {@link PrimitiveArrayPointer},
+ * which are used for arrays passed to and from LeapC (e.g. device lists and point
+ * mappings).
+ * </p>
+ * <p>
+ * Run with <code>-prof gc</code> to see the garbage produced per access.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayPointerBenchmark
+{
+	private static final int ARRAY_SIZE = 32;
+
+	private ArrayPointer<LEAP_VECTOR> vectors;
+	private LEAP_VECTOR[] vectorArray;
+	private PrimitiveArrayPointer ints;
+	private PrimitiveArrayPointer floats;
+	private int[] intArray;
+	private float[] floatArray;
+	private int index;
+
+
+	@Setup
+	public void setup()
+	{
+		LEAP_VECTOR[] values = new LEAP_VECTOR[ARRAY_SIZE];
+		for (int i = 0; i < ARRAY_SIZE; i++)
+		{
+			values[i] = new LEAP_VECTOR(i, i + 1, i + 2);
+		}
+
+		vectors = ArrayPointer.fromArray(values);
+		vectorArray = new LEAP_VECTOR[ARRAY_SIZE];
+
+		ints = PrimitiveArrayPointer.ints(ARRAY_SIZE);
+		floats = PrimitiveArrayPointer.floats(ARRAY_SIZE);
+		for (int i = 0; i < ARRAY_SIZE; i++)
+		{
+			ints.setInt(i * 4L, i);
+			floats.setFloat(i * 4L, i);
+		}
+
+		intArray = new int[ARRAY_SIZE];
+		floatArray = new float[ARRAY_SIZE];
+	}
+
+
+	private int nextIndex()
+	{
+		index = (index + 1) & (ARRAY_SIZE - 1);
+		return index;
+	}
+
+
+	@Benchmark
+	public LEAP_VECTOR structGetElement()
+	{
+		return vectors.getElement(nextIndex());
+	}
+
+
+	@Benchmark
+	public LEAP_VECTOR[] structGetElements()
+	{
+		return vectors.getElements(vectorArray);
+	}
+
+
+	@Benchmark
+	public int intGetAt()
+	{
+		return ints.getIntAt(nextIndex());
+	}
+
+
+	@Benchmark
+	public int[] intToArray()
+	{
+		return ints.toIntArray(intArray);
+	}
+
+
+	@Benchmark
+	public float floatGetAt()
+	{
+		return floats.getFloatAt(nextIndex());
+	}
+
+
+	@Benchmark
+	public float[] floatToArray()
+	{
+		return floats.toFloatArray(floatArray);
+	}
+}
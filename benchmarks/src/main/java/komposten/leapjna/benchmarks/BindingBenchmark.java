@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.LeapCDirect;
+import komposten.leapjna.leapc.LockingMode;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+/**
+ * <p>
+ * Compares the per-call cost of the {@link LeapC} interface (reflective JNA proxy with
+ * type mapping) with the direct-mapped {@link LeapCDirect} bindings.
+ * </p>
+ * <p>
+ * Requires the LeapC library on <code>jna.library.path</code>. The poll benchmarks also
+ * require a running Ultraleap Tracking Service, but not a connected device.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark
+{
+	private LeapC unlocked;
+	private LEAP_CONNECTION connection;
+	private Pointer hConnection;
+	private LEAP_CONNECTION_MESSAGE message;
+
+
+	@Setup
+	public void setup()
+	{
+		unlocked = LeapC.getInstance(LockingMode.NONE);
+		connection = new LEAP_CONNECTION();
+		message = new LEAP_CONNECTION_MESSAGE();
+
+		eLeapRS result = LeapC.INSTANCE.LeapCreateConnection(null, connection);
+		if (result == eLeapRS.Success)
+		{
+			result = LeapC.INSTANCE.LeapOpenConnection(connection.handle);
+		}
+
+		if (result != eLeapRS.Success)
+		{
+			throw new IllegalStateException("Could not open a LeapC connection: " + result);
+		}
+
+		hConnection = connection.handle;
+	}
+
+
+	@TearDown
+	public void tearDown()
+	{
+		LeapC.INSTANCE.LeapCloseConnection(hConnection);
+		LeapC.INSTANCE.LeapDestroyConnection(hConnection);
+	}
+
+
+	@Benchmark
+	public long getNow_proxyGlobal()
+	{
+		return LeapC.INSTANCE.LeapGetNow();
+	}
+
+
+	@Benchmark
+	public long getNow_proxyUnlocked()
+	{
+		return unlocked.LeapGetNow();
+	}
+
+
+	@Benchmark
+	public long getNow_direct()
+	{
+		return LeapCDirect.LeapGetNow();
+	}
+
+
+	@Benchmark
+	public eLeapRS pollConnection_proxyGlobal()
+	{
+		return LeapC.INSTANCE.LeapPollConnection(hConnection, 0, message);
+	}
+
+
+	@Benchmark
+	public eLeapRS pollConnection_proxyUnlocked()
+	{
+		return unlocked.LeapPollConnection(hConnection, 0, message);
+	}
+
+
+	@Benchmark
+	public int pollConnection_direct()
+	{
+		return LeapCDirect.LeapPollConnection(hConnection, 0, message);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+import komposten.leapjna.leapc.views.HandView;
+import komposten.leapjna.leapc.views.TrackingEventView;
+
+
+/**
+ * <p>
+ * Measures the cost of decoding a tracking frame from native memory, as done after every
+ * successful <code>LeapPollConnection</code>.
+ * </p>
+ * <p>
+ * The fixtures are synthetic native memory (see {@link Fixtures}), so no device or native
+ * library is needed. <code>hands</code> is the number of hands in the frame. Run with
+ * <code>-prof gc</code> to see the garbage produced per frame.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecodingBenchmark
+{
+	@Param({ "0", "1", "2" })
+	private int hands;
+
+	private Memory trackingMemory;
+	private Memory messageMemory;
+	private LEAP_CONNECTION_MESSAGE message;
+	private LEAP_CONNECTION_MESSAGE reusingMessage;
+	private LEAP_TRACKING_EVENT trackingEvent;
+	private TrackingEventView trackingView;
+	private FrameSnapshot snapshot;
+
+
+	@Setup
+	public void setup()
+	{
+		trackingMemory = Fixtures.trackingEvent(hands);
+		messageMemory = Fixtures.connectionMessage(eLeapEventType.Tracking, trackingMemory);
+		message = new LEAP_CONNECTION_MESSAGE(messageMemory);
+		reusingMessage = new LEAP_CONNECTION_MESSAGE(messageMemory);
+		reusingMessage.setReuseEvents(true);
+		trackingEvent = new LEAP_TRACKING_EVENT(trackingMemory);
+		trackingView = new TrackingEventView();
+		snapshot = new FrameSnapshot();
+	}
+
+
+	/**
+	 * Reads a polled message and decodes its tracking event, like a typical poll loop.
+	 */
+	@Benchmark
+	public LEAP_HAND[] messageDecode()
+	{
+		message.read();
+		return message.getTrackingEvent().getHands();
+	}
+
+
+	/**
+	 * Like {@link #messageDecode()}, but with
+	 * {@link LEAP_CONNECTION_MESSAGE#setReuseEvents(boolean) event reuse} enabled.
+	 */
+	@Benchmark
+	public LEAP_HAND[] messageDecodeReused()
+	{
+		reusingMessage.read();
+		return reusingMessage.getTrackingEvent().getHands();
+	}
+
+
+	/**
+	 * Reads a polled message and the palm positions and pinch strengths of all hands using
+	 * a {@link TrackingEventView}, without decoding the event into structures.
+	 */
+	@Benchmark
+	public float messageView()
+	{
+		message.read();
+		trackingView.wrap(message.pEvent);
+
+		float sum = 0;
+		for (int i = 0; i < trackingView.handCount(); i++)
+		{
+			HandView hand = trackingView.hand(i);
+			sum += hand.palmPositionX() + hand.palmPositionY() + hand.palmPositionZ()
+					+ hand.pinchStrength();
+		}
+		return sum;
+	}
+
+
+	/**
+	 * Reads a polled message and copies its tracking event into a re-used
+	 * {@link FrameSnapshot}, as done before passing a frame to another thread.
+	 */
+	@Benchmark
+	public FrameSnapshot messageSnapshot()
+	{
+		message.read();
+		return snapshot.copyFrom(message.pEvent);
+	}
+
+
+	/**
+	 * Only reads the message header, without decoding the event.
+	 */
+	@Benchmark
+	public int messageRead()
+	{
+		message.read();
+		return message.type;
+	}
+
+
+	/**
+	 * Re-reads an existing tracking event struct.
+	 */
+	@Benchmark
+	public LEAP_HAND[] trackingEventRead()
+	{
+		trackingEvent.read();
+		return trackingEvent.getHands();
+	}
+
+
+	/**
+	 * Creates a new tracking event struct for the memory, as
+	 * {@link LEAP_CONNECTION_MESSAGE#getTrackingEvent()} does.
+	 */
+	@Benchmark
+	public LEAP_HAND[] trackingEventNew()
+	{
+		return new LEAP_TRACKING_EVENT(trackingMemory).getHands();
+	}
+}
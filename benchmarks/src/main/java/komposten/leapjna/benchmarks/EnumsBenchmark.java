@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.Enums.IntEnum;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+/**
+ * <p>
+ * Compares {@link Enums#parse(int, IntEnum)} with the linear search over
+ * {@link Class#getEnumConstants()} that it used to perform.
+ * </p>
+ * <p>
+ * <code>value</code> selects which constant is looked up: the first one, the last one or
+ * a value that has no constant (which makes the linear search scan the whole enum).
+ * Run with <code>-prof gc</code> to see that the table lookup does not allocate, while
+ * the linear search clones the constant array on every call.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumsBenchmark
+{
+	@Param({ "first", "last", "missing" })
+	private String value;
+
+	private int resultValue;
+	private int eventTypeValue;
+
+
+	@Setup
+	public void setup()
+	{
+		eLeapRS[] results = eLeapRS.values();
+		eLeapEventType[] eventTypes = eLeapEventType.values();
+
+		switch (value)
+		{
+			case "first":
+				resultValue = results[0].getValue();
+				eventTypeValue = eventTypes[0].getValue();
+				break;
+			case "last":
+				resultValue = results[results.length - 1].getValue();
+				eventTypeValue = eventTypes[eventTypes.length - 1].getValue();
+				break;
+			default:
+				resultValue = 0x12345;
+				eventTypeValue = 0x12345;
+				break;
+		}
+	}
+
+
+	@Benchmark
+	public eLeapRS resultLookup()
+	{
+		return Enums.parse(resultValue, eLeapRS.Unknown);
+	}
+
+
+	@Benchmark
+	public eLeapRS resultLinearSearch()
+	{
+		return linearSearch(resultValue, eLeapRS.Unknown);
+	}
+
+
+	@Benchmark
+	public eLeapEventType eventTypeLookup()
+	{
+		return Enums.parse(eventTypeValue, eLeapEventType.Unknown);
+	}
+
+
+	@Benchmark
+	public eLeapEventType eventTypeLinearSearch()
+	{
+		return linearSearch(eventTypeValue, eLeapEventType.Unknown);
+	}
+
+
+	/**
+	 * The implementation of {@link Enums#parse(int, IntEnum)} prior to LeapJna 1.3.0.
+	 */
+	private static <E extends IntEnum> E linearSearch(int value, E defaultValue)
+	{
+		@SuppressWarnings("unchecked")
+		E[] enumValues = (E[]) defaultValue.getClass().getEnumConstants();
+
+		for (E enumValue : enumValues)
+		{
+			if (enumValue.getValue() == value)
+			{
+				return enumValue;
+			}
+		}
+
+		return defaultValue;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+
+
+/**
+ * Builds synthetic native memory in the same layout as LeapC uses, so that decoding can
+ * be benchmarked without the native library or a device.
+ */
+final class Fixtures
+{
+	static final int TRACKING_EVENT_SIZE = new LEAP_TRACKING_EVENT().size();
+	static final int HAND_SIZE = new LEAP_HAND().size();
+
+
+	private Fixtures()
+	{}
+
+
+	/**
+	 * @return Native memory containing a <code>LEAP_TRACKING_EVENT</code> directly followed
+	 *         by <code>handCount</code> hands.
+	 */
+	static Memory trackingEvent(int handCount)
+	{
+		Memory memory = new Memory(
+				TRACKING_EVENT_SIZE + (long) HAND_SIZE * Math.max(1, handCount));
+		memory.clear();
+
+		LEAP_TRACKING_EVENT event = new LEAP_TRACKING_EVENT(memory);
+		event.info.frame_id = 1000;
+		event.info.timestamp = 123_456_789;
+		event.tracking_frame_id = 1000;
+		event.nHands = handCount;
+		event.pHands = handCount > 0 ? memory.share(TRACKING_EVENT_SIZE) : null;
+		event.framerate = 120;
+		event.write();
+
+		for (int i = 0; i < handCount; i++)
+		{
+			LEAP_HAND hand = new LEAP_HAND(
+					memory.share(TRACKING_EVENT_SIZE + (long) i * HAND_SIZE));
+			hand.id = i + 1;
+			hand.type = i % 2 == 0 ? eLeapHandType.Left.value : eLeapHandType.Right.value;
+			hand.confidence = 1;
+			hand.palm.position.y = 200;
+			hand.write();
+		}
+
+		return memory;
+	}
+
+
+	/**
+	 * @return Native memory containing a <code>LEAP_CONNECTION_MESSAGE</code> which points
+	 *         to <code>event</code>.
+	 */
+	static Memory connectionMessage(eLeapEventType type, Pointer event)
+	{
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+		Memory memory = new Memory(message.size());
+		memory.clear();
+
+		message = new LEAP_CONNECTION_MESSAGE(memory);
+		message.setFields(message.size(), type.value, event, 1);
+		message.write();
+
+		return memory;
+	}
+
+
+	/**
+	 * @return Native memory containing a <code>LEAP_IMAGE</code> whose <code>data</code>
+	 *         points to a <code>width</code> x <code>height</code> 8-bit image, and whose
+	 *         <code>distortion_matrix</code> points to a distortion matrix.
+	 */
+	static ImageMemory image(int width, int height)
+	{
+		Memory pixels = new Memory((long) width * height);
+		for (int i = 0; i < pixels.size(); i++)
+		{
+			pixels.setByte(i, (byte) i);
+		}
+
+		Memory matrix = new Memory(new LEAP_DISTORTION_MATRIX().size());
+		for (int i = 0; i < matrix.size() / Float.BYTES; i++)
+		{
+			matrix.setFloat(i * (long) Float.BYTES, i);
+		}
+
+		Memory memory = new Memory(new LEAP_IMAGE().size());
+		memory.clear();
+
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, memory);
+		image.properties.width = width;
+		image.properties.height = height;
+		image.properties.bpp = 1;
+		image.matrix_version = 1;
+		image.distortion_matrix = matrix;
+		image.data = pixels;
+		image.offset = 0;
+		image.write();
+
+		return new ImageMemory(memory, pixels, matrix);
+	}
+
+
+	/**
+	 * Holds the <code>LEAP_IMAGE</code> struct, the pixel data and the distortion matrix,
+	 * so that the pixel and matrix memory is not freed while the struct is in use.
+	 */
+	static final class ImageMemory
+	{
+		final Memory image;
+		final Memory pixels;
+		final Memory matrix;
+
+
+		ImageMemory(Memory image, Memory pixels, Memory matrix)
+		{
+			this.image = image;
+			this.pixels = pixels;
+			this.matrix = matrix;
+		}
+	}
+}
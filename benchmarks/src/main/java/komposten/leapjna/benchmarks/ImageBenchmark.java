@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jna.Structure;
+
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.util.ByteArrayPool;
+import komposten.leapjna.leapc.util.DistortionMatrixCache;
+
+
+/**
+ * <p>
+ * Measures the cost of copying camera images from native memory with
+ * {@link LEAP_IMAGE#getData()}, compared to copying into a reused or pooled array and to
+ * the zero-copy {@link LEAP_IMAGE#getDataBuffer()}. Also measures
+ * {@link LEAP_IMAGE#getMatrix()} compared to {@link DistortionMatrixCache}.
+ * </p>
+ * <p>
+ * <code>size</code> is the image width and height in pixels (8 bits per pixel). The
+ * fixtures are synthetic native memory, so no device is needed. Run with
+ * <code>-prof gc</code> to see the garbage produced per image.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ImageBenchmark
+{
+	@Param({ "384", "640" })
+	private int size;
+
+	private Fixtures.ImageMemory fixture;
+	private byte[] buffer;
+	private ByteArrayPool pool;
+	private DistortionMatrixCache matrixCache;
+
+
+	@Setup
+	public void setup()
+	{
+		fixture = Fixtures.image(size, size);
+		buffer = new byte[size * size];
+		pool = new ByteArrayPool(4);
+		matrixCache = new DistortionMatrixCache();
+	}
+
+
+	/**
+	 * Decodes the image struct and copies the data, as done for every image event.
+	 */
+	@Benchmark
+	public byte[] getData()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		return image.getData();
+	}
+
+
+	/**
+	 * Decodes the image struct and copies the data into a reused array.
+	 */
+	@Benchmark
+	public byte[] getDataIntoArray()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		return image.getData(buffer);
+	}
+
+
+	/**
+	 * Decodes the image struct and copies the data into a pooled array, which is released
+	 * again straight away (as a consumer thread would do when done with it).
+	 */
+	@Benchmark
+	public byte[] getDataPooled()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		byte[] data = image.getData(pool);
+		pool.release(data);
+		return data;
+	}
+
+
+	/**
+	 * Decodes the image struct and reads one pixel through the zero-copy buffer view.
+	 */
+	@Benchmark
+	public byte getDataBuffer()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		ByteBuffer data = image.getDataBuffer();
+		return data.get(data.limit() - 1);
+	}
+
+
+	/**
+	 * Decodes the image struct and its distortion matrix, as done for every image event.
+	 */
+	@Benchmark
+	public LEAP_DISTORTION_MATRIX getMatrix()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		return image.getMatrix();
+	}
+
+
+	/**
+	 * Decodes the image struct and gets the distortion matrix from a cache, which only
+	 * decodes it when <code>matrix_version</code> changes.
+	 */
+	@Benchmark
+	public LEAP_DISTORTION_MATRIX getMatrixCached()
+	{
+		LEAP_IMAGE image = Structure.newInstance(LEAP_IMAGE.class, fixture.image);
+		image.read();
+		return matrixCache.getMatrix(0, 0, image);
+	}
+
+
+	/**
+	 * Copies the pixel data into a reused array, without any struct decoding.
+	 */
+	@Benchmark
+	public byte[] readIntoBuffer()
+	{
+		fixture.pixels.read(0, buffer, 0, buffer.length);
+		return buffer;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_HAND_Layout;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT_Layout;
+
+
+/**
+ * <p>
+ * Compares JNA's reflective <code>Structure.read()</code> and <code>write()</code> with
+ * the generated <code>_Layout</code> readers and writers.
+ * </p>
+ * <p>
+ * Run with <code>-prof gc</code> to see the garbage produced per call.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayoutBenchmark
+{
+	private Memory trackingMemory;
+	private Memory handMemory;
+	private LEAP_TRACKING_EVENT trackingEvent;
+	private LEAP_HAND hand;
+
+
+	@Setup
+	public void setup()
+	{
+		trackingMemory = Fixtures.trackingEvent(1);
+		handMemory = (Memory) trackingMemory.share(Fixtures.TRACKING_EVENT_SIZE);
+		trackingEvent = new LEAP_TRACKING_EVENT();
+		hand = new LEAP_HAND(handMemory);
+	}
+
+
+	@Benchmark
+	public LEAP_HAND handReadJna()
+	{
+		hand.read();
+		return hand;
+	}
+
+
+	@Benchmark
+	public LEAP_HAND handReadGenerated()
+	{
+		LEAP_HAND_Layout.read(handMemory, 0, hand);
+		return hand;
+	}
+
+
+	@Benchmark
+	public LEAP_HAND handWriteJna()
+	{
+		hand.write();
+		return hand;
+	}
+
+
+	@Benchmark
+	public LEAP_HAND handWriteGenerated()
+	{
+		LEAP_HAND_Layout.write(handMemory, 0, hand);
+		return hand;
+	}
+
+
+	/**
+	 * Reads only the tracking event header (not the hands), which is what a poll loop
+	 * needs to decide what to do with a frame.
+	 */
+	@Benchmark
+	public LEAP_TRACKING_EVENT trackingHeaderReadGenerated()
+	{
+		LEAP_TRACKING_EVENT_Layout.read(trackingMemory, 0, trackingEvent);
+		return trackingEvent;
+	}
+}
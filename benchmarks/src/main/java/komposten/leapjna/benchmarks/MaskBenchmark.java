@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
+import komposten.leapjna.leapc.enums.eLeapIMUFlag;
+
+
+/**
+ * <p>
+ * Measures flag mask decoding with {@link Enums#parseMask(int, Class)},
+ * {@link Enums#maskSet(int, Class)} and {@link Enums#hasFlag(int, Enum)}, compared to
+ * parsing the mask directly with {@link Enums.IntFlagEnum#parseMask(int)}, which is not
+ * cached.
+ * </p>
+ * <p>
+ * Run with <code>-prof gc</code> to see the garbage produced per call.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaskBenchmark
+{
+	private int statusMask = eLeapDeviceStatus.Streaming.value | eLeapDeviceStatus.Robust.value;
+	private int imuMask = eLeapIMUFlag.HasAccelerometer.value | eLeapIMUFlag.HasGyroscope.value;
+
+
+	@Benchmark
+	public eLeapDeviceStatus[] statusParseMaskUncached()
+	{
+		return eLeapDeviceStatus.None.parseMask(statusMask);
+	}
+
+
+	@Benchmark
+	public eLeapDeviceStatus[] statusParseMask()
+	{
+		return Enums.parseMask(statusMask, eLeapDeviceStatus.class);
+	}
+
+
+	@Benchmark
+	public Set<eLeapDeviceStatus> statusMaskSet()
+	{
+		return Enums.maskSet(statusMask, eLeapDeviceStatus.class);
+	}
+
+
+	@Benchmark
+	public boolean statusHasFlag()
+	{
+		return Enums.hasFlag(statusMask, eLeapDeviceStatus.Robust);
+	}
+
+
+	@Benchmark
+	public eLeapIMUFlag[] imuParseMaskUncached()
+	{
+		return eLeapIMUFlag.None.parseMask(imuMask);
+	}
+
+
+	@Benchmark
+	public eLeapIMUFlag[] imuParseMask()
+	{
+		return Enums.parseMask(imuMask, eLeapIMUFlag.class);
+	}
+
+
+	@Benchmark
+	public boolean imuHasFlag()
+	{
+		return Enums.hasFlag(imuMask, eLeapIMUFlag.HasGyroscope);
+	}
+}
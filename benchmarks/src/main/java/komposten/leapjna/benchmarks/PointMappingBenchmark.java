@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_POINT_MAPPING;
+
+
+/**
+ * <p>
+ * Measures decoding a {@link LEAP_POINT_MAPPING} into one <code>LEAP_VECTOR</code> per
+ * point, compared to bulk-copying the points and IDs into re-used primitive arrays.
+ * </p>
+ * <p>
+ * <code>points</code> is the number of points in the mapping. Run with
+ * <code>-prof gc</code> to see the garbage produced per decode.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("deprecation")
+public class PointMappingBenchmark
+{
+	@Param({ "100", "1000" })
+	private int points;
+
+	private Memory pointMemory;
+	private Memory idMemory;
+	private LEAP_POINT_MAPPING objectMapping;
+	private LEAP_POINT_MAPPING primitiveMapping;
+	private float[] xyz;
+	private int[] ids;
+
+
+	@Setup
+	public void setup()
+	{
+		pointMemory = new Memory(points * 3L * Float.BYTES);
+		idMemory = new Memory(points * (long) Integer.BYTES);
+		for (int i = 0; i < points; i++)
+		{
+			pointMemory.setFloat(i * 12L, i);
+			pointMemory.setFloat(i * 12L + 4, i);
+			pointMemory.setFloat(i * 12L + 8, i);
+			idMemory.setInt(i * 4L, i);
+		}
+
+		objectMapping = createMapping();
+		primitiveMapping = createMapping();
+		primitiveMapping.setDecodePoints(false);
+
+		xyz = new float[points * 3];
+		ids = new int[points];
+	}
+
+
+	private LEAP_POINT_MAPPING createMapping()
+	{
+		LEAP_POINT_MAPPING mapping = new LEAP_POINT_MAPPING();
+		mapping.nPoints = points;
+		mapping.pPoints = pointMemory;
+		mapping.pIDs = idMemory;
+		mapping.write();
+		return mapping;
+	}
+
+
+	@Benchmark
+	public void readObjects(Blackhole blackhole)
+	{
+		objectMapping.read();
+		blackhole.consume(objectMapping.getPoints());
+		blackhole.consume(objectMapping.getIds());
+	}
+
+
+	@Benchmark
+	public void readPrimitives(Blackhole blackhole)
+	{
+		primitiveMapping.read();
+		blackhole.consume(primitiveMapping.getPoints(xyz));
+		blackhole.consume(primitiveMapping.getIds(ids));
+	}
+}
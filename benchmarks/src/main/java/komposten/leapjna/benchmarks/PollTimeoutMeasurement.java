@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.simulator.LeapCSimulator;
+import komposten.leapjna.util.AdaptivePollTimeout;
+import komposten.leapjna.util.LeapSession;
+
+
+/**
+ * <p>
+ * Measures how the poll timeout of a {@link LeapSession} affects wake-ups, stall
+ * detection and shutdown latency, using {@link LeapCSimulator} at 120 Hz.
+ * </p>
+ * <p>
+ * This is not a JMH benchmark, since it measures wall-clock behaviour of the poll thread
+ * rather than the cost of an operation. Each configuration is run
+ * {@value #ROUNDS} times, and each round:
+ * </p>
+ * <ol>
+ * <li>streams frames for one second and counts the polls;</li>
+ * <li>pauses the simulator and measures the time from the last frame to the first
+ * timeout (stall detection);</li>
+ * <li>counts the polls while paused for two seconds (idle wake-ups);</li>
+ * <li>measures how long {@link LeapSession#close()} takes while paused.</li>
+ * </ol>
+ * <p>
+ * Run it with:
+ * </p>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar komposten.leapjna.benchmarks.PollTimeoutMeasurement
+ * </pre>
+ */
+public final class PollTimeoutMeasurement
+{
+	private static final int ROUNDS = 5;
+	private static final float FRAME_RATE = 120;
+	private static final long WARMUP_MILLIS = 500;
+	private static final long STREAMING_MILLIS = 1000;
+	private static final long PAUSE_SETTLE_MILLIS = 1000;
+	private static final long IDLE_MILLIS = 2000;
+
+
+	private PollTimeoutMeasurement()
+	{}
+
+
+	public static void main(String[] args) throws InterruptedException
+	{
+		System.out.printf("%-16s %18s %16s %18s %18s%n", "timeout", "streaming polls/s",
+				"idle wake-ups/s", "stall detection ms", "close() idle ms");
+
+		measure("fixed 30", null, 30);
+		measure("adaptive 5-30", new AdaptivePollTimeout(5, 30), 0);
+		measure("adaptive 5-100", new AdaptivePollTimeout(), 0);
+	}
+
+
+	private static void measure(String name, AdaptivePollTimeout adaptive, int fixedTimeout)
+			throws InterruptedException
+	{
+		double[] streamingRates = new double[ROUNDS];
+		double[] idleRates = new double[ROUNDS];
+		double[] stallMillis = new double[ROUNDS];
+		double[] closeMillis = new double[ROUNDS];
+
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			Round round = new Round(adaptive, fixedTimeout);
+			round.run();
+			streamingRates[i] = round.streamingRate;
+			idleRates[i] = round.idleRate;
+			stallMillis[i] = round.stallMillis;
+			closeMillis[i] = round.closeMillis;
+		}
+
+		System.out.printf("%-16s %18s %16s %18s %18s%n", name, range(streamingRates),
+				range(idleRates), range(stallMillis), range(closeMillis));
+	}
+
+
+	private static String range(double[] values)
+	{
+		double min = Arrays.stream(values).min().orElse(0);
+		double max = Arrays.stream(values).max().orElse(0);
+		return String.format("%.0f-%.0f", min, max);
+	}
+
+
+	private static final class Round implements EventHandler, LeapSession.PollListener
+	{
+		private final LeapCSimulator simulator = new LeapCSimulator(FRAME_RATE, 1);
+		private final LeapSession session;
+
+		private volatile boolean paused;
+		private volatile long lastFrameTime;
+		private volatile long firstTimeoutTime;
+
+		double streamingRate;
+		double idleRate;
+		double stallMillis;
+		double closeMillis;
+
+
+		Round(AdaptivePollTimeout adaptive, int fixedTimeout)
+		{
+			session = new LeapSession(simulator, this).setPollListener(this);
+			if (adaptive != null)
+			{
+				session.setAdaptivePollTimeout(adaptive);
+			}
+			else
+			{
+				session.setPollTimeout(fixedTimeout);
+			}
+		}
+
+
+		void run() throws InterruptedException
+		{
+			if (session.start() != eLeapRS.Success)
+			{
+				throw new IllegalStateException("Failed to start the session");
+			}
+
+			Thread.sleep(WARMUP_MILLIS);
+			streamingRate = countPolls(STREAMING_MILLIS);
+
+			paused = true;
+			simulator.LeapSetPause(session.getConnectionHandle(), 1);
+			Thread.sleep(PAUSE_SETTLE_MILLIS);
+			stallMillis = toMillis(firstTimeoutTime - lastFrameTime);
+			idleRate = countPolls(IDLE_MILLIS);
+
+			long start = System.nanoTime();
+			session.close();
+			closeMillis = toMillis(System.nanoTime() - start);
+		}
+
+
+		private double countPolls(long millis) throws InterruptedException
+		{
+			session.resetTimings();
+			Thread.sleep(millis);
+			long polls = session.getTimings().getFunction("poll").getCallCount();
+			return polls * 1000.0 / millis;
+		}
+
+
+		private static double toMillis(long nanos)
+		{
+			return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+
+		@Override
+		public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+		{
+			lastFrameTime = System.nanoTime();
+		}
+
+
+		@Override
+		public void onPollFailed(eLeapRS result, int consecutiveFailures)
+		{
+			if (paused && result == eLeapRS.Timeout && firstTimeoutTime == 0)
+			{
+				firstTimeoutTime = System.nanoTime();
+			}
+		}
+	}
+}
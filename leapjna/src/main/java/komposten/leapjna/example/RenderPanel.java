@@ -20,19 +20,23 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 import komposten.leapjna.example.VisualiserBackend.State;
-import komposten.leapjna.leapc.data.LEAP_DIGIT;
-import komposten.leapjna.leapc.data.LEAP_HAND;
 import komposten.leapjna.leapc.data.LEAP_IMAGE;
-import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION;
 import komposten.leapjna.leapc.enums.eLeapImageFormat;
 import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
-import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.views.BoneView;
+import komposten.leapjna.leapc.views.DigitView;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+import komposten.leapjna.leapc.views.HandView;
+import komposten.leapjna.util.FrameMailbox;
 
 
 class RenderPanel extends JPanel
 {
 	private State state = State.INITIAL;
-	private transient LEAP_TRACKING_EVENT data;
+	private transient FrameMailbox frames;
+	private transient FrameSnapshot data;
+	private transient LEAP_QUATERNION orientation = new LEAP_QUATERNION();
 	private transient BufferedImage textureLeft;
 	private transient BufferedImage textureRight;
 
@@ -55,12 +59,9 @@ class RenderPanel extends JPanel
 	}
 
 
-	public void setFrameData(LEAP_TRACKING_EVENT data)
+	public void setFrameSource(FrameMailbox frames)
 	{
-		this.data = data;
-
-		updateFramerate();
-		repaint();
+		this.frames = frames;
 	}
 
 
@@ -94,8 +95,6 @@ class RenderPanel extends JPanel
 		boolean newTexture = (texture == null || texture.getWidth() != width
 				|| texture.getHeight() != height);
 
-		byte[] imageData = image.getData();
-
 		if (image.properties.getFormat() == eLeapImageFormat.IR)
 		{
 			if (newTexture)
@@ -103,9 +102,10 @@ class RenderPanel extends JPanel
 				texture = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
 			}
 
+			// Copy the image straight into the texture instead of into a new array.
 			byte[] textureData = ((DataBufferByte) texture.getRaster().getDataBuffer())
 					.getData();
-			System.arraycopy(imageData, 0, textureData, 0, imageData.length);
+			image.getData(textureData);
 		}
 
 		return texture;
@@ -154,11 +154,18 @@ class RenderPanel extends JPanel
 			g2d.setColor(Color.BLACK);
 			g2d.drawString(String.format("Drawing FPS: %d", framerate), 10, 15);
 
+			FrameSnapshot newFrame = frames != null ? frames.poll() : null;
+			if (newFrame != null)
+			{
+				data = newFrame;
+				updateFramerate();
+			}
+
 			if (data != null)
 			{
-				for (int i = 0; i < data.getHands().length; i++)
+				for (int i = 0; i < data.handCount(); i++)
 				{
-					drawHand(data.getHands()[i], g2d, offsetX, offsetY);
+					drawHand(data.hand(i), g2d, offsetX, offsetY);
 				}
 
 				g2d.setColor(Color.BLACK);
@@ -203,67 +210,65 @@ class RenderPanel extends JPanel
 	}
 
 
-	private void drawHand(LEAP_HAND hand, Graphics2D g2d, int offsetX, int offsetY)
+	private void drawHand(HandView hand, Graphics2D g2d, int offsetX, int offsetY)
 	{
 		g2d.setColor(Color.RED);
-		drawPosition(hand.palm.position, 1, g2d, offsetX, offsetY);
+		drawPosition(hand.palmPositionX(), hand.palmPositionY(), hand.palmPositionZ(), 1, g2d,
+				offsetX, offsetY);
 
 		g2d.setColor(Color.BLUE);
-		drawFinger(hand.digits.thumb, g2d, offsetX, offsetY);
-		drawFinger(hand.digits.index, g2d, offsetX, offsetY);
-		drawFinger(hand.digits.middle, g2d, offsetX, offsetY);
-		drawFinger(hand.digits.ring, g2d, offsetX, offsetY);
-		drawFinger(hand.digits.pinky, g2d, offsetX, offsetY);
+		for (int i = 0; i < HandView.DIGIT_COUNT; i++)
+		{
+			drawFinger(hand.digit(i), g2d, offsetX, offsetY);
+		}
 	}
 
 
-	private void drawFinger(LEAP_DIGIT finger, Graphics2D g2d, int offsetX, int offsetY)
+	private void drawFinger(DigitView finger, Graphics2D g2d, int offsetX, int offsetY)
 	{
 		g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-		g2d.drawLine((int) finger.metacarpal.prev_joint.x + offsetX,
-				(int) -finger.metacarpal.prev_joint.y + offsetY,
-				(int) finger.metacarpal.next_joint.x + offsetX,
-				(int) -finger.metacarpal.next_joint.y + offsetY);
-		g2d.drawLine((int) finger.proximal.prev_joint.x + offsetX,
-				(int) -finger.proximal.prev_joint.y + offsetY,
-				(int) finger.proximal.next_joint.x + offsetX,
-				(int) -finger.proximal.next_joint.y + offsetY);
-		g2d.drawLine((int) finger.intermediate.prev_joint.x + offsetX,
-				(int) -finger.intermediate.prev_joint.y + offsetY,
-				(int) finger.intermediate.next_joint.x + offsetX,
-				(int) -finger.intermediate.next_joint.y + offsetY);
-		g2d.drawLine((int) finger.distal.prev_joint.x + offsetX,
-				(int) -finger.distal.prev_joint.y + offsetY,
-				(int) finger.distal.next_joint.x + offsetX,
-				(int) -finger.distal.next_joint.y + offsetY);
-		drawPosition(finger.distal.next_joint, 0.5f, g2d, offsetX, offsetY);
+
+		for (int i = 0; i < DigitView.BONE_COUNT; i++)
+		{
+			BoneView bone = finger.bone(i);
+			g2d.drawLine((int) bone.prevJointX() + offsetX, (int) -bone.prevJointY() + offsetY,
+					(int) bone.nextJointX() + offsetX, (int) -bone.nextJointY() + offsetY);
+		}
+
+		BoneView bone = finger.bone(DigitView.DISTAL);
+		drawPosition(bone.nextJointX(), bone.nextJointY(), bone.nextJointZ(), 0.5f, g2d,
+				offsetX, offsetY);
 	}
 
 
-	private void drawPosition(LEAP_VECTOR position, float scale, Graphics2D g2d,
+	private void drawPosition(float x, float y, float z, float scale, Graphics2D g2d,
 			int offsetX, int offsetY)
 	{
-		int size = (int) ((position.z + 200) / 400 * 20 * scale + 5);
-		g2d.fillRect((int) (position.x + offsetX - size / 2f),
-				(int) (-position.y + offsetY - size / 2d), size, size);
+		int size = (int) ((z + 200) / 400 * 20 * scale + 5);
+		g2d.fillRect((int) (x + offsetX - size / 2f), (int) (-y + offsetY - size / 2d), size,
+				size);
 	}
 
 
 	private void drawTrackingInfo(Graphics2D g2d)
 	{
-		g2d.drawString(String.format("Tracking FPS: %.02f", data.framerate), 10, 30);
+		g2d.drawString(String.format("Tracking FPS: %.02f", data.framerate()), 10, 30);
 
 		float y = 60;
-		for (int i = 0; i < data.nHands; i++)
+		for (int i = 0; i < data.handCount(); i++)
 		{
-			LEAP_HAND hand = data.getHands()[i];
-
-			float roll = hand.palm.orientation.getRoll();
-			float pitch = hand.palm.orientation.getPitch();
-			float yaw = hand.palm.orientation.getYaw();
+			HandView hand = data.hand(i);
+			orientation.w = hand.palmOrientationW();
+			orientation.x = hand.palmOrientationX();
+			orientation.y = hand.palmOrientationY();
+			orientation.z = hand.palmOrientationZ();
+
+			float roll = orientation.getRoll();
+			float pitch = orientation.getPitch();
+			float yaw = orientation.getYaw();
 			float lineHeight = 20;
 
-			g2d.drawString(String.format("Hand %d: %s", i, hand.getType()), 10, y);
+			g2d.drawString(String.format("Hand %d: %s", i, hand.type()), 10, y);
 			y += lineHeight;
 			g2d.drawString(String.format("Roll (z): %.02f", Math.toDegrees(roll)), 10, y);
 			y += lineHeight;
@@ -10,13 +10,13 @@
 package komposten.leapjna.example;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 
+import com.sun.jna.Pointer;
 import com.sun.jna.ptr.LongByReference;
 
 import komposten.leapjna.example.VisualiserListener.LogType;
 import komposten.leapjna.leapc.LeapC;
-import komposten.leapjna.leapc.data.LEAP_CONNECTION;
-import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
 import komposten.leapjna.leapc.data.LEAP_DEVICE;
 import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
 import komposten.leapjna.leapc.data.LEAP_RECORDING;
@@ -26,9 +26,11 @@ import komposten.leapjna.leapc.enums.eLeapEventType;
 import komposten.leapjna.leapc.enums.eLeapPolicyFlag;
 import komposten.leapjna.leapc.enums.eLeapRS;
 import komposten.leapjna.leapc.enums.eLeapRecordingFlags;
+import komposten.leapjna.leapc.events.EventHandler;
 import komposten.leapjna.leapc.events.LEAP_CONFIG_CHANGE_EVENT;
 import komposten.leapjna.leapc.events.LEAP_CONFIG_RESPONSE_EVENT;
 import komposten.leapjna.leapc.events.LEAP_CONNECTION_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_LOST_EVENT;
 import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
 import komposten.leapjna.leapc.events.LEAP_DEVICE_FAILURE_EVENT;
 import komposten.leapjna.leapc.events.LEAP_DEVICE_STATUS_CHANGE_EVENT;
@@ -37,6 +39,10 @@ import komposten.leapjna.leapc.events.LEAP_LOG_EVENT;
 import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS;
 import komposten.leapjna.leapc.events.LEAP_POLICY_EVENT;
 import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.EventFilter;
+import komposten.leapjna.util.AdaptivePollTimeout;
+import komposten.leapjna.util.FrameMailbox;
+import komposten.leapjna.util.LeapSession;
 
 
 class VisualiserBackend
@@ -50,19 +56,124 @@ class VisualiserBackend
 	private static final int FRAME_RATE = 60;
 	private static final float FRAME_TIME = 1000f / FRAME_RATE;
 
+	/** The event types handled by the visualiser. All other events are skipped. */
+	private static final EventFilter EVENT_FILTER = EventFilter.of(EnumSet.of(
+			eLeapEventType.Connection, eLeapEventType.ConnectionLost, eLeapEventType.Device,
+			eLeapEventType.DeviceStatusChange, eLeapEventType.DeviceLost,
+			eLeapEventType.DeviceFailure, eLeapEventType.Policy, eLeapEventType.ConfigChange,
+			eLeapEventType.ConfigResponse, eLeapEventType.LogEvent, eLeapEventType.LogEvents,
+			eLeapEventType.Tracking, eLeapEventType.Image));
+
 	private VisualiserListener listener;
 
-	private LEAP_CONNECTION leapConnection;
+	private LeapSession session;
+	private final FrameMailbox frames = new FrameMailbox();
 	private LEAP_RECORDING recording;
 
 	LongByReference imagesRequestId = new LongByReference();
 
-	private long lastHandledFrame;
 	private long lastHandledImage;
 
 	private boolean imagesAllowed;
 	private boolean isPaused;
 
+	private final EventHandler eventHandler = new EventHandler()
+	{
+		@Override
+		public void onConnection(LEAP_CONNECTION_EVENT event, int deviceId)
+		{
+			// Enable the images and pause policies
+			LeapC.INSTANCE.LeapSetPolicyFlags(session.getConnectionHandle(), eLeapPolicyFlag
+					.createMask(eLeapPolicyFlag.Images, eLeapPolicyFlag.AllowPauseResume), 0);
+
+			handleConnectionEvent(event);
+		}
+
+
+		@Override
+		public void onConnectionLost(LEAP_CONNECTION_LOST_EVENT event, int deviceId)
+		{
+			handleConnectionLostEvent();
+		}
+
+
+		@Override
+		public void onDevice(LEAP_DEVICE_EVENT event, int deviceId)
+		{
+			handleDeviceEvent(event);
+		}
+
+
+		@Override
+		public void onDeviceStatusChange(LEAP_DEVICE_STATUS_CHANGE_EVENT event, int deviceId)
+		{
+			handleDeviceStatusChangeEvent(event);
+		}
+
+
+		@Override
+		public void onDeviceLost(LEAP_DEVICE_EVENT event, int deviceId)
+		{
+			handleDeviceLostEvent(event);
+		}
+
+
+		@Override
+		public void onDeviceFailure(LEAP_DEVICE_FAILURE_EVENT event, int deviceId)
+		{
+			handleDeviceFailureEvent(event);
+		}
+
+
+		@Override
+		public void onPolicy(LEAP_POLICY_EVENT event, int deviceId)
+		{
+			handlePolicyEvent(event, session.getConnectionHandle());
+		}
+
+
+		@Override
+		public void onConfigChange(LEAP_CONFIG_CHANGE_EVENT event, int deviceId)
+		{
+			handleConfigChangeEvent(event);
+		}
+
+
+		@Override
+		public void onConfigResponse(LEAP_CONFIG_RESPONSE_EVENT event, int deviceId)
+		{
+			handleConfigResponseEvent(event);
+		}
+
+
+		@Override
+		public void onLogEvent(LEAP_LOG_EVENT event, int deviceId)
+		{
+			handleLogEvent(event);
+		}
+
+
+		@Override
+		public void onLogEvents(LEAP_LOG_EVENTS event, int deviceId)
+		{
+			handleLogEvents(event);
+		}
+
+
+		@Override
+		public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+		{
+			handleFrame(event);
+		}
+
+
+		@Override
+		public void onImage(LEAP_IMAGE_EVENT event, int deviceId)
+		{
+			handleImage(event);
+		}
+	};
+
 
 	VisualiserBackend(VisualiserListener listener)
 	{
@@ -79,149 +190,58 @@ class VisualiserBackend
 	void start()
 	{
 		listener.onStateChanged(State.CONNECTING);
-		
-		leapConnection = new LEAP_CONNECTION();
-		eLeapRS result = LeapC.INSTANCE.LeapCreateConnection(null, leapConnection);
+
+		// A 30 ms maximum keeps closing the window while the service is idle as fast as
+		// with a fixed 30 ms timeout.
+		session = new LeapSession(LeapC.INSTANCE, eventHandler)
+				.setAdaptivePollTimeout(new AdaptivePollTimeout(5, 30))
+				.setEventFilter(EVENT_FILTER)
+				.setPollListener(this::handlePollFailure)
+				.setThreadFactory(runnable -> new Thread(runnable, "LeapJna Thread"));
+		eLeapRS result = session.start();
 
 		if (result == eLeapRS.Success)
 		{
-			result = LeapC.INSTANCE.LeapOpenConnection(leapConnection.handle);
-
-			if (result == eLeapRS.Success)
-			{
-				listener.onStateChanged(State.POLLING);
-				doPollLoop();
-			}
-			else
-			{
-				listener.onLogMessage(LogType.ERROR,
-						"Failed to open a connection to the Ultraleap Tracking Service: %s", result);
-			}
+			listener.onStateChanged(State.POLLING);
 		}
 		else
 		{
 			listener.onLogMessage(LogType.ERROR,
-					"Failed to create a connection to the Ultraleap Tracking Service: %s", result);
+					"Failed to open a connection to the Ultraleap Tracking Service: %s", result);
+			listener.onStateChanged(State.ERROR);
 		}
-
-		listener.onStateChanged(State.ERROR);
 	}
 
 
-	private void doPollLoop()
+	void stop()
 	{
-		boolean firstIteration = true;
-
-		eLeapRS previousResult = null;
-		while (true)
-		{
-			LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
-			eLeapRS result = LeapC.INSTANCE.LeapPollConnection(leapConnection.handle, 30,
-					message);
-
-			if (firstIteration)
-			{
-				// Enable the images and pause policies
-				LeapC.INSTANCE.LeapSetPolicyFlags(leapConnection.handle, eLeapPolicyFlag
-						.createMask(eLeapPolicyFlag.Images, eLeapPolicyFlag.AllowPauseResume), 0);
-
-				firstIteration = false;
-			}
-			
-			if (result == eLeapRS.Timeout)
-			{
-				if (previousResult != eLeapRS.Timeout)
-				{
-					listener.onLogMessage(LogType.ERROR,
-							"Timed out while polling for events! The tracking service might be paused.");
-					listener.onLogMessage(LogType.SEPARATOR, "");
-				}
-			}
-			else if (result != eLeapRS.Success)
-			{
-				listener.onLogMessage(LogType.ERROR,
-						"Polling failed with result %s for event type %s", result, message.getType());
-				listener.onLogMessage(LogType.SEPARATOR, "");
-			}
-
-			boolean handled = handleInformationalEvents(message, leapConnection);
-
-			if (!handled)
-			{
-				if (message.getType() == eLeapEventType.Tracking)
-				{
-					handleFrame(message.getTrackingEvent());
-				}
-				else if (message.getType() == eLeapEventType.Image)
-				{
-					handleImage(message.getImageEvent());
-				}
-			}
-			
-			previousResult = result;
-
-			if (Thread.interrupted())
-			{
-				break;
-			}
-		}
-
 		listener.onLogMessage(LogType.NORMAL, "Closing connection!");
 		listener.onLogMessage(LogType.SEPARATOR, "");
 
-		LeapC.INSTANCE.LeapCloseConnection(leapConnection.handle);
-		LeapC.INSTANCE.LeapDestroyConnection(leapConnection.handle);
+		session.close();
 
 		listener.onStateChanged(State.CLOSED);
 	}
 
 
-	private boolean handleInformationalEvents(LEAP_CONNECTION_MESSAGE message,
-			LEAP_CONNECTION leapConnection)
+	private void handlePollFailure(eLeapRS result, int consecutiveFailures)
 	{
-		boolean handled = true;
-
-		switch (message.getType())
+		if (result == eLeapRS.Timeout)
+		{
+			// The adaptive timeout is short while frames arrive, so wait for a few
+			// timeouts in a row before assuming that the service is paused.
+			if (consecutiveFailures == 3)
+			{
+				listener.onLogMessage(LogType.ERROR,
+						"Timed out while polling for events! The tracking service might be paused.");
+				listener.onLogMessage(LogType.SEPARATOR, "");
+			}
+		}
+		else
 		{
-			case Connection :
-				handleConnectionEvent(message.getConnectionEvent());
-				break;
-			case ConnectionLost :
-				handleConnectionLostEvent();
-				break;
-			case Device :
-				handleDeviceEvent(message.getDeviceEvent());
-				break;
-			case DeviceStatusChange :
-				handleDeviceStatusChangeEvent(message.getDeviceStatusChangeEvent());
-				break;
-			case DeviceLost :
-				handleDeviceLostEvent(message.getDeviceLostEvent());
-				break;
-			case DeviceFailure :
-				handleDeviceFailureEvent(message.getDeviceFailureEvent());
-				break;
-			case Policy :
-				handlePolicyEvent(message.getPolicyEvent(), leapConnection);
-				break;
-			case ConfigChange :
-				handleConfigChangeEvent(message.getConfigChangeEvent());
-				break;
-			case ConfigResponse :
-				handleConfigResponseEvent(message);
-				break;
-			case LogEvent :
-				handleLogEvent(message.getLogEvent());
-				break;
-			case LogEvents :
-				handleLogEvents(message.getLogEvents());
-				break;
-			default :
-				handled = false;
-				break;
+			listener.onLogMessage(LogType.ERROR, "Polling failed with result %s", result);
+			listener.onLogMessage(LogType.SEPARATOR, "");
 		}
-
-		return handled;
 	}
 
 
@@ -310,7 +330,7 @@ class VisualiserBackend
 
 
 	private void handlePolicyEvent(LEAP_POLICY_EVENT event,
-			@SuppressWarnings("unused") LEAP_CONNECTION leapConnection)
+			@SuppressWarnings("unused") Pointer hConnection)
 	{
 		listener.onLogMessage(LogType.NORMAL, "Active policies: %s",
 				Arrays.toString(event.getCurrentPolicy()));
@@ -318,7 +338,7 @@ class VisualiserBackend
 
 		// Request the current images_mode setting to check if images were activated
 		// through the Ultraleap Tracking control panel.
-		// LeapC.INSTANCE.LeapRequestConfigValue(leapConnection.handle,
+		// LeapC.INSTANCE.LeapRequestConfigValue(hConnection,
 		// Configurations.Tracking.IMAGES_MODE, imagesRequestId);
 		if (Arrays.stream(event.getCurrentPolicy()).anyMatch(p -> p == eLeapPolicyFlag.Images))
 		{
@@ -369,10 +389,8 @@ class VisualiserBackend
 	}
 
 
-	private void handleConfigResponseEvent(LEAP_CONNECTION_MESSAGE message)
+	private void handleConfigResponseEvent(LEAP_CONFIG_RESPONSE_EVENT responseEvent)
 	{
-		LEAP_CONFIG_RESPONSE_EVENT responseEvent = message.getConfigResponseEvent();
-
 		if (responseEvent.requestID == imagesRequestId.getValue())
 		{
 			imagesAllowed = responseEvent.value.getInt() == 2;
@@ -382,17 +400,15 @@ class VisualiserBackend
 
 	private void handleFrame(LEAP_TRACKING_EVENT trackingEvent)
 	{
-		if (System.currentTimeMillis() - lastHandledFrame > FRAME_TIME)
+		if (recording != null)
 		{
-			if (recording != null)
-			{
-				LeapC.INSTANCE.LeapRecordingWrite(recording.handle, trackingEvent, null);
-			}
-
-			listener.onFrame(trackingEvent);
-
-			lastHandledFrame = System.currentTimeMillis();
+			LeapC.INSTANCE.LeapRecordingWrite(recording.handle, trackingEvent, null);
 		}
+
+		// The render panel only draws the latest frame, so frames that arrive faster than
+		// it can draw are coalesced instead of queued.
+		frames.publish(trackingEvent);
+		listener.onFrame(frames);
 	}
 
 
@@ -409,7 +425,7 @@ class VisualiserBackend
 
 	public void requestPause()
 	{
-		eLeapRS result = LeapC.INSTANCE.LeapSetPause(leapConnection.handle, isPaused ? 0 : 1);
+		eLeapRS result = LeapC.INSTANCE.LeapSetPause(session.getConnectionHandle(), isPaused ? 0 : 1);
 
 		if (result == eLeapRS.Success)
 		{
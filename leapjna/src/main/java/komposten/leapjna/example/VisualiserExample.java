@@ -22,7 +22,7 @@ import javax.swing.WindowConstants;
 
 import komposten.leapjna.example.VisualiserBackend.State;
 import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
-import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.util.FrameMailbox;
 
 
 class VisualiserExample
@@ -31,7 +31,7 @@ class VisualiserExample
 	private VisualiserBackend backend;
 	private RenderPanel renderPanel;
 	private LogPanel logPanel;
-	private Thread leapJnaThread;
+	private boolean backendStarted;
 
 
 	private boolean imagesEnabled;
@@ -46,10 +46,10 @@ class VisualiserExample
 			@Override
 			public void keyPressed(KeyEvent e)
 			{
-				if (e.getKeyCode() == KeyEvent.VK_ENTER && leapJnaThread == null)
+				if (e.getKeyCode() == KeyEvent.VK_ENTER && !backendStarted)
 				{
-					leapJnaThread = new Thread(backend::start, "LeapJna Thread");
-					leapJnaThread.start();
+					backendStarted = true;
+					backend.start();
 				}
 				else if (e.getKeyCode() == KeyEvent.VK_ESCAPE)
 				{
@@ -140,9 +140,9 @@ class VisualiserExample
 
 	private void terminate()
 	{
-		if (leapJnaThread != null)
+		if (backendStarted)
 		{
-			leapJnaThread.interrupt();
+			backend.stop();
 		}
 		else
 		{
@@ -175,10 +175,10 @@ class VisualiserExample
 					break;
 				case CLOSED :
 					closeWindow();
-					leapJnaThread = null;
+					backendStarted = false;
 					break;
 				case ERROR :
-					leapJnaThread = null;
+					backendStarted = false;
 					break;
 				default :
 					break;
@@ -208,9 +208,10 @@ class VisualiserExample
 
 
 		@Override
-		public void onFrame(LEAP_TRACKING_EVENT frameEvent)
+		public void onFrame(FrameMailbox frames)
 		{
-			renderPanel.setFrameData(frameEvent);
+			renderPanel.setFrameSource(frames);
+			renderPanel.repaint();
 		}
 
 
@@ -11,7 +11,7 @@ package komposten.leapjna.example;
 
 import komposten.leapjna.example.VisualiserBackend.State;
 import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
-import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.util.FrameMailbox;
 
 
 interface VisualiserListener
@@ -27,7 +27,7 @@ interface VisualiserListener
 	void onLogMessage(LogType type, String message, Object... args);
 
 
-	void onFrame(LEAP_TRACKING_EVENT frameEvent);
+	void onFrame(FrameMailbox frames);
 
 
 	void onImage(LEAP_IMAGE_EVENT imageEvent);
@@ -66,8 +66,40 @@ import komposten.leapjna.util.Configurations;
 @SuppressWarnings("deprecation")
 public interface LeapC extends Library
 {
-	final LeapC INSTANCE = (LeapC) Native.synchronizedLibrary(Native
-			.load(LeapCConfig.getDllName(), LeapC.class, LeapCConfig.getLibraryOptions()));
+	/**
+	 * <p>
+	 * The default <code>LeapC</code> instance. All calls made through this instance are
+	 * serialised behind a single lock (see {@link LockingMode#GLOBAL}).
+	 * </p>
+	 * <p>
+	 * Use {@link #getInstance(LockingMode)} to obtain an instance with finer-grained
+	 * locking, e.g. if interpolation or clock queries should not have to wait for
+	 * {@link #LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)} to return.
+	 * </p>
+	 */
+	final LeapC INSTANCE = (LeapC) Native.synchronizedLibrary(LeapCConfig.loadLibrary());
+
+
+	/**
+	 * <p>
+	 * Returns the shared <code>LeapC</code> instance for the specified locking mode.
+	 * </p>
+	 * <p>
+	 * All instances are bound to the same native library, so handles created through one
+	 * instance can be used with the others. Locking is however only coordinated between
+	 * calls made through the <em>same</em> instance, so an application should pick one mode
+	 * and use it consistently.
+	 * </p>
+	 * 
+	 * @param mode The locking mode to use.
+	 * @return The <code>LeapC</code> instance for <code>mode</code>. For
+	 *         {@link LockingMode#GLOBAL} this is {@link #INSTANCE}.
+	 * @since LeapJna 1.3.0
+	 */
+	public static LeapC getInstance(LockingMode mode)
+	{
+		return LeapCConfig.getInstance(mode);
+	}
 
 
 	/**
@@ -1,9 +1,11 @@
 package komposten.leapjna.leapc;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.sun.jna.Library;
+import com.sun.jna.Native;
 
 import komposten.leapjna.leapc.util.LeapTypeMapper;
 
@@ -14,6 +16,7 @@ class LeapCConfig
 	private static final String MOCK_DLL_NAME = "MockLeapC";
 
 	private static boolean useMockDll;
+	private static final Map<LockingMode, LeapC> instances = new EnumMap<>(LockingMode.class);
 
 	static void useMockDll(boolean useMockDll)
 	{
@@ -36,6 +39,36 @@ class LeapCConfig
 	}
 
 
+	static LeapC loadLibrary()
+	{
+		return Native.load(getDllName(), LeapC.class, getLibraryOptions());
+	}
+
+
+	static synchronized LeapC getInstance(LockingMode mode)
+	{
+		if (mode == LockingMode.GLOBAL)
+		{
+			return LeapC.INSTANCE;
+		}
+
+		return instances.computeIfAbsent(mode, LeapCConfig::createInstance);
+	}
+
+
+	private static LeapC createInstance(LockingMode mode)
+	{
+		LeapC library = loadLibrary();
+
+		if (mode == LockingMode.STRIPED)
+		{
+			return new StripedLeapC(library);
+		}
+
+		return library;
+	}
+
+
 	private LeapCConfig()
 	{}
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.LongByReference;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+
+
+/**
+ * <p>
+ * Direct-mapped bindings for the LeapC functions that are typically called once or more
+ * per frame.
+ * </p>
+ * <p>
+ * The methods in this class are bound to the native library using
+ * {@link Native#register(Class, NativeLibrary)}, which avoids the reflective proxy and
+ * type conversion that {@link LeapC} goes through on every call. Instead of returning
+ * {@link eLeapRS} constants the methods return the raw result codes. Compare them against
+ * {@link #SUCCESS} or use {@link #toResult(int)} to convert them.
+ * </p>
+ * <p>
+ * Apart from the return types, the methods behave exactly like their {@link LeapC}
+ * counterparts and can be used with handles obtained from any <code>LeapC</code>
+ * instance. Calls made through this class are <em>not</em> synchronised, so the same
+ * threading rules as for {@link LockingMode#NONE} apply.
+ * </p>
+ * <p>
+ * When LeapJna is built with JDK 22 or newer, the jar also contains a
+ * <code>java.lang.foreign</code> version of this class, which Java 22+ runtimes use
+ * automatically instead of this JNA-based one.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class LeapCDirect
+{
+	/** The raw value of {@link eLeapRS#Success}. */
+	public static final int SUCCESS = 0;
+
+	static
+	{
+		Native.register(LeapCDirect.class, NativeLibrary.getInstance(LeapCConfig.getDllName()));
+	}
+
+
+	/**
+	 * Converts a raw result code returned by one of the methods in this class to an
+	 * {@link eLeapRS} constant.
+	 *
+	 * @param code The result code.
+	 * @return The <code>eLeapRS</code> constant for <code>code</code>, or
+	 *         {@link eLeapRS#Unknown} if the code is not recognised.
+	 */
+	public static eLeapRS toResult(int code)
+	{
+		return Enums.parse(code, eLeapRS.Unknown);
+	}
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapPollConnection(Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message);
+
+
+	/**
+	 * Direct-mapped version of {@link LeapC#LeapGetNow()}.
+	 *
+	 * @return microseconds since an unspecified epoch
+	 */
+	public static native long LeapGetNow();
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapGetFrameSize(Pointer, long, LongByReference)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapGetFrameSize(Pointer hConnection, long timestamp,
+			LongByReference pncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapGetFrameSizeEx(Pointer, Pointer, long, LongByReference)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapGetFrameSizeEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LongByReference pncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapInterpolateFrame(Pointer, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapInterpolateFrame(Pointer hConnection, long timestamp,
+			LEAP_TRACKING_EVENT pEvent, long ncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapInterpolateFrameEx(Pointer, Pointer, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapInterpolateFrameEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapInterpolateFrameFromTime(Pointer, long, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapInterpolateFrameFromTime(Pointer hConnection, long timestamp,
+			long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapInterpolateFrameFromTimeEx(Pointer, Pointer, long, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapInterpolateFrameFromTimeEx(Pointer hConnection,
+			Pointer hDevice, long timestamp, long sourceTimestamp, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapRecordingWrite(Pointer, LEAP_TRACKING_EVENT, LongByReference)}.
+	 *
+	 * @param pRecording The recording being written to. Use {@link LEAP_RECORDING#handle}
+	 *          to obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapRecordingWrite(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			LongByReference pnBytesWritten);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapRecordingRead(Pointer, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @param pRecording The recording being read from. Use {@link LEAP_RECORDING#handle} to
+	 *          obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapRecordingRead(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent);
+
+
+	/**
+	 * Direct-mapped version of
+	 * {@link LeapC#LeapRecordingReadSize(Pointer, LongByReference)}.
+	 *
+	 * @param pRecording The recording being read from. Use {@link LEAP_RECORDING#handle} to
+	 *          obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static native int LeapRecordingReadSize(Pointer pRecording,
+			LongByReference pncbEvent);
+
+
+	private LeapCDirect()
+	{}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+
+
+/**
+ * <p>
+ * Determines how calls made through a {@link LeapC} instance are synchronised. Use
+ * {@link LeapC#getInstance(LockingMode)} to obtain an instance using a specific mode.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public enum LockingMode
+{
+	/**
+	 * <p>
+	 * All calls are serialised behind a single lock, regardless of which connection,
+	 * device or thread they come from.
+	 * </p>
+	 * <p>
+	 * This is the mode used by {@link LeapC#INSTANCE}. It is the safest option, but a thread
+	 * blocked in {@link LeapC#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)
+	 * LeapPollConnection()} will hold up every other call in the JVM until the poll returns.
+	 * </p>
+	 */
+	GLOBAL,
+
+	/**
+	 * <p>
+	 * Calls are serialised per handle using a fixed set of striped locks. Calls on different
+	 * connections, devices, recordings or clock rebasers do not block each other (unless
+	 * their handles happen to share a stripe).
+	 * </p>
+	 * <p>
+	 * Functions that LeapC allows to be called from any thread (e.g.
+	 * {@link LeapC#LeapGetNow()}, the <code>LeapInterpolateFrame</code> and
+	 * <code>LeapGetFrameSize</code> families and {@link LeapC#LeapDevicePIDToString(int)})
+	 * are not locked at all, so they never wait for a concurrent poll.
+	 * </p>
+	 */
+	STRIPED,
+
+	/**
+	 * <p>
+	 * No locking at all. Calls go straight to the native library.
+	 * </p>
+	 * <p>
+	 * Use this mode only if the application itself guarantees that handles are not used
+	 * concurrently in ways LeapC does not support (e.g. polling the same connection from
+	 * multiple threads).
+	 * </p>
+	 */
+	NONE
+}
@@ -0,0 +1,721 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+
+import komposten.leapjna.leapc.data.LEAP_ALLOCATOR;
+import komposten.leapjna.leapc.data.LEAP_CLOCK_REBASER;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_INFO;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
+import komposten.leapjna.leapc.data.LEAP_POINT_MAPPING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_PARAMETERS;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_STATUS;
+import komposten.leapjna.leapc.data.LEAP_TELEMETRY_DATA;
+import komposten.leapjna.leapc.data.LEAP_VARIANT;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.data.LEAP_VERSION;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.ArrayPointer;
+import komposten.leapjna.leapc.util.PrimitiveArrayPointer;
+
+
+/**
+ * <p>
+ * A {@link LeapC} implementation which forwards all calls to another instance and
+ * serialises them per handle instead of globally. Used for {@link LockingMode#STRIPED}.
+ * </p>
+ * <p>
+ * The handle of a call is its first argument (connection, device, recording and clock
+ * rebaser handles are all passed first). Calls with the same handle share a lock, while
+ * calls with different handles only contend if the handles map to the same stripe. Calls
+ * without a handle (e.g. <code>LeapCreateConnection</code>) are serialised on a separate
+ * lock so they never wait for a poll.
+ * </p>
+ * <p>
+ * Functions that LeapC allows to be called from any thread (reading the clock,
+ * interpolating frames and querying frame sizes) are forwarded without locking.
+ * </p>
+ */
+@SuppressWarnings("deprecation")
+final class StripedLeapC implements LeapC
+{
+	/** Must be a power of two. */
+	static final int STRIPE_COUNT = 64;
+	private static final int STRIPE_SHIFT = Long.SIZE
+			- Integer.numberOfTrailingZeros(STRIPE_COUNT);
+
+	private final LeapC delegate;
+	private final Object[] stripes;
+	private final Object handlelessLock;
+
+
+	/**
+	 * @param delegate The instance to forward calls to. It should not perform any locking of
+	 *          its own.
+	 */
+	StripedLeapC(LeapC delegate)
+	{
+		this.delegate = delegate;
+		this.handlelessLock = new Object();
+		this.stripes = new Object[STRIPE_COUNT];
+
+		for (int i = 0; i < STRIPE_COUNT; i++)
+		{
+			stripes[i] = new Object();
+		}
+	}
+
+
+	/**
+	 * @param handle A native handle.
+	 * @return The index of the stripe used for the provided handle.
+	 */
+	static int stripeOf(Pointer handle)
+	{
+		// Fibonacci hashing, so that handles which only differ in their (often aligned)
+		// high or low bits still end up in different stripes.
+		long hash = Pointer.nativeValue(handle) * 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> STRIPE_SHIFT);
+	}
+
+
+	private Object lock(Pointer handle)
+	{
+		if (handle == null)
+		{
+			return handlelessLock;
+		}
+
+		return stripes[stripeOf(handle)];
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateConnection(LEAP_CONNECTION_CONFIG pConfig,
+			LEAP_CONNECTION phConnection)
+	{
+		synchronized (handlelessLock)
+		{
+			return delegate.LeapCreateConnection(pConfig, phConnection);
+		}
+	}
+
+
+	@Override
+	public void LeapDestroyConnection(Pointer hConnection)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapDestroyConnection(hConnection);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenConnection(Pointer hConnection)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapOpenConnection(hConnection);
+		}
+	}
+
+
+	@Override
+	public void LeapCloseConnection(Pointer hConnection)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapCloseConnection(hConnection);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapPollConnection(hConnection, timeout, message);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetConnectionInfo(Pointer hConnection, LEAP_CONNECTION_INFO pInfo)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetConnectionInfo(hConnection, pInfo);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceList(Pointer hConnection,
+			ArrayPointer<LEAP_DEVICE_REF> pArray, IntByReference pnArray)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetDeviceList(hConnection, pArray, pnArray);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenDevice(LEAP_DEVICE_REF rDevice, LEAP_DEVICE phDevice)
+	{
+		synchronized (handlelessLock)
+		{
+			return delegate.LeapOpenDevice(rDevice, phDevice);
+		}
+	}
+
+
+	@Override
+	public void LeapCloseDevice(Pointer hDevice)
+	{
+		synchronized (lock(hDevice))
+		{
+			delegate.LeapCloseDevice(hDevice);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPrimaryDevice(Pointer hConnection, Pointer hDevice,
+			int unsubscribeOthers)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetPrimaryDevice(hConnection, hDevice, unsubscribeOthers);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceInfo(Pointer hDevice, LEAP_DEVICE_INFO info)
+	{
+		synchronized (lock(hDevice))
+		{
+			return delegate.LeapGetDeviceInfo(hDevice, info);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceTransform(Pointer hDevice, PrimitiveArrayPointer transform)
+	{
+		synchronized (lock(hDevice))
+		{
+			return delegate.LeapGetDeviceTransform(hDevice, transform);
+		}
+	}
+
+
+	@Override
+	public String LeapDevicePIDToString(int pid)
+	{
+		return delegate.LeapDevicePIDToString(pid);
+	}
+
+
+	@Override
+	public eLeapRS LeapSubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSubscribeEvents(hConnection, hDevice);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapUnsubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapUnsubscribeEvents(hConnection, hDevice);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetVersion(Pointer hConnection, int versionPart,
+			LEAP_VERSION pVersion)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetVersion(hConnection, versionPart, pVersion);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSize(Pointer hConnection, long timestamp,
+			LongByReference pncbEvent)
+	{
+		return delegate.LeapGetFrameSize(hConnection, timestamp, pncbEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSizeEx(Pointer hConnection, Pointer hDevice, long timestamp,
+			LongByReference pncbEvent)
+	{
+		return delegate.LeapGetFrameSizeEx(hConnection, hDevice, timestamp, pncbEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTime(Pointer hConnection, long timestamp,
+			long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return delegate.LeapInterpolateFrameFromTime(hConnection, timestamp, sourceTimestamp,
+				pEvent, ncbEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTimeEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return delegate.LeapInterpolateFrameFromTimeEx(hConnection, hDevice, timestamp,
+				sourceTimestamp, pEvent, ncbEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrame(Pointer hConnection, long timestamp,
+			LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return delegate.LeapInterpolateFrame(hConnection, timestamp, pEvent, ncbEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return delegate.LeapInterpolateFrameEx(hConnection, hDevice, timestamp, pEvent,
+				ncbEvent);
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapInterpolateHeadPose(Pointer hConnection, long timestamp,
+			LEAP_HEAD_POSE_EVENT pEvent)
+	{
+		return delegate.LeapInterpolateHeadPose(hConnection, timestamp, pEvent);
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlags(Pointer hConnection, long set, long clear)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetPolicyFlags(hConnection, set, clear);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlagsEx(Pointer hConnection, Pointer hDevice, long set,
+			long clear)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetPolicyFlagsEx(hConnection, hDevice, set, clear);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingMode(Pointer hConnection, int mode)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetTrackingMode(hConnection, mode);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingModeEx(Pointer hConnection, Pointer hDevice, int mode)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetTrackingModeEx(hConnection, hDevice, mode);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingMode(Pointer hConnection)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetTrackingMode(hConnection);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingModeEx(Pointer hConnection, Pointer hDevice)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetTrackingModeEx(hConnection, hDevice);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPause(Pointer hConnection, int pause)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetPause(hConnection, pause);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRequestConfigValue(Pointer hConnection, String key,
+			LongByReference pRequestID)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapRequestConfigValue(hConnection, key, pRequestID);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapSaveConfigValue(Pointer hConnection, String key, LEAP_VARIANT value,
+			LongByReference pRequestID)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSaveConfigValue(hConnection, key, value, pRequestID);
+		}
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMappingSize(Pointer hConnection, LongByReference pSize)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetPointMappingSize(hConnection, pSize);
+		}
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMapping(Pointer hConnection, LEAP_POINT_MAPPING pointMapping,
+			LongByReference pSize)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapGetPointMapping(hConnection, pointMapping, pSize);
+		}
+	}
+
+
+	@Override
+	public long LeapGetNow()
+	{
+		return delegate.LeapGetNow();
+	}
+
+
+	@Override
+	public eLeapRS LeapSetAllocator(Pointer hConnection, LEAP_ALLOCATOR allocator)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapSetAllocator(hConnection, allocator);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateClockRebaser(LEAP_CLOCK_REBASER phClockRebaser)
+	{
+		synchronized (handlelessLock)
+		{
+			return delegate.LeapCreateClockRebaser(phClockRebaser);
+		}
+	}
+
+
+	@Override
+	public void LeapDestroyClockRebaser(Pointer hClockRebaser)
+	{
+		synchronized (lock(hClockRebaser))
+		{
+			delegate.LeapDestroyClockRebaser(hClockRebaser);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRebaseClock(Pointer hClockRebaser, long userClock,
+			LongByReference pLeapClock)
+	{
+		synchronized (lock(hClockRebaser))
+		{
+			return delegate.LeapRebaseClock(hClockRebaser, userClock, pLeapClock);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapUpdateRebase(Pointer hClockRebaser, long userClock, long leapClock)
+	{
+		synchronized (lock(hClockRebaser))
+		{
+			return delegate.LeapUpdateRebase(hClockRebaser, userClock, leapClock);
+		}
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinear(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue pixel)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapPixelToRectilinear(hConnection, camera, pixel);
+		}
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinearEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue pixel)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapPixelToRectilinearEx(hConnection, hDevice, camera, pixel);
+		}
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixel(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue rectilinear)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapRectilinearToPixel(hConnection, camera, rectilinear);
+		}
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixelEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue rectilinear)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapRectilinearToPixelEx(hConnection, hDevice, camera, rectilinear);
+		}
+	}
+
+
+	@Override
+	public void LeapCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapCameraMatrix(hConnection, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapCameraMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapCameraMatrixEx(hConnection, hDevice, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapExtrinsicCameraMatrix(hConnection, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrixEx(Pointer hConnection, Pointer hDevice,
+			int camera, PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapExtrinsicCameraMatrixEx(hConnection, hDevice, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapDistortionCoeffs(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapDistortionCoeffs(hConnection, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapDistortionCoeffsEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapDistortionCoeffsEx(hConnection, hDevice, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapScaleOffsetMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapScaleOffsetMatrix(hConnection, camera, dest);
+		}
+	}
+
+
+	@Override
+	public void LeapScaleOffsetMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		synchronized (lock(hConnection))
+		{
+			delegate.LeapScaleOffsetMatrixEx(hConnection, hDevice, camera, dest);
+		}
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapTelemetryProfiling(Pointer hConnection,
+			LEAP_TELEMETRY_DATA telemetryData)
+	{
+		synchronized (lock(hConnection))
+		{
+			return delegate.LeapTelemetryProfiling(hConnection, telemetryData);
+		}
+	}
+
+
+	@Override
+	@Deprecated
+	public long LeapTelemetryGetNow()
+	{
+		return delegate.LeapTelemetryGetNow();
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingOpen(LEAP_RECORDING ppRecording, String filePath,
+			LEAP_RECORDING_PARAMETERS params)
+	{
+		synchronized (lock(ppRecording.handle))
+		{
+			return delegate.LeapRecordingOpen(ppRecording, filePath, params);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingWrite(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			LongByReference pnBytesWritten)
+	{
+		synchronized (lock(pRecording))
+		{
+			return delegate.LeapRecordingWrite(pRecording, pEvent, pnBytesWritten);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingGetStatus(Pointer pRecording, LEAP_RECORDING_STATUS pStatus)
+	{
+		synchronized (lock(pRecording))
+		{
+			return delegate.LeapRecordingGetStatus(pRecording, pStatus);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingRead(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent)
+	{
+		synchronized (lock(pRecording))
+		{
+			return delegate.LeapRecordingRead(pRecording, pEvent, ncbEvent);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingReadSize(Pointer pRecording, LongByReference pncbEvent)
+	{
+		synchronized (lock(pRecording))
+		{
+			return delegate.LeapRecordingReadSize(pRecording, pncbEvent);
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingClose(LEAP_RECORDING ppRecording)
+	{
+		synchronized (lock(ppRecording.handle))
+		{
+			return delegate.LeapRecordingClose(ppRecording);
+		}
+	}
+
+}
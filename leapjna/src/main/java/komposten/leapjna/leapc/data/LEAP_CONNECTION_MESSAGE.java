@@ -0,0 +1,604 @@
+/*
+ * Copyright 2020-2022 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.data;
+
+import java.util.function.Function;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+import com.sun.jna.Structure.FieldOrder;
+
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_RESPONSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_LOST_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_FAILURE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_STATUS_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DROPPED_FRAME_EVENT;
+import komposten.leapjna.leapc.events.LEAP_EVENT;
+import komposten.leapjna.leapc.events.LEAP_EYE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMU_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS;
+import komposten.leapjna.leapc.events.LEAP_POINT_MAPPING_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_POLICY_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_MODE_EVENT;
+import komposten.leapjna.leapc.events.LeapEventStructure;
+
+
+/**
+ * Defines a basic message from the LeapC message queue.
+ * 
+ * @see <a href=
+ *      "https://docs.ultraleap.com/tracking-api/group/group___structs.html#_CPPv423LEAP_CONNECTION_MESSAGE">LeapC
+ *      API - LEAP_CONNECTION_MESSAGE</a>
+ * @since LeapJna 1.0.0
+ * @since Ultraleap Orion SDK 3.0.0
+ */
+@SuppressWarnings("deprecation")
+@FieldOrder({ "size", "type", "pEvent", "device_id" })
+public class LEAP_CONNECTION_MESSAGE extends Structure
+{
+	/** The size of this message struct. */
+	public int size;
+
+	/**
+	 * The event type. Use {@link #getType()} to get the type as a {@link eLeapEventType}
+	 * value.
+	 */
+	public int type;
+
+	/**
+	 * <p>
+	 * A pointer to the event data for the current type of message.
+	 * </p>
+	 * <p>
+	 * Check the event type using {@link #type} or {@link #getType()} and then call the
+	 * relevant <code>get***Event()</code> method for that event type to get the event data.
+	 * </p>
+	 */
+	public Pointer pEvent;
+	
+	/**
+	 * <p> 
+	 * A unique ID for the attached device that sent this message. A value of 0 indicates that it was
+	 * a system-wide message, and not device specific. Use this ID to distinguish messages sent from
+	 * multiple attached devices.
+	 * </p>
+	 * @since LeapJna 1.2.0
+	 */
+	public int device_id;
+
+	/**
+	 * The callbacks used by {@link #dispatch(EventHandler)}, indexed by the raw event type.
+	 */
+	private static final Dispatcher[] DISPATCHERS = createDispatchers();
+
+	/** A handler which ignores all events, used by {@link #getEvent()} to decode them. */
+	private static final EventHandler DECODE_ONLY = new EventHandler() {};
+
+	private LEAP_EVENT event;
+
+	/** One re-usable event per event type, or <code>null</code> if reuse is disabled. */
+	private LeapEventStructure[] reusableEvents;
+
+	public LEAP_CONNECTION_MESSAGE()
+	{
+		super(ALIGN_NONE);
+	}
+
+
+	public LEAP_CONNECTION_MESSAGE(Pointer pointer)
+	{
+		super(pointer, ALIGN_NONE);
+		read();
+	}
+
+
+	@Override
+	public void read()
+	{
+		super.read();
+		event = null;
+	}
+
+
+	/**
+	 * <p>
+	 * Sets the fields of this message to values that have already been read from native
+	 * memory, and clears the cached event data just like {@link #read()} does.
+	 * </p>
+	 * <p>
+	 * This exists for internal usage by LeapJna, for bindings which read the message
+	 * without going through JNA's reflective {@link #read()}.
+	 * </p>
+	 *
+	 * @since LeapJna 1.3.0
+	 */
+	public void setFields(int size, int type, Pointer pEvent, int device_id)
+	{
+		this.size = size;
+		this.type = type;
+		this.pEvent = pEvent;
+		this.device_id = device_id;
+		event = null;
+	}
+
+
+	/**
+	 * <p>
+	 * Enables or disables event reuse for this message.
+	 * </p>
+	 * <p>
+	 * By default, the <code>get*Event()</code> methods create a new event object the first
+	 * time they are called after each poll. With event reuse enabled, this message instead
+	 * keeps one event object per event type and re-points it at the new event data (see
+	 * {@link LEAP_EVENT#reuse(Pointer)}). Together with re-using the same
+	 * <code>LEAP_CONNECTION_MESSAGE</code> for every poll, this avoids creating new
+	 * structures for every message.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: With event reuse enabled, event objects (and nested objects such as
+	 * the hands of a tracking event) are overwritten by later polls. Copy any data that
+	 * must be kept before polling again.
+	 * </p>
+	 *
+	 * @param reuseEvents <code>true</code> to re-use event objects.
+	 * @since LeapJna 1.3.0
+	 */
+	public void setReuseEvents(boolean reuseEvents)
+	{
+		if (!reuseEvents)
+		{
+			reusableEvents = null;
+		}
+		else if (reusableEvents == null)
+		{
+			reusableEvents = new LeapEventStructure[eLeapEventType.values().length];
+		}
+	}
+
+
+	/**
+	 * @return <code>true</code> if event reuse is enabled.
+	 * @see #setReuseEvents(boolean)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean isReuseEvents()
+	{
+		return reusableEvents != null;
+	}
+
+
+	/**
+	 * @return The event type as an {@link eLeapEventType} instead of an <code>int</code>.
+	 */
+	public eLeapEventType getType()
+	{
+		return Enums.parse(type, eLeapEventType.Unknown);
+	}
+
+
+	/**
+	 * @return The event data as a connection event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#Connection} event.
+	 */
+	public LEAP_CONNECTION_EVENT getConnectionEvent()
+	{
+		checkType(eLeapEventType.Connection);
+		return getOrCreateEvent(eLeapEventType.Connection, LEAP_CONNECTION_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a connection lost event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#ConnectionLost} event.
+	 */
+	public LEAP_CONNECTION_LOST_EVENT getConnectionLostEvent()
+	{
+		checkType(eLeapEventType.ConnectionLost);
+		return getOrCreateEvent(eLeapEventType.ConnectionLost, LEAP_CONNECTION_LOST_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a device event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#Device} event.
+	 */
+	public LEAP_DEVICE_EVENT getDeviceEvent()
+	{
+		checkType(eLeapEventType.Device);
+		return getOrCreateEvent(eLeapEventType.Device, LEAP_DEVICE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a device event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#DeviceLost} event.
+	 */
+	public LEAP_DEVICE_EVENT getDeviceLostEvent()
+	{
+		checkType(eLeapEventType.DeviceLost);
+		return getOrCreateEvent(eLeapEventType.DeviceLost, LEAP_DEVICE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a device status change event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#DeviceStatusChange} event.
+	 * @since Ultraleap Orion SDK 3.1.3
+	 */
+	public LEAP_DEVICE_STATUS_CHANGE_EVENT getDeviceStatusChangeEvent()
+	{
+		checkType(eLeapEventType.DeviceStatusChange);
+		return getOrCreateEvent(eLeapEventType.DeviceStatusChange, LEAP_DEVICE_STATUS_CHANGE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a policy event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#Policy} event.
+	 */
+	public LEAP_POLICY_EVENT getPolicyEvent()
+	{
+		checkType(eLeapEventType.Policy);
+		return getOrCreateEvent(eLeapEventType.Policy, LEAP_POLICY_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a device failure event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#DeviceFailure} event.
+	 */
+	public LEAP_DEVICE_FAILURE_EVENT getDeviceFailureEvent()
+	{
+		checkType(eLeapEventType.DeviceFailure);
+		return getOrCreateEvent(eLeapEventType.DeviceFailure, LEAP_DEVICE_FAILURE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a tracking event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#Tracking} event.
+	 */
+	public LEAP_TRACKING_EVENT getTrackingEvent()
+	{
+		checkType(eLeapEventType.Tracking);
+		return getOrCreateEvent(eLeapEventType.Tracking, LEAP_TRACKING_EVENT::new);
+	}
+	
+	
+	/**
+	 * @return The event data as a tracking mode event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#TrackingMode} event.
+	 * @since LeapJna 1.1.0
+	 * @since Ultraleap Gemini SDK 5.0.0
+	 */
+	public LEAP_TRACKING_MODE_EVENT getTrackingModeEvent()
+	{
+		checkType(eLeapEventType.TrackingMode);
+		return getOrCreateEvent(eLeapEventType.TrackingMode, LEAP_TRACKING_MODE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a log event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#LogEvent} event.
+	 */
+	public LEAP_LOG_EVENT getLogEvent()
+	{
+		checkType(eLeapEventType.LogEvent);
+		return getOrCreateEvent(eLeapEventType.LogEvent, LEAP_LOG_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as multiple log events.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#LogEvents} event.
+	 * @since Ultraleap Orion SDK 4.0.0
+	 */
+	public LEAP_LOG_EVENTS getLogEvents()
+	{
+		checkType(eLeapEventType.LogEvents);
+		return getOrCreateEvent(eLeapEventType.LogEvents, LEAP_LOG_EVENTS::new);
+	}
+
+
+	/**
+	 * @return The event data as a config response event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#ConfigResponse} event.
+	 */
+	public LEAP_CONFIG_RESPONSE_EVENT getConfigResponseEvent()
+	{
+		checkType(eLeapEventType.ConfigResponse);
+		return getOrCreateEvent(eLeapEventType.ConfigResponse, LEAP_CONFIG_RESPONSE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a config change event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#ConfigChange} event.
+	 */
+	public LEAP_CONFIG_CHANGE_EVENT getConfigChangeEvent()
+	{
+		checkType(eLeapEventType.ConfigChange);
+		return getOrCreateEvent(eLeapEventType.ConfigChange, LEAP_CONFIG_CHANGE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a dropped frame event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#DroppedFrame} event;
+	 */
+	public LEAP_DROPPED_FRAME_EVENT getDroppedFrameEvent()
+	{
+		checkType(eLeapEventType.DroppedFrame);
+		return getOrCreateEvent(eLeapEventType.DroppedFrame, LEAP_DROPPED_FRAME_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a head pose event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#HeadPose} event;
+	 * @since Ultraleap Orion SDK 4.1.0
+	 */
+	public LEAP_HEAD_POSE_EVENT getHeadPoseEvent()
+	{
+		checkType(eLeapEventType.HeadPose);
+		return getOrCreateEvent(eLeapEventType.HeadPose, LEAP_HEAD_POSE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as an eye event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#Eyes} event;
+	 * @since LeapJna 1.2.0
+	 */
+	public LEAP_EYE_EVENT getEyeEvent()
+	{
+		checkType(eLeapEventType.Eyes);
+		return getOrCreateEvent(eLeapEventType.Eyes, LEAP_EYE_EVENT::new);
+	}
+	
+	
+	/**
+	 * @return The event data as an IMU event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#IMU} event;
+	 * @since LeapJna 1.2.0
+	 */
+	public LEAP_IMU_EVENT getIMUEvent()
+	{
+		checkType(eLeapEventType.IMU);
+		return getOrCreateEvent(eLeapEventType.IMU, LEAP_IMU_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as a point mapping change event.
+	 * @throws IllegalStateException If this event message is not an
+	 *           {@link eLeapEventType#PointMappingChange} event;
+	 * @since Ultraleap Orion SDK 4.0.0
+	 */
+	public LEAP_POINT_MAPPING_CHANGE_EVENT getPointMappingChangeEvent()
+	{
+		checkType(eLeapEventType.PointMappingChange);
+		return getOrCreateEvent(eLeapEventType.PointMappingChange, LEAP_POINT_MAPPING_CHANGE_EVENT::new);
+	}
+
+
+	/**
+	 * @return The event data as an image event.
+	 * @throws IllegalStateException If this event message is not an
+	 * 				   {@link eLeapEventType#Image} event;
+	 * @since Ultraleap Orion SDK 4.0.0
+	 */
+	public LEAP_IMAGE_EVENT getImageEvent()
+	{
+		checkType(eLeapEventType.Image);
+		return getOrCreateEvent(eLeapEventType.Image, LEAP_IMAGE_EVENT::new);
+	}
+
+
+	/**
+	 * <p>
+	 * Decodes the event data and passes it to the callback in <code>handler</code> that
+	 * matches the event type.
+	 * </p>
+	 * <p>
+	 * The callback is looked up in a table indexed by the raw {@link #type}, so this costs
+	 * one table lookup, one decode (or re-use, see {@link #setReuseEvents(boolean)}) and one
+	 * call, without parsing the type into an {@link eLeapEventType}.
+	 * </p>
+	 *
+	 * @param handler The handler to pass the event to.
+	 * @since LeapJna 1.3.0
+	 */
+	public void dispatch(EventHandler handler)
+	{
+		Dispatcher dispatcher = null;
+		if (type >= 0 && type < DISPATCHERS.length)
+		{
+			dispatcher = DISPATCHERS[type];
+		}
+
+		if (dispatcher != null)
+		{
+			dispatcher.dispatch(this, handler);
+		}
+		else
+		{
+			handler.onOtherEvent(this);
+		}
+	}
+
+
+	/**
+	 * <p>
+	 * Decodes the event data as the event type given by {@link #type}.
+	 * </p>
+	 * <p>
+	 * The event is cached (and, with {@link #setReuseEvents(boolean) event reuse}, re-used)
+	 * exactly as by the <code>get*Event()</code> methods, so calling this before
+	 * {@link #dispatch(EventHandler)} or a <code>get*Event()</code> method does not decode
+	 * the event twice. This allows decoding and handling to be timed separately.
+	 * </p>
+	 *
+	 * @return The decoded event, or <code>null</code> if the message has no event data
+	 *         (e.g. an {@link eLeapEventType#None} message) or an unknown type.
+	 * @since LeapJna 1.3.0
+	 */
+	public LEAP_EVENT getEvent()
+	{
+		if (event == null)
+		{
+			dispatch(DECODE_ONLY);
+		}
+
+		return event;
+	}
+
+
+	@SuppressWarnings("deprecation")
+	private static Dispatcher[] createDispatchers()
+	{
+		int maxType = 0;
+		for (eLeapEventType eventType : eLeapEventType.values())
+		{
+			maxType = Math.max(maxType, eventType.value);
+		}
+
+		Dispatcher[] dispatchers = new Dispatcher[maxType + 1];
+		dispatchers[eLeapEventType.Connection.value] = (m, h) -> h.onConnection(
+				m.getOrCreateEvent(eLeapEventType.Connection, LEAP_CONNECTION_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.ConnectionLost.value] = (m, h) -> h.onConnectionLost(
+				m.getOrCreateEvent(eLeapEventType.ConnectionLost, LEAP_CONNECTION_LOST_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.Device.value] = (m, h) -> h.onDevice(
+				m.getOrCreateEvent(eLeapEventType.Device, LEAP_DEVICE_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.DeviceFailure.value] = (m, h) -> h.onDeviceFailure(
+				m.getOrCreateEvent(eLeapEventType.DeviceFailure, LEAP_DEVICE_FAILURE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.Policy.value] = (m, h) -> h.onPolicy(
+				m.getOrCreateEvent(eLeapEventType.Policy, LEAP_POLICY_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.Tracking.value] = (m, h) -> h.onTracking(
+				m.getOrCreateEvent(eLeapEventType.Tracking, LEAP_TRACKING_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.LogEvent.value] = (m, h) -> h.onLogEvent(
+				m.getOrCreateEvent(eLeapEventType.LogEvent, LEAP_LOG_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.DeviceLost.value] = (m, h) -> h.onDeviceLost(
+				m.getOrCreateEvent(eLeapEventType.DeviceLost, LEAP_DEVICE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.ConfigResponse.value] = (m, h) -> h.onConfigResponse(
+				m.getOrCreateEvent(eLeapEventType.ConfigResponse, LEAP_CONFIG_RESPONSE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.ConfigChange.value] = (m, h) -> h.onConfigChange(
+				m.getOrCreateEvent(eLeapEventType.ConfigChange, LEAP_CONFIG_CHANGE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.DeviceStatusChange.value] = (m, h) -> h
+				.onDeviceStatusChange(m.getOrCreateEvent(eLeapEventType.DeviceStatusChange,
+						LEAP_DEVICE_STATUS_CHANGE_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.DroppedFrame.value] = (m, h) -> h.onDroppedFrame(
+				m.getOrCreateEvent(eLeapEventType.DroppedFrame, LEAP_DROPPED_FRAME_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.Image.value] = (m, h) -> h.onImage(
+				m.getOrCreateEvent(eLeapEventType.Image, LEAP_IMAGE_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.PointMappingChange.value] = (m, h) -> h
+				.onPointMappingChange(m.getOrCreateEvent(eLeapEventType.PointMappingChange,
+						LEAP_POINT_MAPPING_CHANGE_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.TrackingMode.value] = (m, h) -> h.onTrackingMode(
+				m.getOrCreateEvent(eLeapEventType.TrackingMode, LEAP_TRACKING_MODE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.LogEvents.value] = (m, h) -> h.onLogEvents(
+				m.getOrCreateEvent(eLeapEventType.LogEvents, LEAP_LOG_EVENTS::new), m.device_id);
+		dispatchers[eLeapEventType.HeadPose.value] = (m, h) -> h.onHeadPose(
+				m.getOrCreateEvent(eLeapEventType.HeadPose, LEAP_HEAD_POSE_EVENT::new),
+				m.device_id);
+		dispatchers[eLeapEventType.Eyes.value] = (m, h) -> h.onEyes(
+				m.getOrCreateEvent(eLeapEventType.Eyes, LEAP_EYE_EVENT::new), m.device_id);
+		dispatchers[eLeapEventType.IMU.value] = (m, h) -> h.onIMU(
+				m.getOrCreateEvent(eLeapEventType.IMU, LEAP_IMU_EVENT::new), m.device_id);
+
+		return dispatchers;
+	}
+
+
+	private void checkType(eLeapEventType eventType)
+	{
+		if (type != eventType.value)
+		{
+			throw new IllegalStateException(
+					"Incorrect event type: " + getType() + " != " + eventType);
+		}
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private <T extends LeapEventStructure> T getOrCreateEvent(eLeapEventType eventType,
+			Function<Pointer, T> createFunction)
+	{
+		if (event == null)
+		{
+			if (reusableEvents != null)
+			{
+				LeapEventStructure reusable = reusableEvents[eventType.ordinal()];
+
+				if (reusable == null)
+				{
+					reusable = createFunction.apply(pEvent);
+					reusableEvents[eventType.ordinal()] = reusable;
+				}
+				else
+				{
+					reusable.reuse(pEvent);
+				}
+
+				event = reusable;
+			}
+			else
+			{
+				event = createFunction.apply(pEvent);
+			}
+		}
+
+		return (T) event;
+	}
+
+
+	@FunctionalInterface
+	private interface Dispatcher
+	{
+		void dispatch(LEAP_CONNECTION_MESSAGE message, EventHandler handler);
+	}
+}
@@ -155,6 +155,35 @@ public class LEAP_DEVICE_INFO extends Structure
 	}
 
 
+	/**
+	 * Checks if the status mask contains a specific flag. Repeated checks against the
+	 * same mask do not allocate.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>status</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasStatus(eLeapDeviceStatus flag)
+	{
+		return Enums.hasFlag(status, flag);
+	}
+
+
+	/**
+	 * Checks if the capabilities mask contains a specific flag, without allocating.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>caps</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasCapability(eLeapDeviceCaps flag)
+	{
+		return Enums.hasFlag(caps, flag);
+	}
+
+
 	/**
 	 * @return The device product ID as an {@link eLeapDevicePID} instead of an
 	 *         <code>int</code>.
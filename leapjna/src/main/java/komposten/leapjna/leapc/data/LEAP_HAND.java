@@ -152,6 +152,28 @@ public class LEAP_HAND extends Structure
 	}
 
 
+	/**
+	 * <p>
+	 * Points this hand at a new block of native memory and reads the hand data from it,
+	 * instead of allocating a new <code>LEAP_HAND</code>.
+	 * </p>
+	 * <p>
+	 * The data is read using the generated {@link LEAP_HAND_Layout}, which is much faster
+	 * than {@link #read()}. Unlike <code>read()</code>, this does not re-point the nested
+	 * structures (e.g. {@link #palm}) at the new memory, so their
+	 * {@link #getPointer() pointers} should not be used.
+	 * </p>
+	 * 
+	 * @param pointer The memory containing the new hand data.
+	 * @since LeapJna 1.3.0
+	 */
+	public void reuse(Pointer pointer)
+	{
+		useMemory(pointer);
+		LEAP_HAND_Layout.read(pointer, 0, this);
+	}
+
+
 	/**
 	 * @return The hand type as an {@link eLeapHandType} instead of a <code>byte</code>.
 	 */
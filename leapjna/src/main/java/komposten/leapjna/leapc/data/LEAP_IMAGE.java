@@ -9,10 +9,14 @@
  */
 package komposten.leapjna.leapc.data;
 
+import java.nio.ByteBuffer;
+
 import com.sun.jna.Pointer;
 import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
+import komposten.leapjna.leapc.util.ByteArrayPool;
+
 
 /**
  * <p>
@@ -56,7 +60,10 @@ public class LEAP_IMAGE extends Structure
 	 */
 	public Pointer distortion_matrix;
 
-	/** A pointer to the image data. Use {@link #getData()} to obtain the actual data. */
+	/**
+	 * A pointer to the image data. Use {@link #getData()}, {@link #getData(byte[])} or
+	 * {@link #getDataBuffer()} to obtain the actual data.
+	 */
 	public Pointer data;
 
 	/**
@@ -75,6 +82,15 @@ public class LEAP_IMAGE extends Structure
 	}
 
 
+	@Override
+	public void read()
+	{
+		super.read();
+		imageData = null;
+		matrixData = null;
+	}
+
+
 	/**
 	 * <p>
 	 * The image data is not loaded from native memory until this method is called. This
@@ -92,13 +108,97 @@ public class LEAP_IMAGE extends Structure
 	{
 		if (imageData == null)
 		{
-			imageData = data.getByteArray(offset,
-					properties.width * properties.height * properties.bpp);
+			imageData = data.getByteArray(offset, getDataLength());
 		}
 		return imageData;
 	}
 
 
+	/**
+	 * <p>
+	 * Copies the image data from native memory into the provided array. Unlike
+	 * {@link #getData()}, this copies the data on every call and does not cache it.
+	 * </p>
+	 * <p>
+	 * Like <code>getData()</code>, this must be called before the data is overwritten or
+	 * freed by the next poll.
+	 * </p>
+	 *
+	 * @param array The array into which the image data is to be copied, if it is big
+	 *          enough; otherwise, a new array is allocated for this purpose.
+	 * @return An array starting with the image data. Its first {@link #getDataLength()}
+	 *         bytes are the image.
+	 * @since LeapJna 1.3.0
+	 */
+	public byte[] getData(byte[] array)
+	{
+		int length = getDataLength();
+		if (array == null || array.length < length)
+		{
+			array = new byte[length];
+		}
+
+		data.read(offset, array, 0, length);
+		return array;
+	}
+
+
+	/**
+	 * <p>
+	 * Copies the image data from native memory into an array obtained from the provided
+	 * pool. Return the array to the pool with {@link ByteArrayPool#release(byte[])} when
+	 * it is no longer needed, so that it can be re-used for later images.
+	 * </p>
+	 * <p>
+	 * This is intended for consumers that must keep images after the next poll, e.g. to
+	 * process them in another thread.
+	 * </p>
+	 *
+	 * @param pool The pool to obtain the array from.
+	 * @return An array of exactly {@link #getDataLength()} bytes containing the image data.
+	 * @since LeapJna 1.3.0
+	 */
+	public byte[] getData(ByteArrayPool pool)
+	{
+		int length = getDataLength();
+		byte[] array = pool.acquire(length);
+		data.read(offset, array, 0, length);
+		return array;
+	}
+
+
+	/**
+	 * <p>
+	 * Returns a view of the image data in native memory, without copying it. The buffer's
+	 * position is zero and its limit is {@link #getDataLength()}.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: The buffer refers directly to memory owned by LeapC, which is only valid
+	 * until the next poll. Do not keep the buffer (or use it from another thread) after
+	 * polling again; copy the data with {@link #getData(byte[])} or
+	 * {@link #getData(ByteArrayPool)} instead.
+	 * </p>
+	 *
+	 * @return A direct, read-only <code>ByteBuffer</code> over the image data.
+	 * @since LeapJna 1.3.0
+	 */
+	public ByteBuffer getDataBuffer()
+	{
+		return data.getByteBuffer(offset, getDataLength()).asReadOnlyBuffer();
+	}
+
+
+	/**
+	 * @return The size of the image data in bytes, i.e.
+	 *         <code>width * height * bpp</code>.
+	 * @since LeapJna 1.3.0
+	 */
+	public int getDataLength()
+	{
+		return properties.width * properties.height * properties.bpp;
+	}
+
+
 	/**
 	 * <p>
 	 * The first call to this method on a <code>LEAP_IMAGE</code> instance reads the
@@ -107,6 +207,8 @@ public class LEAP_IMAGE extends Structure
 	 * <p>
 	 * <b>NOTE</b>: For performance reasons it is best to only use this method if
 	 * {@link #matrix_version} has changed since you last read a distortion matrix!
+	 * {@link komposten.leapjna.leapc.util.DistortionMatrixCache DistortionMatrixCache}
+	 * can keep track of this for you.
 	 * </p>
 	 * 
 	 * @return A {@link LEAP_DISTORTION_MATRIX} containing the matrix.
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2020-2022 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.data;
+
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+import com.sun.jna.Structure.FieldOrder;
+
+import komposten.leapjna.leapc.LeapC;
+
+
+/**
+ * <p>
+ * A notification that a device's point mapping has changed.
+ * </p>
+ * <p>
+ * It contains the entire set of points being mapped.
+ * </p>
+ * 
+ * @deprecated
+ * @since LeapJna 1.0.0
+ * @since Ultraleap Orion SDK 4.0.0
+ */
+@Deprecated
+@FieldOrder({ "frame_id", "timestamp", "nPoints", "pPoints", "pIDs" })
+public class LEAP_POINT_MAPPING extends Structure
+{
+	/** The ID of the frame corresponding to the source of the currently tracked points. */
+	public long frame_id;
+
+	/**
+	 * The timestamp of the frame, in microseconds, referenced against
+	 * {@link LeapC#LeapGetNow()}.
+	 */
+	public long timestamp;
+
+	/** The number of points being tracked. */
+	public int nPoints;
+
+	/**
+	 * A pointer to the array of 3D points being mapped. Use {@link #getPoints()},
+	 * {@link #getPoints(float[])} or {@link #getPointBuffer()} to obtain the array itself.
+	 */
+	public Pointer pPoints;
+
+	/**
+	 * A pointer an array with the IDs of the points being mapped. Use {@link #getIds()},
+	 * {@link #getIds(int[])} or {@link #getIdBuffer()} to obtain the array itself.
+	 */
+	public Pointer pIDs;
+
+	private LEAP_VECTOR[] points;
+	private int[] ids;
+	private boolean decodePoints = true;
+
+	public LEAP_POINT_MAPPING()
+	{
+		super(ALIGN_NONE);
+	}
+
+
+	public LEAP_POINT_MAPPING(int size)
+	{
+		super(ALIGN_NONE);
+		allocateMemory(size);
+	}
+
+
+	/**
+	 * <p>
+	 * Enables or disables decoding of the points and IDs into objects in {@link #read()}.
+	 * </p>
+	 * <p>
+	 * By default, <code>read()</code> creates one {@link LEAP_VECTOR} per point, and an
+	 * <code>int[]</code> for the IDs. With point decoding disabled, <code>read()</code>
+	 * only reads the fields of this struct, and {@link #getPoints()} and
+	 * {@link #getIds()} return <code>null</code>. Use {@link #getPoints(float[])},
+	 * {@link #getIds(int[])}, {@link #getPointBuffer()} or {@link #getIdBuffer()} to
+	 * access the points without creating an object per point.
+	 * </p>
+	 *
+	 * @param decodePoints <code>false</code> to not decode the points in
+	 *          <code>read()</code>.
+	 * @since LeapJna 1.3.0
+	 */
+	public void setDecodePoints(boolean decodePoints)
+	{
+		this.decodePoints = decodePoints;
+	}
+
+
+	/**
+	 * @return <code>true</code> if point decoding is enabled.
+	 * @see #setDecodePoints(boolean)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean isDecodePoints()
+	{
+		return decodePoints;
+	}
+
+
+	/**
+	 * @return The points, or <code>null</code> if point decoding has been disabled with
+	 *         {@link #setDecodePoints(boolean)}.
+	 */
+	public LEAP_VECTOR[] getPoints()
+	{
+		return points;
+	}
+
+
+	/**
+	 * @return The point IDs, or <code>null</code> if point decoding has been disabled
+	 *         with {@link #setDecodePoints(boolean)}.
+	 */
+	public int[] getIds()
+	{
+		return ids;
+	}
+
+
+	/**
+	 * Copies the points from native memory into a <code>float</code> array, with one bulk
+	 * read. The coordinates of point <code>i</code> are stored at <code>3*i</code>
+	 * (x), <code>3*i + 1</code> (y) and <code>3*i + 2</code> (z).
+	 *
+	 * @param xyz The array into which the coordinates are to be stored, if it is big
+	 *          enough; otherwise, a new array is allocated for this purpose.
+	 * @return An array whose first <code>3 * nPoints</code> values are the coordinates of
+	 *         the points.
+	 * @since LeapJna 1.3.0
+	 */
+	public float[] getPoints(float[] xyz)
+	{
+		int length = Math.max(nPoints, 0) * 3;
+		if (xyz == null || xyz.length < length)
+		{
+			xyz = new float[length];
+		}
+
+		if (length > 0)
+		{
+			pPoints.read(0, xyz, 0, length);
+		}
+
+		return xyz;
+	}
+
+
+	/**
+	 * Copies the point IDs from native memory into an <code>int</code> array, with one
+	 * bulk read.
+	 *
+	 * @param array The array into which the IDs are to be stored, if it is big enough;
+	 *          otherwise, a new array is allocated for this purpose.
+	 * @return An array whose first <code>nPoints</code> values are the IDs of the points.
+	 * @since LeapJna 1.3.0
+	 */
+	public int[] getIds(int[] array)
+	{
+		int length = Math.max(nPoints, 0);
+		if (array == null || array.length < length)
+		{
+			array = new int[length];
+		}
+
+		if (length > 0)
+		{
+			pIDs.read(0, array, 0, length);
+		}
+
+		return array;
+	}
+
+
+	/**
+	 * <p>
+	 * Returns a view of the points in native memory, without copying them. The buffer
+	 * contains <code>3 * nPoints</code> values, laid out like in
+	 * {@link #getPoints(float[])}.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: The buffer refers directly to the memory that <code>pPoints</code>
+	 * points to, and is only valid as long as that memory is.
+	 * </p>
+	 *
+	 * @return A read-only <code>FloatBuffer</code> over the points.
+	 * @since LeapJna 1.3.0
+	 */
+	public FloatBuffer getPointBuffer()
+	{
+		if (nPoints <= 0)
+		{
+			return FloatBuffer.allocate(0).asReadOnlyBuffer();
+		}
+
+		return pPoints.getByteBuffer(0, nPoints * 3L * Float.BYTES)
+				.order(ByteOrder.nativeOrder()).asFloatBuffer().asReadOnlyBuffer();
+	}
+
+
+	/**
+	 * <p>
+	 * Returns a view of the point IDs in native memory, without copying them.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: The buffer refers directly to the memory that <code>pIDs</code> points
+	 * to, and is only valid as long as that memory is.
+	 * </p>
+	 *
+	 * @return A read-only <code>IntBuffer</code> over the IDs.
+	 * @since LeapJna 1.3.0
+	 */
+	public IntBuffer getIdBuffer()
+	{
+		if (nPoints <= 0)
+		{
+			return IntBuffer.allocate(0).asReadOnlyBuffer();
+		}
+
+		return pIDs.getByteBuffer(0, nPoints * (long) Integer.BYTES)
+				.order(ByteOrder.nativeOrder()).asIntBuffer().asReadOnlyBuffer();
+	}
+
+
+	@Override
+	public void read()
+	{
+		super.read();
+
+		if (!decodePoints)
+		{
+			points = null;
+			ids = null;
+			return;
+		}
+
+		points = new LEAP_VECTOR[nPoints];
+		ids = new int[nPoints];
+
+		int pointOffset = 0;
+		int idOffset = 0;
+
+		for (int i = 0; i < nPoints; i++)
+		{
+			points[i] = new LEAP_VECTOR(pPoints.share(pointOffset));
+			ids[i] = pIDs.getInt(idOffset);
+
+			pointOffset += points[i].size();
+			idOffset += 4;
+		}
+	}
+}
@@ -10,10 +10,9 @@
 package komposten.leapjna.leapc.data;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
-import komposten.leapjna.leapc.events.LEAP_EVENT;
+import komposten.leapjna.leapc.events.LeapEventStructure;
 
 
 /**
@@ -35,7 +34,7 @@ import komposten.leapjna.leapc.events.LEAP_EVENT;
  * @since Ultraleap Gemini SDK 5.2.0
  */
 @FieldOrder({ "major", "minor", "patch" })
-public class LEAP_VERSION extends Structure implements LEAP_EVENT
+public class LEAP_VERSION extends LeapEventStructure
 {
 	/**
 	 * The major version.
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.enums;
+
+import komposten.leapjna.leapc.enums.Enums.ByteEnum;
+import komposten.leapjna.leapc.enums.Enums.IntEnum;
+
+
+/**
+ * <p>
+ * Precomputed value-to-constant tables used by {@link Enums#parse(int, IntEnum)} and
+ * {@link Enums#parse(byte, ByteEnum)}.
+ * </p>
+ * <p>
+ * Tables are built once per enum class and cached in a {@link ClassValue}. Integer values
+ * are looked up in an open-addressing hash table and byte values in a 256-element array,
+ * so lookups never allocate. If several constants share a value, the first declared
+ * constant wins (matching the order of {@link Class#getEnumConstants()}).
+ * </p>
+ */
+final class EnumLookup
+{
+	private static final ClassValue<EnumLookup> INT_LOOKUPS = new ClassValue<EnumLookup>()
+	{
+		@Override
+		protected EnumLookup computeValue(Class<?> type)
+		{
+			return new EnumLookup((IntEnum[]) type.getEnumConstants());
+		}
+	};
+
+	private static final ClassValue<Object[]> BYTE_LOOKUPS = new ClassValue<Object[]>()
+	{
+		@Override
+		protected Object[] computeValue(Class<?> type)
+		{
+			return createByteTable((ByteEnum[]) type.getEnumConstants());
+		}
+	};
+
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	private final int[] keys;
+	private final Object[] constants;
+	private final int mask;
+	private final int shift;
+
+
+	private EnumLookup(IntEnum[] values)
+	{
+		int count = values != null ? values.length : 0;
+		int capacity = Integer.highestOneBit(Math.max(2, count * 2 - 1)) << 1;
+
+		keys = new int[capacity];
+		constants = new Object[capacity];
+		mask = capacity - 1;
+		shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+
+		for (int i = 0; i < count; i++)
+		{
+			put(values[i].getValue(), values[i]);
+		}
+	}
+
+
+	private void put(int value, Object constant)
+	{
+		int index = indexOf(value);
+		while (constants[index] != null)
+		{
+			if (keys[index] == value)
+			{
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+
+		keys[index] = value;
+		constants[index] = constant;
+	}
+
+
+	private int indexOf(int value)
+	{
+		return (value * HASH_MULTIPLIER) >>> shift;
+	}
+
+
+	/**
+	 * @return The constant with the specified value, or <code>null</code> if there is no
+	 *         such constant.
+	 */
+	Object get(int value)
+	{
+		int index = indexOf(value);
+		Object constant;
+		while ((constant = constants[index]) != null)
+		{
+			if (keys[index] == value)
+			{
+				return constant;
+			}
+			index = (index + 1) & mask;
+		}
+
+		return null;
+	}
+
+
+	private static Object[] createByteTable(ByteEnum[] values)
+	{
+		Object[] table = new Object[256];
+
+		if (values != null)
+		{
+			for (ByteEnum value : values)
+			{
+				int index = value.getValue() & 0xFF;
+				if (table[index] == null)
+				{
+					table[index] = value;
+				}
+			}
+		}
+
+		return table;
+	}
+
+
+	/**
+	 * @return The lookup table for the enum class that <code>constant</code> belongs to.
+	 */
+	static EnumLookup forIntEnum(IntEnum constant)
+	{
+		return INT_LOOKUPS.get(enumClassOf(constant));
+	}
+
+
+	/**
+	 * @return The lookup table for the enum class that <code>constant</code> belongs to,
+	 *         indexed by <code>value &amp; 0xFF</code>.
+	 */
+	static Object[] forByteEnum(ByteEnum constant)
+	{
+		return BYTE_LOOKUPS.get(enumClassOf(constant));
+	}
+
+
+	/**
+	 * Returns the enum class of a constant. Unlike {@link Object#getClass()} this also works
+	 * for constants with class bodies, which are instances of anonymous subclasses.
+	 */
+	private static Class<?> enumClassOf(Object constant)
+	{
+		if (constant instanceof Enum)
+		{
+			return ((Enum<?>) constant).getDeclaringClass();
+		}
+
+		return constant.getClass();
+	}
+}
@@ -12,6 +12,7 @@ package komposten.leapjna.leapc.enums;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -107,22 +108,14 @@ public class Enums
 	 * 
 	 * @return An enum constant of type <code>E</code> matching
 	 *         <code>value</code>, or <code>defaultValue</code> if no match is
-	 *         found.
+	 *         found. If several constants share the same value, the first
+	 *         declared one is returned.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <E extends IntEnum> E parse(int value, E defaultValue)
 	{
-		@SuppressWarnings("unchecked")
-		E[] enumValues = (E[]) defaultValue.getClass().getEnumConstants();
-
-		for (E enumValue : enumValues)
-		{
-			if (enumValue.getValue() == value)
-			{
-				return enumValue;
-			}
-		}
-
-		return defaultValue;
+		Object enumValue = EnumLookup.forIntEnum(defaultValue).get(value);
+		return enumValue != null ? (E) enumValue : defaultValue;
 	}
 
 
@@ -137,22 +130,14 @@ public class Enums
 	 * 
 	 * @return An enum constant of type <code>E</code> matching
 	 *         <code>value</code>, or <code>defaultValue</code> if no match is
-	 *         found.
+	 *         found. If several constants share the same value, the first
+	 *         declared one is returned.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <E extends ByteEnum> E parse(byte value, E defaultValue)
 	{
-		@SuppressWarnings("unchecked")
-		E[] enumValues = (E[]) defaultValue.getClass().getEnumConstants();
-
-		for (E enumValue : enumValues)
-		{
-			if (enumValue.getValue() == value)
-			{
-				return enumValue;
-			}
-		}
-
-		return defaultValue;
+		Object enumValue = EnumLookup.forByteEnum(defaultValue)[value & 0xFF];
+		return enumValue != null ? (E) enumValue : defaultValue;
 	}
 
 
@@ -165,13 +150,73 @@ public class Enums
 	 * @return An array of enum constants corresponding to the flags set in the
 	 *         mask, or the enum class' {@link IntFlagEnum#getEmptyMaskConstant()
 	 *         empty constant} if there are no matching enum constants or the mask
-	 *         is empty.
+	 *         is empty. Results are cached per mask and a copy is returned, so the
+	 *         array may be modified freely.
+	 * @see #maskSet(int, Class)
+	 * @see #hasFlag(int, Enum)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <E extends IntFlagEnum<E>> E[] parseMask(int mask, Class<E> enumClass)
 	{
-		E[] enumValues = enumClass.getEnumConstants();
+		return (E[]) MaskLookup.forClass(enumClass).get(mask).flags.clone();
+	}
+
 
-		return enumValues[0].parseMask(mask);
+	/**
+	 * <p>
+	 * Parses the provided bitmask into an immutable set of corresponding enum constants.
+	 * </p>
+	 * <p>
+	 * The set contains the same constants as {@link #parseMask(int, Class)} returns. The
+	 * sets for the first 64 distinct masks of each enum class are cached, so repeated
+	 * calls with those masks return the same instance without allocating. Other masks
+	 * create a new set on every call.
+	 * </p>
+	 * 
+	 * @param mask A bitmask.
+	 * @param <E> The flag enum type whose constants to use.
+	 * @param enumClass The flag enum class whose constants to use.
+	 * @return An immutable set of the enum constants corresponding to the flags set in the
+	 *         mask, or only the enum class' {@link IntFlagEnum#getEmptyMaskConstant() empty
+	 *         constant} if there are no matching enum constants or the mask is empty.
+	 * @since LeapJna 1.3.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Enum<E> & IntFlagEnum<E>> Set<E> maskSet(int mask,
+			Class<E> enumClass)
+	{
+		return (Set<E>) MaskLookup.forClass(enumClass).get(mask).flagSet;
+	}
+
+
+	/**
+	 * <p>
+	 * Checks if a bitmask contains a flag.
+	 * </p>
+	 * <p>
+	 * This is equivalent to checking if {@link #parseMask(int, Class)} returns an array
+	 * containing <code>flag</code>, so enums with custom
+	 * {@link IntFlagEnum#parseMask(int) parseMask} implementations are respected.
+	 * Checking for the {@link IntFlagEnum#getEmptyMaskConstant() empty constant} returns
+	 * <code>true</code> if no other flags are set.
+	 * </p>
+	 * <p>
+	 * For enums that use the default <code>parseMask</code>, this tests the flag's bits
+	 * directly and never allocates. Enums with a custom <code>parseMask</code> (such as
+	 * {@link eLeapDeviceStatus}) are checked against a cache of parsed masks (see
+	 * {@link #maskSet(int, Class)}), so only repeated checks against one of the first 64
+	 * distinct masks are allocation-free.
+	 * </p>
+	 * 
+	 * @param mask A bitmask.
+	 * @param <E> The flag enum type.
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>mask</code> contains <code>flag</code>.
+	 * @since LeapJna 1.3.0
+	 */
+	public static <E extends Enum<E> & IntFlagEnum<E>> boolean hasFlag(int mask, E flag)
+	{
+		return MaskLookup.forClass(flag.getDeclaringClass()).contains(mask, flag);
 	}
 
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.enums;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import komposten.leapjna.leapc.enums.Enums.IntFlagEnum;
+
+
+/**
+ * <p>
+ * A per-class cache of parsed bitmasks, used by {@link Enums#parseMask(int, Class)},
+ * {@link Enums#maskSet(int, Class)} and {@link Enums#hasFlag(int, Enum)}.
+ * </p>
+ * <p>
+ * Masks are parsed with {@link IntFlagEnum#parseMask(int)} the first time they are seen,
+ * so enums that override <code>parseMask</code> are cached correctly. The cache is
+ * copy-on-write: lookups read an immutable snapshot without locking or allocating, and
+ * misses replace the snapshot. Only the first {@value #MAX_CACHED_MASKS} distinct masks
+ * of each class are cached; further masks are parsed (and allocate) on every call.
+ * </p>
+ * <p>
+ * {@link #contains(int, IntFlagEnum)} only uses the cache for enums with a custom
+ * <code>parseMask</code>. For other enums it tests the bits directly, which never
+ * allocates.
+ * </p>
+ */
+final class MaskLookup
+{
+	static final int MAX_CACHED_MASKS = 64;
+
+	private static final ClassValue<MaskLookup> LOOKUPS = new ClassValue<MaskLookup>()
+	{
+		@Override
+		protected MaskLookup computeValue(Class<?> type)
+		{
+			return new MaskLookup(type, (IntFlagEnum<?>[]) type.getEnumConstants());
+		}
+	};
+
+	private final Class<?> enumClass;
+	private final IntFlagEnum<?> parser;
+	private final IntFlagEnum<?>[] constants;
+	private final IntFlagEnum<?> emptyConstant;
+	private final boolean customParser;
+	private volatile Snapshot snapshot = new Snapshot(new int[0], new Entry[0]);
+
+
+	private MaskLookup(Class<?> enumClass, IntFlagEnum<?>[] constants)
+	{
+		this.enumClass = enumClass;
+		this.parser = constants[0];
+		this.constants = constants;
+		this.emptyConstant = parser.getEmptyMaskConstant();
+		this.customParser = hasCustomParser(enumClass);
+	}
+
+
+	private static boolean hasCustomParser(Class<?> enumClass)
+	{
+		try
+		{
+			return enumClass.getMethod("parseMask", int.class)
+					.getDeclaringClass() != IntFlagEnum.class;
+		}
+		catch (NoSuchMethodException e)
+		{
+			return true;
+		}
+	}
+
+
+	static MaskLookup forClass(Class<?> enumClass)
+	{
+		return LOOKUPS.get(enumClass);
+	}
+
+
+	/**
+	 * @return The parsed form of <code>mask</code>. The returned entry is shared and must
+	 *         not be modified.
+	 */
+	Entry get(int mask)
+	{
+		Snapshot current = snapshot;
+		int index = Arrays.binarySearch(current.masks, mask);
+
+		if (index >= 0)
+		{
+			return current.entries[index];
+		}
+
+		return add(mask);
+	}
+
+
+	/**
+	 * @return <code>true</code> if {@link IntFlagEnum#parseMask(int) parseMask(mask)}
+	 *         contains <code>flag</code>.
+	 */
+	boolean contains(int mask, IntFlagEnum<?> flag)
+	{
+		if (customParser)
+		{
+			return get(mask).flagSet.contains(flag);
+		}
+
+		if (flag != emptyConstant)
+		{
+			return isSet(mask, flag);
+		}
+
+		for (IntFlagEnum<?> constant : constants)
+		{
+			if (constant != emptyConstant && isSet(mask, constant))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+
+	private static boolean isSet(int mask, IntFlagEnum<?> flag)
+	{
+		return (mask & flag.getValue()) == flag.getValue();
+	}
+
+
+	private synchronized Entry add(int mask)
+	{
+		Snapshot current = snapshot;
+		int index = Arrays.binarySearch(current.masks, mask);
+
+		if (index >= 0)
+		{
+			return current.entries[index];
+		}
+
+		Entry entry = new Entry(enumClass, parser.parseMask(mask));
+
+		if (current.masks.length < MAX_CACHED_MASKS)
+		{
+			int insertAt = -(index + 1);
+			int size = current.masks.length;
+
+			int[] masks = new int[size + 1];
+			Entry[] entries = new Entry[size + 1];
+
+			System.arraycopy(current.masks, 0, masks, 0, insertAt);
+			System.arraycopy(current.entries, 0, entries, 0, insertAt);
+			masks[insertAt] = mask;
+			entries[insertAt] = entry;
+			System.arraycopy(current.masks, insertAt, masks, insertAt + 1, size - insertAt);
+			System.arraycopy(current.entries, insertAt, entries, insertAt + 1, size - insertAt);
+
+			snapshot = new Snapshot(masks, entries);
+		}
+
+		return entry;
+	}
+
+
+	private static class Snapshot
+	{
+		final int[] masks;
+		final Entry[] entries;
+
+
+		Snapshot(int[] masks, Entry[] entries)
+		{
+			this.masks = masks;
+			this.entries = entries;
+		}
+	}
+
+
+	static class Entry
+	{
+		final Object[] flags;
+		final Set<?> flagSet;
+
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Entry(Class<?> enumClass, Object[] flags)
+		{
+			EnumSet set = EnumSet.noneOf((Class<Enum>) enumClass);
+			Collections.addAll(set, flags);
+
+			this.flags = flags;
+			this.flagSet = Collections.unmodifiableSet(set);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.events;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+
+
+/**
+ * <p>
+ * A handler with one callback per event type, for use with
+ * {@link LEAP_CONNECTION_MESSAGE#dispatch(EventHandler)}.
+ * </p>
+ * <p>
+ * <code>dispatch()</code> looks up the callback in a table indexed by the raw
+ * {@link LEAP_CONNECTION_MESSAGE#type}, decodes the event once and calls the matching
+ * method. This replaces a <code>switch</code> on {@link LEAP_CONNECTION_MESSAGE#getType()}
+ * followed by a call to the matching <code>get*Event()</code> method.
+ * </p>
+ * <p>
+ * All methods do nothing by default, so implementations only need to override the ones
+ * for the event types they handle. Events without data (such as
+ * {@link eLeapEventType#None} after a timeout) and unknown event types are passed to
+ * {@link #onOtherEvent(LEAP_CONNECTION_MESSAGE)}.
+ * </p>
+ * <p>
+ * The <code>deviceId</code> parameter is {@link LEAP_CONNECTION_MESSAGE#device_id}: the
+ * ID of the device that sent the event, or <code>0</code> for system-wide events.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public interface EventHandler
+{
+	/** Called for {@link eLeapEventType#Connection} events. */
+	default void onConnection(LEAP_CONNECTION_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#ConnectionLost} events. */
+	default void onConnectionLost(LEAP_CONNECTION_LOST_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#Device} events. */
+	default void onDevice(LEAP_DEVICE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#DeviceFailure} events. */
+	default void onDeviceFailure(LEAP_DEVICE_FAILURE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#Policy} events. */
+	default void onPolicy(LEAP_POLICY_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#Tracking} events. */
+	default void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#LogEvent} events. */
+	default void onLogEvent(LEAP_LOG_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#DeviceLost} events. */
+	default void onDeviceLost(LEAP_DEVICE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#ConfigResponse} events. */
+	default void onConfigResponse(LEAP_CONFIG_RESPONSE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#ConfigChange} events. */
+	default void onConfigChange(LEAP_CONFIG_CHANGE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#DeviceStatusChange} events. */
+	default void onDeviceStatusChange(LEAP_DEVICE_STATUS_CHANGE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#DroppedFrame} events. */
+	default void onDroppedFrame(LEAP_DROPPED_FRAME_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#Image} events. */
+	default void onImage(LEAP_IMAGE_EVENT event, int deviceId)
+	{}
+
+
+	/**
+	 * Called for {@link eLeapEventType#PointMappingChange} events.
+	 * 
+	 * @deprecated {@link LEAP_POINT_MAPPING_CHANGE_EVENT} is deprecated.
+	 */
+	@Deprecated
+	default void onPointMappingChange(LEAP_POINT_MAPPING_CHANGE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#TrackingMode} events. */
+	default void onTrackingMode(LEAP_TRACKING_MODE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#LogEvents} events. */
+	default void onLogEvents(LEAP_LOG_EVENTS event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#HeadPose} events. */
+	default void onHeadPose(LEAP_HEAD_POSE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#Eyes} events. */
+	default void onEyes(LEAP_EYE_EVENT event, int deviceId)
+	{}
+
+
+	/** Called for {@link eLeapEventType#IMU} events. */
+	default void onIMU(LEAP_IMU_EVENT event, int deviceId)
+	{}
+
+
+	/**
+	 * Called for messages without event data (e.g. {@link eLeapEventType#None},
+	 * {@link eLeapEventType#ImageComplete} and {@link eLeapEventType#ImageRequestError})
+	 * and for unknown event types.
+	 *
+	 * @param message The message.
+	 */
+	default void onOtherEvent(LEAP_CONNECTION_MESSAGE message)
+	{}
+}
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 import com.sun.jna.ptr.LongByReference;
 
@@ -38,7 +37,7 @@ import komposten.leapjna.leapc.data.LEAP_VARIANT;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "requestID", "value" })
-public class LEAP_CONFIG_RESPONSE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_CONFIG_RESPONSE_EVENT extends LeapEventStructure
 {
 	/** An identifier for correlating the request and response. */
 	public int requestID;
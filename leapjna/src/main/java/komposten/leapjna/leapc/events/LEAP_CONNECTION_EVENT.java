@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -30,7 +29,7 @@ import komposten.leapjna.leapc.enums.eLeapServiceDisposition;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "flags" })
-public class LEAP_CONNECTION_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_CONNECTION_EVENT extends LeapEventStructure
 {
 	/**
 	 * A combination of {@link eLeapServiceDisposition} flags. Use {@link #getFlags()} to
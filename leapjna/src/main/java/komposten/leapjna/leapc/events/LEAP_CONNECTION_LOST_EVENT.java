@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -36,7 +35,7 @@ import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "flags" })
-public class LEAP_CONNECTION_LOST_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_CONNECTION_LOST_EVENT extends LeapEventStructure
 {
 	/** Reserved for future use. */
 	public int flags;
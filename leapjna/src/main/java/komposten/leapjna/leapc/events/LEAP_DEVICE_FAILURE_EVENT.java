@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -37,7 +36,7 @@ import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "status", "hDevice" })
-public class LEAP_DEVICE_FAILURE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_DEVICE_FAILURE_EVENT extends LeapEventStructure
 {
 	/** The status of this failure event. */
 	public int status;
@@ -69,4 +68,18 @@ public class LEAP_DEVICE_FAILURE_EVENT extends Structure implements LEAP_EVENT
 		return Enums.parseMask(status, eLeapDeviceStatus.class);
 	}
 
+
+	/**
+	 * Checks if the status mask contains a specific flag. Repeated checks against the
+	 * same mask do not allocate.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>status</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasStatus(eLeapDeviceStatus flag)
+	{
+		return Enums.hasFlag(status, flag);
+	}
 }
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
@@ -34,7 +33,7 @@ import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
  * @since Ultraleap Orion SDK 3.1.3
  */
 @FieldOrder({ "device", "last_status", "status" })
-public class LEAP_DEVICE_STATUS_CHANGE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_DEVICE_STATUS_CHANGE_EVENT extends LeapEventStructure
 {
 	/** The handle reference of the newly attached device. */
 	public LEAP_DEVICE_REF device;
@@ -90,4 +89,34 @@ public class LEAP_DEVICE_STATUS_CHANGE_EVENT extends Structure implements LEAP_E
 	{
 		return Enums.parseMask(last_status, eLeapDeviceStatus.class);
 	}
+
+
+	/**
+	 * Checks if the status mask contains a specific flag. Repeated checks against the
+	 * same mask do not allocate.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>status</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasStatus(eLeapDeviceStatus flag)
+	{
+		return Enums.hasFlag(status, flag);
+	}
+
+
+	/**
+	 * Checks if the last status mask contains a specific flag. Repeated checks against the
+	 * same mask do not allocate.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>last_status</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hadStatus(eLeapDeviceStatus flag)
+	{
+		return Enums.hasFlag(last_status, flag);
+	}
 }
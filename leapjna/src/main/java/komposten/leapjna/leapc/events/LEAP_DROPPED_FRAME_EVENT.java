@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.enums.Enums;
@@ -22,7 +21,7 @@ import komposten.leapjna.leapc.enums.eLeapDroppedFrameType;
  * @since LeapJna 1.0.0
  */
 @FieldOrder({ "frame_id", "type" })
-public class LEAP_DROPPED_FRAME_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_DROPPED_FRAME_EVENT extends LeapEventStructure
 {
 	public long frame_id;
 
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.data.LEAP_VECTOR;
@@ -23,7 +22,7 @@ import komposten.leapjna.leapc.data.LEAP_VECTOR;
  */
 @FieldOrder({ "frame_id", "timestamp", "left_eye_position", "right_eye_position",
 		"left_eye_estimated_error", "right_eye_estimated_error" })
-public class LEAP_EYE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_EYE_EVENT extends LeapEventStructure
 {
 	/**
 	 * The ID of the frame corresponding to the source of the currently tracked eye
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -30,7 +29,7 @@ import komposten.leapjna.leapc.data.LEAP_VECTOR;
  */
 @FieldOrder({ "timestamp", "head_position", "head_orientation", "head_linear_velocity",
 		"head_angular_velocity" })
-public class LEAP_HEAD_POSE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_HEAD_POSE_EVENT extends LeapEventStructure
 {
 	/**
 	 * The timestamp for this head pose, in microseconds, referenced against
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -40,7 +39,7 @@ import komposten.leapjna.leapc.data.LEAP_IMAGE;
  * @since Ultraleap Orion SDK 4.0.0
  */
 @FieldOrder({ "info", "image", "calib" })
-public class LEAP_IMAGE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_IMAGE_EVENT extends LeapEventStructure
 {
 	/** The information header identifying the images tracking frame. */
 	public LEAP_FRAME_HEADER info;
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.data.LEAP_VECTOR;
@@ -25,7 +24,7 @@ import komposten.leapjna.leapc.enums.eLeapIMUFlag;
  */
 @FieldOrder({ "timestamp", "timestamp_hw", "flags",
 		"accelerometer", "gyroscope", "temperature" })
-public class LEAP_IMU_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_IMU_EVENT extends LeapEventStructure
 {
 	/**
 	 * The timestamp for these measurements, in microseconds, referenced against
@@ -71,4 +70,18 @@ public class LEAP_IMU_EVENT extends Structure implements LEAP_EVENT
 	{
 		return Enums.parseMask(flags, eLeapIMUFlag.class);
 	}
+
+
+	/**
+	 * Checks if the flag mask contains a specific flag, without allocating.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>flags</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasFlag(eLeapIMUFlag flag)
+	{
+		return Enums.hasFlag(flags, flag);
+	}
 }
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -28,7 +27,7 @@ import komposten.leapjna.leapc.enums.eLeapLogSeverity;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "severity", "timestamp", "message" })
-public class LEAP_LOG_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_LOG_EVENT extends LeapEventStructure
 {
 	/**
 	 * The type of message. Use {@link #getSeverity()} to get the severity as an
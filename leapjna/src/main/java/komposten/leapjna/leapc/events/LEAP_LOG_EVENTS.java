@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 
@@ -24,7 +23,7 @@ import com.sun.jna.Structure.FieldOrder;
  * @since Ultraleap Orion SDK 4.0.0
  */
 @FieldOrder({ "nEvents", "events" })
-public class LEAP_LOG_EVENTS extends Structure implements LEAP_EVENT
+public class LEAP_LOG_EVENTS extends LeapEventStructure
 {
 	/** The number of log events being pointed to by the <code>events</code> field. */
 	public int nEvents;
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -28,7 +27,7 @@ import komposten.leapjna.leapc.LeapC;
  */
 @Deprecated
 @FieldOrder({ "frame_id", "timestamp", "nPoints" })
-public class LEAP_POINT_MAPPING_CHANGE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_POINT_MAPPING_CHANGE_EVENT extends LeapEventStructure
 {
 	/**
 	 * The ID of the frame corresponding to the source of the currently tracked points.
@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -35,7 +34,7 @@ import komposten.leapjna.leapc.enums.eLeapPolicyFlag;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "reserved", "current_policy" })
-public class LEAP_POLICY_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_POLICY_EVENT extends LeapEventStructure
 {
 	/** Reserved for future use. */
 	public int reserved;
@@ -61,4 +60,18 @@ public class LEAP_POLICY_EVENT extends Structure implements LEAP_EVENT
 	{
 		return Enums.parseMask(current_policy, eLeapPolicyFlag.class);
 	}
+
+
+	/**
+	 * Checks if the current policy mask contains a specific flag, without allocating.
+	 * 
+	 * @param flag The flag to look for.
+	 * @return <code>true</code> if <code>current_policy</code> contains <code>flag</code>.
+	 * @see Enums#hasFlag(int, Enum)
+	 * @since LeapJna 1.3.0
+	 */
+	public boolean hasPolicy(eLeapPolicyFlag flag)
+	{
+		return Enums.hasFlag(current_policy, flag);
+	}
 }
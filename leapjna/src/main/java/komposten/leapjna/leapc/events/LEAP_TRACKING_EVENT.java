@@ -10,11 +10,11 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.data.LEAP_FRAME_HEADER;
 import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_HAND_Layout;
 
 
 /**
@@ -28,7 +28,7 @@ import komposten.leapjna.leapc.data.LEAP_HAND;
  * @since Ultraleap Orion SDK 3.0.0
  */
 @FieldOrder({ "info", "tracking_frame_id", "nHands", "pHands", "framerate" })
-public class LEAP_TRACKING_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_TRACKING_EVENT extends LeapEventStructure
 {
 	/** A universal frame identification header. */
 	public LEAP_FRAME_HEADER info;
@@ -83,7 +83,10 @@ public class LEAP_TRACKING_EVENT extends Structure implements LEAP_EVENT
 	 */
 	public float framerate;
 
+	private static final int HAND_SIZE = LEAP_HAND_Layout.BYTES;
+
 	private LEAP_HAND[] hands;
+	private LEAP_HAND[] handPool;
 
 	public LEAP_TRACKING_EVENT()
 	{
@@ -132,4 +135,55 @@ public class LEAP_TRACKING_EVENT extends Structure implements LEAP_EVENT
 			}
 		}
 	}
-}
\ No newline at end of file
+
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The {@link LEAP_HAND} instances from previous frames are also re-used (see
+	 * {@link LEAP_HAND#reuse(Pointer)}). The array returned by {@link #getHands()} is only
+	 * re-allocated when the number of hands changes.
+	 * </p>
+	 * <p>
+	 * The data is read using the generated {@link LEAP_TRACKING_EVENT_Layout}, which is
+	 * much faster than {@link #read()}.
+	 * </p>
+	 */
+	@Override
+	public void reuse(Pointer pointer)
+	{
+		useMemory(pointer);
+		LEAP_TRACKING_EVENT_Layout.read(pointer, 0, this);
+
+		if (handPool == null || handPool.length < nHands)
+		{
+			LEAP_HAND[] newPool = new LEAP_HAND[Math.max(nHands, 2)];
+			if (handPool != null)
+			{
+				System.arraycopy(handPool, 0, newPool, 0, handPool.length);
+			}
+			handPool = newPool;
+		}
+
+		if (hands == null || hands.length != nHands)
+		{
+			hands = new LEAP_HAND[nHands];
+		}
+
+		for (int i = 0; i < nHands; i++)
+		{
+			Pointer handPointer = pHands.share((long) i * HAND_SIZE);
+
+			if (handPool[i] == null)
+			{
+				handPool[i] = new LEAP_HAND(handPointer);
+			}
+			else
+			{
+				handPool[i].reuse(handPointer);
+			}
+
+			hands[i] = handPool[i];
+		}
+	}
+}
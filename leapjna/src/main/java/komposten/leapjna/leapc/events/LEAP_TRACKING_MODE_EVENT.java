@@ -10,7 +10,6 @@
 package komposten.leapjna.leapc.events;
 
 import com.sun.jna.Pointer;
-import com.sun.jna.Structure;
 import com.sun.jna.Structure.FieldOrder;
 
 import komposten.leapjna.leapc.LeapC;
@@ -35,7 +34,7 @@ import komposten.leapjna.leapc.enums.eLeapTrackingMode;
  * @since Ultraleap Gemini SDK 5.0.0
  */
 @FieldOrder({ "reserved", "current_tracking_mode" })
-public class LEAP_TRACKING_MODE_EVENT extends Structure implements LEAP_EVENT
+public class LEAP_TRACKING_MODE_EVENT extends LeapEventStructure
 {
 	/** Reserved for future use. */
 	public int reserved;
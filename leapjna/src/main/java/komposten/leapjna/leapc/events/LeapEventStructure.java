@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.events;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+
+
+/**
+ * The base class of the LeapJna event structures, which can be re-used for new event
+ * data with {@link #reuse(Pointer)}.
+ * 
+ * @since LeapJna 1.3.0
+ */
+public abstract class LeapEventStructure extends Structure implements LEAP_EVENT
+{
+	protected LeapEventStructure(int alignType)
+	{
+		super(alignType);
+	}
+
+
+	protected LeapEventStructure(Pointer pointer)
+	{
+		super(pointer);
+	}
+
+
+	protected LeapEventStructure(Pointer pointer, int alignType)
+	{
+		super(pointer, alignType);
+	}
+
+
+	/**
+	 * <p>
+	 * Points this event at a new block of native memory and reads the event data from it,
+	 * re-using this instance (and, where possible, its nested structures) instead of
+	 * allocating a new one.
+	 * </p>
+	 * <p>
+	 * This is used by {@link LEAP_CONNECTION_MESSAGE} when
+	 * {@link LEAP_CONNECTION_MESSAGE#setReuseEvents(boolean) event reuse} is enabled.
+	 * </p>
+	 * 
+	 * @param pointer The memory containing the new event data.
+	 */
+	public void reuse(Pointer pointer)
+	{
+		useMemory(pointer);
+		read();
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+/**
+ * <p>
+ * An immutable snapshot of the metrics recorded for a single LeapC function by an
+ * {@link InstrumentedLeapC}.
+ * </p>
+ * <p>
+ * Latencies are recorded in a histogram with power-of-two bucket boundaries: bucket
+ * <code>i</code> contains calls that took less than {@link #getBucketUpperBound(int)
+ * 2<sup>i</sup>} ns and at least 2<sup>i-1</sup> ns. Percentiles are therefore
+ * approximate and reported as the upper bound of the bucket they fall in (limited by the
+ * longest recorded call).
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class FunctionMetrics
+{
+	private static final eLeapRS[] RESULTS = eLeapRS.values();
+
+	private final String name;
+	private final long[] buckets;
+	private final long[] results;
+	private final long callCount;
+	private final long totalNanos;
+	private final long maxNanos;
+
+
+	FunctionMetrics(String name, long[] buckets, long[] results, long totalNanos,
+			long maxNanos)
+	{
+		this.name = name;
+		this.buckets = buckets;
+		this.results = results;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+
+		long count = 0;
+		for (long bucket : buckets)
+		{
+			count += bucket;
+		}
+		this.callCount = count;
+	}
+
+
+	/**
+	 * @return The name of the function, e.g. <code>LeapPollConnection</code>.
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+
+	/**
+	 * @return The number of times the function has been called.
+	 */
+	public long getCallCount()
+	{
+		return callCount;
+	}
+
+
+	/**
+	 * @return The total time spent in the function, in nanoseconds.
+	 */
+	public long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+
+	/**
+	 * @return The longest time a single call has taken, in nanoseconds.
+	 */
+	public long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+
+	/**
+	 * @return The mean time per call, in nanoseconds, or <code>0</code> if the function
+	 *         has not been called.
+	 */
+	public double getMeanNanos()
+	{
+		return callCount > 0 ? (double) totalNanos / callCount : 0;
+	}
+
+
+	/**
+	 * Returns an approximation of a latency percentile.
+	 *
+	 * @param percentile The percentile, between <code>0</code> and <code>100</code>.
+	 * @return The upper bound (in nanoseconds) of the histogram bucket which contains the
+	 *         percentile, limited to {@link #getMaxNanos()}. Returns <code>0</code> if the
+	 *         function has not been called.
+	 */
+	public long getLatencyPercentile(double percentile)
+	{
+		if (percentile < 0 || percentile > 100)
+		{
+			throw new IllegalArgumentException(
+					"percentile must be between 0 and 100: " + percentile);
+		}
+
+		if (callCount == 0)
+		{
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(callCount * percentile / 100));
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++)
+		{
+			seen += buckets[i];
+			if (seen >= target)
+			{
+				return Math.min(getBucketUpperBound(i), maxNanos);
+			}
+		}
+
+		return maxNanos;
+	}
+
+
+	/**
+	 * @return A copy of the latency histogram. See the class description for the bucket
+	 *         boundaries.
+	 */
+	public long[] getLatencyBuckets()
+	{
+		return buckets.clone();
+	}
+
+
+	/**
+	 * @param bucket A histogram bucket index.
+	 * @return The exclusive upper bound of the bucket, in nanoseconds. The last bucket has
+	 *         no upper bound and returns {@link Long#MAX_VALUE}.
+	 */
+	public static long getBucketUpperBound(int bucket)
+	{
+		if (bucket < 0 || bucket >= FunctionRecorder.BUCKET_COUNT)
+		{
+			throw new IndexOutOfBoundsException("bucket: " + bucket);
+		}
+
+		if (bucket == FunctionRecorder.BUCKET_COUNT - 1)
+		{
+			return Long.MAX_VALUE;
+		}
+
+		return 1L << bucket;
+	}
+
+
+	/**
+	 * @param result A result code.
+	 * @return The number of calls that returned <code>result</code>. Always <code>0</code>
+	 *         for functions which do not return an <code>eLeapRS</code>.
+	 */
+	public long getResultCount(eLeapRS result)
+	{
+		return results[result.ordinal()];
+	}
+
+
+	/**
+	 * @return The number of calls that returned a result other than
+	 *         {@link eLeapRS#Success}.
+	 */
+	public long getErrorCount()
+	{
+		long errors = 0;
+		for (int i = 0; i < results.length; i++)
+		{
+			if (RESULTS[i] != eLeapRS.Success)
+			{
+				errors += results[i];
+			}
+		}
+
+		return errors;
+	}
+
+
+	/**
+	 * @return An unmodifiable map from result codes to the number of calls that returned
+	 *         them. Only results that have been returned at least once are included.
+	 */
+	public Map<eLeapRS, Long> getResultCounts()
+	{
+		Map<eLeapRS, Long> map = new EnumMap<>(eLeapRS.class);
+		for (int i = 0; i < results.length; i++)
+		{
+			if (results[i] > 0)
+			{
+				map.put(RESULTS[i], results[i]);
+			}
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s: calls=%d, errors=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns",
+				name, callCount, getErrorCount(), getMeanNanos(), getLatencyPercentile(50),
+				getLatencyPercentile(99), maxNanos);
+	}
+}
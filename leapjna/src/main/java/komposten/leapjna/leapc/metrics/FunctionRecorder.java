@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+/**
+ * Collects the call count, latency histogram and result counts of a single LeapC
+ * function. Recording is lock-free and does not allocate.
+ */
+final class FunctionRecorder
+{
+	/**
+	 * Bucket <code>i</code> counts calls that took less than 2<sup>i</sup> ns (and at least
+	 * 2<sup>i-1</sup> ns). The last bucket also counts all longer calls.
+	 */
+	static final int BUCKET_COUNT = 40;
+
+	private static final eLeapRS[] RESULTS = eLeapRS.values();
+
+	private final String name;
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLongArray results = new AtomicLongArray(RESULTS.length);
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+
+	FunctionRecorder(String name)
+	{
+		this.name = name;
+	}
+
+
+	String getName()
+	{
+		return name;
+	}
+
+
+	/**
+	 * Records a call which started at <code>startNanos</code> (as returned by
+	 * {@link System#nanoTime()}) and finished now.
+	 *
+	 * @return The current time, as returned by {@link System#nanoTime()}.
+	 */
+	long record(long startNanos)
+	{
+		long now = System.nanoTime();
+		long nanos = now - startNanos;
+
+		buckets.incrementAndGet(bucketOf(nanos));
+		totalNanos.add(nanos);
+
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos))
+		{
+			max = maxNanos.get();
+		}
+
+		return now;
+	}
+
+
+	/**
+	 * Records a call which started at <code>startNanos</code> (as returned by
+	 * {@link System#nanoTime()}), finished now and returned <code>result</code>.
+	 */
+	void record(long startNanos, eLeapRS result)
+	{
+		record(startNanos);
+
+		if (result != null)
+		{
+			results.incrementAndGet(result.ordinal());
+		}
+	}
+
+
+	static int bucketOf(long nanos)
+	{
+		if (nanos <= 0)
+		{
+			return 0;
+		}
+
+		return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+	}
+
+
+	/**
+	 * Resets all values to zero. Calls that are recorded concurrently with a reset may be
+	 * partially included in the new values.
+	 */
+	void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			buckets.set(i, 0);
+		}
+
+		for (int i = 0; i < RESULTS.length; i++)
+		{
+			results.set(i, 0);
+		}
+
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+
+
+	FunctionMetrics snapshot()
+	{
+		long[] bucketCounts = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			bucketCounts[i] = buckets.get(i);
+		}
+
+		long[] resultCounts = new long[RESULTS.length];
+		for (int i = 0; i < RESULTS.length; i++)
+		{
+			resultCounts[i] = results.get(i);
+		}
+
+		return new FunctionMetrics(name, bucketCounts, resultCounts, totalNanos.sum(),
+				maxNanos.get());
+	}
+}
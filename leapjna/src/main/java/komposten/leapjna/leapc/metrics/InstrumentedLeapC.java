@@ -0,0 +1,838 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.data.LEAP_ALLOCATOR;
+import komposten.leapjna.leapc.data.LEAP_CLOCK_REBASER;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_INFO;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
+import komposten.leapjna.leapc.data.LEAP_POINT_MAPPING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_PARAMETERS;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_STATUS;
+import komposten.leapjna.leapc.data.LEAP_TELEMETRY_DATA;
+import komposten.leapjna.leapc.data.LEAP_VARIANT;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.data.LEAP_VERSION;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.ArrayPointer;
+import komposten.leapjna.leapc.util.PrimitiveArrayPointer;
+
+
+/**
+ * <p>
+ * A {@link LeapC} implementation which forwards all calls to another instance and records
+ * metrics for every function: the number of calls, the number of calls per
+ * {@link eLeapRS} result and a latency histogram. Use {@link #snapshot()} to read the
+ * metrics.
+ * </p>
+ * <p>
+ * Instrumentation is opt-in and has no cost unless an instance of this class is used:
+ * </p>
+ * 
+ * <pre>
+ * InstrumentedLeapC leapC = new InstrumentedLeapC(LeapC.INSTANCE);
+ * // Use leapC instead of LeapC.INSTANCE.
+ * ...
+ * System.out.println(leapC.snapshot());
+ * </pre>
+ * <p>
+ * Recording is lock-free and allocation-free, adding two {@link System#nanoTime()} calls
+ * and a few atomic increments to every call, so it is cheap enough to leave enabled.
+ * Latencies include the time spent blocking in the native function (e.g. waiting for a
+ * message in <code>LeapPollConnection</code>) as well as JNA's argument conversion.
+ * Calls that throw an exception are not recorded.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+@SuppressWarnings("deprecation")
+public final class InstrumentedLeapC implements LeapC
+{
+	private final LeapC delegate;
+	private final List<FunctionRecorder> recorders = new ArrayList<>();
+
+	private final FunctionRecorder createConnection = recorder("LeapCreateConnection");
+	private final FunctionRecorder destroyConnection = recorder("LeapDestroyConnection");
+	private final FunctionRecorder openConnection = recorder("LeapOpenConnection");
+	private final FunctionRecorder closeConnection = recorder("LeapCloseConnection");
+	private final FunctionRecorder pollConnection = recorder("LeapPollConnection");
+	private final FunctionRecorder getConnectionInfo = recorder("LeapGetConnectionInfo");
+	private final FunctionRecorder getDeviceList = recorder("LeapGetDeviceList");
+	private final FunctionRecorder openDevice = recorder("LeapOpenDevice");
+	private final FunctionRecorder closeDevice = recorder("LeapCloseDevice");
+	private final FunctionRecorder setPrimaryDevice = recorder("LeapSetPrimaryDevice");
+	private final FunctionRecorder getDeviceInfo = recorder("LeapGetDeviceInfo");
+	private final FunctionRecorder getDeviceTransform = recorder("LeapGetDeviceTransform");
+	private final FunctionRecorder devicePIDToString = recorder("LeapDevicePIDToString");
+	private final FunctionRecorder subscribeEvents = recorder("LeapSubscribeEvents");
+	private final FunctionRecorder unsubscribeEvents = recorder("LeapUnsubscribeEvents");
+	private final FunctionRecorder getVersion = recorder("LeapGetVersion");
+	private final FunctionRecorder getFrameSize = recorder("LeapGetFrameSize");
+	private final FunctionRecorder getFrameSizeEx = recorder("LeapGetFrameSizeEx");
+	private final FunctionRecorder interpolateFrameFromTime =
+			recorder("LeapInterpolateFrameFromTime");
+	private final FunctionRecorder interpolateFrameFromTimeEx =
+			recorder("LeapInterpolateFrameFromTimeEx");
+	private final FunctionRecorder interpolateFrame = recorder("LeapInterpolateFrame");
+	private final FunctionRecorder interpolateFrameEx = recorder("LeapInterpolateFrameEx");
+	private final FunctionRecorder interpolateHeadPose =
+			recorder("LeapInterpolateHeadPose");
+	private final FunctionRecorder setPolicyFlags = recorder("LeapSetPolicyFlags");
+	private final FunctionRecorder setPolicyFlagsEx = recorder("LeapSetPolicyFlagsEx");
+	private final FunctionRecorder setTrackingMode = recorder("LeapSetTrackingMode");
+	private final FunctionRecorder setTrackingModeEx = recorder("LeapSetTrackingModeEx");
+	private final FunctionRecorder getTrackingMode = recorder("LeapGetTrackingMode");
+	private final FunctionRecorder getTrackingModeEx = recorder("LeapGetTrackingModeEx");
+	private final FunctionRecorder setPause = recorder("LeapSetPause");
+	private final FunctionRecorder requestConfigValue = recorder("LeapRequestConfigValue");
+	private final FunctionRecorder saveConfigValue = recorder("LeapSaveConfigValue");
+	private final FunctionRecorder getPointMappingSize =
+			recorder("LeapGetPointMappingSize");
+	private final FunctionRecorder getPointMapping = recorder("LeapGetPointMapping");
+	private final FunctionRecorder getNow = recorder("LeapGetNow");
+	private final FunctionRecorder setAllocator = recorder("LeapSetAllocator");
+	private final FunctionRecorder createClockRebaser = recorder("LeapCreateClockRebaser");
+	private final FunctionRecorder destroyClockRebaser =
+			recorder("LeapDestroyClockRebaser");
+	private final FunctionRecorder rebaseClock = recorder("LeapRebaseClock");
+	private final FunctionRecorder updateRebase = recorder("LeapUpdateRebase");
+	private final FunctionRecorder pixelToRectilinear = recorder("LeapPixelToRectilinear");
+	private final FunctionRecorder pixelToRectilinearEx =
+			recorder("LeapPixelToRectilinearEx");
+	private final FunctionRecorder rectilinearToPixel = recorder("LeapRectilinearToPixel");
+	private final FunctionRecorder rectilinearToPixelEx =
+			recorder("LeapRectilinearToPixelEx");
+	private final FunctionRecorder cameraMatrix = recorder("LeapCameraMatrix");
+	private final FunctionRecorder cameraMatrixEx = recorder("LeapCameraMatrixEx");
+	private final FunctionRecorder extrinsicCameraMatrix =
+			recorder("LeapExtrinsicCameraMatrix");
+	private final FunctionRecorder extrinsicCameraMatrixEx =
+			recorder("LeapExtrinsicCameraMatrixEx");
+	private final FunctionRecorder distortionCoeffs = recorder("LeapDistortionCoeffs");
+	private final FunctionRecorder distortionCoeffsEx = recorder("LeapDistortionCoeffsEx");
+	private final FunctionRecorder scaleOffsetMatrix = recorder("LeapScaleOffsetMatrix");
+	private final FunctionRecorder scaleOffsetMatrixEx =
+			recorder("LeapScaleOffsetMatrixEx");
+	private final FunctionRecorder telemetryProfiling = recorder("LeapTelemetryProfiling");
+	private final FunctionRecorder telemetryGetNow = recorder("LeapTelemetryGetNow");
+	private final FunctionRecorder recordingOpen = recorder("LeapRecordingOpen");
+	private final FunctionRecorder recordingWrite = recorder("LeapRecordingWrite");
+	private final FunctionRecorder recordingGetStatus = recorder("LeapRecordingGetStatus");
+	private final FunctionRecorder recordingRead = recorder("LeapRecordingRead");
+	private final FunctionRecorder recordingReadSize = recorder("LeapRecordingReadSize");
+	private final FunctionRecorder recordingClose = recorder("LeapRecordingClose");
+
+
+	/**
+	 * @param delegate The instance to forward calls to, typically {@link LeapC#INSTANCE}.
+	 */
+	public InstrumentedLeapC(LeapC delegate)
+	{
+		this.delegate = delegate;
+	}
+
+
+	private FunctionRecorder recorder(String name)
+	{
+		FunctionRecorder recorder = new FunctionRecorder(name);
+		recorders.add(recorder);
+		return recorder;
+	}
+
+
+	/**
+	 * @return The instance that calls are forwarded to.
+	 */
+	public LeapC getDelegate()
+	{
+		return delegate;
+	}
+
+
+	/**
+	 * @return A snapshot of the metrics recorded since this instance was created or last
+	 *         {@link #reset()}.
+	 */
+	public MetricsSnapshot snapshot()
+	{
+		List<FunctionMetrics> functions = new ArrayList<>(recorders.size());
+		for (FunctionRecorder recorder : recorders)
+		{
+			functions.add(recorder.snapshot());
+		}
+
+		return new MetricsSnapshot(functions);
+	}
+
+
+	/**
+	 * Resets all metrics to zero. Calls that are in progress during a reset may be
+	 * partially included in the new metrics.
+	 */
+	public void reset()
+	{
+		for (FunctionRecorder recorder : recorders)
+		{
+			recorder.reset();
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateConnection(LEAP_CONNECTION_CONFIG pConfig,
+			LEAP_CONNECTION phConnection)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapCreateConnection(pConfig, phConnection);
+		createConnection.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public void LeapDestroyConnection(Pointer hConnection)
+	{
+		long start = System.nanoTime();
+		delegate.LeapDestroyConnection(hConnection);
+		destroyConnection.record(start);
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenConnection(Pointer hConnection)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapOpenConnection(hConnection);
+		openConnection.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public void LeapCloseConnection(Pointer hConnection)
+	{
+		long start = System.nanoTime();
+		delegate.LeapCloseConnection(hConnection);
+		closeConnection.record(start);
+	}
+
+
+	@Override
+	public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapPollConnection(hConnection, timeout, message);
+		pollConnection.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetConnectionInfo(Pointer hConnection, LEAP_CONNECTION_INFO pInfo)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetConnectionInfo(hConnection, pInfo);
+		getConnectionInfo.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceList(Pointer hConnection,
+			ArrayPointer<LEAP_DEVICE_REF> pArray, IntByReference pnArray)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetDeviceList(hConnection, pArray, pnArray);
+		getDeviceList.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenDevice(LEAP_DEVICE_REF rDevice, LEAP_DEVICE phDevice)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapOpenDevice(rDevice, phDevice);
+		openDevice.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public void LeapCloseDevice(Pointer hDevice)
+	{
+		long start = System.nanoTime();
+		delegate.LeapCloseDevice(hDevice);
+		closeDevice.record(start);
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPrimaryDevice(Pointer hConnection, Pointer hDevice,
+			int unsubscribeOthers)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetPrimaryDevice(hConnection, hDevice,
+				unsubscribeOthers);
+		setPrimaryDevice.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceInfo(Pointer hDevice, LEAP_DEVICE_INFO info)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetDeviceInfo(hDevice, info);
+		getDeviceInfo.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceTransform(Pointer hDevice, PrimitiveArrayPointer transform)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetDeviceTransform(hDevice, transform);
+		getDeviceTransform.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public String LeapDevicePIDToString(int pid)
+	{
+		long start = System.nanoTime();
+		String result = delegate.LeapDevicePIDToString(pid);
+		devicePIDToString.record(start);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSubscribeEvents(hConnection, hDevice);
+		subscribeEvents.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapUnsubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapUnsubscribeEvents(hConnection, hDevice);
+		unsubscribeEvents.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetVersion(Pointer hConnection, int versionPart,
+			LEAP_VERSION pVersion)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetVersion(hConnection, versionPart, pVersion);
+		getVersion.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSize(Pointer hConnection, long timestamp,
+			LongByReference pncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetFrameSize(hConnection, timestamp, pncbEvent);
+		getFrameSize.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSizeEx(Pointer hConnection, Pointer hDevice, long timestamp,
+			LongByReference pncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetFrameSizeEx(hConnection, hDevice, timestamp,
+				pncbEvent);
+		getFrameSizeEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTime(Pointer hConnection, long timestamp,
+			long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapInterpolateFrameFromTime(hConnection, timestamp,
+				sourceTimestamp, pEvent, ncbEvent);
+		interpolateFrameFromTime.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTimeEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapInterpolateFrameFromTimeEx(hConnection, hDevice,
+				timestamp, sourceTimestamp, pEvent, ncbEvent);
+		interpolateFrameFromTimeEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrame(Pointer hConnection, long timestamp,
+			LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapInterpolateFrame(hConnection, timestamp, pEvent,
+				ncbEvent);
+		interpolateFrame.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapInterpolateFrameEx(hConnection, hDevice, timestamp,
+				pEvent, ncbEvent);
+		interpolateFrameEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapInterpolateHeadPose(Pointer hConnection, long timestamp,
+			LEAP_HEAD_POSE_EVENT pEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapInterpolateHeadPose(hConnection, timestamp, pEvent);
+		interpolateHeadPose.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlags(Pointer hConnection, long set, long clear)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetPolicyFlags(hConnection, set, clear);
+		setPolicyFlags.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlagsEx(Pointer hConnection, Pointer hDevice, long set,
+			long clear)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetPolicyFlagsEx(hConnection, hDevice, set, clear);
+		setPolicyFlagsEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingMode(Pointer hConnection, int mode)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetTrackingMode(hConnection, mode);
+		setTrackingMode.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingModeEx(Pointer hConnection, Pointer hDevice, int mode)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetTrackingModeEx(hConnection, hDevice, mode);
+		setTrackingModeEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingMode(Pointer hConnection)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetTrackingMode(hConnection);
+		getTrackingMode.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingModeEx(Pointer hConnection, Pointer hDevice)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetTrackingModeEx(hConnection, hDevice);
+		getTrackingModeEx.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPause(Pointer hConnection, int pause)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetPause(hConnection, pause);
+		setPause.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRequestConfigValue(Pointer hConnection, String key,
+			LongByReference pRequestID)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRequestConfigValue(hConnection, key, pRequestID);
+		requestConfigValue.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSaveConfigValue(Pointer hConnection, String key, LEAP_VARIANT value,
+			LongByReference pRequestID)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSaveConfigValue(hConnection, key, value, pRequestID);
+		saveConfigValue.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMappingSize(Pointer hConnection, LongByReference pSize)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetPointMappingSize(hConnection, pSize);
+		getPointMappingSize.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMapping(Pointer hConnection, LEAP_POINT_MAPPING pointMapping,
+			LongByReference pSize)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapGetPointMapping(hConnection, pointMapping, pSize);
+		getPointMapping.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public long LeapGetNow()
+	{
+		long start = System.nanoTime();
+		long result = delegate.LeapGetNow();
+		getNow.record(start);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetAllocator(Pointer hConnection, LEAP_ALLOCATOR allocator)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapSetAllocator(hConnection, allocator);
+		setAllocator.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateClockRebaser(LEAP_CLOCK_REBASER phClockRebaser)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapCreateClockRebaser(phClockRebaser);
+		createClockRebaser.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public void LeapDestroyClockRebaser(Pointer hClockRebaser)
+	{
+		long start = System.nanoTime();
+		delegate.LeapDestroyClockRebaser(hClockRebaser);
+		destroyClockRebaser.record(start);
+	}
+
+
+	@Override
+	public eLeapRS LeapRebaseClock(Pointer hClockRebaser, long userClock,
+			LongByReference pLeapClock)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRebaseClock(hClockRebaser, userClock, pLeapClock);
+		rebaseClock.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapUpdateRebase(Pointer hClockRebaser, long userClock, long leapClock)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapUpdateRebase(hClockRebaser, userClock, leapClock);
+		updateRebase.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinear(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue pixel)
+	{
+		long start = System.nanoTime();
+		LEAP_VECTOR.ByValue result = delegate.LeapPixelToRectilinear(hConnection, camera,
+				pixel);
+		pixelToRectilinear.record(start);
+		return result;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinearEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue pixel)
+	{
+		long start = System.nanoTime();
+		LEAP_VECTOR.ByValue result = delegate.LeapPixelToRectilinearEx(hConnection, hDevice,
+				camera, pixel);
+		pixelToRectilinearEx.record(start);
+		return result;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixel(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue rectilinear)
+	{
+		long start = System.nanoTime();
+		LEAP_VECTOR.ByValue result = delegate.LeapRectilinearToPixel(hConnection, camera,
+				rectilinear);
+		rectilinearToPixel.record(start);
+		return result;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixelEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue rectilinear)
+	{
+		long start = System.nanoTime();
+		LEAP_VECTOR.ByValue result = delegate.LeapRectilinearToPixelEx(hConnection, hDevice,
+				camera, rectilinear);
+		rectilinearToPixelEx.record(start);
+		return result;
+	}
+
+
+	@Override
+	public void LeapCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapCameraMatrix(hConnection, camera, dest);
+		cameraMatrix.record(start);
+	}
+
+
+	@Override
+	public void LeapCameraMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapCameraMatrixEx(hConnection, hDevice, camera, dest);
+		cameraMatrixEx.record(start);
+	}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapExtrinsicCameraMatrix(hConnection, camera, dest);
+		extrinsicCameraMatrix.record(start);
+	}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrixEx(Pointer hConnection, Pointer hDevice,
+			int camera, PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapExtrinsicCameraMatrixEx(hConnection, hDevice, camera, dest);
+		extrinsicCameraMatrixEx.record(start);
+	}
+
+
+	@Override
+	public void LeapDistortionCoeffs(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapDistortionCoeffs(hConnection, camera, dest);
+		distortionCoeffs.record(start);
+	}
+
+
+	@Override
+	public void LeapDistortionCoeffsEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapDistortionCoeffsEx(hConnection, hDevice, camera, dest);
+		distortionCoeffsEx.record(start);
+	}
+
+
+	@Override
+	public void LeapScaleOffsetMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapScaleOffsetMatrix(hConnection, camera, dest);
+		scaleOffsetMatrix.record(start);
+	}
+
+
+	@Override
+	public void LeapScaleOffsetMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{
+		long start = System.nanoTime();
+		delegate.LeapScaleOffsetMatrixEx(hConnection, hDevice, camera, dest);
+		scaleOffsetMatrixEx.record(start);
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapTelemetryProfiling(Pointer hConnection,
+			LEAP_TELEMETRY_DATA telemetryData)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapTelemetryProfiling(hConnection, telemetryData);
+		telemetryProfiling.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	@Deprecated
+	public long LeapTelemetryGetNow()
+	{
+		long start = System.nanoTime();
+		long result = delegate.LeapTelemetryGetNow();
+		telemetryGetNow.record(start);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingOpen(LEAP_RECORDING ppRecording, String filePath,
+			LEAP_RECORDING_PARAMETERS params)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingOpen(ppRecording, filePath, params);
+		recordingOpen.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingWrite(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			LongByReference pnBytesWritten)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingWrite(pRecording, pEvent, pnBytesWritten);
+		recordingWrite.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingGetStatus(Pointer pRecording, LEAP_RECORDING_STATUS pStatus)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingGetStatus(pRecording, pStatus);
+		recordingGetStatus.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingRead(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingRead(pRecording, pEvent, ncbEvent);
+		recordingRead.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingReadSize(Pointer pRecording, LongByReference pncbEvent)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingReadSize(pRecording, pncbEvent);
+		recordingReadSize.record(start, result);
+		return result;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingClose(LEAP_RECORDING ppRecording)
+	{
+		long start = System.nanoTime();
+		eLeapRS result = delegate.LeapRecordingClose(ppRecording);
+		recordingClose.record(start, result);
+		return result;
+	}
+}
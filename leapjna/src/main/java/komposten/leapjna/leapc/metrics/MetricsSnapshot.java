@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An immutable snapshot of the metrics recorded by an {@link InstrumentedLeapC}, with one
+ * {@link FunctionMetrics} entry per LeapC function, or by a {@link PhaseTimer}, with one
+ * entry per phase.
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class MetricsSnapshot
+{
+	private final Map<String, FunctionMetrics> functions;
+
+
+	MetricsSnapshot(List<FunctionMetrics> functions)
+	{
+		Map<String, FunctionMetrics> map = new LinkedHashMap<>();
+		for (FunctionMetrics function : functions)
+		{
+			map.put(function.getName(), function);
+		}
+
+		this.functions = Collections.unmodifiableMap(map);
+	}
+
+
+	/**
+	 * @param name The name of a LeapC function, e.g. <code>LeapPollConnection</code>.
+	 * @return The metrics for the function, or <code>null</code> if there is no function
+	 *         with that name.
+	 */
+	public FunctionMetrics getFunction(String name)
+	{
+		return functions.get(name);
+	}
+
+
+	/**
+	 * @return The metrics for all functions, in the order they are declared in
+	 *         {@link komposten.leapjna.leapc.LeapC LeapC}.
+	 */
+	public List<FunctionMetrics> getFunctions()
+	{
+		return new ArrayList<>(functions.values());
+	}
+
+
+	/**
+	 * @return The metrics for all functions which have been called at least once, in the
+	 *         order they are declared in {@link komposten.leapjna.leapc.LeapC LeapC}.
+	 */
+	public List<FunctionMetrics> getCalledFunctions()
+	{
+		List<FunctionMetrics> called = new ArrayList<>();
+		for (FunctionMetrics function : functions.values())
+		{
+			if (function.getCallCount() > 0)
+			{
+				called.add(function);
+			}
+		}
+
+		return called;
+	}
+
+
+	/**
+	 * @return One line per called function with its call count, error count and
+	 *         latencies.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder();
+		for (FunctionMetrics function : getCalledFunctions())
+		{
+			builder.append(function).append(System.lineSeparator());
+		}
+
+		return builder.toString();
+	}
+}
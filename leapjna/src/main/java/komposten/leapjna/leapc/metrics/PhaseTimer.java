@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>
+ * Records the call count and latency histogram of a fixed set of named phases, such as
+ * the poll, decode and dispatch phases of an event loop. Recording is lock-free and does
+ * not allocate.
+ * </p>
+ * <p>
+ * Phases are identified by their index in the array passed to the constructor, and
+ * reported as one {@link FunctionMetrics} entry per phase by {@link #snapshot()}.
+ * </p>
+ *
+ * <pre>
+ * long start = System.nanoTime();
+ * ...
+ * timer.record(POLL, start);
+ * </pre>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class PhaseTimer
+{
+	private final FunctionRecorder[] recorders;
+
+
+	/**
+	 * @param phases The names of the phases.
+	 */
+	public PhaseTimer(String... phases)
+	{
+		recorders = new FunctionRecorder[phases.length];
+		for (int i = 0; i < phases.length; i++)
+		{
+			recorders[i] = new FunctionRecorder(phases[i]);
+		}
+	}
+
+
+	/**
+	 * Records a phase which started at <code>startNanos</code> (as returned by
+	 * {@link System#nanoTime()}) and finished now.
+	 *
+	 * @param phase The index of the phase.
+	 * @param startNanos The start time of the phase.
+	 * @return The current time (as returned by {@link System#nanoTime()}), which can be used
+	 *         as the start time of the next phase.
+	 */
+	public long record(int phase, long startNanos)
+	{
+		return recorders[phase].record(startNanos);
+	}
+
+
+	/**
+	 * Resets all phases to zero.
+	 */
+	public void reset()
+	{
+		for (FunctionRecorder recorder : recorders)
+		{
+			recorder.reset();
+		}
+	}
+
+
+	/**
+	 * @return A snapshot of the metrics for all phases, in the order they were passed to
+	 *         the constructor.
+	 */
+	public MetricsSnapshot snapshot()
+	{
+		List<FunctionMetrics> metrics = new ArrayList<>(recorders.length);
+		for (FunctionRecorder recorder : recorders)
+		{
+			metrics.add(recorder.snapshot());
+		}
+
+		return new MetricsSnapshot(metrics);
+	}
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+
+/**
+ * Provides opt-in instrumentation which records call counts, results and latencies for
+ * the Ultraleap C API.
+ */
+package komposten.leapjna.leapc.metrics;
@@ -69,7 +69,7 @@ public class ArrayPointer<T extends Structure> extends Memory
 	 */
 	public static <T extends Structure> ArrayPointer<T> empty(Class<T> clazz, int arraySize)
 	{
-		int elementSize = Structure.newInstance(clazz).size();
+		int elementSize = Structures.sizeOf(clazz);
 		return new ArrayPointer<>(clazz, elementSize, arraySize);
 	}
 
@@ -171,7 +171,7 @@ public class ArrayPointer<T extends Structure> extends Memory
 			throw new NullPointerException("pointer must not be null or a null pointer!");
 		}
 		
-		int elementSize = Structure.newInstance(clazz).size();
+		int elementSize = Structures.sizeOf(clazz);
 		return new ArrayPointer<>(pointer, clazz, elementSize, arraySize);
 	}
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+
+
+/**
+ * <p>
+ * A bounded, thread-safe pool of byte arrays, e.g. for copying camera images with
+ * {@link LEAP_IMAGE#getData(ByteArrayPool)}.
+ * </p>
+ * <p>
+ * {@link #acquire(int)} returns a pooled array of the requested length if there is one,
+ * and allocates a new array otherwise. Arrays are returned to the pool with
+ * {@link #release(byte[])}, typically from the thread that consumed the data. If the pool
+ * is full, released arrays are dropped and left to the garbage collector.
+ * </p>
+ * <p>
+ * The pool is intended for arrays of one size at a time (such as the images from a
+ * single device). Pooled arrays of another length than the requested one are dropped
+ * when they are encountered by <code>acquire()</code>, so that the pool adapts when the
+ * image size changes.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class ByteArrayPool
+{
+	private final ArrayBlockingQueue<byte[]> arrays;
+
+
+	/**
+	 * @param capacity The maximum number of arrays to keep in the pool.
+	 * @throws IllegalArgumentException If <code>capacity</code> is less than 1.
+	 */
+	public ByteArrayPool(int capacity)
+	{
+		if (capacity < 1)
+		{
+			throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+		}
+
+		arrays = new ArrayBlockingQueue<>(capacity);
+	}
+
+
+	/**
+	 * @param length The length of the array.
+	 * @return A pooled array of exactly <code>length</code> bytes, or a new array if the
+	 *         pool contains none. The contents of pooled arrays are not cleared.
+	 */
+	public byte[] acquire(int length)
+	{
+		byte[] array;
+		while ((array = arrays.poll()) != null)
+		{
+			if (array.length == length)
+			{
+				return array;
+			}
+		}
+
+		return new byte[length];
+	}
+
+
+	/**
+	 * Returns an array to the pool. The array must not be used by the caller after this.
+	 *
+	 * @param array The array to return.
+	 * @return <code>true</code> if the array was added to the pool, <code>false</code> if
+	 *         the pool was full.
+	 */
+	public boolean release(byte[] array)
+	{
+		return arrays.offer(array);
+	}
+
+
+	/**
+	 * @return The number of arrays currently in the pool.
+	 */
+	public int size()
+	{
+		return arrays.size();
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+
+
+/**
+ * <p>
+ * Caches decoded distortion matrices per device and camera, keyed on
+ * {@link LEAP_IMAGE#matrix_version}.
+ * </p>
+ * <p>
+ * {@link LEAP_IMAGE#getMatrix()} reads the whole matrix (64x64x2 floats) from native
+ * memory for every image, although the matrix only changes when the device changes or
+ * flips. {@link #getMatrix(int, int, LEAP_IMAGE)} instead only decodes the matrix when the
+ * image's <code>matrix_version</code> differs from the cached one, and otherwise returns
+ * the cached matrix. The returned matrices are shared, so they must not be modified.
+ * </p>
+ * <p>
+ * {@link Listener Listeners} are notified whenever a new matrix version has been decoded,
+ * so that data derived from the matrix (such as undistortion lookup tables) only needs to
+ * be rebuilt then.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * DistortionMatrixCache cache = new DistortionMatrixCache();
+ * cache.addListener((deviceId, camera, version, matrix) -&gt; rebuildLookup(camera, matrix));
+ * ...
+ * LEAP_IMAGE_EVENT event = message.getImageEvent();
+ * LEAP_DISTORTION_MATRIX left = cache.getMatrix(message.device_id, 0, event.image[0]);
+ * </pre>
+ * <p>
+ * All methods are thread-safe. Listeners are called on the thread that decoded the new
+ * matrix, after the cache has been updated.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class DistortionMatrixCache
+{
+	/** The number of cameras per device, i.e. the number of images per image event. */
+	public static final int CAMERA_COUNT = 2;
+
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	private DeviceEntry[] devices = new DeviceEntry[0];
+
+
+	/**
+	 * <p>
+	 * Returns the distortion matrix of an image, decoding it only if its
+	 * <code>matrix_version</code> has changed since the last call for the same device and
+	 * camera.
+	 * </p>
+	 * <p>
+	 * This must be called before the next poll, since the matrix is read from memory owned
+	 * by LeapC.
+	 * </p>
+	 *
+	 * @param deviceId The ID of the device that produced the image, e.g.
+	 *          {@link LEAP_CONNECTION_MESSAGE#device_id}.
+	 * @param camera The camera index (the index of the image in
+	 *          {@link LEAP_IMAGE_EVENT#image}).
+	 * @param image The image.
+	 * @return The cached or newly decoded matrix. Do not modify it!
+	 * @throws IndexOutOfBoundsException If <code>camera</code> is not in the range
+	 *           <code>[0, CAMERA_COUNT)</code>.
+	 */
+	public LEAP_DISTORTION_MATRIX getMatrix(int deviceId, int camera, LEAP_IMAGE image)
+	{
+		Objects.checkIndex(camera, CAMERA_COUNT);
+		long version = image.matrix_version;
+		LEAP_DISTORTION_MATRIX matrix;
+
+		synchronized (this)
+		{
+			DeviceEntry device = getOrCreateDevice(deviceId);
+			if (device.matrices[camera] != null && device.versions[camera] == version)
+			{
+				return device.matrices[camera];
+			}
+
+			matrix = new LEAP_DISTORTION_MATRIX(image.distortion_matrix);
+			device.matrices[camera] = matrix;
+			device.versions[camera] = version;
+		}
+
+		for (Listener listener : listeners)
+		{
+			listener.onMatrixChanged(deviceId, camera, version, matrix);
+		}
+
+		return matrix;
+	}
+
+
+	/**
+	 * Updates the cached matrices of all cameras in an image event.
+	 *
+	 * @param deviceId The ID of the device that produced the event.
+	 * @param event The image event.
+	 * @see #getMatrix(int, int, LEAP_IMAGE)
+	 */
+	public void update(int deviceId, LEAP_IMAGE_EVENT event)
+	{
+		for (int camera = 0; camera < CAMERA_COUNT; camera++)
+		{
+			getMatrix(deviceId, camera, event.image[camera]);
+		}
+	}
+
+
+	/**
+	 * @param deviceId A device ID.
+	 * @param camera A camera index.
+	 * @return The cached matrix for the device and camera, or <code>null</code> if there is
+	 *         none. Do not modify it!
+	 * @throws IndexOutOfBoundsException If <code>camera</code> is not in the range
+	 *           <code>[0, CAMERA_COUNT)</code>.
+	 */
+	public synchronized LEAP_DISTORTION_MATRIX getCachedMatrix(int deviceId, int camera)
+	{
+		Objects.checkIndex(camera, CAMERA_COUNT);
+		DeviceEntry device = findDevice(deviceId);
+		return device != null ? device.matrices[camera] : null;
+	}
+
+
+	/**
+	 * @param deviceId A device ID.
+	 * @param camera A camera index.
+	 * @return The version of the cached matrix for the device and camera, or
+	 *         <code>0</code> if there is none.
+	 * @throws IndexOutOfBoundsException If <code>camera</code> is not in the range
+	 *           <code>[0, CAMERA_COUNT)</code>.
+	 */
+	public synchronized long getCachedVersion(int deviceId, int camera)
+	{
+		Objects.checkIndex(camera, CAMERA_COUNT);
+		DeviceEntry device = findDevice(deviceId);
+		return device != null && device.matrices[camera] != null ? device.versions[camera] : 0;
+	}
+
+
+	/**
+	 * Removes the cached matrices of a device, e.g. when the device has been lost.
+	 *
+	 * @param deviceId The device ID.
+	 */
+	public synchronized void remove(int deviceId)
+	{
+		for (int i = 0; i < devices.length; i++)
+		{
+			if (devices[i].deviceId == deviceId)
+			{
+				DeviceEntry[] newDevices = Arrays.copyOf(devices, devices.length - 1);
+				System.arraycopy(devices, i + 1, newDevices, i, devices.length - i - 1);
+				devices = newDevices;
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * Removes all cached matrices.
+	 */
+	public synchronized void clear()
+	{
+		devices = new DeviceEntry[0];
+	}
+
+
+	/**
+	 * @param listener A listener to notify when a new matrix version has been decoded.
+	 */
+	public void addListener(Listener listener)
+	{
+		listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+	}
+
+
+	/**
+	 * @param listener The listener to remove.
+	 */
+	public void removeListener(Listener listener)
+	{
+		listeners.remove(listener);
+	}
+
+
+	private DeviceEntry findDevice(int deviceId)
+	{
+		for (DeviceEntry device : devices)
+		{
+			if (device.deviceId == deviceId)
+			{
+				return device;
+			}
+		}
+
+		return null;
+	}
+
+
+	private DeviceEntry getOrCreateDevice(int deviceId)
+	{
+		DeviceEntry device = findDevice(deviceId);
+
+		if (device == null)
+		{
+			device = new DeviceEntry(deviceId);
+			devices = Arrays.copyOf(devices, devices.length + 1);
+			devices[devices.length - 1] = device;
+		}
+
+		return device;
+	}
+
+
+	/**
+	 * A listener which is notified when a new distortion matrix version has been decoded.
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called when the distortion matrix for a device and camera has changed.
+		 *
+		 * @param deviceId The device ID.
+		 * @param camera The camera index.
+		 * @param matrixVersion The new matrix version.
+		 * @param matrix The new matrix. Do not modify it!
+		 */
+		void onMatrixChanged(int deviceId, int camera, long matrixVersion,
+				LEAP_DISTORTION_MATRIX matrix);
+	}
+
+
+	private static final class DeviceEntry
+	{
+		final int deviceId;
+		final long[] versions = new long[CAMERA_COUNT];
+		final LEAP_DISTORTION_MATRIX[] matrices = new LEAP_DISTORTION_MATRIX[CAMERA_COUNT];
+
+
+		DeviceEntry(int deviceId)
+		{
+			this.deviceId = deviceId;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.LeapCDirect;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+/**
+ * <p>
+ * Polls a connection for events of specific types, and skips all other events.
+ * </p>
+ * <p>
+ * When {@link #poll(LeapC, Pointer, int, LEAP_CONNECTION_MESSAGE) poll()} receives an
+ * event of a type that is not accepted by the filter, it counts the event and polls again
+ * (with the remaining timeout) instead of returning it. Skipped events are never decoded,
+ * so e.g. log and IMU events cost only the poll itself when they are filtered out. Failed
+ * polls (including timeouts) are always returned.
+ * </p>
+ * <p>
+ * If the timeout expires after one or more events have been skipped, <code>poll()</code>
+ * returns {@link eLeapRS#Timeout} and resets the message to an
+ * {@link eLeapEventType#None} message, just like <code>LeapPollConnection</code> does on
+ * timeouts.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * EventFilter filter = EventFilter.of(EnumSet.of(eLeapEventType.Tracking,
+ * 		eLeapEventType.DeviceLost));
+ * LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+ * eLeapRS result = filter.poll(LeapC.INSTANCE, connection.handle, 30, message);
+ * </pre>
+ * <p>
+ * A filter should only be used to poll from one thread at a time (LeapC does not allow
+ * concurrent polls of the same connection anyway). The skip counters can be read from
+ * any thread.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class EventFilter
+{
+	private static final eLeapEventType[] TYPES = eLeapEventType.values();
+
+	private final boolean[] accepted = new boolean[TYPES.length];
+	private final AtomicLongArray skipped = new AtomicLongArray(TYPES.length);
+
+
+	private EventFilter(Set<eLeapEventType> types)
+	{
+		for (eLeapEventType type : types)
+		{
+			accepted[type.ordinal()] = true;
+		}
+	}
+
+
+	/**
+	 * <p>
+	 * Creates a filter which accepts the specified event types.
+	 * </p>
+	 * <p>
+	 * Events with types that LeapJna does not recognise are treated as
+	 * {@link eLeapEventType#Unknown}, so include that type to accept them.
+	 * </p>
+	 *
+	 * @param types The event types to accept.
+	 * @return A new filter.
+	 */
+	public static EventFilter of(Set<eLeapEventType> types)
+	{
+		return new EventFilter(Objects.requireNonNull(types, "types must not be null"));
+	}
+
+
+	/**
+	 * Creates a filter which accepts the specified event types.
+	 *
+	 * @param first An event type to accept.
+	 * @param rest More event types to accept.
+	 * @return A new filter.
+	 * @see #of(Set)
+	 */
+	public static EventFilter of(eLeapEventType first, eLeapEventType... rest)
+	{
+		return new EventFilter(EnumSet.of(first, rest));
+	}
+
+
+	/**
+	 * @param type An event type.
+	 * @return <code>true</code> if this filter accepts events of the specified type.
+	 */
+	public boolean accepts(eLeapEventType type)
+	{
+		return accepted[type.ordinal()];
+	}
+
+
+	/**
+	 * @param type A raw event type, e.g. {@link LEAP_CONNECTION_MESSAGE#type}.
+	 * @return <code>true</code> if this filter accepts events of the specified type.
+	 */
+	public boolean accepts(int type)
+	{
+		return accepts(Enums.parse(type, eLeapEventType.Unknown));
+	}
+
+
+	/**
+	 * Polls the connection using
+	 * {@link LeapC#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)} until an
+	 * accepted event is received, polling fails or the timeout expires.
+	 *
+	 * @param leapC The <code>LeapC</code> instance to poll with.
+	 * @param hConnection The connection handle.
+	 * @param timeout The maximum amount of time to wait, in milliseconds.
+	 * @param message A structure that is filled with event information.
+	 * @return The result of the last poll, or {@link eLeapRS#Timeout} if the timeout
+	 *         expired after skipping events.
+	 * @see LeapC#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)
+	 */
+	public eLeapRS poll(LeapC leapC, Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		Objects.requireNonNull(leapC, "leapC must not be null");
+		return Enums.parse(pollLoop(leapC, hConnection, timeout, message), eLeapRS.Unknown);
+	}
+
+
+	/**
+	 * Same as {@link #poll(LeapC, Pointer, int, LEAP_CONNECTION_MESSAGE)}, but polls using
+	 * {@link LeapCDirect#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public int pollDirect(Pointer hConnection, int timeout, LEAP_CONNECTION_MESSAGE message)
+	{
+		return pollLoop(null, hConnection, timeout, message);
+	}
+
+
+	private int pollLoop(LeapC leapC, Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		int remaining = timeout;
+
+		while (true)
+		{
+			int result;
+			if (leapC != null)
+			{
+				result = leapC.LeapPollConnection(hConnection, remaining, message).getValue();
+			}
+			else
+			{
+				result = LeapCDirect.LeapPollConnection(hConnection, remaining, message);
+			}
+
+			if (result != eLeapRS.Success.getValue())
+			{
+				return result;
+			}
+
+			eLeapEventType type = Enums.parse(message.type, eLeapEventType.Unknown);
+			if (accepted[type.ordinal()])
+			{
+				return result;
+			}
+
+			skipped.incrementAndGet(type.ordinal());
+
+			remaining = (int) TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remaining <= 0)
+			{
+				message.setFields(message.size, eLeapEventType.None.value, null, 0);
+				return eLeapRS.Timeout.getValue();
+			}
+		}
+	}
+
+
+	/**
+	 * @param type An event type.
+	 * @return The number of events of the specified type that this filter has skipped.
+	 */
+	public long getSkippedCount(eLeapEventType type)
+	{
+		return skipped.get(type.ordinal());
+	}
+
+
+	/**
+	 * @return The total number of events that this filter has skipped.
+	 */
+	public long getSkippedCount()
+	{
+		long total = 0;
+		for (int i = 0; i < skipped.length(); i++)
+		{
+			total += skipped.get(i);
+		}
+
+		return total;
+	}
+
+
+	/**
+	 * Resets all skip counters to zero.
+	 */
+	public void resetSkippedCounts()
+	{
+		for (int i = 0; i < skipped.length(); i++)
+		{
+			skipped.set(i, 0);
+		}
+	}
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapLogSeverity;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS_Layout;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT_Layout;
+
+
+/**
+ * <p>
+ * Decodes {@link eLeapEventType#LogEvent} and {@link eLeapEventType#LogEvents} messages
+ * directly from native memory, and hands the decoded entries to a sink in a background
+ * thread.
+ * </p>
+ * <p>
+ * Compared to {@link LEAP_CONNECTION_MESSAGE#getLogEvents()}, which creates one
+ * {@link LEAP_LOG_EVENT} and one <code>String</code> per entry, this decoder:
+ * </p>
+ * <ul>
+ * <li>Reads the severity of each entry first, and skips the message of entries that are
+ * less severe than the threshold without reading it.</li>
+ * <li>De-duplicates message texts: repeated messages (which are common during service
+ * trouble) are looked up by their bytes in a small cache and share one
+ * <code>String</code>.</li>
+ * <li>Hands the accepted entries of each message to the sink as one unmodifiable batch,
+ * through a bounded queue in a daemon thread. If the sink falls behind and the queue is
+ * full, new batches are dropped (and counted) instead of stalling the polling
+ * thread.</li>
+ * </ul>
+ * <p>
+ * Entries with unrecognised severities (including {@link eLeapLogSeverity#Unknown}) are
+ * never skipped, since they cannot be classified.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * LogEventDecoder logDecoder = new LogEventDecoder(eLeapLogSeverity.Warning,
+ * 		batch -&gt; batch.forEach(logger::warn));
+ * ...
+ * if (logDecoder.accepts(message.type))
+ * {
+ * 	logDecoder.decode(message);
+ * }
+ * ...
+ * logDecoder.close();
+ * </pre>
+ * <p>
+ * {@link #decode(LEAP_CONNECTION_MESSAGE)} should only be called from one thread at a time
+ * (typically the polling thread). The counters can be read from any thread.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class LogEventDecoder implements AutoCloseable
+{
+	/** The default maximum number of batches waiting for the sink. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+	/** The number of distinct message texts kept for de-duplication. */
+	static final int MESSAGE_CACHE_SIZE = 256;
+
+	private final int maxSeverity;
+	private final Consumer<List<LogEntry>> sink;
+	private final ThreadPoolExecutor executor;
+	private final Charset charset = Charset.forName(Native.getDefaultStringEncoding());
+
+	private final byte[][] cachedBytes = new byte[MESSAGE_CACHE_SIZE][];
+	private final String[] cachedMessages = new String[MESSAGE_CACHE_SIZE];
+	private byte[] buffer = new byte[256];
+
+	private volatile long decodedCount;
+	private volatile long skippedCount;
+	private volatile long droppedCount;
+
+
+	/**
+	 * Creates a new decoder with a queue capacity of {@value #DEFAULT_QUEUE_CAPACITY}
+	 * batches.
+	 *
+	 * @param threshold The least severe entries to decode. E.g. with
+	 *          {@link eLeapLogSeverity#Warning}, warnings and critical entries are decoded
+	 *          and information entries are skipped.
+	 * @param sink The consumer of decoded batches. It is called in a background thread.
+	 */
+	public LogEventDecoder(eLeapLogSeverity threshold, Consumer<List<LogEntry>> sink)
+	{
+		this(threshold, sink, DEFAULT_QUEUE_CAPACITY);
+	}
+
+
+	/**
+	 * Creates a new decoder.
+	 *
+	 * @param threshold The least severe entries to decode. E.g. with
+	 *          {@link eLeapLogSeverity#Warning}, warnings and critical entries are decoded
+	 *          and information entries are skipped.
+	 * @param sink The consumer of decoded batches. It is called in a background thread.
+	 * @param queueCapacity The maximum number of batches waiting for the sink.
+	 * @throws IllegalArgumentException If <code>queueCapacity</code> is less than 1.
+	 */
+	public LogEventDecoder(eLeapLogSeverity threshold, Consumer<List<LogEntry>> sink,
+			int queueCapacity)
+	{
+		if (queueCapacity < 1)
+		{
+			throw new IllegalArgumentException(
+					"queueCapacity must be at least 1: " + queueCapacity);
+		}
+
+		Objects.requireNonNull(threshold, "threshold must not be null");
+		this.maxSeverity = threshold.value;
+		this.sink = Objects.requireNonNull(sink, "sink must not be null");
+
+		executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable ->
+				{
+					Thread thread = new Thread(runnable, "LeapJna log sink");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+
+	/**
+	 * @param type A raw event type, e.g. {@link LEAP_CONNECTION_MESSAGE#type}.
+	 * @return <code>true</code> if the type is {@link eLeapEventType#LogEvent} or
+	 *         {@link eLeapEventType#LogEvents}.
+	 */
+	public boolean accepts(int type)
+	{
+		return type == eLeapEventType.LogEvent.value || type == eLeapEventType.LogEvents.value;
+	}
+
+
+	/**
+	 * Decodes the log entries in a message and submits the accepted ones to the sink as one
+	 * batch. Messages of other types than log events are ignored.
+	 *
+	 * @param message A polled message.
+	 * @return The number of entries that were accepted (even if the batch was dropped
+	 *         because the queue was full).
+	 */
+	public int decode(LEAP_CONNECTION_MESSAGE message)
+	{
+		if (message.type == eLeapEventType.LogEvent.value)
+		{
+			return decodeEvent(message.pEvent);
+		}
+		else if (message.type == eLeapEventType.LogEvents.value)
+		{
+			return decodeEvents(message.pEvent);
+		}
+
+		return 0;
+	}
+
+
+	/**
+	 * Decodes a single {@link LEAP_LOG_EVENT} and submits it to the sink if it is accepted.
+	 *
+	 * @param pEvent A pointer to the event, e.g. {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 * @return <code>1</code> if the entry was accepted, otherwise <code>0</code>.
+	 */
+	public int decodeEvent(Pointer pEvent)
+	{
+		LogEntry entry = decodeEntry(pEvent, 0);
+		if (entry != null)
+		{
+			submit(Collections.singletonList(entry));
+			return 1;
+		}
+
+		return 0;
+	}
+
+
+	/**
+	 * Decodes a {@link LEAP_LOG_EVENTS} and submits its accepted entries to the sink.
+	 *
+	 * @param pEvent A pointer to the event, e.g. {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 * @return The number of entries that were accepted.
+	 */
+	public int decodeEvents(Pointer pEvent)
+	{
+		int count = pEvent.getInt(LEAP_LOG_EVENTS_Layout.N_EVENTS);
+		if (count <= 0)
+		{
+			return 0;
+		}
+
+		Pointer events = pEvent.getPointer(LEAP_LOG_EVENTS_Layout.EVENTS);
+		List<LogEntry> batch = null;
+
+		for (int i = 0; i < count; i++)
+		{
+			LogEntry entry = decodeEntry(events, (long) i * LEAP_LOG_EVENT_Layout.BYTES);
+			if (entry != null)
+			{
+				if (batch == null)
+				{
+					batch = new ArrayList<>(count - i);
+				}
+
+				batch.add(entry);
+			}
+		}
+
+		if (batch == null)
+		{
+			return 0;
+		}
+
+		submit(Collections.unmodifiableList(batch));
+		return batch.size();
+	}
+
+
+	private LogEntry decodeEntry(Pointer events, long offset)
+	{
+		int severity = events.getInt(offset + LEAP_LOG_EVENT_Layout.SEVERITY);
+		if (severity > maxSeverity && severity <= eLeapLogSeverity.Information.value)
+		{
+			skippedCount++;
+			return null;
+		}
+
+		long timestamp = events.getLong(offset + LEAP_LOG_EVENT_Layout.TIMESTAMP);
+		Pointer text = events.getPointer(offset + LEAP_LOG_EVENT_Layout.MESSAGE);
+
+		decodedCount++;
+		return new LogEntry(Enums.parse(severity, eLeapLogSeverity.Unknown), timestamp,
+				text != null ? readMessage(text) : null);
+	}
+
+
+	/**
+	 * Reads a null-terminated string, and returns a cached <code>String</code> if the same
+	 * bytes have been read before.
+	 */
+	private String readMessage(Pointer text)
+	{
+		int length = (int) text.indexOf(0, (byte) 0);
+		if (buffer.length < length)
+		{
+			buffer = new byte[Math.max(length, buffer.length * 2)];
+		}
+
+		text.read(0, buffer, 0, length);
+
+		int hash = 1;
+		for (int i = 0; i < length; i++)
+		{
+			hash = 31 * hash + buffer[i];
+		}
+
+		int slot = (hash ^ (hash >>> 16)) & (MESSAGE_CACHE_SIZE - 1);
+		byte[] cached = cachedBytes[slot];
+		if (cached != null && Arrays.equals(cached, 0, cached.length, buffer, 0, length))
+		{
+			return cachedMessages[slot];
+		}
+
+		String message = new String(buffer, 0, length, charset);
+		cachedBytes[slot] = Arrays.copyOf(buffer, length);
+		cachedMessages[slot] = message;
+		return message;
+	}
+
+
+	private void submit(List<LogEntry> batch)
+	{
+		try
+		{
+			executor.execute(() -> sink.accept(batch));
+		}
+		catch (RejectedExecutionException e)
+		{
+			droppedCount += batch.size();
+		}
+	}
+
+
+	/**
+	 * @return The number of entries that have been decoded.
+	 */
+	public long getDecodedCount()
+	{
+		return decodedCount;
+	}
+
+
+	/**
+	 * @return The number of entries that were skipped because they were below the severity
+	 *         threshold.
+	 */
+	public long getSkippedCount()
+	{
+		return skippedCount;
+	}
+
+
+	/**
+	 * @return The number of decoded entries that were dropped because the sink's queue was
+	 *         full (or the decoder was closed).
+	 */
+	public long getDroppedCount()
+	{
+		return droppedCount;
+	}
+
+
+	/**
+	 * Stops the sink thread after the batches already in the queue have been handed to the
+	 * sink. Later batches are dropped.
+	 */
+	@Override
+	public void close()
+	{
+		executor.shutdown();
+	}
+
+
+	/**
+	 * Blocks until all queued batches have been handed to the sink after {@link #close()}
+	 * has been called, or the timeout elapses.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of <code>timeout</code>.
+	 * @return <code>true</code> if the sink thread has terminated.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		return executor.awaitTermination(timeout, unit);
+	}
+
+
+	/**
+	 * An immutable log entry decoded by a {@link LogEventDecoder}.
+	 */
+	public static final class LogEntry
+	{
+		private final eLeapLogSeverity severity;
+		private final long timestamp;
+		private final String message;
+
+
+		LogEntry(eLeapLogSeverity severity, long timestamp, String message)
+		{
+			this.severity = severity;
+			this.timestamp = timestamp;
+			this.message = message;
+		}
+
+
+		/**
+		 * @return The severity of the entry.
+		 */
+		public eLeapLogSeverity getSeverity()
+		{
+			return severity;
+		}
+
+
+		/**
+		 * @return The timestamp of the entry in microseconds, see
+		 *         {@link LEAP_LOG_EVENT#timestamp}.
+		 */
+		public long getTimestamp()
+		{
+			return timestamp;
+		}
+
+
+		/**
+		 * @return The log message. Repeated messages may share the same
+		 *         <code>String</code> instance.
+		 */
+		public String getMessage()
+		{
+			return message;
+		}
+
+
+		@Override
+		public String toString()
+		{
+			return "[" + severity + " @ " + timestamp + "] " + message;
+		}
+	}
+}
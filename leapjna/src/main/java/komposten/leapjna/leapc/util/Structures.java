@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Structure;
+
+import komposten.leapjna.leapc.data.LEAP_BONE;
+import komposten.leapjna.leapc.data.LEAP_CALIBRATION;
+import komposten.leapjna.leapc.data.LEAP_CLOCK_REBASER;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_INFO;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
+import komposten.leapjna.leapc.data.LEAP_DIGIT;
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.data.LEAP_FRAME_HEADER;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+import komposten.leapjna.leapc.data.LEAP_IMAGE_PROPERTIES;
+import komposten.leapjna.leapc.data.LEAP_PALM;
+import komposten.leapjna.leapc.data.LEAP_POINT_MAPPING;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_PARAMETERS;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_STATUS;
+import komposten.leapjna.leapc.data.LEAP_TELEMETRY_DATA;
+import komposten.leapjna.leapc.data.LEAP_VARIANT;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.data.LEAP_VERSION;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_RESPONSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_LOST_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_FAILURE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_STATUS_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DROPPED_FRAME_EVENT;
+import komposten.leapjna.leapc.events.LEAP_EYE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMU_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS;
+import komposten.leapjna.leapc.events.LEAP_POINT_MAPPING_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_POLICY_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_MODE_EVENT;
+
+
+/**
+ * <p>
+ * Utilities for pre-computing and caching the layouts and sizes of JNA structures.
+ * </p>
+ * <p>
+ * JNA calculates the memory layout of a {@link Structure} class reflectively the first
+ * time the class is instantiated, and caches it for later instances. Without warming up,
+ * this work (and the class initialisation of the structures and events) happens when the
+ * first frames are received after connecting, causing latency spikes. Call
+ * {@link #warmUp()} during start-up to avoid this.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class Structures
+{
+	/**
+	 * All structures in <code>leapc.data</code> and <code>leapc.events</code> that are
+	 * received from or passed to LeapC. <code>LEAP_ALLOCATOR</code> is excluded since it
+	 * is only created once, by the user.
+	 */
+	@SuppressWarnings("deprecation")
+	private static final List<Class<? extends Structure>> LEAP_STRUCTURES = Collections
+			.unmodifiableList(Arrays.asList(
+					// leapc.data
+					LEAP_BONE.class, LEAP_CALIBRATION.class, LEAP_CLOCK_REBASER.class,
+					LEAP_CONNECTION.class, LEAP_CONNECTION_CONFIG.class, LEAP_CONNECTION_INFO.class,
+					LEAP_CONNECTION_MESSAGE.class, LEAP_DEVICE.class, LEAP_DEVICE_INFO.class,
+					LEAP_DEVICE_REF.class, LEAP_DIGIT.class, LEAP_DISTORTION_MATRIX.class,
+					LEAP_FRAME_HEADER.class, LEAP_HAND.class, LEAP_IMAGE.class,
+					LEAP_IMAGE_PROPERTIES.class, LEAP_PALM.class, LEAP_POINT_MAPPING.class,
+					LEAP_QUATERNION.class, LEAP_RECORDING.class, LEAP_RECORDING_PARAMETERS.class,
+					LEAP_RECORDING_STATUS.class, LEAP_TELEMETRY_DATA.class, LEAP_VARIANT.class,
+					LEAP_VECTOR.class, LEAP_VECTOR.ByValue.class, LEAP_VERSION.class,
+					// leapc.events
+					LEAP_CONFIG_CHANGE_EVENT.class, LEAP_CONFIG_RESPONSE_EVENT.class,
+					LEAP_CONNECTION_EVENT.class, LEAP_CONNECTION_LOST_EVENT.class,
+					LEAP_DEVICE_EVENT.class, LEAP_DEVICE_FAILURE_EVENT.class,
+					LEAP_DEVICE_STATUS_CHANGE_EVENT.class, LEAP_DROPPED_FRAME_EVENT.class,
+					LEAP_EYE_EVENT.class, LEAP_HEAD_POSE_EVENT.class, LEAP_IMAGE_EVENT.class,
+					LEAP_IMU_EVENT.class, LEAP_LOG_EVENT.class, LEAP_LOG_EVENTS.class,
+					LEAP_POINT_MAPPING_CHANGE_EVENT.class, LEAP_POLICY_EVENT.class,
+					LEAP_TRACKING_EVENT.class, LEAP_TRACKING_MODE_EVENT.class));
+
+	/**
+	 * The size of the zeroed memory used to instantiate structures which only have a
+	 * <code>Pointer</code> constructor.
+	 */
+	static final int SCRATCH_SIZE = 16 * 1024;
+
+	private static final ClassValue<Integer> SIZES = new ClassValue<Integer>()
+	{
+		@Override
+		protected Integer computeValue(Class<?> type)
+		{
+			return newInstance(type.asSubclass(Structure.class)).size();
+		}
+	};
+
+	private static volatile boolean warmedUp;
+
+
+	private Structures()
+	{}
+
+
+	/**
+	 * <p>
+	 * Pre-computes the layouts and sizes of all LeapJna structures in the
+	 * <code>leapc.data</code> and <code>leapc.events</code> packages, and initialises the
+	 * structure classes and the enum lookups used when decoding events.
+	 * </p>
+	 * <p>
+	 * This does not require the LeapC library, so it can be called before connecting.
+	 * Calls after the first one return immediately.
+	 * </p>
+	 */
+	public static void warmUp()
+	{
+		if (warmedUp)
+		{
+			return;
+		}
+
+		for (Class<? extends Structure> structure : LEAP_STRUCTURES)
+		{
+			sizeOf(structure);
+		}
+
+		Enums.parse(0, eLeapRS.Unknown);
+		Enums.parse(0, eLeapEventType.Unknown);
+		Enums.parse(0, eLeapHandType.Unknown);
+
+		warmedUp = true;
+	}
+
+
+	/**
+	 * @return All structures that {@link #warmUp()} pre-computes the layouts of.
+	 */
+	public static List<Class<? extends Structure>> getLeapStructures()
+	{
+		return LEAP_STRUCTURES;
+	}
+
+
+	/**
+	 * <p>
+	 * Returns the size of a structure type, in bytes.
+	 * </p>
+	 * <p>
+	 * The first call for each type creates an instance to calculate the size (which also
+	 * makes JNA calculate and cache the layout). Later calls return a cached value.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: All instances of the type are assumed to have the same size, so this
+	 * does not work for structures with variable-length arrays!
+	 * </p>
+	 *
+	 * @param type The structure type.
+	 * @return The size of <code>type</code>, in bytes.
+	 * @throws IllegalArgumentException If <code>type</code> has neither a public no-arg
+	 *           constructor nor a public constructor taking a single
+	 *           {@link com.sun.jna.Pointer Pointer}, or if its size cannot be
+	 *           determined.
+	 */
+	public static int sizeOf(Class<? extends Structure> type)
+	{
+		return SIZES.get(type);
+	}
+
+
+	private static Structure newInstance(Class<? extends Structure> type)
+	{
+		try
+		{
+			return Structure.newInstance(type);
+		}
+		catch (IllegalArgumentException e)
+		{
+			try
+			{
+				return Structure.newInstance(type, Scratch.MEMORY);
+			}
+			catch (IllegalArgumentException e2)
+			{
+				e2.addSuppressed(e);
+				throw e2;
+			}
+		}
+	}
+
+
+	/**
+	 * Holds the zeroed memory used to instantiate structures which only have a
+	 * <code>Pointer</code> constructor. Such constructors typically read the structure
+	 * from the memory, so it must be large enough for any structure.
+	 */
+	private static class Scratch
+	{
+		static final Memory MEMORY = new Memory(SCRATCH_SIZE);
+
+		static
+		{
+			MEMORY.clear();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_BONE;
+import komposten.leapjna.leapc.data.LEAP_BONE_Layout;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION_Layout;
+import komposten.leapjna.leapc.data.LEAP_VECTOR_Layout;
+
+
+/**
+ * <p>
+ * A flyweight view of a {@link LEAP_BONE} in native memory.
+ * </p>
+ * <p>
+ * Each accessor reads the field from native memory when it is called. See the
+ * {@link komposten.leapjna.leapc.views package documentation} for details.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class BoneView extends NativeView
+{
+	/** The size of a <code>LEAP_BONE</code>, in bytes. */
+	public static final int SIZE = LEAP_BONE_Layout.BYTES;
+
+
+	/**
+	 * Points this view at a <code>LEAP_BONE</code>.
+	 *
+	 * @param pointer The memory containing the bone.
+	 * @param offset The offset of the bone in <code>pointer</code>, in bytes.
+	 * @return This view.
+	 */
+	public BoneView wrap(Pointer pointer, long offset)
+	{
+		point(pointer, offset);
+		return this;
+	}
+
+
+	/**
+	 * @return The x-coordinate of the base of the bone (the bone's origin).
+	 */
+	public float prevJointX()
+	{
+		return getFloat(LEAP_BONE_Layout.PREV_JOINT + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the base of the bone (the bone's origin).
+	 */
+	public float prevJointY()
+	{
+		return getFloat(LEAP_BONE_Layout.PREV_JOINT + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the base of the bone (the bone's origin).
+	 */
+	public float prevJointZ()
+	{
+		return getFloat(LEAP_BONE_Layout.PREV_JOINT + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the end of the bone.
+	 */
+	public float nextJointX()
+	{
+		return getFloat(LEAP_BONE_Layout.NEXT_JOINT + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the end of the bone.
+	 */
+	public float nextJointY()
+	{
+		return getFloat(LEAP_BONE_Layout.NEXT_JOINT + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the end of the bone.
+	 */
+	public float nextJointZ()
+	{
+		return getFloat(LEAP_BONE_Layout.NEXT_JOINT + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The average width of the flesh around the bone in millimetres.
+	 */
+	public float width()
+	{
+		return getFloat(LEAP_BONE_Layout.WIDTH);
+	}
+
+
+	/**
+	 * @return The scalar part of the bone's rotation.
+	 */
+	public float rotationW()
+	{
+		return getFloat(LEAP_BONE_Layout.ROTATION + LEAP_QUATERNION_Layout.W);
+	}
+
+
+	/**
+	 * @return The x-coefficient of the bone's rotation.
+	 */
+	public float rotationX()
+	{
+		return getFloat(LEAP_BONE_Layout.ROTATION + LEAP_QUATERNION_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coefficient of the bone's rotation.
+	 */
+	public float rotationY()
+	{
+		return getFloat(LEAP_BONE_Layout.ROTATION + LEAP_QUATERNION_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coefficient of the bone's rotation.
+	 */
+	public float rotationZ()
+	{
+		return getFloat(LEAP_BONE_Layout.ROTATION + LEAP_QUATERNION_Layout.Z);
+	}
+}
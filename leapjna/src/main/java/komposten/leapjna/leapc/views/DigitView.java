@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import java.util.Objects;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_DIGIT;
+import komposten.leapjna.leapc.data.LEAP_DIGIT_Layout;
+
+
+/**
+ * <p>
+ * A flyweight view of a {@link LEAP_DIGIT} in native memory.
+ * </p>
+ * <p>
+ * Each accessor reads the field from native memory when it is called. See the
+ * {@link komposten.leapjna.leapc.views package documentation} for details.
+ * </p>
+ * <p>
+ * {@link #bone(int)} returns a view which is owned by this view and re-pointed on every
+ * call.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class DigitView extends NativeView
+{
+	/** The size of a <code>LEAP_DIGIT</code>, in bytes. */
+	public static final int SIZE = LEAP_DIGIT_Layout.BYTES;
+
+	/** The number of bones in a digit. */
+	public static final int BONE_COUNT = 4;
+
+	/** The index of the metacarpal bone. */
+	public static final int METACARPAL = 0;
+	/** The index of the proximal phalange. */
+	public static final int PROXIMAL = 1;
+	/** The index of the intermediate phalange. */
+	public static final int INTERMEDIATE = 2;
+	/** The index of the distal phalange. */
+	public static final int DISTAL = 3;
+
+	private final BoneView bone = new BoneView();
+
+
+	/**
+	 * Points this view at a <code>LEAP_DIGIT</code>.
+	 *
+	 * @param pointer The memory containing the digit.
+	 * @param offset The offset of the digit in <code>pointer</code>, in bytes.
+	 * @return This view.
+	 */
+	public DigitView wrap(Pointer pointer, long offset)
+	{
+		point(pointer, offset);
+		return this;
+	}
+
+
+	/**
+	 * @return The Leap identifier of this finger.
+	 */
+	public int fingerId()
+	{
+		return getInt(LEAP_DIGIT_Layout.FINGER_ID);
+	}
+
+
+	/**
+	 * @return <code>true</code> if the finger is more or less straight.
+	 */
+	public boolean isExtended()
+	{
+		return getInt(LEAP_DIGIT_Layout.IS_EXTENDED) != 0;
+	}
+
+
+	/**
+	 * @param index The index of the bone, in the order: {@link #METACARPAL},
+	 *          {@link #PROXIMAL}, {@link #INTERMEDIATE}, {@link #DISTAL}.
+	 * @return A view of the bone. The same view instance is returned by every call.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is not in
+	 *           <code>[0, {@value #BONE_COUNT})</code>.
+	 */
+	public BoneView bone(int index)
+	{
+		Objects.checkIndex(index, BONE_COUNT);
+		bone.point(this, LEAP_DIGIT_Layout.METACARPAL + (long) index * BoneView.SIZE);
+		return bone;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+
+
+/**
+ * <p>
+ * A copy of a tracking frame on the Java heap, which stays valid after the next call to
+ * <code>LeapPollConnection</code>.
+ * </p>
+ * <p>
+ * {@link #copyFrom(Pointer)} copies the frame header and the block of hands from native
+ * memory into a re-usable buffer, using a single bulk copy for the hands. The hands can
+ * then be read using {@link #hand(int)}, which returns a {@link HandView} that decodes
+ * fields from the buffer. This is much cheaper than decoding (or deep-copying) the
+ * hands as {@link komposten.leapjna.leapc.data.LEAP_HAND LEAP_HAND} structures, and
+ * makes snapshots suitable for passing frames to other threads.
+ * </p>
+ * <p>
+ * The buffer is only re-allocated when a frame has more hands than any previous frame,
+ * so a snapshot can be re-used for every frame without allocating.
+ * </p>
+ * <p>
+ * <b>Note</b>: Snapshots are not thread-safe. To pass a snapshot to another thread, use
+ * a thread-safe hand-off (e.g. a <code>BlockingQueue</code>) and do not modify it after
+ * that.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * if (message.getType() == eLeapEventType.Tracking)
+ * {
+ *   FrameSnapshot snapshot = pool.take();
+ *   snapshot.copyFrom(message.pEvent);
+ *   workQueue.put(snapshot);
+ * }
+ * </pre>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class FrameSnapshot
+{
+	private static final int INITIAL_HAND_CAPACITY = 2;
+
+	private final TrackingEventView eventView = new TrackingEventView();
+	private final HandView hand = new HandView();
+
+	private ByteBuffer hands;
+	private long frameId;
+	private long timestamp;
+	private long trackingFrameId;
+	private float framerate;
+	private int handCount;
+
+
+	public FrameSnapshot()
+	{
+		hands = allocate(INITIAL_HAND_CAPACITY);
+	}
+
+
+	/**
+	 * Copies a tracking event from native memory into this snapshot, replacing its
+	 * current content.
+	 *
+	 * @param event The memory containing a <code>LEAP_TRACKING_EVENT</code>, e.g.
+	 *          {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 * @return This snapshot.
+	 */
+	public FrameSnapshot copyFrom(Pointer event)
+	{
+		eventView.wrap(event);
+		copyHeader(eventView.frameId(), eventView.timestamp(), eventView.trackingFrameId(),
+				eventView.framerate());
+		copyHands(eventView.handsPointer(), eventView.handCount());
+		return this;
+	}
+
+
+	/**
+	 * Copies a decoded tracking event into this snapshot, replacing its current content.
+	 * The hands are copied from the native memory that <code>event.pHands</code> points to,
+	 * so that memory must still be valid.
+	 *
+	 * @param event The tracking event to copy.
+	 * @return This snapshot.
+	 */
+	public FrameSnapshot copyFrom(LEAP_TRACKING_EVENT event)
+	{
+		copyHeader(event.info.frame_id, event.info.timestamp, event.tracking_frame_id,
+				event.framerate);
+		copyHands(event.pHands, event.pHands != null ? event.nHands : 0);
+		return this;
+	}
+
+
+	/**
+	 * Copies another snapshot into this snapshot, replacing its current content.
+	 *
+	 * @param other The snapshot to copy.
+	 * @return This snapshot.
+	 */
+	public FrameSnapshot copyFrom(FrameSnapshot other)
+	{
+		copyHeader(other.frameId, other.timestamp, other.trackingFrameId, other.framerate);
+		ensureCapacity(other.handCount);
+		System.arraycopy(other.hands.array(), 0, hands.array(), 0,
+				other.handCount * HandView.SIZE);
+		handCount = other.handCount;
+		return this;
+	}
+
+
+	private void copyHeader(long frameId, long timestamp, long trackingFrameId,
+			float framerate)
+	{
+		this.frameId = frameId;
+		this.timestamp = timestamp;
+		this.trackingFrameId = trackingFrameId;
+		this.framerate = framerate;
+	}
+
+
+	private void copyHands(Pointer pHands, int count)
+	{
+		if (count < 0)
+		{
+			throw new IllegalArgumentException("Invalid hand count: " + count);
+		}
+
+		ensureCapacity(count);
+		if (count > 0)
+		{
+			pHands.read(0, hands.array(), 0, count * HandView.SIZE);
+		}
+		handCount = count;
+	}
+
+
+	private void ensureCapacity(int handCapacity)
+	{
+		if (hands.capacity() < handCapacity * HandView.SIZE)
+		{
+			hands = allocate(Math.max(handCapacity, hands.capacity() / HandView.SIZE * 2));
+		}
+	}
+
+
+	private static ByteBuffer allocate(int handCapacity)
+	{
+		return ByteBuffer.allocate(handCapacity * HandView.SIZE).order(ByteOrder.nativeOrder());
+	}
+
+
+	/**
+	 * @return The frame ID.
+	 */
+	public long frameId()
+	{
+		return frameId;
+	}
+
+
+	/**
+	 * @return The timestamp of the frame, in microseconds.
+	 */
+	public long timestamp()
+	{
+		return timestamp;
+	}
+
+
+	/**
+	 * @return The tracking frame ID.
+	 */
+	public long trackingFrameId()
+	{
+		return trackingFrameId;
+	}
+
+
+	/**
+	 * @return The instantaneous framerate.
+	 */
+	public float framerate()
+	{
+		return framerate;
+	}
+
+
+	/**
+	 * @return The number of hands in the frame.
+	 */
+	public int handCount()
+	{
+		return handCount;
+	}
+
+
+	/**
+	 * @param index The index of the hand.
+	 * @return A view of the copied hand. The same view instance is returned by every call.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is not in
+	 *           <code>[0, handCount())</code>.
+	 */
+	public HandView hand(int index)
+	{
+		Objects.checkIndex(index, handCount);
+		hand.point(hands, (long) index * HandView.SIZE);
+		return hand;
+	}
+}
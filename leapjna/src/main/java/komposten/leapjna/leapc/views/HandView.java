@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import java.util.Objects;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_HAND_Layout;
+import komposten.leapjna.leapc.data.LEAP_PALM_Layout;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION_Layout;
+import komposten.leapjna.leapc.data.LEAP_VECTOR_Layout;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+
+
+/**
+ * <p>
+ * A flyweight view of a {@link LEAP_HAND} in native memory.
+ * </p>
+ * <p>
+ * Each accessor reads the field from native memory when it is called, so reading e.g.
+ * the palm position and pinch strength does not decode the rest of the hand. See the
+ * {@link komposten.leapjna.leapc.views package documentation} for details.
+ * </p>
+ * <p>
+ * {@link #digit(int)} and {@link #arm()} return views which are owned by this view and
+ * re-pointed on every call.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class HandView extends NativeView
+{
+	/** The size of a <code>LEAP_HAND</code>, in bytes. */
+	public static final int SIZE = LEAP_HAND_Layout.BYTES;
+
+	/** The number of digits in a hand. */
+	public static final int DIGIT_COUNT = 5;
+
+	static final int PALM_POSITION = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.POSITION;
+	static final int PALM_STABILIZED_POSITION = LEAP_HAND_Layout.PALM
+			+ LEAP_PALM_Layout.STABILIZED_POSITION;
+	static final int PALM_VELOCITY = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.VELOCITY;
+	static final int PALM_NORMAL = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.NORMAL;
+	static final int PALM_WIDTH = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.WIDTH;
+	static final int PALM_DIRECTION = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.DIRECTION;
+	static final int PALM_ORIENTATION = LEAP_HAND_Layout.PALM + LEAP_PALM_Layout.ORIENTATION;
+
+	private final DigitView digit = new DigitView();
+	private final BoneView arm = new BoneView();
+
+
+	/**
+	 * Points this view at a <code>LEAP_HAND</code>.
+	 *
+	 * @param pointer The memory containing the hand.
+	 * @param offset The offset of the hand in <code>pointer</code>, in bytes.
+	 * @return This view.
+	 */
+	public HandView wrap(Pointer pointer, long offset)
+	{
+		point(pointer, offset);
+		return this;
+	}
+
+
+	/**
+	 * @return The hand's ID. See {@link LEAP_HAND#id}.
+	 */
+	public int id()
+	{
+		return getInt(LEAP_HAND_Layout.ID);
+	}
+
+
+	/**
+	 * @return The hand's flags. Reserved for future use.
+	 */
+	public int flags()
+	{
+		return getInt(LEAP_HAND_Layout.FLAGS);
+	}
+
+
+	/**
+	 * @return The chirality of the hand.
+	 */
+	public eLeapHandType type()
+	{
+		return Enums.parse(getInt(LEAP_HAND_Layout.TYPE), eLeapHandType.Unknown);
+	}
+
+
+	/**
+	 * @return How confident the tracking is with the hand pose.
+	 */
+	public float confidence()
+	{
+		return getFloat(LEAP_HAND_Layout.CONFIDENCE);
+	}
+
+
+	/**
+	 * @return The total amount of time this hand has been tracked, in microseconds.
+	 */
+	public long visibleTime()
+	{
+		return getLong(LEAP_HAND_Layout.VISIBLE_TIME);
+	}
+
+
+	/**
+	 * @return The distance between index finger and thumb.
+	 */
+	public float pinchDistance()
+	{
+		return getFloat(LEAP_HAND_Layout.PINCH_DISTANCE);
+	}
+
+
+	/**
+	 * @return The average angle of fingers to palm.
+	 */
+	public float grabAngle()
+	{
+		return getFloat(LEAP_HAND_Layout.GRAB_ANGLE);
+	}
+
+
+	/**
+	 * @return The normalised estimate of the pinch pose (0 to 1).
+	 */
+	public float pinchStrength()
+	{
+		return getFloat(LEAP_HAND_Layout.PINCH_STRENGTH);
+	}
+
+
+	/**
+	 * @return The normalised estimate of the grab pose (0 to 1).
+	 */
+	public float grabStrength()
+	{
+		return getFloat(LEAP_HAND_Layout.GRAB_STRENGTH);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the centre position of the palm.
+	 */
+	public float palmPositionX()
+	{
+		return getFloat(PALM_POSITION + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the centre position of the palm.
+	 */
+	public float palmPositionY()
+	{
+		return getFloat(PALM_POSITION + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the centre position of the palm.
+	 */
+	public float palmPositionZ()
+	{
+		return getFloat(PALM_POSITION + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the stabilised position of the palm.
+	 */
+	public float palmStabilizedPositionX()
+	{
+		return getFloat(PALM_STABILIZED_POSITION + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the stabilised position of the palm.
+	 */
+	public float palmStabilizedPositionY()
+	{
+		return getFloat(PALM_STABILIZED_POSITION + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the stabilised position of the palm.
+	 */
+	public float palmStabilizedPositionZ()
+	{
+		return getFloat(PALM_STABILIZED_POSITION + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the palm velocity.
+	 */
+	public float palmVelocityX()
+	{
+		return getFloat(PALM_VELOCITY + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the palm velocity.
+	 */
+	public float palmVelocityY()
+	{
+		return getFloat(PALM_VELOCITY + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the palm velocity.
+	 */
+	public float palmVelocityZ()
+	{
+		return getFloat(PALM_VELOCITY + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the palm normal.
+	 */
+	public float palmNormalX()
+	{
+		return getFloat(PALM_NORMAL + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the palm normal.
+	 */
+	public float palmNormalY()
+	{
+		return getFloat(PALM_NORMAL + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the palm normal.
+	 */
+	public float palmNormalZ()
+	{
+		return getFloat(PALM_NORMAL + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The estimated width of the palm when the hand is in a flat position.
+	 */
+	public float palmWidth()
+	{
+		return getFloat(PALM_WIDTH);
+	}
+
+
+	/**
+	 * @return The x-coordinate of the palm direction.
+	 */
+	public float palmDirectionX()
+	{
+		return getFloat(PALM_DIRECTION + LEAP_VECTOR_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coordinate of the palm direction.
+	 */
+	public float palmDirectionY()
+	{
+		return getFloat(PALM_DIRECTION + LEAP_VECTOR_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coordinate of the palm direction.
+	 */
+	public float palmDirectionZ()
+	{
+		return getFloat(PALM_DIRECTION + LEAP_VECTOR_Layout.Z);
+	}
+
+
+	/**
+	 * @return The scalar part of the palm orientation.
+	 */
+	public float palmOrientationW()
+	{
+		return getFloat(PALM_ORIENTATION + LEAP_QUATERNION_Layout.W);
+	}
+
+
+	/**
+	 * @return The x-coefficient of the palm orientation.
+	 */
+	public float palmOrientationX()
+	{
+		return getFloat(PALM_ORIENTATION + LEAP_QUATERNION_Layout.X);
+	}
+
+
+	/**
+	 * @return The y-coefficient of the palm orientation.
+	 */
+	public float palmOrientationY()
+	{
+		return getFloat(PALM_ORIENTATION + LEAP_QUATERNION_Layout.Y);
+	}
+
+
+	/**
+	 * @return The z-coefficient of the palm orientation.
+	 */
+	public float palmOrientationZ()
+	{
+		return getFloat(PALM_ORIENTATION + LEAP_QUATERNION_Layout.Z);
+	}
+
+
+	/**
+	 * @param index The index of the digit, in the order: thumb, index, middle, ring,
+	 *          pinky.
+	 * @return A view of the digit. The same view instance is returned by every call.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is not in
+	 *           <code>[0, {@value #DIGIT_COUNT})</code>.
+	 */
+	public DigitView digit(int index)
+	{
+		Objects.checkIndex(index, DIGIT_COUNT);
+		digit.point(this, LEAP_HAND_Layout.DIGITS + (long) index * DigitView.SIZE);
+		return digit;
+	}
+
+
+	/**
+	 * @return A view of the arm. The same view instance is returned by every call.
+	 */
+	public BoneView arm()
+	{
+		arm.point(this, LEAP_HAND_Layout.ARM);
+		return arm;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import com.sun.jna.Pointer;
+
+
+/**
+ * The base class of the views, which holds the memory the view points at. The memory is
+ * either native memory (a {@link Pointer}) or a copy of it in a {@link ByteBuffer} with
+ * native byte order.
+ */
+abstract class NativeView
+{
+	Pointer pointer;
+	ByteBuffer buffer;
+	long offset;
+
+
+	void point(Pointer pointer, long offset)
+	{
+		this.pointer = Objects.requireNonNull(pointer, "pointer must not be null");
+		this.buffer = null;
+		this.offset = offset;
+	}
+
+
+	void point(ByteBuffer buffer, long offset)
+	{
+		this.pointer = null;
+		this.buffer = Objects.requireNonNull(buffer, "buffer must not be null");
+		this.offset = offset;
+	}
+
+
+	/**
+	 * Points this view at the same memory as <code>parent</code>, at
+	 * <code>relativeOffset</code> from the parent's offset.
+	 */
+	void point(NativeView parent, long relativeOffset)
+	{
+		this.pointer = parent.pointer;
+		this.buffer = parent.buffer;
+		this.offset = parent.offset + relativeOffset;
+	}
+
+
+	int getInt(long fieldOffset)
+	{
+		if (buffer != null)
+		{
+			return buffer.getInt((int) (offset + fieldOffset));
+		}
+		return pointer.getInt(offset + fieldOffset);
+	}
+
+
+	long getLong(long fieldOffset)
+	{
+		if (buffer != null)
+		{
+			return buffer.getLong((int) (offset + fieldOffset));
+		}
+		return pointer.getLong(offset + fieldOffset);
+	}
+
+
+	float getFloat(long fieldOffset)
+	{
+		if (buffer != null)
+		{
+			return buffer.getFloat((int) (offset + fieldOffset));
+		}
+		return pointer.getFloat(offset + fieldOffset);
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import java.util.Objects;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_FRAME_HEADER_Layout;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT_Layout;
+
+
+/**
+ * <p>
+ * A flyweight view of a {@link LEAP_TRACKING_EVENT} in native memory.
+ * </p>
+ * <p>
+ * Each accessor reads the field from native memory when it is called. See the
+ * {@link komposten.leapjna.leapc.views package documentation} for details.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * TrackingEventView frame = new TrackingEventView();
+ * ...
+ * if (message.getType() == eLeapEventType.Tracking)
+ * {
+ *   frame.wrap(message.pEvent);
+ *   for (int i = 0; i &lt; frame.handCount(); i++)
+ *   {
+ *     HandView hand = frame.hand(i);
+ *     float x = hand.palmPositionX();
+ *     float pinch = hand.pinchStrength();
+ *     ...
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * Unlike {@link LEAP_CONNECTION_MESSAGE#getTrackingEvent()}, this does not create any
+ * structures.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class TrackingEventView extends NativeView
+{
+	static final int FRAME_ID = LEAP_TRACKING_EVENT_Layout.INFO
+			+ LEAP_FRAME_HEADER_Layout.FRAME_ID;
+	static final int TIMESTAMP = LEAP_TRACKING_EVENT_Layout.INFO
+			+ LEAP_FRAME_HEADER_Layout.TIMESTAMP;
+
+	private final HandView hand = new HandView();
+	private final Pointer hands = new Pointer(0);
+
+
+	/**
+	 * Points this view at a <code>LEAP_TRACKING_EVENT</code>.
+	 *
+	 * @param pointer The memory containing the event, e.g.
+	 *          {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 * @return This view.
+	 */
+	public TrackingEventView wrap(Pointer pointer)
+	{
+		point(pointer, 0);
+
+		// Read the address directly, since getPointer() would create a new Pointer.
+		long address = Native.POINTER_SIZE == 8
+				? getLong(LEAP_TRACKING_EVENT_Layout.P_HANDS)
+				: getInt(LEAP_TRACKING_EVENT_Layout.P_HANDS) & 0xFFFFFFFFL;
+		Pointer.nativeValue(hands, address);
+		return this;
+	}
+
+
+	/**
+	 * @return The frame ID.
+	 */
+	public long frameId()
+	{
+		return getLong(FRAME_ID);
+	}
+
+
+	/**
+	 * @return The timestamp of the frame, in microseconds.
+	 */
+	public long timestamp()
+	{
+		return getLong(TIMESTAMP);
+	}
+
+
+	/**
+	 * @return The tracking frame ID.
+	 */
+	public long trackingFrameId()
+	{
+		return getLong(LEAP_TRACKING_EVENT_Layout.TRACKING_FRAME_ID);
+	}
+
+
+	/**
+	 * @return The number of hands tracked in this frame.
+	 */
+	public int handCount()
+	{
+		if (Pointer.nativeValue(hands) == 0)
+		{
+			return 0;
+		}
+		return getInt(LEAP_TRACKING_EVENT_Layout.N_HANDS);
+	}
+
+
+	/**
+	 * @return The instantaneous framerate.
+	 */
+	public float framerate()
+	{
+		return getFloat(LEAP_TRACKING_EVENT_Layout.FRAMERATE);
+	}
+
+
+	/**
+	 * @return A pointer to the hands of the current event. The same instance is returned
+	 *         (and updated by {@link #wrap(Pointer)}) for every event.
+	 */
+	Pointer handsPointer()
+	{
+		return hands;
+	}
+
+
+	/**
+	 * @param index The index of the hand.
+	 * @return A view of the hand. The same view instance is returned by every call.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is not in
+	 *           <code>[0, handCount())</code>.
+	 */
+	public HandView hand(int index)
+	{
+		Objects.checkIndex(index, handCount());
+		return hand.wrap(hands, (long) index * HandView.SIZE);
+	}
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+
+/**
+ * <p>
+ * Provides flyweight views which read tracking data directly from native memory, as an
+ * alternative to decoding it into JNA structures.
+ * </p>
+ * <p>
+ * A view only holds a pointer and an offset, and reads each field from native memory when
+ * its accessor is called. This makes views much cheaper than the structures in
+ * <code>leapc.data</code> and <code>leapc.events</code> if only a few fields are needed,
+ * but also means that the values are only valid as long as the native memory is, i.e.
+ * until the next call to <code>LeapPollConnection</code>.
+ * </p>
+ * <p>
+ * Nested views (e.g. the {@link komposten.leapjna.leapc.views.DigitView DigitView}
+ * returned by {@link komposten.leapjna.leapc.views.HandView#digit(int) HandView.digit(int)})
+ * are re-used and re-pointed on every call, so they should not be stored.
+ * </p>
+ */
+package komposten.leapjna.leapc.views;
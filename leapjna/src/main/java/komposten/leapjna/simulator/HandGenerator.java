@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.simulator;
+
+import komposten.leapjna.leapc.data.LEAP_BONE;
+import komposten.leapjna.leapc.data.LEAP_DIGIT;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_PALM;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+
+
+/**
+ * Fills {@link LEAP_HAND} structs with simple, deterministic hand poses. Each hand moves
+ * its palm in a slow circle with straight, extended fingers pointing away from the user.
+ */
+class HandGenerator
+{
+	private static final float PALM_WIDTH = 85;
+	private static final float BONE_WIDTH = 15;
+	private static final float ARM_LENGTH = 250;
+	private static final float[] BONE_LENGTHS = { 40, 35, 25, 20 };
+	private static final float[] FINGER_OFFSETS = { -40, -20, 0, 20, 40 };
+	private static final float CIRCLE_RADIUS = 40;
+	private static final double CIRCLE_SPEED = Math.PI; // Radians per second.
+
+
+	private HandGenerator()
+	{}
+
+
+	/**
+	 * Updates all fields of <code>hand</code> and writes them to native memory.
+	 *
+	 * @param hand The hand struct to update.
+	 * @param index The index of the hand in the frame. Even indices are left hands, odd
+	 *          indices are right hands.
+	 * @param time The time since tracking started, in microseconds.
+	 */
+	static void update(LEAP_HAND hand, int index, long time)
+	{
+		boolean left = index % 2 == 0;
+		double angle = time / 1_000_000.0 * CIRCLE_SPEED + index;
+
+		float x = (left ? -100 : 100) + CIRCLE_RADIUS * (float) Math.cos(angle);
+		float y = 200 + CIRCLE_RADIUS * (float) Math.sin(angle);
+		float z = 0;
+		float vx = -CIRCLE_RADIUS * (float) (Math.sin(angle) * CIRCLE_SPEED);
+		float vy = CIRCLE_RADIUS * (float) (Math.cos(angle) * CIRCLE_SPEED);
+
+		hand.id = index + 1;
+		hand.flags = 0;
+		hand.type = left ? eLeapHandType.Left.value : eLeapHandType.Right.value;
+		hand.confidence = 1;
+		hand.visible_time = time;
+		hand.pinch_distance = 0;
+		hand.grab_angle = 0;
+		hand.pinch_strength = 0;
+		hand.grab_strength = 0;
+
+		updatePalm(hand.palm, x, y, z, vx, vy);
+		updateArm(hand.arm, x, y, z);
+
+		LEAP_DIGIT[] digits = hand.digits.asArray();
+		for (int i = 0; i < digits.length; i++)
+		{
+			updateDigit(digits[i], i, x + FINGER_OFFSETS[i] * (left ? -1 : 1), y, z);
+		}
+
+		hand.write();
+	}
+
+
+	private static void updatePalm(LEAP_PALM palm, float x, float y, float z, float vx,
+			float vy)
+	{
+		set(palm.position, x, y, z);
+		set(palm.stabilized_position, x, y, z);
+		set(palm.velocity, vx, vy, 0);
+		set(palm.normal, 0, -1, 0);
+		palm.width = PALM_WIDTH;
+		set(palm.direction, 0, 0, -1);
+		setIdentity(palm.orientation);
+	}
+
+
+	private static void updateArm(LEAP_BONE arm, float x, float y, float z)
+	{
+		set(arm.prev_joint, x, y, z + ARM_LENGTH);
+		set(arm.next_joint, x, y, z);
+		arm.width = PALM_WIDTH / 2;
+		setIdentity(arm.rotation);
+	}
+
+
+	private static void updateDigit(LEAP_DIGIT digit, int fingerId, float x, float y,
+			float z)
+	{
+		digit.finger_id = fingerId;
+		digit.is_extended = 1;
+
+		LEAP_BONE[] bones = digit.boneArray();
+		float jointZ = z;
+		for (int i = 0; i < bones.length; i++)
+		{
+			LEAP_BONE bone = bones[i];
+			set(bone.prev_joint, x, y, jointZ);
+			jointZ -= BONE_LENGTHS[i];
+			set(bone.next_joint, x, y, jointZ);
+			bone.width = BONE_WIDTH;
+			setIdentity(bone.rotation);
+		}
+	}
+
+
+	private static void set(LEAP_VECTOR vector, float x, float y, float z)
+	{
+		vector.x = x;
+		vector.y = y;
+		vector.z = z;
+	}
+
+
+	private static void setIdentity(LEAP_QUATERNION quaternion)
+	{
+		quaternion.w = 1;
+		quaternion.x = 0;
+		quaternion.y = 0;
+		quaternion.z = 0;
+	}
+}
@@ -0,0 +1,876 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.data.LEAP_ALLOCATOR;
+import komposten.leapjna.leapc.data.LEAP_CLOCK_REBASER;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_INFO;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
+import komposten.leapjna.leapc.data.LEAP_POINT_MAPPING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_PARAMETERS;
+import komposten.leapjna.leapc.data.LEAP_RECORDING_STATUS;
+import komposten.leapjna.leapc.data.LEAP_TELEMETRY_DATA;
+import komposten.leapjna.leapc.data.LEAP_VARIANT;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.data.LEAP_VERSION;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapDevicePID;
+import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.ArrayPointer;
+import komposten.leapjna.leapc.util.PrimitiveArrayPointer;
+
+
+/**
+ * <p>
+ * A pure-Java implementation of {@link LeapC} which simulates the Ultraleap Tracking
+ * Service without any native library or tracking hardware.
+ * </p>
+ * <p>
+ * Events are written to native memory with the same layout as LeapC uses, so consumers
+ * decode them exactly like they decode events from the real library. Tracking frames are
+ * produced at a configurable frame rate with a configurable number of hands for every
+ * plugged-in device. Device plug/unplug, dropped frames and connection loss can be
+ * scripted using {@link #plugDevice()}, {@link #unplugDevice(int)},
+ * {@link #dropFrames(int)}, {@link #loseConnection()} and {@link #restoreConnection()}.
+ * </p>
+ * <p>
+ * The following functions are simulated:
+ * </p>
+ * <ul>
+ * <li>Connection management: <code>LeapCreateConnection</code>,
+ * <code>LeapOpenConnection</code>, <code>LeapPollConnection</code>,
+ * <code>LeapGetConnectionInfo</code>, <code>LeapCloseConnection</code> and
+ * <code>LeapDestroyConnection</code>.</li>
+ * <li>Devices: <code>LeapGetDeviceList</code>, <code>LeapOpenDevice</code>,
+ * <code>LeapGetDeviceInfo</code>, <code>LeapCloseDevice</code> and
+ * <code>LeapDevicePIDToString</code>.</li>
+ * <li><code>LeapGetNow</code>, <code>LeapSetPause</code> and
+ * <code>LeapSetPolicyFlags(Ex)</code> (which accepts but ignores all flags).</li>
+ * </ul>
+ * <p>
+ * All other functions return {@link eLeapRS#Unsupported} (or <code>0</code>/
+ * <code>null</code> if they do not return an <code>eLeapRS</code>).
+ * </p>
+ * 
+ * @since LeapJna 1.3.0
+ */
+@SuppressWarnings("deprecation")
+public class LeapCSimulator implements LeapC
+{
+	/** The default frame rate, in hertz. */
+	public static final float DEFAULT_FRAME_RATE = 120;
+	/** The default number of hands in each tracking frame. */
+	public static final int DEFAULT_HAND_COUNT = 2;
+
+	private static final int DEVICE_BASELINE = 40_000;
+	private static final int DEVICE_RANGE = 800_000;
+	private static final float DEVICE_FOV = (float) Math.toRadians(140);
+
+	private final Map<Long, SimulatedConnection> connections = new ConcurrentHashMap<>();
+	/** An immutable snapshot of the plugged-in devices, replaced on plug/unplug. */
+	private volatile List<SimulatedDevice> devices = List.of();
+
+	private volatile float frameRate;
+	private volatile long framePeriod;
+	private volatile int handCount;
+	private boolean serviceAvailable = true;
+	private int nextDeviceId = 1;
+
+
+	/**
+	 * Creates a simulator with one plugged-in device producing frames at
+	 * {@value #DEFAULT_FRAME_RATE} Hz with {@value #DEFAULT_HAND_COUNT} hands.
+	 */
+	public LeapCSimulator()
+	{
+		this(DEFAULT_FRAME_RATE, DEFAULT_HAND_COUNT);
+	}
+
+
+	/**
+	 * Creates a simulator with one plugged-in device.
+	 * 
+	 * @param frameRate The number of tracking frames to produce per second and device.
+	 * @param handCount The number of hands in each tracking frame.
+	 */
+	public LeapCSimulator(float frameRate, int handCount)
+	{
+		setFrameRate(frameRate);
+		setHandCount(handCount);
+		plugDevice();
+	}
+
+
+	/**
+	 * Sets the rate at which tracking frames are produced. The new rate is applied from
+	 * the next frame.
+	 * 
+	 * @param frameRate The number of tracking frames to produce per second and device.
+	 * @throws IllegalArgumentException If <code>frameRate</code> is not positive.
+	 */
+	public void setFrameRate(float frameRate)
+	{
+		if (!(frameRate > 0))
+		{
+			throw new IllegalArgumentException("frameRate must be positive: " + frameRate);
+		}
+
+		this.frameRate = frameRate;
+		this.framePeriod = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / frameRate));
+	}
+
+
+	public float getFrameRate()
+	{
+		return frameRate;
+	}
+
+
+	/**
+	 * Sets the number of hands in each tracking frame. The new count is applied from the
+	 * next frame.
+	 * 
+	 * @param handCount The number of hands in each tracking frame.
+	 * @throws IllegalArgumentException If <code>handCount</code> is negative.
+	 */
+	public void setHandCount(int handCount)
+	{
+		if (handCount < 0)
+		{
+			throw new IllegalArgumentException("handCount must not be negative: " + handCount);
+		}
+
+		this.handCount = handCount;
+	}
+
+
+	public int getHandCount()
+	{
+		return handCount;
+	}
+
+
+	/**
+	 * Plugs in a new device. All connected connections receive a
+	 * {@link komposten.leapjna.leapc.enums.eLeapEventType#Device Device} event and start
+	 * receiving tracking frames from the device.
+	 * 
+	 * @return The ID of the new device.
+	 */
+	public synchronized int plugDevice()
+	{
+		SimulatedDevice device = new SimulatedDevice(nextDeviceId++);
+		List<SimulatedDevice> newDevices = new ArrayList<>(devices);
+		newDevices.add(device);
+		devices = List.copyOf(newDevices);
+
+		for (SimulatedConnection connection : connections.values())
+		{
+			connection.onDevicePlugged(device);
+		}
+
+		return device.id;
+	}
+
+
+	/**
+	 * Unplugs a device. All connected connections receive a
+	 * {@link komposten.leapjna.leapc.enums.eLeapEventType#DeviceLost DeviceLost} event and
+	 * stop receiving tracking frames from the device.
+	 * 
+	 * @param deviceId The ID of the device to unplug.
+	 * @return <code>true</code> if the device was plugged in.
+	 */
+	public synchronized boolean unplugDevice(int deviceId)
+	{
+		for (SimulatedDevice device : devices)
+		{
+			if (device.id == deviceId)
+			{
+				List<SimulatedDevice> newDevices = new ArrayList<>(devices);
+				newDevices.remove(device);
+				devices = List.copyOf(newDevices);
+
+				for (SimulatedConnection connection : connections.values())
+				{
+					connection.onDeviceUnplugged(device);
+				}
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+
+	/**
+	 * @return The IDs of all plugged-in devices.
+	 */
+	public int[] getDeviceIds()
+	{
+		return devices.stream().mapToInt(device -> device.id).toArray();
+	}
+
+
+	/**
+	 * Drops the next <code>count</code> tracking frames on all connections. Each dropped
+	 * frame produces a {@link komposten.leapjna.leapc.enums.eLeapEventType#DroppedFrame
+	 * DroppedFrame} event instead of a tracking event, and its frame ID is skipped.
+	 * 
+	 * @param count The number of frames to drop.
+	 */
+	public void dropFrames(int count)
+	{
+		for (SimulatedConnection connection : connections.values())
+		{
+			connection.dropFrames(count);
+		}
+	}
+
+
+	/**
+	 * Simulates losing the connection to the tracking service. All connected connections
+	 * receive a {@link komposten.leapjna.leapc.enums.eLeapEventType#ConnectionLost
+	 * ConnectionLost} event and stop receiving tracking frames until
+	 * {@link #restoreConnection()} is called.
+	 */
+	public synchronized void loseConnection()
+	{
+		serviceAvailable = false;
+
+		for (SimulatedConnection connection : connections.values())
+		{
+			connection.onServiceLost();
+		}
+	}
+
+
+	/**
+	 * Restores the connection to the tracking service after {@link #loseConnection()}. All
+	 * open connections receive a {@link komposten.leapjna.leapc.enums.eLeapEventType#Connection
+	 * Connection} event followed by a <code>Device</code> event for each plugged-in device.
+	 */
+	public synchronized void restoreConnection()
+	{
+		serviceAvailable = true;
+
+		for (SimulatedConnection connection : connections.values())
+		{
+			connection.onServiceRestored(devices);
+		}
+	}
+
+
+	long getFramePeriod()
+	{
+		return framePeriod;
+	}
+
+
+	boolean hasDevices()
+	{
+		return !devices.isEmpty();
+	}
+
+
+	List<SimulatedDevice> getDevices()
+	{
+		return devices;
+	}
+
+
+	private SimulatedConnection getConnection(Pointer hConnection)
+	{
+		if (hConnection == null)
+		{
+			return null;
+		}
+
+		return connections.get(Pointer.nativeValue(hConnection));
+	}
+
+
+	private SimulatedDevice findDevice(Pointer handle)
+	{
+		if (handle == null)
+		{
+			return null;
+		}
+
+		for (SimulatedDevice device : devices)
+		{
+			long address = Pointer.nativeValue(handle);
+			if (address == Pointer.nativeValue(device.getRefHandle())
+					|| address == Pointer.nativeValue(device.getDeviceHandle()))
+			{
+				return device;
+			}
+		}
+
+		return null;
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateConnection(LEAP_CONNECTION_CONFIG pConfig,
+			LEAP_CONNECTION phConnection)
+	{
+		SimulatedConnection connection = new SimulatedConnection(this);
+		connections.put(Pointer.nativeValue(connection.getHandle()), connection);
+
+		phConnection.handle = connection.getHandle();
+		phConnection.write();
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public void LeapDestroyConnection(Pointer hConnection)
+	{
+		SimulatedConnection connection = connections.remove(Pointer.nativeValue(hConnection));
+		if (connection != null)
+		{
+			connection.close();
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenConnection(Pointer hConnection)
+	{
+		SimulatedConnection connection = getConnection(hConnection);
+		if (connection == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		synchronized (this)
+		{
+			connection.open(serviceAvailable, devices);
+		}
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public void LeapCloseConnection(Pointer hConnection)
+	{
+		SimulatedConnection connection = getConnection(hConnection);
+		if (connection != null)
+		{
+			connection.close();
+		}
+	}
+
+
+	@Override
+	public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		SimulatedConnection connection = getConnection(hConnection);
+		if (connection == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		return connection.poll(timeout, message);
+	}
+
+
+	@Override
+	public eLeapRS LeapGetConnectionInfo(Pointer hConnection, LEAP_CONNECTION_INFO pInfo)
+	{
+		SimulatedConnection connection = getConnection(hConnection);
+		if (connection == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		pInfo.size = pInfo.size();
+		pInfo.status = connection.getStatus().value;
+		pInfo.write();
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceList(Pointer hConnection,
+			ArrayPointer<LEAP_DEVICE_REF> pArray, IntByReference pnArray)
+	{
+		if (getConnection(hConnection) == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		List<SimulatedDevice> currentDevices = getDevices();
+		if (pArray == null)
+		{
+			pnArray.setValue(currentDevices.size());
+			return eLeapRS.Success;
+		}
+
+		int count = Math.min(Math.min(pnArray.getValue(), pArray.getArraySize()),
+				currentDevices.size());
+		for (int i = 0; i < count; i++)
+		{
+			SimulatedDevice device = currentDevices.get(i);
+			LEAP_DEVICE_REF ref = pArray.getElement(i);
+			ref.handle = device.getRefHandle();
+			ref.id = device.id;
+			ref.write();
+		}
+
+		pnArray.setValue(count);
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public eLeapRS LeapOpenDevice(LEAP_DEVICE_REF rDevice, LEAP_DEVICE phDevice)
+	{
+		SimulatedDevice device = findDevice(rDevice.handle);
+		if (device == null)
+		{
+			return eLeapRS.NotAvailable;
+		}
+
+		phDevice.handle = device.getDeviceHandle();
+		phDevice.write();
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public void LeapCloseDevice(Pointer hDevice)
+	{}
+
+
+	@Override
+	public eLeapRS LeapSetPrimaryDevice(Pointer hConnection, Pointer hDevice,
+			int unsubscribeOthers)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceInfo(Pointer hDevice, LEAP_DEVICE_INFO info)
+	{
+		SimulatedDevice device = findDevice(hDevice);
+		if (device == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		info.status = eLeapDeviceStatus.Streaming.value;
+		info.caps = 0;
+		info.pid = eLeapDevicePID.Peripheral.value;
+		info.baseline = DEVICE_BASELINE;
+		info.h_fov = DEVICE_FOV;
+		info.v_fov = DEVICE_FOV;
+		info.range = DEVICE_RANGE;
+
+		int requiredLength = device.serial.length() + 1;
+		if (info.serial_length < requiredLength)
+		{
+			info.serial_length = requiredLength;
+			return eLeapRS.InsufficientBuffer;
+		}
+
+		info.serial = device.serial;
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetDeviceTransform(Pointer hDevice, PrimitiveArrayPointer transform)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public String LeapDevicePIDToString(int pid)
+	{
+		return Enums.parse(pid, eLeapDevicePID.Unknown).name();
+	}
+
+
+	@Override
+	public eLeapRS LeapSubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapUnsubscribeEvents(Pointer hConnection, Pointer hDevice)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetVersion(Pointer hConnection, int versionPart,
+			LEAP_VERSION pVersion)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSize(Pointer hConnection, long timestamp,
+			LongByReference pncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetFrameSizeEx(Pointer hConnection, Pointer hDevice, long timestamp,
+			LongByReference pncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTime(Pointer hConnection, long timestamp,
+			long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameFromTimeEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrame(Pointer hConnection, long timestamp,
+			LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapInterpolateFrameEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapInterpolateHeadPose(Pointer hConnection, long timestamp,
+			LEAP_HEAD_POSE_EVENT pEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlags(Pointer hConnection, long set, long clear)
+	{
+		return getConnection(hConnection) != null ? eLeapRS.Success : eLeapRS.InvalidArgument;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPolicyFlagsEx(Pointer hConnection, Pointer hDevice, long set,
+			long clear)
+	{
+		return getConnection(hConnection) != null ? eLeapRS.Success : eLeapRS.InvalidArgument;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingMode(Pointer hConnection, int mode)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetTrackingModeEx(Pointer hConnection, Pointer hDevice, int mode)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingMode(Pointer hConnection)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapGetTrackingModeEx(Pointer hConnection, Pointer hDevice)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapSetPause(Pointer hConnection, int pause)
+	{
+		SimulatedConnection connection = getConnection(hConnection);
+		if (connection == null)
+		{
+			return eLeapRS.InvalidArgument;
+		}
+
+		connection.setPaused(pause != 0);
+		return eLeapRS.Success;
+	}
+
+
+	@Override
+	public eLeapRS LeapRequestConfigValue(Pointer hConnection, String key,
+			LongByReference pRequestID)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapSaveConfigValue(Pointer hConnection, String key, LEAP_VARIANT value,
+			LongByReference pRequestID)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMappingSize(Pointer hConnection, LongByReference pSize)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapGetPointMapping(Pointer hConnection, LEAP_POINT_MAPPING pointMapping,
+			LongByReference pSize)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public long LeapGetNow()
+	{
+		return TimeUnit.NANOSECONDS.toMicros(System.nanoTime());
+	}
+
+
+	@Override
+	public eLeapRS LeapSetAllocator(Pointer hConnection, LEAP_ALLOCATOR allocator)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapCreateClockRebaser(LEAP_CLOCK_REBASER phClockRebaser)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public void LeapDestroyClockRebaser(Pointer hClockRebaser)
+	{}
+
+
+	@Override
+	public eLeapRS LeapRebaseClock(Pointer hClockRebaser, long userClock,
+			LongByReference pLeapClock)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapUpdateRebase(Pointer hClockRebaser, long userClock, long leapClock)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinear(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue pixel)
+	{
+		return null;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapPixelToRectilinearEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue pixel)
+	{
+		return null;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixel(Pointer hConnection, int camera,
+			LEAP_VECTOR.ByValue rectilinear)
+	{
+		return null;
+	}
+
+
+	@Override
+	public LEAP_VECTOR.ByValue LeapRectilinearToPixelEx(Pointer hConnection,
+			Pointer hDevice, int camera, LEAP_VECTOR.ByValue rectilinear)
+	{
+		return null;
+	}
+
+
+	@Override
+	public void LeapCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapCameraMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapExtrinsicCameraMatrixEx(Pointer hConnection, Pointer hDevice,
+			int camera, PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapDistortionCoeffs(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapDistortionCoeffsEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapScaleOffsetMatrix(Pointer hConnection, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	public void LeapScaleOffsetMatrixEx(Pointer hConnection, Pointer hDevice, int camera,
+			PrimitiveArrayPointer dest)
+	{}
+
+
+	@Override
+	@Deprecated
+	public eLeapRS LeapTelemetryProfiling(Pointer hConnection,
+			LEAP_TELEMETRY_DATA telemetryData)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	@Deprecated
+	public long LeapTelemetryGetNow()
+	{
+		return 0;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingOpen(LEAP_RECORDING ppRecording, String filePath,
+			LEAP_RECORDING_PARAMETERS params)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingWrite(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			LongByReference pnBytesWritten)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingGetStatus(Pointer pRecording, LEAP_RECORDING_STATUS pStatus)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingRead(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingReadSize(Pointer pRecording, LongByReference pncbEvent)
+	{
+		return eLeapRS.Unsupported;
+	}
+
+
+	@Override
+	public eLeapRS LeapRecordingClose(LEAP_RECORDING ppRecording)
+	{
+		return eLeapRS.Unsupported;
+	}
+}
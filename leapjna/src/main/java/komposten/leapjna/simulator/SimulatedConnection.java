@@ -0,0 +1,552 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.simulator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.enums.eLeapConnectionStatus;
+import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
+import komposten.leapjna.leapc.enums.eLeapDroppedFrameType;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DROPPED_FRAME_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.Structures;
+
+
+/**
+ * <p>
+ * A connection created by a {@link LeapCSimulator}.
+ * </p>
+ * <p>
+ * Events are queued by the simulator (or generated from the frame schedule) and written
+ * to native memory owned by the connection when they are polled. Like with LeapC, the
+ * event memory is only valid until the next poll.
+ * </p>
+ */
+class SimulatedConnection
+{
+	/** Large enough for all non-tracking events the simulator produces. */
+	private static final int EVENT_MEMORY_SIZE = 64;
+	private static final int TRACKING_HEADER_SIZE = Structures.sizeOf(LEAP_TRACKING_EVENT.class);
+	private static final int HAND_SIZE = Structures.sizeOf(LEAP_HAND.class);
+
+	/**
+	 * The maximum number of frames that are generated back-to-back if the consumer falls
+	 * behind. Older frames are skipped, like LeapC does when its queue is full.
+	 */
+	private static final int MAX_FRAME_BACKLOG = 4;
+
+	private final LeapCSimulator simulator;
+	private final Memory handle = new Memory(1);
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final AtomicBoolean polling = new AtomicBoolean();
+	private final Deque<PendingEvent> queue = new ArrayDeque<>();
+
+	private boolean open;
+	private boolean connected;
+	private boolean paused;
+	private boolean streaming;
+	private boolean started;
+	private long nextFrameTime;
+	private long streamStartTime;
+	private long frameId;
+	private int framesToDrop;
+
+	private final Memory eventMemory = new Memory(EVENT_MEMORY_SIZE);
+	private Memory trackingMemory;
+	private LEAP_TRACKING_EVENT trackingEvent;
+	private LEAP_HAND[] hands;
+
+
+	SimulatedConnection(LeapCSimulator simulator)
+	{
+		this.simulator = simulator;
+	}
+
+
+	Pointer getHandle()
+	{
+		return handle;
+	}
+
+
+	void open(boolean serviceAvailable, List<SimulatedDevice> devices)
+	{
+		lock.lock();
+		try
+		{
+			if (open)
+			{
+				return;
+			}
+
+			open = true;
+			if (serviceAvailable)
+			{
+				connect(devices);
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void close()
+	{
+		lock.lock();
+		try
+		{
+			open = false;
+			connected = false;
+			queue.clear();
+			changed.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	eLeapConnectionStatus getStatus()
+	{
+		lock.lock();
+		try
+		{
+			return connected ? eLeapConnectionStatus.Connected
+					: eLeapConnectionStatus.NotConnected;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void setPaused(boolean paused)
+	{
+		lock.lock();
+		try
+		{
+			this.paused = paused;
+			if (paused)
+			{
+				queue.removeIf(event -> event.type == eLeapEventType.Tracking);
+			}
+			changed.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void onServiceRestored(List<SimulatedDevice> devices)
+	{
+		lock.lock();
+		try
+		{
+			if (open && !connected)
+			{
+				connect(devices);
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void onServiceLost()
+	{
+		lock.lock();
+		try
+		{
+			if (connected)
+			{
+				connected = false;
+				queue.clear();
+				enqueue(new PendingEvent(eLeapEventType.ConnectionLost, null));
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void onDevicePlugged(SimulatedDevice device)
+	{
+		lock.lock();
+		try
+		{
+			if (connected)
+			{
+				enqueue(new PendingEvent(eLeapEventType.Device, device));
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void onDeviceUnplugged(SimulatedDevice device)
+	{
+		lock.lock();
+		try
+		{
+			queue.removeIf(event -> event.device == device);
+			if (connected)
+			{
+				enqueue(new PendingEvent(eLeapEventType.DeviceLost, device));
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	void dropFrames(int count)
+	{
+		lock.lock();
+		try
+		{
+			framesToDrop += count;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+
+	/**
+	 * Must be called with the lock held.
+	 */
+	private void connect(List<SimulatedDevice> devices)
+	{
+		connected = true;
+		enqueue(new PendingEvent(eLeapEventType.Connection, null));
+		for (SimulatedDevice device : devices)
+		{
+			enqueue(new PendingEvent(eLeapEventType.Device, device));
+		}
+	}
+
+
+	/**
+	 * Must be called with the lock held.
+	 */
+	private void enqueue(PendingEvent event)
+	{
+		queue.add(event);
+		changed.signalAll();
+	}
+
+
+	eLeapRS poll(int timeout, LEAP_CONNECTION_MESSAGE message)
+	{
+		if (!polling.compareAndSet(false, true))
+		{
+			return eLeapRS.ConcurrentPoll;
+		}
+
+		try
+		{
+			PendingEvent event;
+
+			lock.lock();
+			try
+			{
+				if (!open)
+				{
+					return eLeapRS.NotConnected;
+				}
+
+				long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Integer.toUnsignedLong(timeout));
+				event = awaitEvent(timeoutNanos);
+			}
+			finally
+			{
+				lock.unlock();
+			}
+
+			if (event == null)
+			{
+				writeMessage(message, eLeapEventType.None, null, 0);
+				return eLeapRS.Timeout;
+			}
+
+			Pointer pEvent = writeEvent(event);
+			int deviceId = event.device != null ? event.device.id : 0;
+			writeMessage(message, event.type, pEvent, deviceId);
+			return eLeapRS.Success;
+		}
+		finally
+		{
+			polling.set(false);
+		}
+	}
+
+
+	/**
+	 * Must be called with the lock held.
+	 */
+	private PendingEvent awaitEvent(long timeout)
+	{
+		long deadline = System.nanoTime() + timeout;
+
+		while (true)
+		{
+			long now = System.nanoTime();
+			scheduleFrames(now);
+
+			PendingEvent event = queue.poll();
+			if (event != null)
+			{
+				return event;
+			}
+
+			long remaining = deadline - now;
+			if (remaining <= 0 || !open)
+			{
+				return null;
+			}
+
+			long wait = remaining;
+			if (streaming)
+			{
+				wait = Math.min(wait, nextFrameTime - now);
+			}
+
+			try
+			{
+				changed.awaitNanos(wait);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+	}
+
+
+	/**
+	 * Must be called with the lock held.
+	 */
+	private boolean isStreaming()
+	{
+		return open && connected && !paused && simulator.hasDevices();
+	}
+
+
+	/**
+	 * Queues all frames that are due at <code>now</code>. Must be called with the lock
+	 * held.
+	 */
+	private void scheduleFrames(long now)
+	{
+		List<SimulatedDevice> devices = simulator.getDevices();
+		if (!isStreaming() || devices.isEmpty())
+		{
+			streaming = false;
+			return;
+		}
+
+		long period = simulator.getFramePeriod();
+		if (!streaming)
+		{
+			streaming = true;
+			nextFrameTime = now;
+			if (!started)
+			{
+				started = true;
+				streamStartTime = now;
+			}
+		}
+		else if (now - nextFrameTime > MAX_FRAME_BACKLOG * period)
+		{
+			long skipped = (now - nextFrameTime) / period - MAX_FRAME_BACKLOG;
+			nextFrameTime += skipped * period;
+			frameId += skipped;
+		}
+
+		while (nextFrameTime - now <= 0)
+		{
+			frameId++;
+
+			if (framesToDrop > 0)
+			{
+				framesToDrop--;
+				queue.add(new PendingEvent(eLeapEventType.DroppedFrame, devices.get(0),
+						frameId, nextFrameTime));
+			}
+			else
+			{
+				for (SimulatedDevice device : devices)
+				{
+					queue.add(new PendingEvent(eLeapEventType.Tracking, device, frameId,
+							nextFrameTime));
+				}
+			}
+
+			nextFrameTime += period;
+		}
+	}
+
+
+	private Pointer writeEvent(PendingEvent event)
+	{
+		switch (event.type)
+		{
+			case Tracking:
+				return writeTrackingEvent(event);
+			case Device:
+			case DeviceLost:
+				return writeDeviceEvent(event);
+			case DroppedFrame:
+				return writeDroppedFrameEvent(event);
+			default:
+				// Connection and ConnectionLost events only have a flags field.
+				eventMemory.clear();
+				return eventMemory;
+		}
+	}
+
+
+	private Pointer writeDeviceEvent(PendingEvent event)
+	{
+		eventMemory.clear();
+
+		LEAP_DEVICE_EVENT deviceEvent = new LEAP_DEVICE_EVENT(eventMemory);
+		deviceEvent.device.handle = event.device.getRefHandle();
+		deviceEvent.device.id = event.device.id;
+		deviceEvent.status = event.type == eLeapEventType.Device
+				? eLeapDeviceStatus.Streaming.value
+				: eLeapDeviceStatus.None.value;
+		deviceEvent.write();
+
+		return eventMemory;
+	}
+
+
+	private Pointer writeDroppedFrameEvent(PendingEvent event)
+	{
+		eventMemory.clear();
+
+		LEAP_DROPPED_FRAME_EVENT droppedEvent = new LEAP_DROPPED_FRAME_EVENT(eventMemory);
+		droppedEvent.frame_id = event.frameId;
+		droppedEvent.type = eLeapDroppedFrameType.TrackingQueue.value;
+		droppedEvent.write();
+
+		return eventMemory;
+	}
+
+
+	private Pointer writeTrackingEvent(PendingEvent event)
+	{
+		int handCount = simulator.getHandCount();
+		ensureTrackingCapacity(handCount);
+
+		long timestamp = TimeUnit.NANOSECONDS.toMicros(event.time);
+		long visibleTime = TimeUnit.NANOSECONDS.toMicros(event.time - streamStartTime);
+
+		trackingEvent.info.reserved = null;
+		trackingEvent.info.frame_id = event.frameId;
+		trackingEvent.info.timestamp = timestamp;
+		trackingEvent.tracking_frame_id = event.frameId;
+		trackingEvent.nHands = handCount;
+		trackingEvent.pHands = handCount > 0 ? trackingMemory.share(TRACKING_HEADER_SIZE) : null;
+		trackingEvent.framerate = simulator.getFrameRate();
+		trackingEvent.write();
+
+		for (int i = 0; i < handCount; i++)
+		{
+			HandGenerator.update(hands[i], i, visibleTime);
+		}
+
+		return trackingMemory;
+	}
+
+
+	private void ensureTrackingCapacity(int handCount)
+	{
+		if (hands != null && hands.length >= handCount)
+		{
+			return;
+		}
+
+		trackingMemory = new Memory(TRACKING_HEADER_SIZE + (long) handCount * HAND_SIZE);
+		trackingMemory.clear();
+		trackingEvent = new LEAP_TRACKING_EVENT(trackingMemory);
+		hands = new LEAP_HAND[handCount];
+		for (int i = 0; i < handCount; i++)
+		{
+			hands[i] = new LEAP_HAND(
+					trackingMemory.share(TRACKING_HEADER_SIZE + (long) i * HAND_SIZE));
+		}
+	}
+
+
+	private static void writeMessage(LEAP_CONNECTION_MESSAGE message, eLeapEventType type,
+			Pointer pEvent, int deviceId)
+	{
+		message.setFields(message.size(), type.value, pEvent, deviceId);
+		message.write();
+	}
+
+
+	private static class PendingEvent
+	{
+		final eLeapEventType type;
+		final SimulatedDevice device;
+		final long frameId;
+		final long time;
+
+
+		PendingEvent(eLeapEventType type, SimulatedDevice device)
+		{
+			this(type, device, 0, 0);
+		}
+
+
+		PendingEvent(eLeapEventType type, SimulatedDevice device, long frameId, long time)
+		{
+			this.type = type;
+			this.device = device;
+			this.frameId = frameId;
+			this.time = time;
+		}
+	}
+}
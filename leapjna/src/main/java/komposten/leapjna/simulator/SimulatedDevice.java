@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+
+/**
+ * A device plugged into a {@link LeapCSimulator}.
+ */
+class SimulatedDevice
+{
+	final int id;
+	final String serial;
+
+	/** Backs the device reference handle (offset 0) and the open device handle (offset 1). */
+	private final Memory handles;
+
+
+	SimulatedDevice(int id)
+	{
+		this.id = id;
+		this.serial = String.format("SIM%06d", id);
+		this.handles = new Memory(2);
+	}
+
+
+	Pointer getRefHandle()
+	{
+		return handles;
+	}
+
+
+	Pointer getDeviceHandle()
+	{
+		return handles.share(1);
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.concurrent.TimeUnit;
+
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+
+
+/**
+ * <p>
+ * A poll timeout which adapts to the tracking frame rate, for use with
+ * {@link LeapSession#setAdaptivePollTimeout(AdaptivePollTimeout)}.
+ * </p>
+ * <p>
+ * <code>LeapPollConnection</code> returns as soon as an event arrives, so the timeout
+ * only matters when no event arrives: it decides how quickly a missing frame is noticed,
+ * how often the poll thread wakes up while the service is idle or paused, and how long
+ * {@link LeapSession#close()} has to wait for the current poll.
+ * </p>
+ * <p>
+ * While frames arrive, the timeout is {@value #FRAME_INTERVALS} expected frame
+ * intervals. The expected interval is the longer of the interval given by
+ * {@link LEAP_TRACKING_EVENT#framerate} and the average observed gap between tracking
+ * events (which is longer if frames are dropped or filtered). Each consecutive timeout
+ * doubles the timeout, so an idle or paused service causes fewer and fewer wake-ups. The
+ * timeout is always kept between the minimum and maximum timeouts, so the maximum timeout
+ * also limits how long <code>close()</code> waits while the service is idle.
+ * </p>
+ * <p>
+ * <b>Note</b>: The timeout is only updated by the poll thread, but
+ * {@link #getTimeout()} can be called from any thread.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class AdaptivePollTimeout
+{
+	/** The default minimum timeout, in milliseconds. */
+	public static final int DEFAULT_MIN_TIMEOUT = 5;
+	/** The default maximum timeout, in milliseconds. */
+	public static final int DEFAULT_MAX_TIMEOUT = LeapSession.DEFAULT_POLL_TIMEOUT;
+	/** The number of expected frame intervals to wait for a frame while frames arrive. */
+	public static final int FRAME_INTERVALS = 3;
+
+	/** The weight of a new gap in the average gap, as a power of two (i.e. 1/8). */
+	private static final int GAP_WEIGHT_SHIFT = 3;
+
+	private final int minTimeout;
+	private final int maxTimeout;
+	private final long maxTimeoutNanos;
+
+	private boolean hasTracked;
+	private long lastTrackingTime;
+	private long averageGap;
+	private long streamingTimeout;
+	private int consecutiveTimeouts;
+	private volatile int timeout;
+
+
+	/**
+	 * Creates an adaptive timeout between {@value #DEFAULT_MIN_TIMEOUT} and
+	 * {@value #DEFAULT_MAX_TIMEOUT} milliseconds.
+	 */
+	public AdaptivePollTimeout()
+	{
+		this(DEFAULT_MIN_TIMEOUT, DEFAULT_MAX_TIMEOUT);
+	}
+
+
+	/**
+	 * @param minTimeout The minimum timeout in milliseconds.
+	 * @param maxTimeout The maximum timeout in milliseconds. This is used until the first
+	 *          tracking event arrives.
+	 * @throws IllegalArgumentException If <code>minTimeout</code> is less than 1 or greater
+	 *           than <code>maxTimeout</code>.
+	 */
+	public AdaptivePollTimeout(int minTimeout, int maxTimeout)
+	{
+		if (minTimeout < 1 || minTimeout > maxTimeout)
+		{
+			throw new IllegalArgumentException(
+					"Invalid timeout range: [" + minTimeout + ", " + maxTimeout + "]");
+		}
+
+		this.minTimeout = minTimeout;
+		this.maxTimeout = maxTimeout;
+		this.maxTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(maxTimeout);
+		reset();
+	}
+
+
+	/**
+	 * @return The minimum timeout in milliseconds.
+	 */
+	public int getMinTimeout()
+	{
+		return minTimeout;
+	}
+
+
+	/**
+	 * @return The maximum timeout in milliseconds.
+	 */
+	public int getMaxTimeout()
+	{
+		return maxTimeout;
+	}
+
+
+	/**
+	 * @return The timeout to use for the next poll, in milliseconds.
+	 */
+	public int getTimeout()
+	{
+		return timeout;
+	}
+
+
+	/**
+	 * Updates the timeout after a tracking event has been polled.
+	 *
+	 * @param framerate The {@link LEAP_TRACKING_EVENT#framerate frame rate} reported by
+	 *          the event.
+	 * @param nanoTime The time the event was polled, from {@link System#nanoTime()}.
+	 */
+	public void onTracking(float framerate, long nanoTime)
+	{
+		if (hasTracked)
+		{
+			long gap = nanoTime - lastTrackingTime;
+
+			// Gaps longer than the maximum timeout are pauses, not frame intervals.
+			if (gap > 0 && gap <= maxTimeoutNanos)
+			{
+				if (averageGap == 0)
+				{
+					averageGap = gap;
+				}
+				else
+				{
+					averageGap += (gap - averageGap) >> GAP_WEIGHT_SHIFT;
+				}
+			}
+		}
+		hasTracked = true;
+		lastTrackingTime = nanoTime;
+
+		long expectedInterval = averageGap;
+		if (framerate > 0)
+		{
+			expectedInterval = Math.max(expectedInterval, (long) (1e9 / framerate));
+		}
+
+		if (expectedInterval > 0)
+		{
+			long intervalMillis = TimeUnit.NANOSECONDS.toMillis(
+					FRAME_INTERVALS * expectedInterval + 999_999);
+			streamingTimeout = clamp(intervalMillis);
+		}
+
+		consecutiveTimeouts = 0;
+		timeout = (int) streamingTimeout;
+	}
+
+
+	/**
+	 * Doubles the timeout (up to the maximum timeout) after a poll has timed out.
+	 */
+	public void onTimeout()
+	{
+		if (consecutiveTimeouts < Integer.SIZE)
+		{
+			consecutiveTimeouts++;
+		}
+
+		timeout = (int) clamp(streamingTimeout << consecutiveTimeouts);
+	}
+
+
+	/**
+	 * Forgets the observed frame intervals and sets the timeout to the maximum timeout.
+	 */
+	public void reset()
+	{
+		hasTracked = false;
+		averageGap = 0;
+		streamingTimeout = maxTimeout;
+		consecutiveTimeouts = 0;
+		timeout = maxTimeout;
+	}
+
+
+	private long clamp(long timeout)
+	{
+		return Math.max(minTimeout, Math.min(maxTimeout, timeout));
+	}
+}
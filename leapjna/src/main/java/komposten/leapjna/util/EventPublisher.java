@@ -0,0 +1,488 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>
+ * A {@link Flow.Publisher} for a stream of events, which is fed by a single producer
+ * (typically the poll thread, see {@link LeapEventPublishers}) and honours each
+ * subscriber's demand.
+ * </p>
+ * <p>
+ * Every subscription has its own buffer. {@link #submit(Object)} adds the item to the
+ * buffer of every subscription and never blocks the producer: when a buffer is full, the
+ * subscription's {@link OverflowStrategy} decides what to do. The items are delivered to
+ * the subscribers as they request them, by tasks running on the publisher's
+ * {@link Executor}, so subscribers never run on the producer's thread. Each subscriber
+ * is called by at most one thread at a time.
+ * </p>
+ * <p>
+ * Items are delivered as-is to all subscribers, so they must not be modified by the
+ * producer or the subscribers after they have been submitted.
+ * </p>
+ *
+ * @param <T> The type of the published items.
+ * @since LeapJna 1.3.0
+ */
+public final class EventPublisher<T> implements Flow.Publisher<T>, AutoCloseable
+{
+	/**
+	 * What to do when an item is submitted and a subscription's buffer is full because the
+	 * subscriber has not requested (or not yet received) the earlier items.
+	 */
+	public enum OverflowStrategy
+	{
+		/** Drop the oldest buffered item to make room for the new item. */
+		DROP_OLDEST,
+		/**
+		 * Only keep the latest item: each submitted item replaces any item that has not
+		 * been delivered yet. The buffer size is ignored.
+		 */
+		LATEST_ONLY,
+		/**
+		 * Buffer up to the buffer size. If the buffer overflows, the subscription is
+		 * cancelled and the subscriber receives an {@link IllegalStateException} through
+		 * {@link Flow.Subscriber#onError(Throwable)}.
+		 */
+		BUFFER
+	}
+
+	private final Executor executor;
+	private final OverflowStrategy overflowStrategy;
+	private final int bufferSize;
+	private final LongAdder droppedCount = new LongAdder();
+
+	private volatile Subscription[] subscriptions = noSubscriptions();
+	private boolean closed;
+
+
+	/**
+	 * Creates a publisher which delivers items on the {@link ForkJoinPool#commonPool()
+	 * common pool}, dropping the oldest items if a subscriber's buffer of
+	 * {@link Flow#defaultBufferSize()} items is full.
+	 */
+	public EventPublisher()
+	{
+		this(ForkJoinPool.commonPool(), OverflowStrategy.DROP_OLDEST, Flow.defaultBufferSize());
+	}
+
+
+	/**
+	 * @param executor The executor to deliver items on.
+	 * @param overflowStrategy What to do when a subscriber's buffer is full.
+	 * @param bufferSize The maximum number of items to buffer per subscriber.
+	 * @throws IllegalArgumentException If <code>bufferSize</code> is less than 1.
+	 */
+	public EventPublisher(Executor executor, OverflowStrategy overflowStrategy,
+			int bufferSize)
+	{
+		if (bufferSize < 1)
+		{
+			throw new IllegalArgumentException("bufferSize must be at least 1: " + bufferSize);
+		}
+
+		this.executor = Objects.requireNonNull(executor, "executor must not be null");
+		this.overflowStrategy = Objects.requireNonNull(overflowStrategy,
+				"overflowStrategy must not be null");
+		this.bufferSize = bufferSize;
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private Subscription[] noSubscriptions()
+	{
+		return (Subscription[]) new EventPublisher<?>.Subscription[0];
+	}
+
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber)
+	{
+		Objects.requireNonNull(subscriber, "subscriber must not be null");
+		Subscription subscription = new Subscription(subscriber);
+
+		synchronized (this)
+		{
+			if (closed)
+			{
+				subscription.completed = true;
+			}
+			else
+			{
+				Subscription[] newSubscriptions = Arrays.copyOf(subscriptions,
+						subscriptions.length + 1);
+				newSubscriptions[subscriptions.length] = subscription;
+				subscriptions = newSubscriptions;
+			}
+		}
+
+		subscription.signal();
+	}
+
+
+	private synchronized void remove(Subscription subscription)
+	{
+		for (int i = 0; i < subscriptions.length; i++)
+		{
+			if (subscriptions[i] == subscription)
+			{
+				Subscription[] newSubscriptions = Arrays.copyOf(subscriptions,
+						subscriptions.length - 1);
+				System.arraycopy(subscriptions, i + 1, newSubscriptions, i,
+						subscriptions.length - i - 1);
+				subscriptions = newSubscriptions;
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * Submits an item to all current subscribers. Never blocks.
+	 *
+	 * @param item The item to publish.
+	 */
+	public void submit(T item)
+	{
+		Objects.requireNonNull(item, "item must not be null");
+
+		for (Subscription subscription : subscriptions)
+		{
+			subscription.offer(item);
+		}
+	}
+
+
+	/**
+	 * @return <code>true</code> if there is at least one subscriber. Producers can use
+	 *         this to avoid creating items that nobody will receive.
+	 */
+	public boolean hasSubscribers()
+	{
+		return subscriptions.length > 0;
+	}
+
+
+	/**
+	 * @return The number of current subscribers.
+	 */
+	public int getSubscriberCount()
+	{
+		return subscriptions.length;
+	}
+
+
+	/**
+	 * @return The total number of items that have been dropped or replaced because a
+	 *         subscriber's buffer was full.
+	 */
+	public long getDroppedCount()
+	{
+		return droppedCount.sum();
+	}
+
+
+	/**
+	 * Completes all subscriptions after their buffered items have been delivered. Items
+	 * submitted after this are ignored, and new subscribers are completed immediately.
+	 */
+	@Override
+	public void close()
+	{
+		Subscription[] current;
+
+		synchronized (this)
+		{
+			closed = true;
+			current = subscriptions;
+			subscriptions = noSubscriptions();
+		}
+
+		for (Subscription subscription : current)
+		{
+			subscription.complete();
+		}
+	}
+
+
+	private final class Subscription implements Flow.Subscription, Runnable
+	{
+		private final Flow.Subscriber<? super T> subscriber;
+		private final ArrayDeque<T> buffer = new ArrayDeque<>();
+		private final AtomicInteger pendingSignals = new AtomicInteger();
+
+		/* Guarded by this. */
+		private long demand;
+		private boolean cancelled;
+		private boolean completed;
+		private Throwable error;
+
+		/* Only accessed by the delivery task. */
+		private boolean subscribed;
+		private boolean terminated;
+
+
+		Subscription(Flow.Subscriber<? super T> subscriber)
+		{
+			this.subscriber = subscriber;
+		}
+
+
+		void offer(T item)
+		{
+			boolean failed = false;
+
+			synchronized (this)
+			{
+				if (cancelled || completed)
+				{
+					return;
+				}
+
+				if (overflowStrategy == OverflowStrategy.LATEST_ONLY)
+				{
+					if (!buffer.isEmpty())
+					{
+						buffer.clear();
+						droppedCount.increment();
+					}
+				}
+				else if (buffer.size() >= bufferSize)
+				{
+					droppedCount.increment();
+
+					if (overflowStrategy == OverflowStrategy.BUFFER)
+					{
+						failed = fail(new IllegalStateException(
+								"The subscriber's buffer of " + bufferSize + " items overflowed"));
+					}
+					else
+					{
+						buffer.poll();
+					}
+				}
+
+				if (!failed)
+				{
+					buffer.add(item);
+				}
+			}
+
+			if (failed)
+			{
+				remove(this);
+			}
+
+			signal();
+		}
+
+
+		void complete()
+		{
+			synchronized (this)
+			{
+				completed = true;
+			}
+
+			signal();
+		}
+
+
+		@Override
+		public void request(long n)
+		{
+			boolean failed = false;
+
+			synchronized (this)
+			{
+				if (n <= 0)
+				{
+					failed = fail(new IllegalArgumentException("request must be positive: " + n));
+				}
+				else
+				{
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+				}
+			}
+
+			if (failed)
+			{
+				remove(this);
+			}
+
+			signal();
+		}
+
+
+		@Override
+		public void cancel()
+		{
+			synchronized (this)
+			{
+				cancelled = true;
+				buffer.clear();
+			}
+
+			remove(this);
+		}
+
+
+		/**
+		 * Cancels the subscription with an error to deliver to the subscriber. Must be called
+		 * while holding the lock.
+		 *
+		 * @return <code>true</code> if the subscription was cancelled, <code>false</code> if
+		 *         it already had been.
+		 */
+		private boolean fail(Throwable throwable)
+		{
+			if (error != null || cancelled)
+			{
+				return false;
+			}
+
+			error = throwable;
+			cancelled = true;
+			buffer.clear();
+			return true;
+		}
+
+
+		/**
+		 * Schedules the delivery task, unless it is already scheduled or running. In the
+		 * latter case, the running task performs another pass.
+		 */
+		void signal()
+		{
+			if (pendingSignals.getAndIncrement() == 0)
+			{
+				try
+				{
+					executor.execute(this);
+				}
+				catch (RejectedExecutionException e)
+				{
+					synchronized (this)
+					{
+						cancelled = true;
+						buffer.clear();
+					}
+					remove(this);
+				}
+			}
+		}
+
+
+		@Override
+		public void run()
+		{
+			int signals = pendingSignals.get();
+
+			while (true)
+			{
+				deliver();
+
+				signals = pendingSignals.addAndGet(-signals);
+				if (signals == 0)
+				{
+					return;
+				}
+			}
+		}
+
+
+		private void deliver()
+		{
+			if (terminated)
+			{
+				return;
+			}
+
+			if (!subscribed)
+			{
+				subscribed = true;
+				subscriber.onSubscribe(this);
+			}
+
+			while (true)
+			{
+				T item;
+				Throwable failure;
+				boolean complete;
+
+				synchronized (this)
+				{
+					failure = error;
+					complete = completed && buffer.isEmpty();
+
+					if (failure != null || complete || cancelled || demand == 0
+							|| buffer.isEmpty())
+					{
+						item = null;
+					}
+					else
+					{
+						item = buffer.poll();
+						demand--;
+					}
+				}
+
+				if (item == null)
+				{
+					if (failure != null)
+					{
+						terminated = true;
+						subscriber.onError(failure);
+					}
+					else if (complete && !cancelled)
+					{
+						terminated = true;
+						subscriber.onComplete();
+					}
+					else if (cancelled)
+					{
+						terminated = true;
+					}
+
+					return;
+				}
+
+				try
+				{
+					subscriber.onNext(item);
+				}
+				catch (Throwable throwable)
+				{
+					boolean failed;
+					synchronized (this)
+					{
+						failed = fail(throwable);
+					}
+
+					if (failed)
+					{
+						remove(this);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+
+
+/**
+ * <p>
+ * A mailbox which only holds the most recent tracking frame, for consumers that only
+ * care about the latest hand state (such as rendering or network publishing) and should
+ * not build up latency when they fall behind.
+ * </p>
+ * <p>
+ * The mailbox is triple-buffered with three pre-allocated {@link FrameSnapshot
+ * snapshots}: one written by the producer, one owned by the consumer and one holding the
+ * latest published frame. {@link #publish(Pointer)} copies the frame into the producer's
+ * snapshot and swaps it with the latest one in a single atomic operation, so the
+ * producer never waits for the consumer. If the previous frame had not been read yet, it
+ * is overwritten and counted by {@link #getOverwrittenCount()}.
+ * </p>
+ * <p>
+ * The consumer reads the latest frame with {@link #poll()}, or waits for it with
+ * {@link #take(long, TimeUnit)}, which returns as soon as a frame is published.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * FrameMailbox mailbox = new FrameMailbox();
+ *
+ * // On the poll thread, e.g. in EventHandler.onTracking():
+ * mailbox.publish(event);
+ *
+ * // On the render thread:
+ * FrameSnapshot frame = mailbox.take(1, TimeUnit.SECONDS);
+ * </pre>
+ * <p>
+ * <b>Note</b>: Only one thread may publish and only one thread may consume at a time.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class FrameMailbox
+{
+	/** Set in {@link #latest} if the latest snapshot has not been consumed yet. */
+	private static final int FRESH = 4;
+	private static final int INDEX_MASK = 3;
+
+	private final FrameSnapshot[] snapshots = { new FrameSnapshot(), new FrameSnapshot(),
+			new FrameSnapshot() };
+
+	/** The index of the latest published snapshot, plus {@link #FRESH} if it is unread. */
+	private final AtomicInteger latest = new AtomicInteger(0);
+	private int producerIndex = 1;
+	private int consumerIndex = 2;
+
+	private volatile Thread waiter;
+	private volatile long publishedCount;
+	private volatile long overwrittenCount;
+
+
+	/**
+	 * Copies a tracking event from native memory and makes it the latest frame.
+	 *
+	 * @param event The memory containing a <code>LEAP_TRACKING_EVENT</code>, e.g.
+	 *          {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 */
+	public void publish(Pointer event)
+	{
+		snapshots[producerIndex].copyFrom(event);
+		swapPublished();
+	}
+
+
+	/**
+	 * Copies a decoded tracking event and makes it the latest frame.
+	 *
+	 * @param event The tracking event. Its hands must still be valid in native memory.
+	 */
+	public void publish(LEAP_TRACKING_EVENT event)
+	{
+		snapshots[producerIndex].copyFrom(event);
+		swapPublished();
+	}
+
+
+	private void swapPublished()
+	{
+		int previous = latest.getAndSet(producerIndex | FRESH);
+		producerIndex = previous & INDEX_MASK;
+
+		publishedCount++;
+		if ((previous & FRESH) != 0)
+		{
+			overwrittenCount++;
+		}
+
+		Thread thread = waiter;
+		if (thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+
+
+	/**
+	 * Returns the latest frame if a new frame has been published since the last call.
+	 *
+	 * @return The latest frame, or <code>null</code> if there is no new frame. The
+	 *         snapshot is owned by the consumer until the next call to <code>poll()</code>
+	 *         or <code>take()</code> that returns a new frame, so it can be used until
+	 *         then even if this method returns <code>null</code> in between.
+	 */
+	public FrameSnapshot poll()
+	{
+		if ((latest.get() & FRESH) == 0)
+		{
+			return null;
+		}
+
+		int previous = latest.getAndSet(consumerIndex);
+		consumerIndex = previous & INDEX_MASK;
+		return snapshots[consumerIndex];
+	}
+
+
+	/**
+	 * Waits for a new frame and returns it.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of <code>timeout</code>.
+	 * @return The latest frame, or <code>null</code> if no new frame was published before
+	 *         the timeout elapsed. See {@link #poll()} for how long the snapshot is valid.
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	public FrameSnapshot take(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		FrameSnapshot frame;
+
+		while ((frame = poll()) == null)
+		{
+			if (Thread.interrupted())
+			{
+				throw new InterruptedException();
+			}
+
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0)
+			{
+				return null;
+			}
+
+			waiter = Thread.currentThread();
+			if ((latest.get() & FRESH) == 0)
+			{
+				LockSupport.parkNanos(this, remaining);
+			}
+			waiter = null;
+		}
+
+		return frame;
+	}
+
+
+	/**
+	 * @return The number of frames that have been published.
+	 */
+	public long getPublishedCount()
+	{
+		return publishedCount;
+	}
+
+
+	/**
+	 * @return The number of published frames that were replaced by a newer frame before
+	 *         the consumer read them.
+	 */
+	public long getOverwrittenCount()
+	{
+		return overwrittenCount;
+	}
+}
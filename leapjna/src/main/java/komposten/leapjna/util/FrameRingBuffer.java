@@ -0,0 +1,461 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+
+
+/**
+ * <p>
+ * A pre-allocated ring buffer which fans out tracking frames from a single producer (e.g.
+ * the poll thread of a {@link LeapSession}) to several {@link Reader readers}, each with
+ * its own position and {@link WaitStrategy}.
+ * </p>
+ * <p>
+ * Each slot holds a {@link FrameSnapshot}, and {@link #publish(Pointer)} copies the frame
+ * into the next slot. The producer never waits for the readers: a reader that falls more
+ * than {@link #getCapacity()} frames behind is overrun, and skips ahead to the oldest
+ * frame still in the buffer. The number of skipped frames is reported by
+ * {@link Reader#getOverrunCount()}, and the number of frames a reader is behind by
+ * {@link Reader#getLag()}.
+ * </p>
+ * <p>
+ * Readers copy each frame into their own snapshot. The copy is validated against the
+ * slot's sequence number afterwards (like a seqlock), so a frame that was overwritten
+ * while being copied is never returned. Neither publishing nor reading takes a lock or
+ * allocates.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * FrameRingBuffer frames = new FrameRingBuffer(64);
+ * FrameRingBuffer.Reader gestures = frames.newReader(WaitStrategy.BLOCKING);
+ *
+ * // On the poll thread, e.g. in EventHandler.onTracking():
+ * frames.publish(event);
+ *
+ * // On the gesture thread:
+ * FrameSnapshot frame = new FrameSnapshot();
+ * while (gestures.take(frame, 1, TimeUnit.SECONDS))
+ * {
+ * 	...
+ * }
+ * </pre>
+ * <p>
+ * <b>Note</b>: Only one thread may publish, and each reader may only be used by one
+ * thread at a time.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class FrameRingBuffer
+{
+	/** Marks a slot that is being written. */
+	private static final long WRITING = -1;
+
+	private final Slot[] slots;
+	private final int mask;
+
+	private volatile long cursor = -1;
+	private volatile Reader[] readers = new Reader[0];
+
+
+	/**
+	 * @param capacity The number of slots. Must be a power of two.
+	 * @throws IllegalArgumentException If <code>capacity</code> is not a positive power of
+	 *           two.
+	 */
+	public FrameRingBuffer(int capacity)
+	{
+		if (capacity < 1 || Integer.bitCount(capacity) != 1)
+		{
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+		}
+
+		slots = new Slot[capacity];
+		for (int i = 0; i < capacity; i++)
+		{
+			slots[i] = new Slot();
+		}
+		mask = capacity - 1;
+	}
+
+
+	/**
+	 * @return The number of slots.
+	 */
+	public int getCapacity()
+	{
+		return slots.length;
+	}
+
+
+	/**
+	 * @return The sequence number of the latest published frame, or <code>-1</code> if no
+	 *         frame has been published.
+	 */
+	public long getPublishedSequence()
+	{
+		return cursor;
+	}
+
+
+	/**
+	 * Copies a tracking event from native memory into the next slot and publishes it.
+	 *
+	 * @param event The memory containing a <code>LEAP_TRACKING_EVENT</code>, e.g.
+	 *          {@link LEAP_CONNECTION_MESSAGE#pEvent}.
+	 * @return The sequence number of the published frame.
+	 */
+	public long publish(Pointer event)
+	{
+		Slot slot = beginPublish();
+		slot.frame.copyFrom(event);
+		return endPublish(slot);
+	}
+
+
+	/**
+	 * Copies a decoded tracking event into the next slot and publishes it, e.g. from
+	 * {@link EventHandler#onTracking(LEAP_TRACKING_EVENT, int)}.
+	 *
+	 * @param event The tracking event. Its hands must still be valid in native memory.
+	 * @return The sequence number of the published frame.
+	 */
+	public long publish(LEAP_TRACKING_EVENT event)
+	{
+		Slot slot = beginPublish();
+		slot.frame.copyFrom(event);
+		return endPublish(slot);
+	}
+
+
+	private Slot beginPublish()
+	{
+		Slot slot = slots[(int) ((cursor + 1) & mask)];
+		slot.sequence = WRITING;
+		// Make sure that readers see WRITING before any of the new frame data.
+		VarHandle.storeStoreFence();
+		return slot;
+	}
+
+
+	private long endPublish(Slot slot)
+	{
+		long sequence = cursor + 1;
+		slot.sequence = sequence;
+		cursor = sequence;
+
+		for (Reader reader : readers)
+		{
+			Thread waiter = reader.waiter;
+			if (waiter != null)
+			{
+				LockSupport.unpark(waiter);
+			}
+		}
+
+		return sequence;
+	}
+
+
+	/**
+	 * Creates a new reader which starts at the next frame to be published.
+	 *
+	 * @param waitStrategy How the reader waits for new frames in
+	 *          {@link Reader#take(FrameSnapshot, long, TimeUnit)}.
+	 * @return The new reader.
+	 */
+	public Reader newReader(WaitStrategy waitStrategy)
+	{
+		Reader reader = new Reader(Objects.requireNonNull(waitStrategy,
+				"waitStrategy must not be null"));
+
+		synchronized (this)
+		{
+			Reader[] newReaders = Arrays.copyOf(readers, readers.length + 1);
+			newReaders[readers.length] = reader;
+			readers = newReaders;
+		}
+
+		return reader;
+	}
+
+
+	private synchronized void removeReader(Reader reader)
+	{
+		for (int i = 0; i < readers.length; i++)
+		{
+			if (readers[i] == reader)
+			{
+				Reader[] newReaders = Arrays.copyOf(readers, readers.length - 1);
+				System.arraycopy(readers, i + 1, newReaders, i, readers.length - i - 1);
+				readers = newReaders;
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * @return The lag of the reader which is furthest behind, or <code>0</code> if there
+	 *         are no readers.
+	 * @see Reader#getLag()
+	 */
+	public long getMaxLag()
+	{
+		long maxLag = 0;
+		for (Reader reader : readers)
+		{
+			maxLag = Math.max(maxLag, reader.getLag());
+		}
+
+		return maxLag;
+	}
+
+
+	/**
+	 * How a {@link Reader} waits for the producer when there is no new frame.
+	 */
+	public enum WaitStrategy
+	{
+		/**
+		 * Parks the reading thread until a frame is published. Uses no CPU while waiting,
+		 * but adds the latency of waking the thread up.
+		 */
+		BLOCKING,
+		/**
+		 * Calls {@link Thread#yield()} between checks. Lower latency than
+		 * {@link #BLOCKING}, but keeps the thread runnable.
+		 */
+		YIELDING,
+		/**
+		 * Checks for new frames in a tight loop with {@link Thread#onSpinWait()}. Lowest
+		 * latency, but occupies a CPU core while waiting.
+		 */
+		BUSY_SPIN
+	}
+
+
+	/**
+	 * <p>
+	 * Reads frames from a {@link FrameRingBuffer} in order, starting at the frame
+	 * published after the reader was created.
+	 * </p>
+	 * <p>
+	 * A reader may only be used by one thread at a time, but {@link #getLag()} and
+	 * {@link #getOverrunCount()} can be called from any thread. Call {@link #close()} when
+	 * the reader is no longer needed, so it is no longer included in
+	 * {@link FrameRingBuffer#getMaxLag()}.
+	 * </p>
+	 */
+	public final class Reader implements AutoCloseable
+	{
+		private final WaitStrategy waitStrategy;
+
+		private volatile long sequence;
+		private volatile long overrunCount;
+		private volatile Thread waiter;
+
+
+		private Reader(WaitStrategy waitStrategy)
+		{
+			this.waitStrategy = waitStrategy;
+			this.sequence = cursor + 1;
+		}
+
+
+		/**
+		 * @return The wait strategy of this reader.
+		 */
+		public WaitStrategy getWaitStrategy()
+		{
+			return waitStrategy;
+		}
+
+
+		/**
+		 * @return The sequence number of the next frame this reader will read.
+		 */
+		public long getSequence()
+		{
+			return sequence;
+		}
+
+
+		/**
+		 * @return The number of published frames that this reader has not read yet,
+		 *         including frames it will skip because they have been overwritten.
+		 */
+		public long getLag()
+		{
+			return Math.max(0, cursor + 1 - sequence);
+		}
+
+
+		/**
+		 * @return The number of frames this reader has skipped because they were
+		 *         overwritten before it read them.
+		 */
+		public long getOverrunCount()
+		{
+			return overrunCount;
+		}
+
+
+		/**
+		 * Copies the next frame into <code>target</code>, if there is one.
+		 *
+		 * @param target The snapshot to copy the frame into.
+		 * @return <code>true</code> if a frame was copied, <code>false</code> if there was
+		 *         no new frame.
+		 */
+		public boolean poll(FrameSnapshot target)
+		{
+			long next = sequence;
+
+			while (true)
+			{
+				long published = cursor;
+				if (next > published)
+				{
+					return false;
+				}
+
+				long oldest = published - slots.length + 1;
+				if (next < oldest)
+				{
+					skipTo(next, oldest);
+					next = oldest;
+				}
+
+				Slot slot = slots[(int) (next & mask)];
+				if (slot.sequence == next && copy(slot, target))
+				{
+					// Make sure the frame data is read before the sequence is re-checked.
+					VarHandle.acquireFence();
+					if (slot.sequence == next)
+					{
+						sequence = next + 1;
+						return true;
+					}
+				}
+
+				// The slot was overwritten while it was being read.
+				skipTo(next, next + 1);
+				next++;
+			}
+		}
+
+
+		private boolean copy(Slot slot, FrameSnapshot target)
+		{
+			try
+			{
+				target.copyFrom(slot.frame);
+				return true;
+			}
+			catch (IndexOutOfBoundsException e)
+			{
+				// The slot's hand buffer was replaced by a concurrent (larger) frame.
+				return false;
+			}
+		}
+
+
+		private void skipTo(long from, long to)
+		{
+			overrunCount += to - from;
+			sequence = to;
+		}
+
+
+		/**
+		 * Copies the next frame into <code>target</code>, waiting for one to be published
+		 * if necessary.
+		 *
+		 * @param target The snapshot to copy the frame into.
+		 * @param timeout The maximum time to wait.
+		 * @param unit The unit of <code>timeout</code>.
+		 * @return <code>true</code> if a frame was copied, <code>false</code> if the timeout
+		 *         elapsed first.
+		 * @throws InterruptedException If the current thread is interrupted while waiting.
+		 */
+		public boolean take(FrameSnapshot target, long timeout, TimeUnit unit)
+				throws InterruptedException
+		{
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+			while (!poll(target))
+			{
+				if (Thread.interrupted())
+				{
+					throw new InterruptedException();
+				}
+
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0)
+				{
+					return false;
+				}
+
+				switch (waitStrategy)
+				{
+					case BLOCKING :
+						waiter = Thread.currentThread();
+						if (sequence > cursor)
+						{
+							LockSupport.parkNanos(this, remaining);
+						}
+						waiter = null;
+						break;
+					case YIELDING :
+						Thread.yield();
+						break;
+					default :
+						Thread.onSpinWait();
+						break;
+				}
+			}
+
+			return true;
+		}
+
+
+		/**
+		 * Removes this reader from the buffer.
+		 */
+		@Override
+		public void close()
+		{
+			removeReader(this);
+		}
+	}
+
+
+	private static final class Slot
+	{
+		final FrameSnapshot frame = new FrameSnapshot();
+		volatile long sequence = WRITING;
+	}
+}
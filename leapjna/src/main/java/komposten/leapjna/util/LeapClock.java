@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.data.LEAP_FRAME_HEADER;
+
+
+/**
+ * <p>
+ * A Java-side estimate of the LeapC clock (as returned by {@link LeapC#LeapGetNow()}),
+ * for threads that need to compare the current time against
+ * {@link LEAP_FRAME_HEADER#timestamp frame timestamps} many times per frame.
+ * </p>
+ * <p>
+ * The clock is calibrated against {@link System#nanoTime()} by sampling
+ * <code>LeapGetNow</code> and measuring the round-trip time of each sample. Only the
+ * sample with the shortest round trip in each calibration is used. {@link #now()} then
+ * converts <code>System.nanoTime()</code> to LeapC time, which is lock-free,
+ * allocation-free and does not call into the native library.
+ * </p>
+ * <p>
+ * Call {@link #start(long, TimeUnit)} to recalibrate periodically in a background thread.
+ * Each calibration corrects the offset between the clocks and re-estimates their relative
+ * rate from recent calibrations, so drift between the clocks is corrected continuously.
+ * If a calibration deviates from the estimate by more than
+ * {@value #RESYNC_THRESHOLD_MICROS} µs (e.g. because the tracking service restarted), the
+ * clock is re-synchronised from scratch. Small corrections can make {@link #now()} step
+ * backwards by up to a few microseconds.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * LeapClock clock = LeapClock.create(LeapC.INSTANCE);
+ * clock.start(1, TimeUnit.SECONDS);
+ * ...
+ * long age = clock.now() - trackingEvent.info.timestamp;
+ * ...
+ * clock.close();
+ * </pre>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class LeapClock implements AutoCloseable
+{
+	/** The number of <code>LeapGetNow</code> samples taken per calibration. */
+	static final int SAMPLES_PER_CALIBRATION = 5;
+
+	/** The number of calibrations used to estimate the clock rate. */
+	static final int HISTORY_SIZE = 16;
+
+	/**
+	 * The fraction of the measured offset error that is corrected per calibration, to
+	 * smooth out measurement noise.
+	 */
+	static final double OFFSET_GAIN = 0.5;
+
+	/** Errors larger than this cause the clock to be re-synchronised from scratch. */
+	static final long RESYNC_THRESHOLD_MICROS = 2000;
+
+	/** The minimum time between two samples used to estimate the clock rate. */
+	static final long MIN_RATE_SPAN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private static final double NOMINAL_RATE = 1e-3;
+
+	private final LongSupplier leapNow;
+	private final LongSupplier nanoTime;
+
+	private final long[] historyNanos = new long[HISTORY_SIZE];
+	private final long[] historyMicros = new long[HISTORY_SIZE];
+	private int historyStart;
+	private int historyCount;
+
+	private volatile Calibration calibration;
+	private volatile long lastRoundTripNanos;
+	private volatile long calibrationCount;
+	private volatile long resyncCount;
+	private volatile long failedCalibrationCount;
+	private volatile RuntimeException lastCalibrationFailure;
+
+	private ScheduledExecutorService executor;
+
+
+	/**
+	 * Creates a new clock and calibrates it once.
+	 *
+	 * @param leapNow A function returning the current LeapC time in microseconds, e.g.
+	 *          <code>LeapCDirect::LeapGetNow</code>.
+	 */
+	public LeapClock(LongSupplier leapNow)
+	{
+		this(leapNow, System::nanoTime);
+	}
+
+
+	LeapClock(LongSupplier leapNow, LongSupplier nanoTime)
+	{
+		this.leapNow = leapNow;
+		this.nanoTime = nanoTime;
+		calibrate();
+	}
+
+
+	/**
+	 * Creates a new clock which samples {@link LeapC#LeapGetNow()} from the provided
+	 * <code>LeapC</code> instance, and calibrates it once.
+	 *
+	 * @param leapC The <code>LeapC</code> instance to use.
+	 * @return A new, calibrated clock.
+	 */
+	public static LeapClock create(LeapC leapC)
+	{
+		return new LeapClock(leapC::LeapGetNow);
+	}
+
+
+	/**
+	 * @return An estimate of the current LeapC time, in microseconds.
+	 */
+	public long now()
+	{
+		return toLeapTime(nanoTime.getAsLong());
+	}
+
+
+	/**
+	 * @param nanoTime A value returned by {@link System#nanoTime()}.
+	 * @return An estimate of the LeapC time at <code>nanoTime</code>, in microseconds.
+	 */
+	public long toLeapTime(long nanoTime)
+	{
+		Calibration current = calibration;
+		return current.baseMicros
+				+ Math.round((nanoTime - current.baseNanos) * current.microsPerNano);
+	}
+
+
+	/**
+	 * @param leapTime A LeapC time in microseconds, e.g. a frame timestamp.
+	 * @return An estimate of the {@link System#nanoTime()} value at <code>leapTime</code>.
+	 */
+	public long toNanoTime(long leapTime)
+	{
+		Calibration current = calibration;
+		return current.baseNanos
+				+ Math.round((leapTime - current.baseMicros) / current.microsPerNano);
+	}
+
+
+	/**
+	 * @return The estimated rate of the LeapC clock relative to {@link System#nanoTime()}.
+	 *         <code>1.0</code> means that both clocks run at the same speed.
+	 */
+	public double getRate()
+	{
+		return calibration.microsPerNano / NOMINAL_RATE;
+	}
+
+
+	/**
+	 * @return Half the round-trip time of the sample used in the latest calibration, in
+	 *         nanoseconds. This is the uncertainty of that sample.
+	 */
+	public long getUncertaintyNanos()
+	{
+		return lastRoundTripNanos / 2;
+	}
+
+
+	/**
+	 * @return The number of calibrations performed so far, including the initial one.
+	 */
+	public long getCalibrationCount()
+	{
+		return calibrationCount;
+	}
+
+
+	/**
+	 * @return The number of times the clock has been re-synchronised from scratch because
+	 *         a calibration deviated too much from the estimate.
+	 */
+	public long getResyncCount()
+	{
+		return resyncCount;
+	}
+
+
+	/**
+	 * @return The number of periodic calibrations that failed because sampling the clocks
+	 *         threw an exception. Periodic calibration continues after a failure.
+	 * @see #getLastCalibrationFailure()
+	 */
+	public long getFailedCalibrationCount()
+	{
+		return failedCalibrationCount;
+	}
+
+
+	/**
+	 * @return The exception thrown by the most recent failed periodic calibration, or
+	 *         <code>null</code> if none has failed.
+	 */
+	public RuntimeException getLastCalibrationFailure()
+	{
+		return lastCalibrationFailure;
+	}
+
+
+	/**
+	 * Samples <code>LeapGetNow</code> and updates the calibration. This is done
+	 * periodically after {@link #start(long, TimeUnit)} has been called, but can also be
+	 * called manually.
+	 */
+	public synchronized void calibrate()
+	{
+		long bestRoundTrip = Long.MAX_VALUE;
+		long bestNanos = 0;
+		long bestMicros = 0;
+
+		for (int i = 0; i < SAMPLES_PER_CALIBRATION; i++)
+		{
+			long before = nanoTime.getAsLong();
+			long micros = leapNow.getAsLong();
+			long after = nanoTime.getAsLong();
+
+			long roundTrip = after - before;
+			if (roundTrip < bestRoundTrip)
+			{
+				bestRoundTrip = roundTrip;
+				bestNanos = before + roundTrip / 2;
+				bestMicros = micros;
+			}
+		}
+
+		lastRoundTripNanos = bestRoundTrip;
+		update(bestNanos, bestMicros);
+		calibrationCount++;
+	}
+
+
+	private void update(long sampleNanos, long sampleMicros)
+	{
+		Calibration current = calibration;
+
+		if (current == null)
+		{
+			resync(sampleNanos, sampleMicros, NOMINAL_RATE);
+			return;
+		}
+
+		long error = sampleMicros - toLeapTime(sampleNanos);
+		if (Math.abs(error) > RESYNC_THRESHOLD_MICROS)
+		{
+			resyncCount++;
+			resync(sampleNanos, sampleMicros, NOMINAL_RATE);
+			return;
+		}
+
+		addToHistory(sampleNanos, sampleMicros);
+
+		double rate = current.microsPerNano;
+		int oldest = historyStart;
+		long span = sampleNanos - historyNanos[oldest];
+		if (span >= MIN_RATE_SPAN_NANOS)
+		{
+			rate = (double) (sampleMicros - historyMicros[oldest]) / span;
+		}
+
+		long baseMicros = toLeapTime(sampleNanos) + Math.round(error * OFFSET_GAIN);
+		calibration = new Calibration(sampleNanos, baseMicros, rate);
+	}
+
+
+	private void resync(long sampleNanos, long sampleMicros, double rate)
+	{
+		historyStart = 0;
+		historyCount = 0;
+		addToHistory(sampleNanos, sampleMicros);
+		calibration = new Calibration(sampleNanos, sampleMicros, rate);
+	}
+
+
+	private void addToHistory(long sampleNanos, long sampleMicros)
+	{
+		int index = (historyStart + historyCount) % HISTORY_SIZE;
+		historyNanos[index] = sampleNanos;
+		historyMicros[index] = sampleMicros;
+
+		if (historyCount < HISTORY_SIZE)
+		{
+			historyCount++;
+		}
+		else
+		{
+			historyStart = (historyStart + 1) % HISTORY_SIZE;
+		}
+	}
+
+
+	/**
+	 * Starts recalibrating the clock periodically in a daemon thread. Does nothing if
+	 * periodic calibration has already been started. If a calibration throws an
+	 * exception, the clock keeps its previous calibration and the failure is counted by
+	 * {@link #getFailedCalibrationCount()}.
+	 *
+	 * @param period The time between calibrations.
+	 * @param unit The unit of <code>period</code>.
+	 * @return This clock.
+	 */
+	public synchronized LeapClock start(long period, TimeUnit unit)
+	{
+		if (executor == null)
+		{
+			executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+			{
+				Thread thread = new Thread(runnable, "LeapClock calibration");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.scheduleAtFixedRate(this::calibratePeriodically, period, period, unit);
+		}
+
+		return this;
+	}
+
+
+	/**
+	 * Calls {@link #calibrate()} and records failures instead of throwing, since an
+	 * exception would cancel all later runs of the scheduled task.
+	 */
+	private void calibratePeriodically()
+	{
+		try
+		{
+			calibrate();
+		}
+		catch (RuntimeException e)
+		{
+			lastCalibrationFailure = e;
+			failedCalibrationCount++;
+		}
+	}
+
+
+	/**
+	 * Stops periodic calibration. The clock can still be used after this, but will no
+	 * longer correct drift unless {@link #calibrate()} is called manually.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (executor != null)
+		{
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+
+	private static final class Calibration
+	{
+		final long baseNanos;
+		final long baseMicros;
+		final double microsPerNano;
+
+
+		Calibration(long baseNanos, long baseMicros, double microsPerNano)
+		{
+			this.baseNanos = baseNanos;
+			this.baseMicros = baseMicros;
+			this.microsPerNano = microsPerNano;
+		}
+	}
+}
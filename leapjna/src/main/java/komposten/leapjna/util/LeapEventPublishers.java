@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_EYE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMU_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+
+
+/**
+ * <p>
+ * An {@link EventHandler} which exposes the Leap event streams as
+ * {@link Flow.Publisher Flow publishers}, for use in reactive pipelines.
+ * </p>
+ * <p>
+ * Each stream is an {@link EventPublisher} with its own subscribers. Subscribers receive
+ * events as they {@link Flow.Subscription#request(long) request} them, on the executor
+ * passed to the constructor, and never on the poll thread. Events that a subscriber has
+ * not requested yet are buffered according to the {@link EventPublisher.OverflowStrategy
+ * overflow strategy}, so a slow subscriber never stalls the poll thread.
+ * </p>
+ * <p>
+ * Since events are delivered after the poll thread has polled again, tracking and image
+ * events are detached from LeapC's memory before they are submitted (but only if their
+ * stream has subscribers):
+ * </p>
+ * <ul>
+ * <li>Tracking events are copied into {@link FrameSnapshot}s.</li>
+ * <li>The data and distortion matrices of images are loaded into Java memory, so
+ * {@link LEAP_IMAGE#getData()} and {@link LEAP_IMAGE#getMatrix()} can be used by the
+ * subscribers. The other image methods still read native memory and must not be
+ * used.</li>
+ * </ul>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * LeapEventPublishers publishers = new LeapEventPublishers();
+ * publishers.getTracking().subscribe(gestureDetector);
+ *
+ * try (LeapSession session = new LeapSession(publishers))
+ * {
+ * 	session.start();
+ * 	...
+ * }
+ * publishers.close();
+ * </pre>
+ * <p>
+ * <b>Note</b>: Event reuse must be disabled when polling (the default for
+ * {@link LeapSession}), since the events are used after the next poll.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public class LeapEventPublishers implements EventHandler, AutoCloseable
+{
+	private final EventPublisher<FrameSnapshot> tracking;
+	private final EventPublisher<LEAP_DEVICE_EVENT> devices;
+	private final EventPublisher<LEAP_DEVICE_EVENT> lostDevices;
+	private final EventPublisher<LEAP_IMAGE_EVENT> images;
+	private final EventPublisher<LEAP_IMU_EVENT> imu;
+	private final EventPublisher<LEAP_HEAD_POSE_EVENT> headPoses;
+	private final EventPublisher<LEAP_EYE_EVENT> eyes;
+
+
+	/**
+	 * Creates publishers which deliver events on the {@link ForkJoinPool#commonPool()
+	 * common pool}, dropping the oldest events if a subscriber's buffer of
+	 * {@link Flow#defaultBufferSize()} events is full.
+	 */
+	public LeapEventPublishers()
+	{
+		this(ForkJoinPool.commonPool(), EventPublisher.OverflowStrategy.DROP_OLDEST,
+				Flow.defaultBufferSize());
+	}
+
+
+	/**
+	 * @param executor The executor to deliver events on.
+	 * @param overflowStrategy What to do when a subscriber's buffer is full.
+	 * @param bufferSize The maximum number of events to buffer per subscriber.
+	 * @throws IllegalArgumentException If <code>bufferSize</code> is less than 1.
+	 */
+	public LeapEventPublishers(Executor executor,
+			EventPublisher.OverflowStrategy overflowStrategy, int bufferSize)
+	{
+		tracking = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		devices = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		lostDevices = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		images = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		imu = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		headPoses = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+		eyes = new EventPublisher<>(executor, overflowStrategy, bufferSize);
+	}
+
+
+	/**
+	 * @return A publisher of copies of the tracking frames.
+	 */
+	public EventPublisher<FrameSnapshot> getTracking()
+	{
+		return tracking;
+	}
+
+
+	/**
+	 * @return A publisher of {@link eLeapEventType#Device device} events.
+	 */
+	public EventPublisher<LEAP_DEVICE_EVENT> getDevices()
+	{
+		return devices;
+	}
+
+
+	/**
+	 * @return A publisher of {@link eLeapEventType#DeviceLost device lost} events.
+	 */
+	public EventPublisher<LEAP_DEVICE_EVENT> getLostDevices()
+	{
+		return lostDevices;
+	}
+
+
+	/**
+	 * @return A publisher of image events, with their data and distortion matrices loaded
+	 *         into Java memory.
+	 */
+	public EventPublisher<LEAP_IMAGE_EVENT> getImages()
+	{
+		return images;
+	}
+
+
+	/**
+	 * @return A publisher of IMU events.
+	 */
+	public EventPublisher<LEAP_IMU_EVENT> getIMU()
+	{
+		return imu;
+	}
+
+
+	/**
+	 * @return A publisher of head pose events.
+	 */
+	public EventPublisher<LEAP_HEAD_POSE_EVENT> getHeadPoses()
+	{
+		return headPoses;
+	}
+
+
+	/**
+	 * @return A publisher of eye events.
+	 */
+	public EventPublisher<LEAP_EYE_EVENT> getEyes()
+	{
+		return eyes;
+	}
+
+
+	@Override
+	public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+	{
+		if (tracking.hasSubscribers())
+		{
+			tracking.submit(new FrameSnapshot().copyFrom(event));
+		}
+	}
+
+
+	@Override
+	public void onDevice(LEAP_DEVICE_EVENT event, int deviceId)
+	{
+		devices.submit(event);
+	}
+
+
+	@Override
+	public void onDeviceLost(LEAP_DEVICE_EVENT event, int deviceId)
+	{
+		lostDevices.submit(event);
+	}
+
+
+	@Override
+	public void onImage(LEAP_IMAGE_EVENT event, int deviceId)
+	{
+		if (images.hasSubscribers())
+		{
+			for (LEAP_IMAGE image : event.image)
+			{
+				image.getData();
+				image.getMatrix();
+			}
+
+			images.submit(event);
+		}
+	}
+
+
+	@Override
+	public void onIMU(LEAP_IMU_EVENT event, int deviceId)
+	{
+		imu.submit(event);
+	}
+
+
+	@Override
+	public void onHeadPose(LEAP_HEAD_POSE_EVENT event, int deviceId)
+	{
+		headPoses.submit(event);
+	}
+
+
+	@Override
+	public void onEyes(LEAP_EYE_EVENT event, int deviceId)
+	{
+		eyes.submit(event);
+	}
+
+
+	/**
+	 * Closes all publishers, which completes their subscriptions once the buffered events
+	 * have been delivered.
+	 */
+	@Override
+	public void close()
+	{
+		tracking.close();
+		devices.close();
+		lostDevices.close();
+		images.close();
+		imu.close();
+		headPoses.close();
+		eyes.close();
+	}
+}
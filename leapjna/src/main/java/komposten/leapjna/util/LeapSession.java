@@ -0,0 +1,573 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.LeapC;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.metrics.MetricsSnapshot;
+import komposten.leapjna.leapc.metrics.PhaseTimer;
+import komposten.leapjna.leapc.util.EventFilter;
+
+
+/**
+ * <p>
+ * Owns a connection to the Ultraleap Tracking Service and a thread which polls it and
+ * passes the events to an {@link EventHandler}.
+ * </p>
+ * <p>
+ * {@link #start()} creates and opens the connection and starts the poll thread.
+ * {@link #close()} stops the thread and closes and destroys the connection. In between,
+ * the poll thread repeatedly polls the connection, decodes the event and
+ * {@link LEAP_CONNECTION_MESSAGE#dispatch(EventHandler) dispatches} it to the handler.
+ * Polls that do not return {@link eLeapRS#Success} are reported to the
+ * {@link PollListener}, if there is one.
+ * </p>
+ * <p>
+ * If the handler or {@link PollListener#onPollFailed(eLeapRS, int)} throws a
+ * {@link RuntimeException}, the exception is reported to
+ * {@link PollListener#onHandlerFailed(RuntimeException)} (or to the poll thread's
+ * uncaught exception handler if there is no listener) and the session keeps polling.
+ * </p>
+ * <p>
+ * The time spent in each phase (<code>poll</code>, <code>decode</code> and
+ * <code>dispatch</code>) is recorded in a latency histogram, see {@link #getTimings()}.
+ * The poll phase includes the time spent waiting for an event.
+ * </p>
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * try (LeapSession session = new LeapSession(LeapC.INSTANCE, new EventHandler()
+ * {
+ * 	&#64;Override
+ * 	public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+ * 	{
+ * 		...
+ * 	}
+ * }))
+ * {
+ * 	session.setPollTimeout(100);
+ * 	session.start();
+ * 	...
+ * }
+ * </pre>
+ * <p>
+ * The handler is only called from the poll thread, and must not block for long since
+ * no events are polled meanwhile. The same {@link LEAP_CONNECTION_MESSAGE} is used for
+ * every poll, so events must not be used after the handler method has returned unless
+ * event reuse is disabled (the default, see {@link #setReuseEvents(boolean)}).
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class LeapSession implements AutoCloseable
+{
+	/** The default poll timeout, in milliseconds. */
+	public static final int DEFAULT_POLL_TIMEOUT = 100;
+
+	/** The phase index of <code>LeapPollConnection</code> in {@link #getTimings()}. */
+	static final int PHASE_POLL = 0;
+	/** The phase index of event decoding in {@link #getTimings()}. */
+	static final int PHASE_DECODE = 1;
+	/** The phase index of event dispatch in {@link #getTimings()}. */
+	static final int PHASE_DISPATCH = 2;
+
+	private static final ThreadFactory DEFAULT_THREAD_FACTORY = runnable ->
+	{
+		Thread thread = new Thread(runnable, "LeapSession poll");
+		thread.setDaemon(true);
+		return thread;
+	};
+
+	/** Used to report handler failures if no listener has been set. */
+	private static final PollListener NO_POLL_LISTENER = (result, consecutiveFailures) ->
+	{};
+
+	private final LeapC leapC;
+	private final EventHandler handler;
+	private final PhaseTimer timer = new PhaseTimer("poll", "decode", "dispatch");
+
+	private volatile int pollTimeout = DEFAULT_POLL_TIMEOUT;
+	private AdaptivePollTimeout adaptivePollTimeout;
+	private ThreadFactory threadFactory = DEFAULT_THREAD_FACTORY;
+	private LEAP_CONNECTION_CONFIG connectionConfig;
+	private EventFilter eventFilter;
+	private PollListener pollListener;
+	private boolean reuseEvents;
+
+	private LEAP_CONNECTION connection;
+	private Thread pollThread;
+	private volatile boolean running;
+	private volatile boolean closed;
+
+
+	/**
+	 * Creates a session which uses {@link LeapC#INSTANCE}.
+	 *
+	 * @param handler The handler to pass events to.
+	 */
+	public LeapSession(EventHandler handler)
+	{
+		this(LeapC.INSTANCE, handler);
+	}
+
+
+	/**
+	 * @param leapC The <code>LeapC</code> instance to use.
+	 * @param handler The handler to pass events to.
+	 */
+	public LeapSession(LeapC leapC, EventHandler handler)
+	{
+		this.leapC = Objects.requireNonNull(leapC, "leapC must not be null");
+		this.handler = Objects.requireNonNull(handler, "handler must not be null");
+	}
+
+
+	/**
+	 * Sets the timeout for each <code>LeapPollConnection</code> call. This also limits how
+	 * long {@link #close()} has to wait for the poll thread to stop. Can be changed while
+	 * the session is running. Not used if an adaptive timeout has been set with
+	 * {@link #setAdaptivePollTimeout(AdaptivePollTimeout)}.
+	 *
+	 * @param pollTimeout The timeout in milliseconds.
+	 * @return This session.
+	 * @throws IllegalArgumentException If <code>pollTimeout</code> is negative.
+	 */
+	public LeapSession setPollTimeout(int pollTimeout)
+	{
+		if (pollTimeout < 0)
+		{
+			throw new IllegalArgumentException("pollTimeout must not be negative: " + pollTimeout);
+		}
+
+		this.pollTimeout = pollTimeout;
+		return this;
+	}
+
+
+	/**
+	 * @return The timeout of the next poll in milliseconds.
+	 */
+	public int getPollTimeout()
+	{
+		AdaptivePollTimeout adaptive;
+		synchronized (this)
+		{
+			adaptive = adaptivePollTimeout;
+		}
+
+		return adaptive != null ? adaptive.getTimeout() : pollTimeout;
+	}
+
+
+	/**
+	 * Makes the session adapt the poll timeout to the tracking frame rate instead of using
+	 * a fixed timeout: shorter while frames arrive and longer while the service is idle or
+	 * paused. The adaptive timeout is {@link AdaptivePollTimeout#reset() reset} when the
+	 * poll thread starts.
+	 *
+	 * @param adaptivePollTimeout The adaptive timeout, or <code>null</code> to use the
+	 *          fixed timeout set with {@link #setPollTimeout(int)}.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 */
+	public synchronized LeapSession setAdaptivePollTimeout(
+			AdaptivePollTimeout adaptivePollTimeout)
+	{
+		checkNotStarted();
+		this.adaptivePollTimeout = adaptivePollTimeout;
+		return this;
+	}
+
+
+	/**
+	 * Sets the factory used to create the poll thread, e.g. to control its name, priority
+	 * or CPU affinity. By default, a daemon thread named <code>LeapSession poll</code> is
+	 * used.
+	 *
+	 * @param threadFactory The thread factory.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 */
+	public synchronized LeapSession setThreadFactory(ThreadFactory threadFactory)
+	{
+		checkNotStarted();
+		this.threadFactory = Objects.requireNonNull(threadFactory,
+				"threadFactory must not be null");
+		return this;
+	}
+
+
+	/**
+	 * @param connectionConfig The configuration to pass to
+	 *          <code>LeapCreateConnection</code>, or <code>null</code> for the default
+	 *          configuration.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 */
+	public synchronized LeapSession setConnectionConfig(
+			LEAP_CONNECTION_CONFIG connectionConfig)
+	{
+		checkNotStarted();
+		this.connectionConfig = connectionConfig;
+		return this;
+	}
+
+
+	/**
+	 * Sets a filter to poll with, so that events the handler does not need are skipped
+	 * without being decoded or dispatched.
+	 *
+	 * @param eventFilter The filter, or <code>null</code> to dispatch all events.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 * @see EventFilter#poll(LeapC, Pointer, int, LEAP_CONNECTION_MESSAGE)
+	 */
+	public synchronized LeapSession setEventFilter(EventFilter eventFilter)
+	{
+		checkNotStarted();
+		this.eventFilter = eventFilter;
+		return this;
+	}
+
+
+	/**
+	 * @param pollListener A listener to notify about unsuccessful polls and handler
+	 *          failures, or <code>null</code>.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 */
+	public synchronized LeapSession setPollListener(PollListener pollListener)
+	{
+		checkNotStarted();
+		this.pollListener = pollListener;
+		return this;
+	}
+
+
+	/**
+	 * Enables or disables event reuse for the polled messages. Disabled by default.
+	 *
+	 * @param reuseEvents <code>true</code> to re-use event objects between polls.
+	 * @return This session.
+	 * @throws IllegalStateException If the session has already been started.
+	 * @see LEAP_CONNECTION_MESSAGE#setReuseEvents(boolean)
+	 */
+	public synchronized LeapSession setReuseEvents(boolean reuseEvents)
+	{
+		checkNotStarted();
+		this.reuseEvents = reuseEvents;
+		return this;
+	}
+
+
+	/**
+	 * Creates and opens the connection and starts the poll thread. If the connection
+	 * cannot be created or opened, no thread is started and the session is closed.
+	 *
+	 * @return The result of <code>LeapCreateConnection</code> if it failed, otherwise the
+	 *         result of <code>LeapOpenConnection</code>.
+	 * @throws IllegalStateException If the session has already been started.
+	 */
+	public synchronized eLeapRS start()
+	{
+		checkNotStarted();
+
+		connection = new LEAP_CONNECTION();
+		eLeapRS result = leapC.LeapCreateConnection(connectionConfig, connection);
+
+		if (result != eLeapRS.Success)
+		{
+			connection = null;
+			closed = true;
+			return result;
+		}
+
+		result = leapC.LeapOpenConnection(connection.handle);
+
+		if (result != eLeapRS.Success)
+		{
+			leapC.LeapDestroyConnection(connection.handle);
+			closed = true;
+			return result;
+		}
+
+		running = true;
+		pollThread = threadFactory.newThread(this::pollLoop);
+		pollThread.start();
+		return result;
+	}
+
+
+	/**
+	 * @return The handle of the connection, e.g. for calling
+	 *         {@link LeapC#LeapSetPolicyFlags(Pointer, long, long)}, or <code>null</code>
+	 *         if the session has not been started.
+	 */
+	public synchronized Pointer getConnectionHandle()
+	{
+		return connection != null ? connection.handle : null;
+	}
+
+
+	/**
+	 * @return <code>true</code> if the poll thread is running.
+	 */
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+
+	/**
+	 * @return The latency histograms of the <code>poll</code>, <code>decode</code> and
+	 *         <code>dispatch</code> phases.
+	 */
+	public MetricsSnapshot getTimings()
+	{
+		return timer.snapshot();
+	}
+
+
+	/**
+	 * Resets the phase timings to zero.
+	 */
+	public void resetTimings()
+	{
+		timer.reset();
+	}
+
+
+	/**
+	 * <p>
+	 * Stops the poll thread and closes and destroys the connection. Does nothing if the
+	 * session has already been closed.
+	 * </p>
+	 * <p>
+	 * Waits up to the poll timeout for the current poll to finish, plus the time it takes
+	 * the handler to handle the event. When called from the poll thread itself (i.e. from
+	 * the handler), this returns immediately and the connection is closed once the handler
+	 * returns.
+	 * </p>
+	 */
+	@Override
+	public void close()
+	{
+		Thread thread;
+
+		synchronized (this)
+		{
+			if (closed)
+			{
+				return;
+			}
+
+			closed = true;
+			running = false;
+			thread = pollThread;
+		}
+
+		if (thread != null && thread != Thread.currentThread())
+		{
+			boolean interrupted = false;
+			while (thread.isAlive())
+			{
+				try
+				{
+					thread.join();
+				}
+				catch (InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+
+			if (interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+
+	/**
+	 * Waits for the poll thread to stop, e.g. after the handler has called
+	 * {@link #close()}.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of <code>timeout</code>.
+	 * @return <code>true</code> if the thread has stopped (or was never started),
+	 *         <code>false</code> if the timeout elapsed first.
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		Thread thread;
+		synchronized (this)
+		{
+			thread = pollThread;
+		}
+
+		if (thread != null)
+		{
+			thread.join(Math.max(1, unit.toMillis(timeout)));
+			return !thread.isAlive();
+		}
+
+		return true;
+	}
+
+
+	private void pollLoop()
+	{
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+		message.setReuseEvents(reuseEvents);
+		AdaptivePollTimeout adaptive = adaptivePollTimeout;
+		int consecutiveFailures = 0;
+
+		if (adaptive != null)
+		{
+			adaptive.reset();
+		}
+
+		try
+		{
+			while (running)
+			{
+				int timeout = adaptive != null ? adaptive.getTimeout() : pollTimeout;
+				long start = System.nanoTime();
+				eLeapRS result;
+				if (eventFilter != null)
+				{
+					result = eventFilter.poll(leapC, connection.handle, timeout, message);
+				}
+				else
+				{
+					result = leapC.LeapPollConnection(connection.handle, timeout, message);
+				}
+				start = timer.record(PHASE_POLL, start);
+
+				if (result != eLeapRS.Success)
+				{
+					if (adaptive != null && result == eLeapRS.Timeout)
+					{
+						adaptive.onTimeout();
+					}
+
+					consecutiveFailures++;
+					if (pollListener != null)
+					{
+						try
+						{
+							pollListener.onPollFailed(result, consecutiveFailures);
+						}
+						catch (RuntimeException e)
+						{
+							handlerFailed(e);
+						}
+					}
+					continue;
+				}
+
+				consecutiveFailures = 0;
+				LEAP_EVENT event = message.getEvent();
+				if (adaptive != null && event instanceof LEAP_TRACKING_EVENT)
+				{
+					adaptive.onTracking(((LEAP_TRACKING_EVENT) event).framerate, start);
+				}
+				start = timer.record(PHASE_DECODE, start);
+				try
+				{
+					message.dispatch(handler);
+				}
+				catch (RuntimeException e)
+				{
+					handlerFailed(e);
+				}
+				timer.record(PHASE_DISPATCH, start);
+			}
+		}
+		finally
+		{
+			running = false;
+			leapC.LeapCloseConnection(connection.handle);
+			leapC.LeapDestroyConnection(connection.handle);
+		}
+	}
+
+
+	private void handlerFailed(RuntimeException exception)
+	{
+		PollListener listener = pollListener != null ? pollListener : NO_POLL_LISTENER;
+		listener.onHandlerFailed(exception);
+	}
+
+
+	private void checkNotStarted()
+	{
+		if (connection != null || closed)
+		{
+			throw new IllegalStateException("The session has already been started!");
+		}
+	}
+
+
+	/**
+	 * A listener which is notified when a poll does not succeed or the handler fails.
+	 */
+	@FunctionalInterface
+	public interface PollListener
+	{
+		/**
+		 * Called from the poll thread when <code>LeapPollConnection</code> returns a result
+		 * other than {@link eLeapRS#Success}, e.g. {@link eLeapRS#Timeout} if no event
+		 * arrived within the poll timeout.
+		 *
+		 * @param result The result of the poll.
+		 * @param consecutiveFailures The number of unsuccessful polls in a row, including
+		 *          this one.
+		 */
+		void onPollFailed(eLeapRS result, int consecutiveFailures);
+
+
+		/**
+		 * <p>
+		 * Called from the poll thread when the event handler or
+		 * {@link #onPollFailed(eLeapRS, int)} throws a {@link RuntimeException}. The session
+		 * keeps polling afterwards.
+		 * </p>
+		 * <p>
+		 * If this method throws, the poll thread stops and the session is closed. The
+		 * default implementation passes the exception to the poll thread's uncaught
+		 * exception handler.
+		 * </p>
+		 *
+		 * @param exception The exception thrown by the handler or listener.
+		 */
+		default void onHandlerFailed(RuntimeException exception)
+		{
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+		}
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.ADDRESS_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.LongByReference;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_RECORDING;
+import komposten.leapjna.leapc.enums.Enums;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+
+
+/**
+ * <p>
+ * Direct bindings for the LeapC functions that are typically called once or more per
+ * frame.
+ * </p>
+ * <p>
+ * This is the Java 22+ version of this class, which calls LeapC through
+ * <code>java.lang.foreign</code> downcall handles instead of JNA. <code>LeapGetNow</code>
+ * is linked as a critical function, which removes the thread state transition from the
+ * call. The other functions (including <code>LeapGetFrameSize</code> and the
+ * <code>LeapInterpolateFrame</code> family, which access LeapC's frame history) are
+ * linked normally, since the JVM cannot reach a safepoint while a critical function is
+ * running. Connection messages are read through a memory layout instead of JNA's
+ * reflective <code>Structure.read()</code>.
+ * </p>
+ * <p>
+ * The library is located using JNA (so <code>jna.library.path</code> still applies) and
+ * the methods accept and return the same types as the Java 11 version. Run with
+ * <code>--enable-native-access=ALL-UNNAMED</code> (or the name of the module containing
+ * LeapJna) to avoid warnings about restricted methods.
+ * </p>
+ *
+ * @since LeapJna 1.3.0
+ */
+public final class LeapCDirect
+{
+	/** The raw value of {@link eLeapRS#Success}. */
+	public static final int SUCCESS = 0;
+
+	private static final NativeLibrary LIBRARY = NativeLibrary
+			.getInstance(LeapCConfig.getDllName());
+	private static final Linker LINKER = Linker.nativeLinker();
+
+	private static final MethodHandle POLL_CONNECTION = downcall("LeapPollConnection",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, ADDRESS), false);
+	private static final MethodHandle GET_NOW = downcall("LeapGetNow",
+			FunctionDescriptor.of(JAVA_LONG), true);
+	private static final MethodHandle GET_FRAME_SIZE = downcall("LeapGetFrameSize",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, ADDRESS), false);
+	private static final MethodHandle GET_FRAME_SIZE_EX = downcall("LeapGetFrameSizeEx",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_LONG, ADDRESS), false);
+	private static final MethodHandle INTERPOLATE_FRAME = downcall("LeapInterpolateFrame",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, ADDRESS, JAVA_LONG), false);
+	private static final MethodHandle INTERPOLATE_FRAME_EX = downcall("LeapInterpolateFrameEx",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_LONG, ADDRESS, JAVA_LONG),
+			false);
+	private static final MethodHandle INTERPOLATE_FRAME_FROM_TIME = downcall(
+			"LeapInterpolateFrameFromTime",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_LONG),
+			false);
+	private static final MethodHandle INTERPOLATE_FRAME_FROM_TIME_EX = downcall(
+			"LeapInterpolateFrameFromTimeEx", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS,
+					JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_LONG),
+			false);
+	private static final MethodHandle RECORDING_WRITE = downcall("LeapRecordingWrite",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS), false);
+	private static final MethodHandle RECORDING_READ = downcall("LeapRecordingRead",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_LONG), false);
+	private static final MethodHandle RECORDING_READ_SIZE = downcall("LeapRecordingReadSize",
+			FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS), false);
+
+
+	private static MethodHandle downcall(String name, FunctionDescriptor descriptor,
+			boolean critical)
+	{
+		MemorySegment function = address(LIBRARY.getFunction(name));
+
+		if (critical)
+		{
+			return LINKER.downcallHandle(function, descriptor, Linker.Option.critical(false));
+		}
+
+		return LINKER.downcallHandle(function, descriptor);
+	}
+
+
+	private static MemorySegment address(Pointer pointer)
+	{
+		return pointer == null ? MemorySegment.NULL
+				: MemorySegment.ofAddress(Pointer.nativeValue(pointer));
+	}
+
+
+	private static MemorySegment address(LongByReference reference)
+	{
+		return reference == null ? MemorySegment.NULL : address(reference.getPointer());
+	}
+
+
+	private static MemorySegment address(LEAP_TRACKING_EVENT event)
+	{
+		return event == null ? MemorySegment.NULL : address(event.getPointer());
+	}
+
+
+	private static RuntimeException propagate(Throwable throwable)
+	{
+		if (throwable instanceof RuntimeException runtimeException)
+		{
+			return runtimeException;
+		}
+		else if (throwable instanceof Error error)
+		{
+			throw error;
+		}
+
+		return new IllegalStateException(throwable);
+	}
+
+
+	/**
+	 * Converts a raw result code returned by one of the methods in this class to an
+	 * {@link eLeapRS} constant.
+	 *
+	 * @param code The result code.
+	 * @return The <code>eLeapRS</code> constant for <code>code</code>, or
+	 *         {@link eLeapRS#Unknown} if the code is not recognised.
+	 */
+	public static eLeapRS toResult(int code)
+	{
+		return Enums.parse(code, eLeapRS.Unknown);
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapPollConnection(Pointer, int, LEAP_CONNECTION_MESSAGE)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapPollConnection(Pointer hConnection, int timeout,
+			LEAP_CONNECTION_MESSAGE message)
+	{
+		MemorySegment segment = address(message.getPointer())
+				.reinterpret(LeapLayouts.CONNECTION_MESSAGE.byteSize());
+
+		int result;
+		try
+		{
+			result = (int) POLL_CONNECTION.invokeExact(address(hConnection), timeout, segment);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		long pEvent = segment.get(ADDRESS_UNALIGNED, LeapLayouts.MESSAGE_EVENT).address();
+		message.setFields(segment.get(JAVA_INT_UNALIGNED, LeapLayouts.MESSAGE_SIZE),
+				segment.get(JAVA_INT_UNALIGNED, LeapLayouts.MESSAGE_TYPE),
+				pEvent == 0 ? null : new Pointer(pEvent),
+				segment.get(JAVA_INT_UNALIGNED, LeapLayouts.MESSAGE_DEVICE_ID));
+		return result;
+	}
+
+
+	/**
+	 * Direct version of {@link LeapC#LeapGetNow()}.
+	 *
+	 * @return microseconds since an unspecified epoch
+	 */
+	public static long LeapGetNow()
+	{
+		try
+		{
+			return (long) GET_NOW.invokeExact();
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+	}
+
+
+	/**
+	 * Direct version of {@link LeapC#LeapGetFrameSize(Pointer, long, LongByReference)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapGetFrameSize(Pointer hConnection, long timestamp,
+			LongByReference pncbEvent)
+	{
+		try
+		{
+			return (int) GET_FRAME_SIZE.invokeExact(address(hConnection), timestamp,
+					address(pncbEvent));
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapGetFrameSizeEx(Pointer, Pointer, long, LongByReference)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapGetFrameSizeEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LongByReference pncbEvent)
+	{
+		try
+		{
+			return (int) GET_FRAME_SIZE_EX.invokeExact(address(hConnection), address(hDevice),
+					timestamp, address(pncbEvent));
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapInterpolateFrame(Pointer, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapInterpolateFrame(Pointer hConnection, long timestamp,
+			LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		int result;
+		try
+		{
+			result = (int) INTERPOLATE_FRAME.invokeExact(address(hConnection), timestamp,
+					address(pEvent), ncbEvent);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		if (pEvent != null)
+		{
+			pEvent.read();
+		}
+		return result;
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapInterpolateFrameEx(Pointer, Pointer, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapInterpolateFrameEx(Pointer hConnection, Pointer hDevice,
+			long timestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		int result;
+		try
+		{
+			result = (int) INTERPOLATE_FRAME_EX.invokeExact(address(hConnection),
+					address(hDevice), timestamp, address(pEvent), ncbEvent);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		if (pEvent != null)
+		{
+			pEvent.read();
+		}
+		return result;
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapInterpolateFrameFromTime(Pointer, long, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapInterpolateFrameFromTime(Pointer hConnection, long timestamp,
+			long sourceTimestamp, LEAP_TRACKING_EVENT pEvent, long ncbEvent)
+	{
+		int result;
+		try
+		{
+			result = (int) INTERPOLATE_FRAME_FROM_TIME.invokeExact(address(hConnection),
+					timestamp, sourceTimestamp, address(pEvent), ncbEvent);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		if (pEvent != null)
+		{
+			pEvent.read();
+		}
+		return result;
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapInterpolateFrameFromTimeEx(Pointer, Pointer, long, long, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapInterpolateFrameFromTimeEx(Pointer hConnection,
+			Pointer hDevice, long timestamp, long sourceTimestamp, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent)
+	{
+		int result;
+		try
+		{
+			result = (int) INTERPOLATE_FRAME_FROM_TIME_EX.invokeExact(address(hConnection),
+					address(hDevice), timestamp, sourceTimestamp, address(pEvent), ncbEvent);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		if (pEvent != null)
+		{
+			pEvent.read();
+		}
+		return result;
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapRecordingWrite(Pointer, LEAP_TRACKING_EVENT, LongByReference)}.
+	 *
+	 * @param pRecording The recording being written to. Use {@link LEAP_RECORDING#handle}
+	 *          to obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapRecordingWrite(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			LongByReference pnBytesWritten)
+	{
+		pEvent.write();
+
+		try
+		{
+			return (int) RECORDING_WRITE.invokeExact(address(pRecording), address(pEvent),
+					address(pnBytesWritten));
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+	}
+
+
+	/**
+	 * Direct version of
+	 * {@link LeapC#LeapRecordingRead(Pointer, LEAP_TRACKING_EVENT, long)}.
+	 *
+	 * @param pRecording The recording being read from. Use {@link LEAP_RECORDING#handle} to
+	 *          obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapRecordingRead(Pointer pRecording, LEAP_TRACKING_EVENT pEvent,
+			long ncbEvent)
+	{
+		int result;
+		try
+		{
+			result = (int) RECORDING_READ.invokeExact(address(pRecording), address(pEvent),
+					ncbEvent);
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+
+		if (pEvent != null)
+		{
+			pEvent.read();
+		}
+		return result;
+	}
+
+
+	/**
+	 * Direct version of {@link LeapC#LeapRecordingReadSize(Pointer, LongByReference)}.
+	 *
+	 * @param pRecording The recording being read from. Use {@link LEAP_RECORDING#handle} to
+	 *          obtain the handle from the recording object.
+	 * @return The raw {@link eLeapRS} result code.
+	 */
+	public static int LeapRecordingReadSize(Pointer pRecording, LongByReference pncbEvent)
+	{
+		try
+		{
+			return (int) RECORDING_READ_SIZE.invokeExact(address(pRecording),
+					address(pncbEvent));
+		}
+		catch (Throwable e)
+		{
+			throw propagate(e);
+		}
+	}
+
+
+	private LeapCDirect()
+	{}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+
+
+/**
+ * <p>
+ * <code>java.lang.foreign</code> layouts for the LeapC structs that {@link LeapCDirect}
+ * reads directly.
+ * </p>
+ * <p>
+ * LeapC structs are packed (see <code>Structure.ALIGN_NONE</code> in the JNA structs), so
+ * all layouts use unaligned value layouts and no padding.
+ * </p>
+ */
+final class LeapLayouts
+{
+	/** Layout of {@link LEAP_CONNECTION_MESSAGE}. */
+	static final StructLayout CONNECTION_MESSAGE = MemoryLayout.structLayout(
+			ValueLayout.JAVA_INT_UNALIGNED.withName("size"),
+			ValueLayout.JAVA_INT_UNALIGNED.withName("type"),
+			ValueLayout.ADDRESS_UNALIGNED.withName("pEvent"),
+			ValueLayout.JAVA_INT_UNALIGNED.withName("device_id"));
+
+	static final long MESSAGE_SIZE = offsetOf(CONNECTION_MESSAGE, "size");
+	static final long MESSAGE_TYPE = offsetOf(CONNECTION_MESSAGE, "type");
+	static final long MESSAGE_EVENT = offsetOf(CONNECTION_MESSAGE, "pEvent");
+	static final long MESSAGE_DEVICE_ID = offsetOf(CONNECTION_MESSAGE, "device_id");
+
+
+	private static long offsetOf(StructLayout layout, String field)
+	{
+		return layout.byteOffset(groupElement(field));
+	}
+
+
+	private LeapLayouts()
+	{}
+}
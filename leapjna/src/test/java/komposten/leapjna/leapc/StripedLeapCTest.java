@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+class StripedLeapCTest
+{
+	private static final Pointer CONNECTION_1 = new Pointer(0x1000);
+	private static final Pointer CONNECTION_2 = new Pointer(0x2000);
+
+	private CountDownLatch releasePolls;
+	private AtomicInteger activePolls;
+	private AtomicInteger maxActivePolls;
+	private LeapC leapC;
+	private ExecutorService executor;
+
+
+	@BeforeEach
+	void setup()
+	{
+		releasePolls = new CountDownLatch(1);
+		activePolls = new AtomicInteger();
+		maxActivePolls = new AtomicInteger();
+		leapC = new StripedLeapC(createBlockingLeapC());
+		executor = Executors.newCachedThreadPool();
+	}
+
+
+	@AfterEach
+	void tearDown()
+	{
+		releasePolls.countDown();
+		executor.shutdownNow();
+	}
+
+
+	/**
+	 * Creates a fake <code>LeapC</code> where <code>LeapPollConnection</code> blocks until
+	 * {@link #releasePolls} is released, and <code>LeapGetNow</code> returns immediately.
+	 */
+	private LeapC createBlockingLeapC()
+	{
+		return new StubLeapC()
+		{
+			@Override
+			public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+					LEAP_CONNECTION_MESSAGE message)
+			{
+				int active = activePolls.incrementAndGet();
+				maxActivePolls.accumulateAndGet(active, Math::max);
+
+				try
+				{
+					releasePolls.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+
+				activePolls.decrementAndGet();
+				return eLeapRS.Success;
+			}
+
+
+			@Override
+			public long LeapGetNow()
+			{
+				return 1234L;
+			}
+
+
+			@Override
+			public eLeapRS LeapSetPause(Pointer hConnection, int pause)
+			{
+				return eLeapRS.Success;
+			}
+		};
+	}
+
+
+	private Future<eLeapRS> pollAsync(Pointer connection)
+	{
+		return executor.submit(
+				() -> leapC.LeapPollConnection(connection, 1000, new LEAP_CONNECTION_MESSAGE()));
+	}
+
+
+	private void awaitActivePolls(int count) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (activePolls.get() < count && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+	}
+
+
+	@Test
+	void stripeOf_testConnections_differentStripes()
+	{
+		// The other tests rely on these handles not sharing a lock.
+		assertThat(StripedLeapC.stripeOf(CONNECTION_1))
+				.isNotEqualTo(StripedLeapC.stripeOf(CONNECTION_2));
+	}
+
+
+	@Test
+	void LeapPollConnection_differentConnections_pollConcurrently() throws Exception
+	{
+		Future<eLeapRS> poll1 = pollAsync(CONNECTION_1);
+		Future<eLeapRS> poll2 = pollAsync(CONNECTION_2);
+
+		awaitActivePolls(2);
+		assertThat(activePolls.get()).isEqualTo(2);
+
+		releasePolls.countDown();
+		assertThat(poll1.get(5, TimeUnit.SECONDS)).isEqualTo(eLeapRS.Success);
+		assertThat(poll2.get(5, TimeUnit.SECONDS)).isEqualTo(eLeapRS.Success);
+	}
+
+
+	@Test
+	void LeapPollConnection_sameConnection_serialised() throws Exception
+	{
+		Future<eLeapRS> poll1 = pollAsync(CONNECTION_1);
+		Future<eLeapRS> poll2 = pollAsync(CONNECTION_1);
+
+		awaitActivePolls(1);
+		Thread.sleep(50);
+		assertThat(activePolls.get()).isEqualTo(1);
+
+		releasePolls.countDown();
+		poll1.get(5, TimeUnit.SECONDS);
+		poll2.get(5, TimeUnit.SECONDS);
+		assertThat(maxActivePolls.get()).isEqualTo(1);
+	}
+
+
+	@Test
+	void LeapGetNow_whilePollBlocked_returnsImmediately() throws Exception
+	{
+		pollAsync(CONNECTION_1);
+		awaitActivePolls(1);
+
+		long now = assertTimeoutPreemptively(Duration.ofSeconds(1), leapC::LeapGetNow);
+		assertThat(now).isEqualTo(1234L);
+	}
+
+
+	@Test
+	void LeapSetPause_otherConnectionWhilePollBlocked_returnsImmediately() throws Exception
+	{
+		pollAsync(CONNECTION_1);
+		awaitActivePolls(1);
+
+		eLeapRS result = assertTimeoutPreemptively(Duration.ofSeconds(1),
+				() -> leapC.LeapSetPause(CONNECTION_2, 1));
+		assertThat(result).isEqualTo(eLeapRS.Success);
+	}
+
+
+	@Test
+	void LeapSetPause_sameConnectionWhilePollBlocked_waitsForPoll() throws Exception
+	{
+		pollAsync(CONNECTION_1);
+		awaitActivePolls(1);
+
+		Future<eLeapRS> pause = executor.submit(() -> leapC.LeapSetPause(CONNECTION_1, 1));
+		Thread.sleep(50);
+		assertThat(pause).isNotDone();
+
+		releasePolls.countDown();
+		assertThat(pause.get(5, TimeUnit.SECONDS)).isEqualTo(eLeapRS.Success);
+	}
+}
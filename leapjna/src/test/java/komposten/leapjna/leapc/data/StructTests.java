@@ -13,7 +13,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -22,6 +26,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
 import komposten.leapjna.leapc.enums.eLeapConnectionStatus;
 import komposten.leapjna.leapc.enums.eLeapDeviceCaps;
 import komposten.leapjna.leapc.enums.eLeapDevicePID;
@@ -31,7 +38,29 @@ import komposten.leapjna.leapc.enums.eLeapHandType;
 import komposten.leapjna.leapc.enums.eLeapImageFormat;
 import komposten.leapjna.leapc.enums.eLeapImageType;
 import komposten.leapjna.leapc.enums.eLeapRecordingFlags;
+import komposten.leapjna.leapc.enums.eLeapServiceDisposition;
 import komposten.leapjna.leapc.enums.eLeapValueType;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_RESPONSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_EVENT;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_LOST_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_FAILURE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DEVICE_STATUS_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_DROPPED_FRAME_EVENT;
+import komposten.leapjna.leapc.events.LEAP_EYE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_HEAD_POSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMU_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS;
+import komposten.leapjna.leapc.events.LEAP_POINT_MAPPING_CHANGE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_POLICY_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_MODE_EVENT;
+import komposten.leapjna.leapc.util.ByteArrayPool;
+import komposten.leapjna.leapc.util.Structures;
 
 
 class StructTests
@@ -167,6 +196,122 @@ class StructTests
 		}
 
 
+		@Test
+		void getXEvent_reuseEnabled_sameInstanceWithNewData()
+		{
+			struct.setReuseEvents(true);
+
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.LowFpsDetected), 0);
+			LEAP_CONNECTION_EVENT first = struct.getConnectionEvent();
+
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.PoorPerformancePause), 0);
+			LEAP_CONNECTION_EVENT second = struct.getConnectionEvent();
+
+			assertThat(second).isSameAs(first);
+			assertThat(second.getFlags()).isSameAs(eLeapServiceDisposition.PoorPerformancePause);
+		}
+
+
+		@Test
+		void getXEvent_reuseDisabled_newInstance()
+		{
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.LowFpsDetected), 0);
+			LEAP_CONNECTION_EVENT first = struct.getConnectionEvent();
+
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.PoorPerformancePause), 0);
+			LEAP_CONNECTION_EVENT second = struct.getConnectionEvent();
+
+			assertThat(struct.isReuseEvents()).isFalse();
+			assertThat(second).isNotSameAs(first);
+			assertThat(first.getFlags()).isSameAs(eLeapServiceDisposition.LowFpsDetected);
+		}
+
+
+		@Test
+		void dispatch_allEventTypes_matchingCallback()
+		{
+			Memory eventData = new Memory(16 * 1024);
+			eventData.clear();
+			RecordingHandler handler = new RecordingHandler();
+
+			for (eLeapEventType type : eLeapEventType.values())
+			{
+				struct.setFields(struct.size(), type.value, eventData, 7);
+				struct.dispatch(handler);
+			}
+
+			assertThat(handler.calls).containsExactly("onOtherEvent:Unknown", "onOtherEvent:None",
+					"onConnection", "onConnectionLost", "onDevice", "onDeviceFailure", "onPolicy",
+					"onTracking", "onOtherEvent:ImageRequestError", "onOtherEvent:ImageComplete",
+					"onLogEvent", "onDeviceLost", "onConfigResponse", "onConfigChange",
+					"onDeviceStatusChange", "onDroppedFrame", "onImage", "onPointMappingChange",
+					"onTrackingMode", "onLogEvents", "onHeadPose", "onEyes", "onIMU");
+		}
+
+
+		@Test
+		void dispatch_unknownRawType_otherEvent()
+		{
+			RecordingHandler handler = new RecordingHandler();
+
+			struct.setFields(struct.size(), 0x7FFF, null, 0);
+			struct.dispatch(handler);
+			struct.setFields(struct.size(), -5, null, 0);
+			struct.dispatch(handler);
+
+			assertThat(handler.calls).containsExactly("onOtherEvent:Unknown",
+					"onOtherEvent:Unknown");
+		}
+
+
+		@Test
+		void getEvent_decodesOnceForGetter()
+		{
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.LowFpsDetected), 0);
+
+			assertThat(struct.getEvent()).isInstanceOf(LEAP_CONNECTION_EVENT.class)
+					.isSameAs(struct.getConnectionEvent());
+
+			struct.setFields(struct.size(), eLeapEventType.None.value, null, 0);
+
+			assertThat(struct.getEvent()).isNull();
+		}
+
+
+		@Test
+		void dispatch_sameEventAsGetter()
+		{
+			struct.setFields(struct.size(), eLeapEventType.Connection.value,
+					connectionEvent(eLeapServiceDisposition.LowFpsDetected), 0);
+			LEAP_CONNECTION_EVENT[] dispatched = new LEAP_CONNECTION_EVENT[1];
+
+			struct.dispatch(new EventHandler()
+			{
+				@Override
+				public void onConnection(LEAP_CONNECTION_EVENT event, int deviceId)
+				{
+					dispatched[0] = event;
+				}
+			});
+
+			assertThat(dispatched[0]).isSameAs(struct.getConnectionEvent());
+			assertThat(dispatched[0].getFlags()).isSameAs(eLeapServiceDisposition.LowFpsDetected);
+		}
+
+
+		private Pointer connectionEvent(eLeapServiceDisposition flags)
+		{
+			Memory memory = new Memory(Structures.sizeOf(LEAP_CONNECTION_EVENT.class));
+			memory.setInt(0, flags.value);
+			return memory;
+		}
+
+
 		void assertGetEvent(eLeapEventType type, ThrowingCallable code)
 		{
 			struct = new LEAP_CONNECTION_MESSAGE();
@@ -375,6 +520,95 @@ class StructTests
 	}
 	
 	
+	@Nested
+	class LEAP_IMAGE_TEST
+	{
+		private static final int WIDTH = 4;
+		private static final int HEIGHT = 3;
+		private static final int OFFSET = 2;
+
+		private LEAP_IMAGE struct;
+		private Memory pixels;
+		private byte[] expected;
+
+		@BeforeEach
+		void setup()
+		{
+			expected = new byte[WIDTH * HEIGHT];
+			for (int i = 0; i < expected.length; i++)
+			{
+				expected[i] = (byte) (i + 1);
+			}
+
+			pixels = new Memory(OFFSET + expected.length);
+			pixels.clear();
+			pixels.write(OFFSET, expected, 0, expected.length);
+
+			struct = new LEAP_IMAGE();
+			struct.properties.width = WIDTH;
+			struct.properties.height = HEIGHT;
+			struct.properties.bpp = 1;
+			struct.data = pixels;
+			struct.offset = OFFSET;
+		}
+
+
+		@Test
+		void getData_copiesImageData()
+		{
+			assertThat(struct.getDataLength()).isEqualTo(WIDTH * HEIGHT);
+			assertThat(struct.getData()).containsExactly(expected);
+		}
+
+
+		@Test
+		void getData_arrayBigEnough_copiedIntoArray()
+		{
+			byte[] array = new byte[expected.length + 4];
+
+			assertThat(struct.getData(array)).isSameAs(array).startsWith(expected);
+		}
+
+
+		@Test
+		void getData_arrayTooSmall_newArray()
+		{
+			byte[] array = new byte[expected.length - 1];
+
+			assertThat(struct.getData(array)).isNotSameAs(array).containsExactly(expected);
+		}
+
+
+		@Test
+		void getData_pool_releasedArrayReused()
+		{
+			ByteArrayPool pool = new ByteArrayPool(2);
+
+			byte[] first = struct.getData(pool);
+			assertThat(first).containsExactly(expected);
+			pool.release(first);
+
+			pixels.setByte(OFFSET, (byte) 42);
+			byte[] second = struct.getData(pool);
+			assertThat(second).isSameAs(first);
+			assertThat(second[0]).isEqualTo((byte) 42);
+		}
+
+
+		@Test
+		void getDataBuffer_viewOfNativeMemory()
+		{
+			ByteBuffer buffer = struct.getDataBuffer();
+			assertThat(buffer.isReadOnly()).isTrue();
+			assertThat(buffer.remaining()).isEqualTo(expected.length);
+			assertThat(buffer.get(0)).isEqualTo(expected[0]);
+
+			pixels.setByte(OFFSET, (byte) 42);
+			assertThat(buffer.get(0)).isEqualTo((byte) 42);
+		}
+	}
+
+
 	@Nested
 	class LEAP_IMAGE_PROPERTIES_TEST
 	{
@@ -450,6 +684,113 @@ class StructTests
 	}
 	
 	
+	@Nested
+	@SuppressWarnings("deprecation")
+	class LEAP_POINT_MAPPING_TEST
+	{
+		private static final int POINT_COUNT = 3;
+
+		private LEAP_POINT_MAPPING struct;
+		private Memory points;
+		private Memory ids;
+
+		@BeforeEach
+		void setup()
+		{
+			points = new Memory(POINT_COUNT * 3L * Float.BYTES);
+			ids = new Memory(POINT_COUNT * (long) Integer.BYTES);
+
+			for (int i = 0; i < POINT_COUNT; i++)
+			{
+				points.setFloat(i * 12L, i);
+				points.setFloat(i * 12L + 4, i + 0.25f);
+				points.setFloat(i * 12L + 8, i + 0.5f);
+				ids.setInt(i * 4L, 100 + i);
+			}
+
+			struct = new LEAP_POINT_MAPPING();
+			struct.nPoints = POINT_COUNT;
+			struct.pPoints = points;
+			struct.pIDs = ids;
+		}
+
+
+		@Test
+		void read_defaultMode_decodesPointObjects()
+		{
+			struct.write();
+			struct.read();
+
+			assertThat(struct.isDecodePoints()).isTrue();
+			assertThat(struct.getPoints()).hasSize(POINT_COUNT);
+			assertThat(struct.getPoints()[2].z).isEqualTo(2.5f);
+			assertThat(struct.getIds()).containsExactly(100, 101, 102);
+		}
+
+
+		@Test
+		void read_decodingDisabled_noPointObjects()
+		{
+			struct.setDecodePoints(false);
+			struct.write();
+			struct.read();
+
+			assertThat(struct.getPoints()).isNull();
+			assertThat(struct.getIds()).isNull();
+			assertThat(struct.nPoints).isEqualTo(POINT_COUNT);
+		}
+
+
+		@Test
+		void getPoints_floatArray_bulkCopy()
+		{
+			float[] xyz = new float[POINT_COUNT * 3 + 1];
+
+			assertThat(struct.getPoints(xyz)).isSameAs(xyz).startsWith(0f, 0.25f, 0.5f, 1f,
+					1.25f, 1.5f, 2f, 2.25f, 2.5f);
+			assertThat(struct.getPoints(new float[1])).hasSize(POINT_COUNT * 3);
+		}
+
+
+		@Test
+		void getIds_intArray_bulkCopy()
+		{
+			int[] array = new int[POINT_COUNT];
+
+			assertThat(struct.getIds(array)).isSameAs(array).containsExactly(100, 101, 102);
+			assertThat(struct.getIds((int[]) null)).containsExactly(100, 101, 102);
+		}
+
+
+		@Test
+		void getPointBuffer_viewOfNativeMemory()
+		{
+			FloatBuffer buffer = struct.getPointBuffer();
+
+			assertThat(buffer.remaining()).isEqualTo(POINT_COUNT * 3);
+			assertThat(buffer.get(4)).isEqualTo(1.25f);
+
+			points.setFloat(16, 42f);
+			assertThat(buffer.get(4)).isEqualTo(42f);
+			assertThat(struct.getIdBuffer().get(1)).isEqualTo(101);
+		}
+
+
+		@Test
+		void getPoints_noPoints_emptyResults()
+		{
+			struct.nPoints = 0;
+			struct.pPoints = null;
+			struct.pIDs = null;
+
+			assertThat(struct.getPoints(new float[0])).isEmpty();
+			assertThat(struct.getIds(new int[0])).isEmpty();
+			assertThat(struct.getPointBuffer().remaining()).isZero();
+			assertThat(struct.getIdBuffer().remaining()).isZero();
+		}
+	}
+
+
 	@Nested
 	class LEAP_QUATERNION_TEST
 	{
@@ -834,6 +1175,161 @@ class StructTests
 	 * ever return <code>1</code> (<code>-1</code> is used when the compared objects
 	 * are not the same).
 	 */
+	@SuppressWarnings("deprecation")
+	static class RecordingHandler implements EventHandler
+	{
+		final List<String> calls = new ArrayList<>();
+
+
+		private void record(String name, Object event, int deviceId)
+		{
+			assertThat(event).isNotNull();
+			assertThat(deviceId).isEqualTo(7);
+			calls.add(name);
+		}
+
+
+		@Override
+		public void onConnection(LEAP_CONNECTION_EVENT event, int deviceId)
+		{
+			record("onConnection", event, deviceId);
+		}
+
+
+		@Override
+		public void onConnectionLost(LEAP_CONNECTION_LOST_EVENT event, int deviceId)
+		{
+			record("onConnectionLost", event, deviceId);
+		}
+
+
+		@Override
+		public void onDevice(LEAP_DEVICE_EVENT event, int deviceId)
+		{
+			record("onDevice", event, deviceId);
+		}
+
+
+		@Override
+		public void onDeviceFailure(LEAP_DEVICE_FAILURE_EVENT event, int deviceId)
+		{
+			record("onDeviceFailure", event, deviceId);
+		}
+
+
+		@Override
+		public void onPolicy(LEAP_POLICY_EVENT event, int deviceId)
+		{
+			record("onPolicy", event, deviceId);
+		}
+
+
+		@Override
+		public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+		{
+			record("onTracking", event, deviceId);
+		}
+
+
+		@Override
+		public void onLogEvent(LEAP_LOG_EVENT event, int deviceId)
+		{
+			record("onLogEvent", event, deviceId);
+		}
+
+
+		@Override
+		public void onDeviceLost(LEAP_DEVICE_EVENT event, int deviceId)
+		{
+			record("onDeviceLost", event, deviceId);
+		}
+
+
+		@Override
+		public void onConfigResponse(LEAP_CONFIG_RESPONSE_EVENT event, int deviceId)
+		{
+			record("onConfigResponse", event, deviceId);
+		}
+
+
+		@Override
+		public void onConfigChange(LEAP_CONFIG_CHANGE_EVENT event, int deviceId)
+		{
+			record("onConfigChange", event, deviceId);
+		}
+
+
+		@Override
+		public void onDeviceStatusChange(LEAP_DEVICE_STATUS_CHANGE_EVENT event, int deviceId)
+		{
+			record("onDeviceStatusChange", event, deviceId);
+		}
+
+
+		@Override
+		public void onDroppedFrame(LEAP_DROPPED_FRAME_EVENT event, int deviceId)
+		{
+			record("onDroppedFrame", event, deviceId);
+		}
+
+
+		@Override
+		public void onImage(LEAP_IMAGE_EVENT event, int deviceId)
+		{
+			record("onImage", event, deviceId);
+		}
+
+
+		@Override
+		public void onPointMappingChange(LEAP_POINT_MAPPING_CHANGE_EVENT event, int deviceId)
+		{
+			record("onPointMappingChange", event, deviceId);
+		}
+
+
+		@Override
+		public void onTrackingMode(LEAP_TRACKING_MODE_EVENT event, int deviceId)
+		{
+			record("onTrackingMode", event, deviceId);
+		}
+
+
+		@Override
+		public void onLogEvents(LEAP_LOG_EVENTS event, int deviceId)
+		{
+			record("onLogEvents", event, deviceId);
+		}
+
+
+		@Override
+		public void onHeadPose(LEAP_HEAD_POSE_EVENT event, int deviceId)
+		{
+			record("onHeadPose", event, deviceId);
+		}
+
+
+		@Override
+		public void onEyes(LEAP_EYE_EVENT event, int deviceId)
+		{
+			record("onEyes", event, deviceId);
+		}
+
+
+		@Override
+		public void onIMU(LEAP_IMU_EVENT event, int deviceId)
+		{
+			record("onIMU", event, deviceId);
+		}
+
+
+		@Override
+		public void onOtherEvent(LEAP_CONNECTION_MESSAGE message)
+		{
+			calls.add("onOtherEvent:" + message.getType());
+		}
+	}
+
+
 	class IdentityComparator<T> implements Comparator<T>
 	{
 		@Override
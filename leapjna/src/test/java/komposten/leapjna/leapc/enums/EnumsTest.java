@@ -0,0 +1,449 @@
+/*
+ * Copyright 2020 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import komposten.leapjna.leapc.enums.Enums.ByteEnum;
+import komposten.leapjna.leapc.enums.Enums.IntEnum;
+import komposten.leapjna.leapc.enums.Enums.IntFlagEnum;
+
+
+class EnumsTest
+{
+	@Test
+	void parse_intEnumValidValue_enumConstant()
+	{
+		TestIntEnum expected = TestIntEnum.First;
+		TestIntEnum actual = Enums.parse(expected.value, TestIntEnum.Default);
+		assertThat(actual).isSameAs(expected);
+
+		expected = TestIntEnum.Second;
+		actual = Enums.parse(expected.value, TestIntEnum.Default);
+		assertThat(actual).isSameAs(expected);
+	}
+
+
+	@Test
+	void parse_intEnumInvalidValue_providedDefault()
+	{
+		TestIntEnum expected = TestIntEnum.Default;
+		TestIntEnum actual = Enums.parse(-1234, expected);
+		assertThat(actual).isSameAs(expected);
+
+		expected = TestIntEnum.Second;
+		actual = Enums.parse(-1234, expected);
+		assertThat(actual).isSameAs(expected);
+	}
+
+
+	@Test
+	void parse_byteEnumValidValue_enumConstant()
+	{
+		TestByteEnum expected = TestByteEnum.First;
+		TestByteEnum actual = Enums.parse(expected.value, TestByteEnum.Default);
+		assertThat(actual).isSameAs(expected);
+
+		expected = TestByteEnum.Second;
+		actual = Enums.parse(expected.value, TestByteEnum.Default);
+		assertThat(actual).isSameAs(expected);
+	}
+
+
+	@Test
+	void parse_byteEnumInvalidValue_providedDefault()
+	{
+		TestByteEnum expected = TestByteEnum.Default;
+		TestByteEnum actual = Enums.parse((byte) -10, expected);
+		assertThat(actual).isSameAs(expected);
+
+		expected = TestByteEnum.Second;
+		actual = Enums.parse((byte) -10, expected);
+		assertThat(actual).isSameAs(expected);
+	}
+
+
+	@Test
+	void parse_duplicateValues_firstDeclaredConstant()
+	{
+		assertThat(Enums.parse(5, TestDuplicateEnum.Default))
+				.isSameAs(TestDuplicateEnum.First);
+		assertThat(Enums.parse((byte) 5, TestDuplicateByteEnum.Default))
+				.isSameAs(TestDuplicateByteEnum.First);
+	}
+
+
+	@Test
+	void parse_constantWithClassBody_enumConstant()
+	{
+		assertThat(Enums.parse(2, TestBodyEnum.First)).isSameAs(TestBodyEnum.Second);
+		assertThat(Enums.parse(3, TestBodyEnum.Second)).isSameAs(TestBodyEnum.Second);
+	}
+
+
+	@Test
+	void parse_allLeapCEnums_sameAsLinearSearch()
+	{
+		assertParseMatchesLinearSearch(eLeapRS.Unknown);
+		assertParseMatchesLinearSearch(eLeapEventType.Unknown);
+		assertParseMatchesLinearSearch(eLeapDeviceStatus.UnknownFailure);
+		assertParseMatchesLinearSearch(eLeapHandType.Unknown);
+	}
+
+
+	private static <E extends Enum<E> & IntEnum> void assertParseMatchesLinearSearch(
+			E defaultValue)
+	{
+		E[] constants = defaultValue.getDeclaringClass().getEnumConstants();
+		for (E constant : constants)
+		{
+			assertThat(Enums.parse(constant.getValue(), defaultValue))
+					.isSameAs(linearSearch(constant.getValue(), constants, defaultValue));
+			assertThat(Enums.parse(constant.getValue() + 1, defaultValue))
+					.isSameAs(linearSearch(constant.getValue() + 1, constants, defaultValue));
+		}
+	}
+
+
+	private static <E extends IntEnum> E linearSearch(int value, E[] constants,
+			E defaultValue)
+	{
+		for (E constant : constants)
+		{
+			if (constant.getValue() == value)
+			{
+				return constant;
+			}
+		}
+
+		return defaultValue;
+	}
+
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void createMask_noValues_emptyMask()
+	{
+		int actual = Enums.createMask();
+		assertThat(actual).isZero();
+	}
+
+
+	@Test
+	void createMask_singleValue_returnInput()
+	{
+		TestFlagEnum expected = TestFlagEnum.First;
+		int actual = Enums.createMask(expected);
+
+		assertThat(actual).isEqualTo(expected.value);
+	}
+
+
+	@Test
+	void createMask_multipleValues_correctMask()
+	{
+		int expected = TestFlagEnum.First.value | TestFlagEnum.Third.value
+				| TestFlagEnum.Fourth.value;
+		int actual = Enums.createMask(TestFlagEnum.First, TestFlagEnum.Third,
+				TestFlagEnum.Fourth);
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+
+	@Test
+	void parseMask_validMask_correctConstants()
+	{
+		int mask = TestFlagEnum.First.value | TestFlagEnum.Third.value
+				| TestFlagEnum.Fourth.value;
+		TestFlagEnum[] expected = { TestFlagEnum.First, TestFlagEnum.Third,
+				TestFlagEnum.Fourth };
+
+		assertThat(Enums.parseMask(mask, TestFlagEnum.class))
+				.containsExactlyInAnyOrder(expected);
+	}
+
+
+	@Test
+	void parseMask_validMaskCustomParse_correctConstants()
+	{
+		int mask = TestFlagEnum2.First.value | TestFlagEnum2.Third.value
+				| TestFlagEnum2.Fourth.value;
+		TestFlagEnum2[] expected = { TestFlagEnum2.Fourth };
+
+		assertThat(Enums.parseMask(mask, TestFlagEnum2.class))
+				.containsExactlyInAnyOrder(expected);
+	}
+
+
+	@Test
+	void parseMask_emptyMask_emptyMaskConstant()
+	{
+		assertThat(Enums.parseMask(0, TestFlagEnum.class))
+				.containsExactly(TestFlagEnum.Empty);
+		assertThat(Enums.parseMask(0, TestFlagEnum2.class))
+				.containsExactly(TestFlagEnum2.Fourth);
+	}
+
+
+	@Test
+	void parseMask_sameMaskTwice_independentArrays()
+	{
+		int mask = TestFlagEnum.First.value | TestFlagEnum.Third.value;
+		TestFlagEnum[] first = Enums.parseMask(mask, TestFlagEnum.class);
+		first[0] = TestFlagEnum.Fourth;
+
+		assertThat(Enums.parseMask(mask, TestFlagEnum.class))
+				.containsExactly(TestFlagEnum.First, TestFlagEnum.Third);
+	}
+
+
+	@Test
+	void parseMask_moreMasksThanCached_correctConstants()
+	{
+		for (int mask = 0; mask < MaskLookup.MAX_CACHED_MASKS * 2; mask++)
+		{
+			assertThat(Enums.parseMask(mask << 2, TestFlagEnum.class))
+					.containsExactly(TestFlagEnum.Empty.parseMask(mask << 2));
+		}
+	}
+
+
+	@Test
+	void maskSet_validMask_cachedImmutableSet()
+	{
+		int mask = TestFlagEnum.First.value | TestFlagEnum.Fourth.value;
+		Set<TestFlagEnum> set = Enums.maskSet(mask, TestFlagEnum.class);
+
+		assertThat(set).containsExactly(TestFlagEnum.First, TestFlagEnum.Fourth);
+		assertThat(Enums.maskSet(mask, TestFlagEnum.class)).isSameAs(set);
+		assertThatThrownBy(() -> set.add(TestFlagEnum.Second))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+
+	@Test
+	void hasFlag_validMask_matchesParseMask()
+	{
+		int mask = TestFlagEnum.Second.value | TestFlagEnum.Third.value;
+
+		assertThat(Enums.hasFlag(mask, TestFlagEnum.Second)).isTrue();
+		assertThat(Enums.hasFlag(mask, TestFlagEnum.Third)).isTrue();
+		assertThat(Enums.hasFlag(mask, TestFlagEnum.First)).isFalse();
+		assertThat(Enums.hasFlag(mask, TestFlagEnum.Empty)).isFalse();
+		assertThat(Enums.hasFlag(0, TestFlagEnum.Empty)).isTrue();
+	}
+
+
+	@Test
+	void hasFlag_moreMasksThanCached_matchesParseMask()
+	{
+		for (int mask = 0; mask < MaskLookup.MAX_CACHED_MASKS * 2; mask++)
+		{
+			List<TestFlagEnum> flags = Arrays.asList(TestFlagEnum.Empty.parseMask(mask));
+
+			for (TestFlagEnum flag : TestFlagEnum.values())
+			{
+				assertThat(Enums.hasFlag(mask, flag)).as("mask %d, flag %s", mask, flag)
+						.isEqualTo(flags.contains(flag));
+			}
+		}
+	}
+
+
+	@Test
+	void hasFlag_customParse_matchesParseMask()
+	{
+		assertThat(Enums.hasFlag(TestFlagEnum2.First.value, TestFlagEnum2.First)).isFalse();
+		assertThat(Enums.hasFlag(TestFlagEnum2.First.value, TestFlagEnum2.Fourth)).isTrue();
+
+		int failure = eLeapDeviceStatus.UnknownFailure.value
+				| eLeapDeviceStatus.BadFirmware.value;
+		assertThat(Enums.hasFlag(failure, eLeapDeviceStatus.BadFirmware)).isTrue();
+		assertThat(Enums.hasFlag(failure, eLeapDeviceStatus.UnknownFailure)).isFalse();
+		assertThat(Enums.hasFlag(eLeapDeviceStatus.UnknownFailure.value,
+				eLeapDeviceStatus.UnknownFailure)).isTrue();
+	}
+
+
+	static enum TestIntEnum implements IntEnum
+	{
+		Default(-1), First(7), Second(23);
+
+		private int value;
+
+
+		private TestIntEnum(int value)
+		{
+			this.value = value;
+		}
+
+
+		@Override
+		public int getValue()
+		{
+			return value;
+		}
+	}
+
+
+	static enum TestByteEnum implements ByteEnum
+	{
+		Default(-1), First(7), Second(23);
+
+		private byte value;
+
+
+		private TestByteEnum(int value)
+		{
+			this.value = (byte) value;
+		}
+
+
+		@Override
+		public byte getValue()
+		{
+			return value;
+		}
+	}
+
+
+	static enum TestDuplicateEnum implements IntEnum
+	{
+		Default(-1), First(5), Second(5);
+
+		private int value;
+
+
+		private TestDuplicateEnum(int value)
+		{
+			this.value = value;
+		}
+
+
+		@Override
+		public int getValue()
+		{
+			return value;
+		}
+	}
+
+
+	static enum TestDuplicateByteEnum implements ByteEnum
+	{
+		Default(-1), First(5), Second(5);
+
+		private byte value;
+
+
+		private TestDuplicateByteEnum(int value)
+		{
+			this.value = (byte) value;
+		}
+
+
+		@Override
+		public byte getValue()
+		{
+			return value;
+		}
+	}
+
+
+	static enum TestBodyEnum implements IntEnum
+	{
+		First
+		{
+			@Override
+			public int getValue()
+			{
+				return 1;
+			}
+		},
+		Second
+		{
+			@Override
+			public int getValue()
+			{
+				return 2;
+			}
+		};
+	}
+
+
+	static enum TestFlagEnum implements IntFlagEnum<TestFlagEnum>
+	{
+		Empty(0), First(4), Second(8), Third(32), Fourth(64);
+
+		private int value;
+
+
+		private TestFlagEnum(int value)
+		{
+			this.value = value;
+		}
+
+
+		@Override
+		public int getValue()
+		{
+			return value;
+		}
+
+
+		@Override
+		public TestFlagEnum getEmptyMaskConstant()
+		{
+			return Empty;
+		}
+	}
+
+
+	static enum TestFlagEnum2 implements IntFlagEnum<TestFlagEnum2>
+	{
+		Empty(0), First(4), Second(8), Third(32), Fourth(64);
+
+		private int value;
+
+
+		private TestFlagEnum2(int value)
+		{
+			this.value = value;
+		}
+
+
+		@Override
+		public int getValue()
+		{
+			return value;
+		}
+
+
+		@Override
+		public TestFlagEnum2[] parseMask(int mask)
+		{
+			return new TestFlagEnum2[] { Fourth };
+		}
+
+
+		@Override
+		public TestFlagEnum2 getEmptyMaskConstant()
+		{
+			return Third;
+		}
+	}
+}
@@ -15,12 +15,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_HAND;
 import komposten.leapjna.leapc.enums.eLeapDeviceStatus;
 import komposten.leapjna.leapc.enums.eLeapDroppedFrameType;
 import komposten.leapjna.leapc.enums.eLeapLogSeverity;
 import komposten.leapjna.leapc.enums.eLeapPolicyFlag;
 import komposten.leapjna.leapc.enums.eLeapServiceDisposition;
 import komposten.leapjna.leapc.enums.eLeapTrackingMode;
+import komposten.leapjna.leapc.util.Structures;
 
 
 class EventTests
@@ -422,4 +426,87 @@ class EventTests
 			assertThat(struct.getCurrentTrackingMode()).isSameAs(expected);
 		}
 	}
+
+
+	@Nested
+	class LeapEventStructure_TEST
+	{
+		@Test
+		void reuse_leapEventStructure_readsNewMemory()
+		{
+			Memory memory = new Memory(Structures.sizeOf(LEAP_CONNECTION_LOST_EVENT.class));
+			memory.setInt(0, 1);
+			LEAP_CONNECTION_LOST_EVENT event = new LEAP_CONNECTION_LOST_EVENT(memory);
+
+			Memory newMemory = new Memory(memory.size());
+			newMemory.setInt(0, 2);
+			event.reuse(newMemory);
+
+			assertThat(event.getPointer()).isEqualTo(newMemory);
+			assertThat(event.flags).isEqualTo(2);
+		}
+	}
+
+
+	@Nested
+	class LEAP_TRACKING_EVENT_TEST
+	{
+		private final int eventSize = Structures.sizeOf(LEAP_TRACKING_EVENT.class);
+		private final int handSize = Structures.sizeOf(LEAP_HAND.class);
+
+
+		@Test
+		void reuse_sameHandCount_handsReused()
+		{
+			LEAP_TRACKING_EVENT event = new LEAP_TRACKING_EVENT(trackingEvent(1, 10, 11));
+			LEAP_HAND[] hands = event.getHands();
+
+			event.reuse(trackingEvent(2, 20, 21));
+
+			assertThat(event.info.frame_id).isEqualTo(2);
+			assertThat(event.getHands()).isSameAs(hands);
+			assertThat(event.getHands()).extracting(hand -> hand.id).containsExactly(20, 21);
+			assertThat(event.getHands()[1].palm.position.x).isEqualTo(21);
+		}
+
+
+		@Test
+		void reuse_handCountChanged_handInstancesReused()
+		{
+			LEAP_TRACKING_EVENT event = new LEAP_TRACKING_EVENT(trackingEvent(1, 10));
+			event.reuse(trackingEvent(2, 20));
+			LEAP_HAND hand = event.getHands()[0];
+
+			event.reuse(trackingEvent(3));
+			assertThat(event.getHands()).isEmpty();
+
+			event.reuse(trackingEvent(4, 40, 41));
+			assertThat(event.getHands()).hasSize(2);
+			assertThat(event.getHands()[0]).isSameAs(hand);
+			assertThat(event.getHands()).extracting(h -> h.id).containsExactly(40, 41);
+		}
+
+
+		private Memory trackingEvent(long frameId, int... handIds)
+		{
+			Memory memory = new Memory(eventSize + (long) handSize * Math.max(1, handIds.length));
+			memory.clear();
+
+			LEAP_TRACKING_EVENT event = new LEAP_TRACKING_EVENT(memory);
+			event.info.frame_id = frameId;
+			event.nHands = handIds.length;
+			event.pHands = memory.share(eventSize);
+			event.write();
+
+			for (int i = 0; i < handIds.length; i++)
+			{
+				LEAP_HAND hand = new LEAP_HAND(memory.share(eventSize + (long) i * handSize));
+				hand.id = handIds[i];
+				hand.palm.position.x = handIds[i];
+				hand.write();
+			}
+
+			return memory;
+		}
+	}
 }
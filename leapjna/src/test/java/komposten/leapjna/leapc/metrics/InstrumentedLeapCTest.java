@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.StubLeapC;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+class InstrumentedLeapCTest
+{
+	private static final long POLL_SLEEP_MILLIS = 5;
+
+	private InstrumentedLeapC leapC;
+
+
+	@BeforeEach
+	void setup()
+	{
+		leapC = new InstrumentedLeapC(new StubLeapC()
+		{
+			@Override
+			public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+					LEAP_CONNECTION_MESSAGE message)
+			{
+				if (timeout > 0)
+				{
+					try
+					{
+						Thread.sleep(POLL_SLEEP_MILLIS);
+					}
+					catch (InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+					}
+					return eLeapRS.Timeout;
+				}
+
+				return eLeapRS.Success;
+			}
+
+
+			@Override
+			public long LeapGetNow()
+			{
+				return 42;
+			}
+		});
+	}
+
+
+	@Test
+	void snapshot_noCalls_allFunctionsZero()
+	{
+		MetricsSnapshot snapshot = leapC.snapshot();
+
+		assertThat(snapshot.getFunctions()).hasSize(60);
+		assertThat(snapshot.getCalledFunctions()).isEmpty();
+		assertThat(snapshot.getFunction("LeapPollConnection").getCallCount()).isZero();
+		assertThat(snapshot.getFunction("LeapPollConnection").getLatencyPercentile(99))
+				.isZero();
+	}
+
+
+	@Test
+	void snapshot_afterCalls_countsCallsAndResults()
+	{
+		leapC.LeapPollConnection(null, 0, null);
+		leapC.LeapPollConnection(null, 0, null);
+		leapC.LeapPollConnection(null, 1, null);
+		leapC.LeapOpenConnection(null);
+
+		MetricsSnapshot snapshot = leapC.snapshot();
+		FunctionMetrics poll = snapshot.getFunction("LeapPollConnection");
+
+		assertThat(poll.getCallCount()).isEqualTo(3);
+		assertThat(poll.getErrorCount()).isEqualTo(1);
+		assertThat(poll.getResultCount(eLeapRS.Success)).isEqualTo(2);
+		assertThat(poll.getResultCounts()).containsExactly(entry(eLeapRS.Success, 2L),
+				entry(eLeapRS.Timeout, 1L));
+		assertThat(snapshot.getFunction("LeapOpenConnection").getResultCounts())
+				.containsExactly(entry(eLeapRS.Unsupported, 1L));
+		assertThat(snapshot.getCalledFunctions()).extracting(FunctionMetrics::getName)
+				.containsExactly("LeapOpenConnection", "LeapPollConnection");
+	}
+
+
+	@Test
+	void snapshot_nonResultFunction_countsCallsWithoutResults()
+	{
+		assertThat(leapC.LeapGetNow()).isEqualTo(42);
+
+		FunctionMetrics getNow = leapC.snapshot().getFunction("LeapGetNow");
+		assertThat(getNow.getCallCount()).isEqualTo(1);
+		assertThat(getNow.getResultCounts()).isEmpty();
+		assertThat(getNow.getErrorCount()).isZero();
+	}
+
+
+	@Test
+	void snapshot_blockingCall_recordsLatency()
+	{
+		leapC.LeapPollConnection(null, 1, null);
+
+		FunctionMetrics poll = leapC.snapshot().getFunction("LeapPollConnection");
+		long minNanos = POLL_SLEEP_MILLIS * 1_000_000;
+
+		assertThat(poll.getMaxNanos()).isGreaterThanOrEqualTo(minNanos);
+		assertThat(poll.getTotalNanos()).isEqualTo(poll.getMaxNanos());
+		assertThat(poll.getLatencyPercentile(50)).isEqualTo(poll.getMaxNanos());
+
+		long[] buckets = poll.getLatencyBuckets();
+		int bucket = FunctionRecorder.bucketOf(poll.getMaxNanos());
+		assertThat(buckets[bucket]).isEqualTo(1);
+		assertThat(FunctionMetrics.getBucketUpperBound(bucket))
+				.isGreaterThan(poll.getMaxNanos());
+	}
+
+
+	@Test
+	void getLatencyPercentile_multipleBuckets_upperBoundOfBucket()
+	{
+		long[] buckets = new long[FunctionRecorder.BUCKET_COUNT];
+		buckets[4] = 90; // 8-16 ns
+		buckets[10] = 10; // 512-1024 ns
+		FunctionMetrics metrics = new FunctionMetrics("Test", buckets,
+				new long[eLeapRS.values().length], 0, 1000);
+
+		assertThat(metrics.getLatencyPercentile(50)).isEqualTo(16);
+		assertThat(metrics.getLatencyPercentile(90)).isEqualTo(16);
+		assertThat(metrics.getLatencyPercentile(91)).isEqualTo(1000);
+	}
+
+
+	@Test
+	void reset_afterCalls_allFunctionsZero()
+	{
+		leapC.LeapPollConnection(null, 1, null);
+		leapC.reset();
+
+		FunctionMetrics poll = leapC.snapshot().getFunction("LeapPollConnection");
+		assertThat(poll.getCallCount()).isZero();
+		assertThat(poll.getTotalNanos()).isZero();
+		assertThat(poll.getMaxNanos()).isZero();
+		assertThat(poll.getResultCounts()).isEmpty();
+	}
+
+
+	@Test
+	void bucketOf_powersOfTwo_correctBucket()
+	{
+		assertThat(FunctionRecorder.bucketOf(0)).isZero();
+		assertThat(FunctionRecorder.bucketOf(1)).isEqualTo(1);
+		assertThat(FunctionRecorder.bucketOf(2)).isEqualTo(2);
+		assertThat(FunctionRecorder.bucketOf(3)).isEqualTo(2);
+		assertThat(FunctionRecorder.bucketOf(Long.MAX_VALUE))
+				.isEqualTo(FunctionRecorder.BUCKET_COUNT - 1);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+
+class ByteArrayPoolTest
+{
+	@Test
+	void constructor_capacityLessThanOne_exception()
+	{
+		assertThatIllegalArgumentException().isThrownBy(() -> new ByteArrayPool(0));
+	}
+
+
+	@Test
+	void acquire_emptyPool_newArray()
+	{
+		ByteArrayPool pool = new ByteArrayPool(2);
+
+		assertThat(pool.acquire(16)).hasSize(16);
+		assertThat(pool.size()).isZero();
+	}
+
+
+	@Test
+	void acquire_releasedArray_sameArray()
+	{
+		ByteArrayPool pool = new ByteArrayPool(2);
+		byte[] array = pool.acquire(16);
+
+		pool.release(array);
+
+		assertThat(pool.acquire(16)).isSameAs(array);
+		assertThat(pool.size()).isZero();
+	}
+
+
+	@Test
+	void acquire_differentLength_pooledArrayDropped()
+	{
+		ByteArrayPool pool = new ByteArrayPool(2);
+		byte[] array = pool.acquire(16);
+		pool.release(array);
+
+		assertThat(pool.acquire(32)).isNotSameAs(array).hasSize(32);
+		assertThat(pool.size()).isZero();
+	}
+
+
+	@Test
+	void release_poolFull_arrayDropped()
+	{
+		ByteArrayPool pool = new ByteArrayPool(1);
+
+		assertThat(pool.release(new byte[16])).isTrue();
+		assertThat(pool.release(new byte[16])).isFalse();
+		assertThat(pool.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.data.LEAP_IMAGE;
+
+
+class DistortionMatrixCacheTest
+{
+	private static final int MATRIX_SIZE = LEAP_DISTORTION_MATRIX.LEAP_DISTORTION_MATRIX_N
+			* LEAP_DISTORTION_MATRIX.LEAP_DISTORTION_MATRIX_N * 2;
+
+	private DistortionMatrixCache cache;
+	private List<String> changes;
+	private Memory matrixMemory;
+	private LEAP_IMAGE image;
+
+
+	@BeforeEach
+	void setup()
+	{
+		cache = new DistortionMatrixCache();
+		changes = new ArrayList<>();
+		cache.addListener((deviceId, camera, version, matrix) -> changes
+				.add(deviceId + "/" + camera + "/" + version + "/" + matrix.matrix[0]));
+
+		matrixMemory = new Memory(MATRIX_SIZE * Float.BYTES);
+		matrixMemory.clear();
+		setFirstValue(1);
+
+		image = new LEAP_IMAGE();
+		image.distortion_matrix = matrixMemory;
+		image.matrix_version = 10;
+	}
+
+
+	private void setFirstValue(float value)
+	{
+		matrixMemory.setFloat(0, value);
+	}
+
+
+	@Test
+	void getMatrix_firstCall_decodesAndNotifies()
+	{
+		LEAP_DISTORTION_MATRIX matrix = cache.getMatrix(1, 0, image);
+
+		assertThat(matrix.matrix).hasSize(MATRIX_SIZE);
+		assertThat(matrix.matrix[0]).isEqualTo(1f);
+		assertThat(changes).containsExactly("1/0/10/1.0");
+		assertThat(cache.getCachedMatrix(1, 0)).isSameAs(matrix);
+		assertThat(cache.getCachedVersion(1, 0)).isEqualTo(10);
+	}
+
+
+	@Test
+	void getMatrix_sameVersion_cachedMatrix()
+	{
+		LEAP_DISTORTION_MATRIX first = cache.getMatrix(1, 0, image);
+		setFirstValue(2);
+
+		assertThat(cache.getMatrix(1, 0, image)).isSameAs(first);
+		assertThat(first.matrix[0]).isEqualTo(1f);
+		assertThat(changes).hasSize(1);
+	}
+
+
+	@Test
+	void getMatrix_newVersion_decodesAndNotifies()
+	{
+		LEAP_DISTORTION_MATRIX first = cache.getMatrix(1, 0, image);
+		setFirstValue(2);
+		image.matrix_version = 11;
+
+		LEAP_DISTORTION_MATRIX second = cache.getMatrix(1, 0, image);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.matrix[0]).isEqualTo(2f);
+		assertThat(changes).containsExactly("1/0/10/1.0", "1/0/11/2.0");
+	}
+
+
+	@Test
+	void getMatrix_camerasAndDevicesCachedSeparately()
+	{
+		LEAP_DISTORTION_MATRIX device1Camera0 = cache.getMatrix(1, 0, image);
+		LEAP_DISTORTION_MATRIX device1Camera1 = cache.getMatrix(1, 1, image);
+		LEAP_DISTORTION_MATRIX device2Camera0 = cache.getMatrix(2, 0, image);
+
+		assertThat(device1Camera1).isNotSameAs(device1Camera0);
+		assertThat(device2Camera0).isNotSameAs(device1Camera0);
+		assertThat(changes).containsExactly("1/0/10/1.0", "1/1/10/1.0", "2/0/10/1.0");
+		assertThat(cache.getMatrix(1, 1, image)).isSameAs(device1Camera1);
+	}
+
+
+	@Test
+	void getMatrix_invalidCamera_exception()
+	{
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> cache.getMatrix(1, DistortionMatrixCache.CAMERA_COUNT, image));
+	}
+
+
+	@Test
+	void remove_deviceRemoved_decodedAgain()
+	{
+		cache.getMatrix(1, 0, image);
+		cache.getMatrix(2, 0, image);
+
+		cache.remove(1);
+
+		assertThat(cache.getCachedMatrix(1, 0)).isNull();
+		assertThat(cache.getCachedVersion(1, 0)).isZero();
+		assertThat(cache.getCachedMatrix(2, 0)).isNotNull();
+
+		cache.getMatrix(1, 0, image);
+		assertThat(changes).hasSize(3);
+	}
+
+
+	@Test
+	void removeListener_notNotified()
+	{
+		DistortionMatrixCache.Listener listener = (deviceId, camera, version,
+				matrix) -> changes.add("removed");
+		cache.addListener(listener);
+		cache.removeListener(listener);
+
+		cache.getMatrix(1, 0, image);
+
+		assertThat(changes).containsExactly("1/0/10/1.0");
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.StubLeapC;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+
+
+class EventFilterTest
+{
+	@Test
+	void of_acceptsOnlySpecifiedTypes()
+	{
+		EventFilter filter = EventFilter
+				.of(EnumSet.of(eLeapEventType.Tracking, eLeapEventType.DeviceLost));
+
+		assertThat(filter.accepts(eLeapEventType.Tracking)).isTrue();
+		assertThat(filter.accepts(eLeapEventType.DeviceLost.value)).isTrue();
+		assertThat(filter.accepts(eLeapEventType.LogEvent)).isFalse();
+		assertThat(filter.accepts(0x7FFF)).isFalse();
+	}
+
+
+	@Test
+	void poll_skipsUnacceptedEvents()
+	{
+		QueuedLeapC leapC = new QueuedLeapC(eLeapEventType.LogEvent, eLeapEventType.IMU,
+				eLeapEventType.LogEvent, eLeapEventType.Tracking, eLeapEventType.IMU);
+		EventFilter filter = EventFilter.of(eLeapEventType.Tracking);
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+
+		eLeapRS result = filter.poll(leapC, null, 1000, message);
+
+		assertThat(result).isEqualTo(eLeapRS.Success);
+		assertThat(message.getType()).isEqualTo(eLeapEventType.Tracking);
+		assertThat(leapC.events).containsExactly(eLeapEventType.IMU);
+		assertThat(filter.getSkippedCount(eLeapEventType.LogEvent)).isEqualTo(2);
+		assertThat(filter.getSkippedCount(eLeapEventType.IMU)).isEqualTo(1);
+		assertThat(filter.getSkippedCount(eLeapEventType.Tracking)).isZero();
+		assertThat(filter.getSkippedCount()).isEqualTo(3);
+	}
+
+
+	@Test
+	void poll_onlySkippedEvents_returnsPollResult()
+	{
+		QueuedLeapC leapC = new QueuedLeapC(eLeapEventType.LogEvent, eLeapEventType.IMU);
+		EventFilter filter = EventFilter.of(eLeapEventType.Tracking);
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+
+		eLeapRS result = filter.poll(leapC, null, 1000, message);
+
+		assertThat(result).isEqualTo(eLeapRS.Timeout);
+		assertThat(message.getType()).isEqualTo(eLeapEventType.None);
+		assertThat(filter.getSkippedCount()).isEqualTo(2);
+	}
+
+
+	@Test
+	void poll_timeoutExpiresAfterSkipping_returnsTimeoutAndNoneMessage()
+	{
+		QueuedLeapC leapC = new QueuedLeapC(eLeapEventType.LogEvent, eLeapEventType.Tracking);
+		EventFilter filter = EventFilter.of(eLeapEventType.Tracking);
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+
+		eLeapRS result = filter.poll(leapC, null, 0, message);
+
+		assertThat(result).isEqualTo(eLeapRS.Timeout);
+		assertThat(message.getType()).isEqualTo(eLeapEventType.None);
+		assertThat(message.pEvent).isNull();
+		assertThat(leapC.events).containsExactly(eLeapEventType.Tracking);
+	}
+
+
+	@Test
+	void poll_failedPoll_returnedWithoutFiltering()
+	{
+		EventFilter filter = EventFilter.of(eLeapEventType.Tracking);
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+
+		eLeapRS result = filter.poll(new StubLeapC(), null, 1000, message);
+
+		assertThat(result).isEqualTo(eLeapRS.Unsupported);
+		assertThat(filter.getSkippedCount()).isZero();
+	}
+
+
+	@Test
+	void resetSkippedCounts_allCountsZero()
+	{
+		QueuedLeapC leapC = new QueuedLeapC(eLeapEventType.LogEvent, eLeapEventType.Tracking);
+		EventFilter filter = EventFilter.of(eLeapEventType.Tracking);
+
+		filter.poll(leapC, null, 1000, new LEAP_CONNECTION_MESSAGE());
+		filter.resetSkippedCounts();
+
+		assertThat(filter.getSkippedCount(eLeapEventType.LogEvent)).isZero();
+		assertThat(filter.getSkippedCount()).isZero();
+	}
+
+
+	/**
+	 * Returns the queued event types one at a time, and {@link eLeapRS#Timeout} once the
+	 * queue is empty.
+	 */
+	private static class QueuedLeapC extends StubLeapC
+	{
+		final Deque<eLeapEventType> events;
+		final Pointer eventData = new Memory(64);
+
+
+		QueuedLeapC(eLeapEventType... events)
+		{
+			this.events = new ArrayDeque<>(Arrays.asList(events));
+			eventData.clear(64);
+		}
+
+
+		@Override
+		public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+				LEAP_CONNECTION_MESSAGE message)
+		{
+			eLeapEventType event = events.poll();
+
+			if (event == null)
+			{
+				message.setFields(message.size(), eLeapEventType.None.value, null, 0);
+				return eLeapRS.Timeout;
+			}
+
+			message.setFields(message.size(), event.value, eventData, 0);
+			return eLeapRS.Success;
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapLogSeverity;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENTS_Layout;
+import komposten.leapjna.leapc.events.LEAP_LOG_EVENT_Layout;
+import komposten.leapjna.leapc.util.LogEventDecoder.LogEntry;
+
+
+class LogEventDecoderTest
+{
+	private final List<List<LogEntry>> batches = new CopyOnWriteArrayList<>();
+	private final List<Memory> memory = new ArrayList<>();
+	private LogEventDecoder decoder;
+
+
+	@AfterEach
+	void tearDown()
+	{
+		if (decoder != null)
+		{
+			decoder.close();
+		}
+	}
+
+
+	private List<List<LogEntry>> awaitBatches() throws InterruptedException
+	{
+		decoder.close();
+		assertThat(decoder.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		return batches;
+	}
+
+
+	private Memory string(String value)
+	{
+		Memory string = new Memory(value.length() + 1);
+		string.setString(0, value);
+		memory.add(string);
+		return string;
+	}
+
+
+	private LEAP_CONNECTION_MESSAGE logEvents(Object... severitiesAndMessages)
+	{
+		int count = severitiesAndMessages.length / 2;
+		Memory events = new Memory((long) count * LEAP_LOG_EVENT_Layout.BYTES);
+		events.clear();
+
+		for (int i = 0; i < count; i++)
+		{
+			long offset = (long) i * LEAP_LOG_EVENT_Layout.BYTES;
+			eLeapLogSeverity severity = (eLeapLogSeverity) severitiesAndMessages[i * 2];
+			events.setInt(offset + LEAP_LOG_EVENT_Layout.SEVERITY, severity.value);
+			events.setLong(offset + LEAP_LOG_EVENT_Layout.TIMESTAMP, 1000 + i);
+			events.setPointer(offset + LEAP_LOG_EVENT_Layout.MESSAGE,
+					string((String) severitiesAndMessages[i * 2 + 1]));
+		}
+
+		Memory event = new Memory(LEAP_LOG_EVENTS_Layout.BYTES);
+		event.setInt(LEAP_LOG_EVENTS_Layout.N_EVENTS, count);
+		event.setPointer(LEAP_LOG_EVENTS_Layout.EVENTS, events);
+		memory.add(events);
+		memory.add(event);
+
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+		message.setFields(message.size(), eLeapEventType.LogEvents.value, event, 0);
+		return message;
+	}
+
+
+	@Test
+	void decode_logEvents_belowThresholdSkipped() throws InterruptedException
+	{
+		decoder = new LogEventDecoder(eLeapLogSeverity.Warning, batches::add);
+
+		int accepted = decoder.decode(logEvents(eLeapLogSeverity.Information, "info",
+				eLeapLogSeverity.Warning, "warning", eLeapLogSeverity.Critical, "critical",
+				eLeapLogSeverity.Unknown, "unknown"));
+
+		assertThat(accepted).isEqualTo(3);
+		assertThat(decoder.getDecodedCount()).isEqualTo(3);
+		assertThat(decoder.getSkippedCount()).isEqualTo(1);
+
+		List<List<LogEntry>> result = awaitBatches();
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0)).extracting(LogEntry::getMessage)
+				.containsExactly("warning", "critical", "unknown");
+		assertThat(result.get(0)).extracting(LogEntry::getSeverity).containsExactly(
+				eLeapLogSeverity.Warning, eLeapLogSeverity.Critical, eLeapLogSeverity.Unknown);
+		assertThat(result.get(0).get(0).getTimestamp()).isEqualTo(1001);
+		assertThatThrownBy(() -> result.get(0).clear())
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+
+	@Test
+	void decode_singleLogEvent_decoded() throws InterruptedException
+	{
+		decoder = new LogEventDecoder(eLeapLogSeverity.Information, batches::add);
+
+		Memory event = new Memory(LEAP_LOG_EVENT_Layout.BYTES);
+		event.setInt(LEAP_LOG_EVENT_Layout.SEVERITY, eLeapLogSeverity.Information.value);
+		event.setLong(LEAP_LOG_EVENT_Layout.TIMESTAMP, 42);
+		event.setPointer(LEAP_LOG_EVENT_Layout.MESSAGE, string("hello"));
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+		message.setFields(message.size(), eLeapEventType.LogEvent.value, event, 0);
+
+		assertThat(decoder.accepts(message.type)).isTrue();
+		assertThat(decoder.decode(message)).isEqualTo(1);
+
+		List<List<LogEntry>> result = awaitBatches();
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).get(0).getMessage()).isEqualTo("hello");
+		assertThat(result.get(0).get(0).getTimestamp()).isEqualTo(42);
+	}
+
+
+	@Test
+	void decode_allSkipped_noBatch() throws InterruptedException
+	{
+		decoder = new LogEventDecoder(eLeapLogSeverity.Critical, batches::add);
+
+		assertThat(decoder.decode(logEvents(eLeapLogSeverity.Information, "info",
+				eLeapLogSeverity.Warning, "warning"))).isZero();
+
+		assertThat(awaitBatches()).isEmpty();
+		assertThat(decoder.getSkippedCount()).isEqualTo(2);
+	}
+
+
+	@Test
+	void decode_otherEventType_ignored()
+	{
+		decoder = new LogEventDecoder(eLeapLogSeverity.Information, batches::add);
+		LEAP_CONNECTION_MESSAGE message = new LEAP_CONNECTION_MESSAGE();
+		message.setFields(message.size(), eLeapEventType.Tracking.value, null, 0);
+
+		assertThat(decoder.accepts(message.type)).isFalse();
+		assertThat(decoder.decode(message)).isZero();
+	}
+
+
+	@Test
+	void decode_repeatedMessages_sameStringInstance() throws InterruptedException
+	{
+		decoder = new LogEventDecoder(eLeapLogSeverity.Information, batches::add);
+
+		decoder.decode(logEvents(eLeapLogSeverity.Warning, "repeated",
+				eLeapLogSeverity.Warning, "other", eLeapLogSeverity.Warning, "repeated"));
+		decoder.decode(logEvents(eLeapLogSeverity.Warning, "repeated"));
+
+		List<List<LogEntry>> result = awaitBatches();
+		String first = result.get(0).get(0).getMessage();
+		assertThat(first).isEqualTo("repeated");
+		assertThat(result.get(0).get(2).getMessage()).isSameAs(first);
+		assertThat(result.get(1).get(0).getMessage()).isSameAs(first);
+		assertThat(result.get(0).get(1).getMessage()).isEqualTo("other");
+	}
+
+
+	@Test
+	void decode_sinkBlocked_batchesDropped() throws InterruptedException
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		decoder = new LogEventDecoder(eLeapLogSeverity.Information, batch ->
+		{
+			started.countDown();
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			batches.add(batch);
+		}, 1);
+
+		decoder.decode(logEvents(eLeapLogSeverity.Warning, "first"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		decoder.decode(logEvents(eLeapLogSeverity.Warning, "queued"));
+		decoder.decode(logEvents(eLeapLogSeverity.Warning, "dropped1",
+				eLeapLogSeverity.Warning, "dropped2"));
+
+		assertThat(decoder.getDroppedCount()).isEqualTo(2);
+
+		release.countDown();
+		assertThat(awaitBatches()).hasSize(2);
+	}
+}
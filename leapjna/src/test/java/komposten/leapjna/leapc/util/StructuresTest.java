@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Structure;
+
+import komposten.leapjna.leapc.data.LEAP_ALLOCATOR;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.events.LEAP_IMU_EVENT;
+import komposten.leapjna.leapc.util.ArrayPointerTest.StructureNoCtors;
+
+
+class StructuresTest
+{
+	@Test
+	void warmUp_noNativeLibrary_noException()
+	{
+		assertThatCode(Structures::warmUp).doesNotThrowAnyException();
+		assertThatCode(Structures::warmUp).doesNotThrowAnyException();
+	}
+
+
+	@Test
+	void getLeapStructures_allStructuresInDataAndEvents()
+			throws ClassNotFoundException, URISyntaxException, IOException
+	{
+		List<Class<? extends Structure>> expected = new ArrayList<>();
+		expected.addAll(findStructures("komposten.leapjna.leapc.data"));
+		expected.addAll(findStructures("komposten.leapjna.leapc.events"));
+		expected.remove(LEAP_ALLOCATOR.class);
+
+		assertThat(expected).isNotEmpty();
+		assertThat(Structures.getLeapStructures()).containsAll(expected);
+	}
+
+
+	@Test
+	void sizeOf_pointerConstructorStructures_fitInScratchMemory()
+	{
+		for (Class<? extends Structure> type : Structures.getLeapStructures())
+		{
+			if (!hasNoArgConstructor(type))
+			{
+				assertThat(Structures.sizeOf(type)).as(type.getSimpleName()).isPositive()
+						.isLessThanOrEqualTo(Structures.SCRATCH_SIZE);
+			}
+		}
+	}
+
+
+	@Test
+	void sizeOf_noArgConstructor_sameAsInstanceSize()
+	{
+		assertThat(Structures.sizeOf(LEAP_HAND.class)).isEqualTo(new LEAP_HAND().size());
+	}
+
+
+	@Test
+	void sizeOf_onlyPointerConstructor_sameAsInstanceSize()
+	{
+		LEAP_IMU_EVENT event = Structure.newInstance(LEAP_IMU_EVENT.class,
+				new Memory(Structures.SCRATCH_SIZE));
+		assertThat(Structures.sizeOf(LEAP_IMU_EVENT.class)).isEqualTo(event.size());
+	}
+
+
+	@Test
+	void sizeOf_noUsableConstructor_IllegalArgumentException()
+	{
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> Structures.sizeOf(StructureNoCtors.class));
+	}
+
+
+	private static List<Class<? extends Structure>> findStructures(String packageName)
+			throws ClassNotFoundException, URISyntaxException, IOException
+	{
+		List<Class<? extends Structure>> structures = new ArrayList<>();
+		Enumeration<URL> urls = Structures.class.getClassLoader()
+				.getResources(packageName.replace('.', '/'));
+
+		while (urls.hasMoreElements())
+		{
+			for (File file : new File(urls.nextElement().toURI()).listFiles())
+			{
+				String name = file.getName();
+				if (name.endsWith(".class") && !name.contains("$"))
+				{
+					Class<?> type = Class.forName(
+							packageName + "." + name.substring(0, name.length() - ".class".length()));
+					if (Structure.class.isAssignableFrom(type)
+							&& !Modifier.isAbstract(type.getModifiers()))
+					{
+						structures.add(type.asSubclass(Structure.class));
+					}
+				}
+			}
+		}
+
+		return structures;
+	}
+
+
+	private static boolean hasNoArgConstructor(Class<?> type)
+	{
+		try
+		{
+			type.getConstructor();
+			return true;
+		}
+		catch (NoSuchMethodException e)
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.leapc.views;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_BONE;
+import komposten.leapjna.leapc.data.LEAP_DIGIT;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_QUATERNION;
+import komposten.leapjna.leapc.data.LEAP_VECTOR;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.Structures;
+
+
+class ViewsTest
+{
+	private static final int EVENT_SIZE = Structures.sizeOf(LEAP_TRACKING_EVENT.class);
+
+	private float nextValue;
+	private Memory memory;
+	private LEAP_TRACKING_EVENT event;
+
+
+	@BeforeEach
+	void setup()
+	{
+		nextValue = 1;
+		createEvent(2);
+	}
+
+
+	private void createEvent(int handCount)
+	{
+		memory = new Memory(EVENT_SIZE + (long) handCount * HandView.SIZE);
+		memory.clear();
+
+		event = new LEAP_TRACKING_EVENT(memory);
+		event.info.frame_id = 123;
+		event.info.timestamp = 456;
+		event.tracking_frame_id = 789;
+		event.nHands = handCount;
+		event.pHands = memory.share(EVENT_SIZE);
+		event.framerate = 110.5f;
+		event.write();
+
+		for (int i = 0; i < handCount; i++)
+		{
+			LEAP_HAND hand = new LEAP_HAND(memory.share(EVENT_SIZE + (long) i * HandView.SIZE));
+			fill(hand, i);
+			hand.write();
+		}
+
+		event.read();
+	}
+
+
+	@Test
+	void sizes_matchStructures()
+	{
+		assertThat(HandView.SIZE).isEqualTo(Structures.sizeOf(LEAP_HAND.class));
+		assertThat(DigitView.SIZE).isEqualTo(Structures.sizeOf(LEAP_DIGIT.class));
+		assertThat(BoneView.SIZE).isEqualTo(Structures.sizeOf(LEAP_BONE.class));
+	}
+
+
+	@Test
+	void trackingEventView_allFieldsMatchStructure()
+	{
+		TrackingEventView view = new TrackingEventView().wrap(memory);
+
+		assertThat(view.frameId()).isEqualTo(123);
+		assertThat(view.timestamp()).isEqualTo(456);
+		assertThat(view.trackingFrameId()).isEqualTo(789);
+		assertThat(view.handCount()).isEqualTo(2);
+		assertThat(view.framerate()).isEqualTo(110.5f);
+
+		for (int i = 0; i < 2; i++)
+		{
+			assertHand(view.hand(i), event.getHands()[i]);
+		}
+	}
+
+
+	@Test
+	void trackingEventView_nullHandPointer_noHands()
+	{
+		event.pHands = null;
+		event.write();
+
+		TrackingEventView view = new TrackingEventView().wrap(memory);
+
+		assertThat(view.handCount()).isZero();
+	}
+
+
+	@Test
+	void views_indexOutOfBounds_exception()
+	{
+		TrackingEventView view = new TrackingEventView().wrap(memory);
+		HandView hand = view.hand(0);
+		DigitView digit = hand.digit(0);
+
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> view.hand(2));
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> hand.digit(HandView.DIGIT_COUNT));
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> digit.bone(-1));
+	}
+
+
+	@Test
+	void views_rewrapped_readNewMemory()
+	{
+		TrackingEventView view = new TrackingEventView().wrap(memory);
+		HandView hand = view.hand(0);
+		assertThat(hand.id()).isEqualTo(event.getHands()[0].id);
+
+		assertThat(view.hand(1)).isSameAs(hand);
+		assertThat(hand.id()).isEqualTo(event.getHands()[1].id);
+	}
+
+
+	@Test
+	void frameSnapshot_copyFromPointer_allFieldsMatchStructure()
+	{
+		FrameSnapshot snapshot = new FrameSnapshot().copyFrom(memory);
+
+		assertSnapshot(snapshot);
+	}
+
+
+	@Test
+	void frameSnapshot_copyFromEvent_allFieldsMatchStructure()
+	{
+		FrameSnapshot snapshot = new FrameSnapshot().copyFrom(event);
+
+		assertSnapshot(snapshot);
+	}
+
+
+	@Test
+	void frameSnapshot_copyFromSnapshot_allFieldsMatchStructure()
+	{
+		FrameSnapshot snapshot = new FrameSnapshot()
+				.copyFrom(new FrameSnapshot().copyFrom(memory));
+
+		assertSnapshot(snapshot);
+	}
+
+
+	@Test
+	void frameSnapshot_nativeMemoryChanged_snapshotUnchanged()
+	{
+		FrameSnapshot snapshot = new FrameSnapshot().copyFrom(memory);
+		memory.clear();
+
+		assertSnapshot(snapshot);
+	}
+
+
+	@Test
+	void frameSnapshot_moreHandsThanCapacity_allHandsCopied()
+	{
+		FrameSnapshot snapshot = new FrameSnapshot().copyFrom(memory);
+
+		createEvent(5);
+		snapshot.copyFrom(memory);
+		assertSnapshot(snapshot);
+
+		createEvent(1);
+		snapshot.copyFrom(memory);
+		assertSnapshot(snapshot);
+	}
+
+
+	@Test
+	void frameSnapshot_nullHandPointer_noHands()
+	{
+		event.pHands = null;
+		event.write();
+
+		assertThat(new FrameSnapshot().copyFrom(memory).handCount()).isZero();
+		assertThat(new FrameSnapshot().copyFrom(event).handCount()).isZero();
+	}
+
+
+	private void assertSnapshot(FrameSnapshot snapshot)
+	{
+		assertThat(snapshot.frameId()).isEqualTo(123);
+		assertThat(snapshot.timestamp()).isEqualTo(456);
+		assertThat(snapshot.trackingFrameId()).isEqualTo(789);
+		assertThat(snapshot.framerate()).isEqualTo(110.5f);
+		assertThat(snapshot.handCount()).isEqualTo(event.nHands);
+
+		for (int i = 0; i < snapshot.handCount(); i++)
+		{
+			assertHand(snapshot.hand(i), event.getHands()[i]);
+		}
+
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> snapshot.hand(snapshot.handCount()));
+	}
+
+
+	private void assertHand(HandView view, LEAP_HAND hand)
+	{
+		assertThat(view.id()).isEqualTo(hand.id);
+		assertThat(view.flags()).isEqualTo(hand.flags);
+		assertThat(view.type()).isSameAs(hand.getType());
+		assertThat(view.confidence()).isEqualTo(hand.confidence);
+		assertThat(view.visibleTime()).isEqualTo(hand.visible_time);
+		assertThat(view.pinchDistance()).isEqualTo(hand.pinch_distance);
+		assertThat(view.grabAngle()).isEqualTo(hand.grab_angle);
+		assertThat(view.pinchStrength()).isEqualTo(hand.pinch_strength);
+		assertThat(view.grabStrength()).isEqualTo(hand.grab_strength);
+
+		assertVector(hand.palm.position, view.palmPositionX(), view.palmPositionY(),
+				view.palmPositionZ());
+		assertVector(hand.palm.stabilized_position, view.palmStabilizedPositionX(),
+				view.palmStabilizedPositionY(), view.palmStabilizedPositionZ());
+		assertVector(hand.palm.velocity, view.palmVelocityX(), view.palmVelocityY(),
+				view.palmVelocityZ());
+		assertVector(hand.palm.normal, view.palmNormalX(), view.palmNormalY(),
+				view.palmNormalZ());
+		assertThat(view.palmWidth()).isEqualTo(hand.palm.width);
+		assertVector(hand.palm.direction, view.palmDirectionX(), view.palmDirectionY(),
+				view.palmDirectionZ());
+		assertQuaternion(hand.palm.orientation, view.palmOrientationW(),
+				view.palmOrientationX(), view.palmOrientationY(), view.palmOrientationZ());
+
+		LEAP_DIGIT[] digits = hand.digits.asArray();
+		for (int i = 0; i < HandView.DIGIT_COUNT; i++)
+		{
+			DigitView digit = view.digit(i);
+			assertThat(digit.fingerId()).isEqualTo(digits[i].finger_id);
+			assertThat(digit.isExtended()).isEqualTo(digits[i].is_extended != 0);
+
+			LEAP_BONE[] bones = digits[i].boneArray();
+			for (int j = 0; j < DigitView.BONE_COUNT; j++)
+			{
+				assertBone(view.digit(i).bone(j), bones[j]);
+			}
+		}
+
+		assertBone(view.arm(), hand.arm);
+	}
+
+
+	private void assertBone(BoneView view, LEAP_BONE bone)
+	{
+		assertVector(bone.prev_joint, view.prevJointX(), view.prevJointY(),
+				view.prevJointZ());
+		assertVector(bone.next_joint, view.nextJointX(), view.nextJointY(),
+				view.nextJointZ());
+		assertThat(view.width()).isEqualTo(bone.width);
+		assertQuaternion(bone.rotation, view.rotationW(), view.rotationX(),
+				view.rotationY(), view.rotationZ());
+	}
+
+
+	private void assertVector(LEAP_VECTOR expected, float x, float y, float z)
+	{
+		assertThat(new float[] { x, y, z }).containsExactly(expected.asArray());
+	}
+
+
+	private void assertQuaternion(LEAP_QUATERNION expected, float w, float x, float y,
+			float z)
+	{
+		assertThat(new float[] { w, x, y, z }).containsExactly(expected.asArray());
+	}
+
+
+	private void fill(LEAP_HAND hand, int index)
+	{
+		hand.id = 10 + index;
+		hand.flags = 20 + index;
+		hand.type = index == 0 ? eLeapHandType.Left.value : eLeapHandType.Right.value;
+		hand.confidence = next();
+		hand.visible_time = 1_000_000_000_000L + index;
+		hand.pinch_distance = next();
+		hand.grab_angle = next();
+		hand.pinch_strength = next();
+		hand.grab_strength = next();
+
+		fill(hand.palm.position);
+		fill(hand.palm.stabilized_position);
+		fill(hand.palm.velocity);
+		fill(hand.palm.normal);
+		hand.palm.width = next();
+		fill(hand.palm.direction);
+		fill(hand.palm.orientation);
+
+		LEAP_DIGIT[] digits = hand.digits.asArray();
+		for (int i = 0; i < digits.length; i++)
+		{
+			digits[i].finger_id = 100 * index + i;
+			digits[i].is_extended = i % 2;
+
+			for (LEAP_BONE bone : digits[i].boneArray())
+			{
+				fill(bone);
+			}
+		}
+
+		fill(hand.arm);
+	}
+
+
+	private void fill(LEAP_BONE bone)
+	{
+		fill(bone.prev_joint);
+		fill(bone.next_joint);
+		bone.width = next();
+		fill(bone.rotation);
+	}
+
+
+	private void fill(LEAP_VECTOR vector)
+	{
+		vector.x = next();
+		vector.y = next();
+		vector.z = next();
+	}
+
+
+	private void fill(LEAP_QUATERNION quaternion)
+	{
+		quaternion.w = next();
+		quaternion.x = next();
+		quaternion.y = next();
+		quaternion.z = next();
+	}
+
+
+	private float next()
+	{
+		return nextValue++;
+	}
+}
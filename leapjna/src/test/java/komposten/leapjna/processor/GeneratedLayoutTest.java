@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+import com.sun.jna.Structure.FieldOrder;
+
+import komposten.leapjna.leapc.data.LEAP_ALLOCATOR;
+import komposten.leapjna.leapc.data.LEAP_DISTORTION_MATRIX;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.data.LEAP_VARIANT;
+import komposten.leapjna.leapc.events.LEAP_CONFIG_RESPONSE_EVENT;
+import komposten.leapjna.leapc.events.LEAP_IMAGE_EVENT;
+import komposten.leapjna.leapc.util.Structures;
+
+
+/**
+ * Verifies the layouts generated by <code>LayoutProcessor</code> against JNA's own layout
+ * calculations and field reads/writes.
+ */
+class GeneratedLayoutTest
+{
+	/** Structures which <code>LayoutProcessor</code> can not generate layouts for. */
+	private static final Set<Class<?>> UNSUPPORTED = new HashSet<>(Arrays.asList(
+			LEAP_ALLOCATOR.class, LEAP_DISTORTION_MATRIX.class, LEAP_VARIANT.class,
+			LEAP_CONFIG_RESPONSE_EVENT.class, LEAP_IMAGE_EVENT.class));
+
+	private static final int SCRATCH_SIZE = 16 * 1024;
+
+
+	static Stream<Class<? extends Structure>> structures()
+	{
+		List<Class<? extends Structure>> structures = new ArrayList<>(
+				Structures.getLeapStructures());
+		structures.add(LEAP_ALLOCATOR.class);
+		structures.add(LEAP_HAND.DigitStruct.class);
+		return structures.stream().filter(type -> type.isAnnotationPresent(FieldOrder.class)
+				&& type.getDeclaredAnnotation(FieldOrder.class) != null);
+	}
+
+
+	@ParameterizedTest
+	@MethodSource("structures")
+	void layout_existsUnlessUnsupported(Class<? extends Structure> type)
+	{
+		assertThat(getLayoutClass(type) == null).as("No layout for " + type.getName())
+				.isEqualTo(UNSUPPORTED.contains(type));
+	}
+
+
+	@ParameterizedTest
+	@MethodSource("structures")
+	void layout_offsetsAndSizeMatchJna(Class<? extends Structure> type) throws Exception
+	{
+		Class<?> layout = getLayoutClass(type);
+		if (layout == null)
+		{
+			return;
+		}
+
+		Structure struct = newInstance(type);
+		assertThat(layout.getField("BYTES").getInt(null)).as("BYTES").isEqualTo(struct.size());
+
+		Method fieldOffset = Structure.class.getDeclaredMethod("fieldOffset", String.class);
+		fieldOffset.setAccessible(true);
+		for (String name : getFieldOrder(type))
+		{
+			int generated = layout.getField(Names.toConstantName(name)).getInt(null);
+			assertThat(generated).as(name).isEqualTo(fieldOffset.invoke(struct, name));
+		}
+	}
+
+
+	@ParameterizedTest
+	@MethodSource("structures")
+	void read_patternMemory_sameValuesAsJna(Class<? extends Structure> type)
+			throws Exception
+	{
+		Class<?> layout = getLayoutClass(type);
+		if (layout == null)
+		{
+			return;
+		}
+
+		Memory memory = createPatternMemory(type, layout);
+
+		Structure expected = newInstance(type);
+		readWithJna(expected, memory);
+
+		Structure actual = newInstance(type);
+		layout.getMethod("read", Pointer.class, long.class, type).invoke(null, memory, 0L,
+				actual);
+
+		assertFieldsEqual(actual, expected, type.getSimpleName());
+	}
+
+
+	@ParameterizedTest
+	@MethodSource("structures")
+	void write_patternValues_jnaReadsSameValues(Class<? extends Structure> type)
+			throws Exception
+	{
+		Class<?> layout = getLayoutClass(type);
+		if (layout == null || !hasMethod(layout, "write"))
+		{
+			return;
+		}
+
+		Structure expected = newInstance(type);
+		readWithJna(expected, createPatternMemory(type, layout));
+
+		Memory memory = new Memory(expected.size());
+		memory.clear();
+		layout.getMethod("write", Pointer.class, long.class, type).invoke(null, memory, 0L,
+				expected);
+
+		Structure actual = newInstance(type);
+		readWithJna(actual, memory);
+
+		assertFieldsEqual(actual, expected, type.getSimpleName());
+	}
+
+
+	@ParameterizedTest
+	@MethodSource("structures")
+	void layout_deprecatedIfStructureDeprecated(Class<? extends Structure> type)
+	{
+		Class<?> layout = getLayoutClass(type);
+		if (layout == null)
+		{
+			return;
+		}
+
+		assertThat(layout.isAnnotationPresent(Deprecated.class))
+				.isEqualTo(type.isAnnotationPresent(Deprecated.class));
+	}
+
+
+	@Test
+	void toConstantName_variousNames_upperSnakeCase()
+	{
+		assertThat(Names.toConstantName("frame_id")).isEqualTo("FRAME_ID");
+		assertThat(Names.toConstantName("pHands")).isEqualTo("P_HANDS");
+		assertThat(Names.toConstantName("requestID")).isEqualTo("REQUEST_ID");
+		assertThat(Names.toConstantName("x")).isEqualTo("X");
+	}
+
+
+	private static Class<?> getLayoutClass(Class<?> type)
+	{
+		String packageName = type.getPackage().getName();
+		String typeName = type.getName().substring(packageName.length() + 1).replace('$', '.');
+		String name = packageName + "." + Names.toLayoutName(typeName);
+		try
+		{
+			return Class.forName(name);
+		}
+		catch (ClassNotFoundException e)
+		{
+			return null;
+		}
+	}
+
+
+	private static boolean hasMethod(Class<?> type, String name)
+	{
+		return Arrays.stream(type.getMethods()).anyMatch(m -> m.getName().equals(name));
+	}
+
+
+	private static Structure newInstance(Class<? extends Structure> type)
+	{
+		try
+		{
+			return Structure.newInstance(type);
+		}
+		catch (IllegalArgumentException e)
+		{
+			Memory scratch = new Memory(SCRATCH_SIZE);
+			scratch.clear();
+			return Structure.newInstance(type, scratch);
+		}
+	}
+
+
+	/**
+	 * Reads all fields using JNA's <code>readField</code>. <code>read()</code> is not used
+	 * since some structures follow pointers in it.
+	 */
+	private static void readWithJna(Structure struct, Pointer memory) throws Exception
+	{
+		Method useMemory = Structure.class.getDeclaredMethod("useMemory", Pointer.class);
+		useMemory.setAccessible(true);
+		useMemory.invoke(struct, memory);
+
+		for (String name : getFieldOrder(struct.getClass()))
+		{
+			struct.readField(name);
+		}
+	}
+
+
+	/**
+	 * Creates memory filled with a byte pattern, except for <code>String</code> fields
+	 * which are set to <code>null</code> so that they can be read.
+	 */
+	private static Memory createPatternMemory(Class<? extends Structure> type,
+			Class<?> layout) throws Exception
+	{
+		int size = layout.getField("BYTES").getInt(null);
+		Memory memory = new Memory(size);
+		for (int i = 0; i < size; i++)
+		{
+			memory.setByte(i, (byte) (i * 31 + 7));
+		}
+
+		for (String name : getFieldOrder(type))
+		{
+			if (type.getField(name).getType() == String.class)
+			{
+				int offset = layout.getField(Names.toConstantName(name)).getInt(null);
+				memory.setPointer(offset, null);
+			}
+		}
+
+		return memory;
+	}
+
+
+	private static void assertFieldsEqual(Structure actual, Structure expected, String path)
+			throws Exception
+	{
+		for (String name : getFieldOrder(expected.getClass()))
+		{
+			Field field = expected.getClass().getField(name);
+			Object actualValue = field.get(actual);
+			Object expectedValue = field.get(expected);
+
+			if (expectedValue instanceof Structure)
+			{
+				assertFieldsEqual((Structure) actualValue, (Structure) expectedValue,
+						path + "." + name);
+			}
+			else if (expectedValue instanceof Pointer)
+			{
+				assertThat(Pointer.nativeValue((Pointer) actualValue)).as(path + "." + name)
+						.isEqualTo(Pointer.nativeValue((Pointer) expectedValue));
+			}
+			else
+			{
+				assertThat(actualValue).as(path + "." + name).isEqualTo(expectedValue);
+			}
+		}
+	}
+
+
+	private static List<String> getFieldOrder(Class<?> type)
+	{
+		Class<?> current = type;
+		while (current.getDeclaredAnnotation(FieldOrder.class) == null)
+		{
+			current = current.getSuperclass();
+		}
+
+		return Arrays.asList(current.getDeclaredAnnotation(FieldOrder.class).value());
+	}
+}
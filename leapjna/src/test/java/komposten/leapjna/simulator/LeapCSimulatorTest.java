@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_INFO;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_INFO;
+import komposten.leapjna.leapc.data.LEAP_DEVICE_REF;
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.enums.eLeapConnectionStatus;
+import komposten.leapjna.leapc.enums.eLeapDevicePID;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapHandType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.ArrayPointer;
+
+
+class LeapCSimulatorTest
+{
+	private static final int TIMEOUT = 1000;
+
+	private LeapCSimulator simulator;
+	private Pointer hConnection;
+	private LEAP_CONNECTION_MESSAGE message;
+
+
+	@BeforeEach
+	void setup()
+	{
+		simulator = new LeapCSimulator(200, 2);
+		message = new LEAP_CONNECTION_MESSAGE();
+
+		LEAP_CONNECTION connection = new LEAP_CONNECTION();
+		assertThat(simulator.LeapCreateConnection(null, connection)).isEqualTo(eLeapRS.Success);
+		hConnection = connection.handle;
+	}
+
+
+	@AfterEach
+	void tearDown()
+	{
+		simulator.LeapCloseConnection(hConnection);
+		simulator.LeapDestroyConnection(hConnection);
+	}
+
+
+	private eLeapEventType poll()
+	{
+		assertThat(simulator.LeapPollConnection(hConnection, TIMEOUT, message))
+				.isEqualTo(eLeapRS.Success);
+		return message.getType();
+	}
+
+
+	private void openAndSkipHandshake()
+	{
+		simulator.LeapOpenConnection(hConnection);
+		assertThat(poll()).isEqualTo(eLeapEventType.Connection);
+		assertThat(poll()).isEqualTo(eLeapEventType.Device);
+	}
+
+
+	/**
+	 * Polls until an event of the specified type is received, skipping any tracking
+	 * frames that were queued before it.
+	 */
+	private void pollUntil(eLeapEventType type)
+	{
+		eLeapEventType polled;
+		do
+		{
+			polled = poll();
+		}
+		while (polled == eLeapEventType.Tracking && type != eLeapEventType.Tracking);
+
+		assertThat(polled).isEqualTo(type);
+	}
+
+
+	private LEAP_TRACKING_EVENT pollTrackingEvent()
+	{
+		eLeapEventType type = poll();
+		assertThat(type).isEqualTo(eLeapEventType.Tracking);
+		return message.getTrackingEvent();
+	}
+
+
+	@Test
+	void LeapPollConnection_notOpened_notConnected()
+	{
+		assertThat(simulator.LeapPollConnection(hConnection, 0, message))
+				.isEqualTo(eLeapRS.NotConnected);
+	}
+
+
+	@Test
+	void LeapPollConnection_invalidHandle_invalidArgument()
+	{
+		assertThat(simulator.LeapPollConnection(new Pointer(1), 0, message))
+				.isEqualTo(eLeapRS.InvalidArgument);
+	}
+
+
+	@Test
+	void LeapOpenConnection_connectionAndDeviceEvents()
+	{
+		simulator.LeapOpenConnection(hConnection);
+
+		assertThat(poll()).isEqualTo(eLeapEventType.Connection);
+		assertThat(message.device_id).isZero();
+
+		assertThat(poll()).isEqualTo(eLeapEventType.Device);
+		assertThat(message.getDeviceEvent().device.id).isEqualTo(simulator.getDeviceIds()[0]);
+		assertThat(message.device_id).isEqualTo(simulator.getDeviceIds()[0]);
+	}
+
+
+	@Test
+	void LeapPollConnection_tracking_nativeLayoutEvent()
+	{
+		openAndSkipHandshake();
+
+		LEAP_TRACKING_EVENT event = pollTrackingEvent();
+		assertThat(event.nHands).isEqualTo(2);
+		assertThat(event.framerate).isEqualTo(200);
+
+		LEAP_HAND[] hands = event.getHands();
+		assertThat(hands).hasSize(2);
+		assertThat(hands[0].getType()).isEqualTo(eLeapHandType.Left);
+		assertThat(hands[1].getType()).isEqualTo(eLeapHandType.Right);
+		assertThat(hands[0].palm.position.y).isBetween(100f, 300f);
+		assertThat(hands[0].digits.index.distal.width).isPositive();
+	}
+
+
+	@Test
+	void LeapPollConnection_tracking_increasingFrameIdsAndTimestamps()
+	{
+		openAndSkipHandshake();
+
+		LEAP_TRACKING_EVENT first = pollTrackingEvent();
+		long firstId = first.tracking_frame_id;
+		long firstTimestamp = first.info.timestamp;
+
+		LEAP_TRACKING_EVENT second = pollTrackingEvent();
+		assertThat(second.tracking_frame_id).isGreaterThan(firstId);
+		assertThat(second.info.timestamp).isGreaterThan(firstTimestamp);
+		assertThat(second.info.timestamp).isLessThanOrEqualTo(simulator.LeapGetNow());
+	}
+
+
+	@Test
+	void LeapPollConnection_tracking_producedAtFrameRate()
+	{
+		openAndSkipHandshake();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 40; i++)
+		{
+			pollTrackingEvent();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		// 40 frames at 200 Hz should take about 200 ms.
+		assertThat(elapsed).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(150));
+	}
+
+
+	@Test
+	void setHandCount_appliedToNextFrame()
+	{
+		openAndSkipHandshake();
+		pollTrackingEvent();
+
+		simulator.setHandCount(0);
+		LEAP_TRACKING_EVENT event = pollTrackingEvent();
+		assertThat(event.nHands).isZero();
+		assertThat(event.getHands()).isEmpty();
+
+		simulator.setHandCount(3);
+		assertThat(pollTrackingEvent().getHands()).hasSize(3);
+	}
+
+
+	@Test
+	void LeapPollConnection_noDevices_timeout()
+	{
+		simulator.unplugDevice(simulator.getDeviceIds()[0]);
+		simulator.LeapOpenConnection(hConnection);
+		assertThat(poll()).isEqualTo(eLeapEventType.Connection);
+
+		assertThat(simulator.LeapPollConnection(hConnection, 20, message))
+				.isEqualTo(eLeapRS.Timeout);
+		assertThat(message.getType()).isEqualTo(eLeapEventType.None);
+	}
+
+
+	@Test
+	void LeapPollConnection_concurrentPoll_concurrentPollResult() throws Exception
+	{
+		simulator.unplugDevice(simulator.getDeviceIds()[0]);
+		simulator.LeapOpenConnection(hConnection);
+		poll();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			CountDownLatch started = new CountDownLatch(1);
+			Future<eLeapRS> blocked = executor.submit(() -> {
+				started.countDown();
+				return simulator.LeapPollConnection(hConnection, 500,
+						new LEAP_CONNECTION_MESSAGE());
+			});
+
+			started.await();
+			Thread.sleep(50);
+			assertThat(simulator.LeapPollConnection(hConnection, 0, message))
+					.isEqualTo(eLeapRS.ConcurrentPoll);
+			assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo(eLeapRS.Timeout);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+
+	@Test
+	void dropFrames_droppedFrameEventsAndSkippedIds()
+	{
+		// Use a low frame rate so that slow polls never make the simulator skip frames.
+		simulator.setFrameRate(25);
+		openAndSkipHandshake();
+		pollTrackingEvent();
+
+		simulator.dropFrames(2);
+
+		pollUntil(eLeapEventType.DroppedFrame);
+		long firstDropped = message.getDroppedFrameEvent().frame_id;
+		assertThat(poll()).isEqualTo(eLeapEventType.DroppedFrame);
+		assertThat(message.getDroppedFrameEvent().frame_id).isEqualTo(firstDropped + 1);
+		assertThat(pollTrackingEvent().tracking_frame_id).isEqualTo(firstDropped + 2);
+	}
+
+
+	@Test
+	void unplugDevice_deviceLostEventAndNoMoreFrames()
+	{
+		openAndSkipHandshake();
+		int deviceId = simulator.getDeviceIds()[0];
+
+		assertThat(simulator.unplugDevice(deviceId)).isTrue();
+
+		pollUntil(eLeapEventType.DeviceLost);
+		assertThat(message.getDeviceLostEvent().device.id).isEqualTo(deviceId);
+		assertThat(simulator.LeapPollConnection(hConnection, 50, message))
+				.isEqualTo(eLeapRS.Timeout);
+	}
+
+
+	@Test
+	void plugDevice_deviceEventAndFramesFromBothDevices()
+	{
+		openAndSkipHandshake();
+		int firstId = simulator.getDeviceIds()[0];
+
+		int secondId = simulator.plugDevice();
+
+		pollUntil(eLeapEventType.Device);
+		assertThat(message.getDeviceEvent().device.id).isEqualTo(secondId);
+
+		pollTrackingEvent();
+		int id1 = message.device_id;
+		pollTrackingEvent();
+		int id2 = message.device_id;
+		assertThat(new int[] { id1, id2 }).containsExactlyInAnyOrder(firstId, secondId);
+	}
+
+
+	@Test
+	void loseConnection_connectionLostThenRestored()
+	{
+		openAndSkipHandshake();
+
+		simulator.loseConnection();
+		assertThat(poll()).isEqualTo(eLeapEventType.ConnectionLost);
+		assertThat(simulator.LeapPollConnection(hConnection, 50, message))
+				.isEqualTo(eLeapRS.Timeout);
+
+		LEAP_CONNECTION_INFO info = new LEAP_CONNECTION_INFO();
+		simulator.LeapGetConnectionInfo(hConnection, info);
+		assertThat(info.getStatus()).isEqualTo(eLeapConnectionStatus.NotConnected);
+
+		simulator.restoreConnection();
+		assertThat(poll()).isEqualTo(eLeapEventType.Connection);
+		assertThat(poll()).isEqualTo(eLeapEventType.Device);
+		pollTrackingEvent();
+	}
+
+
+	@Test
+	void LeapSetPause_noFramesWhilePaused()
+	{
+		openAndSkipHandshake();
+
+		simulator.LeapSetPause(hConnection, 1);
+		assertThat(simulator.LeapPollConnection(hConnection, 50, message))
+				.isEqualTo(eLeapRS.Timeout);
+
+		simulator.LeapSetPause(hConnection, 0);
+		pollTrackingEvent();
+	}
+
+
+	@Test
+	void LeapGetDeviceList_andDeviceInfo()
+	{
+		simulator.LeapOpenConnection(hConnection);
+
+		IntByReference count = new IntByReference();
+		simulator.LeapGetDeviceList(hConnection, null, count);
+		assertThat(count.getValue()).isEqualTo(1);
+
+		ArrayPointer<LEAP_DEVICE_REF> refs = ArrayPointer.empty(LEAP_DEVICE_REF.class, 1);
+		simulator.LeapGetDeviceList(hConnection, refs, count);
+		LEAP_DEVICE_REF ref = refs.getElement(0);
+		assertThat(ref.id).isEqualTo(simulator.getDeviceIds()[0]);
+
+		LEAP_DEVICE device = new LEAP_DEVICE();
+		assertThat(simulator.LeapOpenDevice(ref, device)).isEqualTo(eLeapRS.Success);
+
+		LEAP_DEVICE_INFO info = new LEAP_DEVICE_INFO();
+		assertThat(simulator.LeapGetDeviceInfo(device.handle, info))
+				.isEqualTo(eLeapRS.InsufficientBuffer);
+
+		info.allocateSerialBuffer(info.serial_length);
+		assertThat(simulator.LeapGetDeviceInfo(device.handle, info))
+				.isEqualTo(eLeapRS.Success);
+		assertThat(info.serial).startsWith("SIM");
+		assertThat(info.getPid()).isEqualTo(eLeapDevicePID.Peripheral);
+	}
+
+
+	@Test
+	void LeapDestroyConnection_handleInvalidated()
+	{
+		simulator.LeapDestroyConnection(hConnection);
+		assertThat(simulator.LeapOpenConnection(hConnection))
+				.isEqualTo(eLeapRS.InvalidArgument);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+
+class AdaptivePollTimeoutTest
+{
+	private static final long START = 1_000_000_000L;
+
+
+	/** Reports <code>count</code> tracking events at the given frame rate. */
+	private static long track(AdaptivePollTimeout timeout, float framerate, long time,
+			int count)
+	{
+		long interval = (long) (1e9 / framerate);
+		for (int i = 0; i < count; i++)
+		{
+			time += interval;
+			timeout.onTracking(framerate, time);
+		}
+
+		return time;
+	}
+
+
+	@Test
+	void constructor_invalidRange_exception()
+	{
+		assertThatThrownBy(() -> new AdaptivePollTimeout(0, 100))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new AdaptivePollTimeout(50, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+
+	@Test
+	void getTimeout_noFrames_maxTimeout()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+
+		assertThat(timeout.getTimeout()).isEqualTo(100);
+	}
+
+
+	@Test
+	void onTracking_followsFrameRate()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+
+		long time = track(timeout, 120, START, 20);
+		assertThat(timeout.getTimeout()).isEqualTo(25);
+
+		// Low-power mode: the average gap catches up with the reported rate.
+		track(timeout, 30, time, 20);
+		assertThat(timeout.getTimeout()).isEqualTo(100);
+	}
+
+
+	@Test
+	void onTracking_framesSlowerThanReported_usesObservedGap()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+		long time = START;
+
+		// Every other frame is filtered out, so frames arrive at 60 Hz.
+		for (int i = 0; i < 50; i++)
+		{
+			time += TimeUnit.MILLISECONDS.toNanos(1000) / 60;
+			timeout.onTracking(120, time);
+		}
+
+		assertThat(timeout.getTimeout()).isEqualTo(50);
+	}
+
+
+	@Test
+	void onTracking_gapAfterPause_ignored()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+
+		long time = track(timeout, 120, START, 20);
+		timeout.onTracking(120, time + TimeUnit.SECONDS.toNanos(10));
+
+		assertThat(timeout.getTimeout()).isEqualTo(25);
+	}
+
+
+	@Test
+	void onTimeout_doublesUpToMaxTimeout()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+		long time = track(timeout, 120, START, 20);
+
+		timeout.onTimeout();
+		assertThat(timeout.getTimeout()).isEqualTo(50);
+		timeout.onTimeout();
+		assertThat(timeout.getTimeout()).isEqualTo(100);
+
+		for (int i = 0; i < 100; i++)
+		{
+			timeout.onTimeout();
+		}
+		assertThat(timeout.getTimeout()).isEqualTo(100);
+
+		timeout.onTracking(120, time + TimeUnit.SECONDS.toNanos(1));
+		assertThat(timeout.getTimeout()).isEqualTo(25);
+	}
+
+
+	@Test
+	void onTracking_highFrameRate_minTimeout()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+
+		track(timeout, 1000, START, 20);
+
+		assertThat(timeout.getTimeout()).isEqualTo(5);
+	}
+
+
+	@Test
+	void reset_maxTimeout()
+	{
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+		track(timeout, 120, START, 20);
+
+		timeout.reset();
+
+		assertThat(timeout.getTimeout()).isEqualTo(100);
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import komposten.leapjna.leapc.views.FrameSnapshot;
+import komposten.leapjna.simulator.LeapCSimulator;
+import komposten.leapjna.util.EventPublisher.OverflowStrategy;
+
+
+class EventPublisherTest
+{
+	private static final long TIMEOUT_SECONDS = 5;
+
+
+	/** An executor which runs its tasks when {@link #runAll()} is called. */
+	private static class ManualExecutor implements Executor
+	{
+		private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+
+		@Override
+		public void execute(Runnable command)
+		{
+			tasks.add(command);
+		}
+
+
+		void runAll()
+		{
+			Runnable task;
+			while ((task = tasks.poll()) != null)
+			{
+				task.run();
+			}
+		}
+	}
+
+
+	private static class RecordingSubscriber<T> implements Flow.Subscriber<T>
+	{
+		final List<T> items = new ArrayList<>();
+		Flow.Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription)
+		{
+			this.subscription = subscription;
+		}
+
+
+		@Override
+		public void onNext(T item)
+		{
+			items.add(item);
+		}
+
+
+		@Override
+		public void onError(Throwable throwable)
+		{
+			error = throwable;
+		}
+
+
+		@Override
+		public void onComplete()
+		{
+			completed = true;
+		}
+	}
+
+
+	private final ManualExecutor executor = new ManualExecutor();
+
+
+	private RecordingSubscriber<Integer> subscribe(EventPublisher<Integer> publisher)
+	{
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+		publisher.subscribe(subscriber);
+		executor.runAll();
+		return subscriber;
+	}
+
+
+	@Test
+	void constructor_invalidBufferSize_exception()
+	{
+		assertThatThrownBy(() -> new EventPublisher<>(executor, OverflowStrategy.BUFFER, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+
+	@Test
+	void submit_onlyRequestedItemsDelivered()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.BUFFER, 8);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		for (int i = 0; i < 5; i++)
+		{
+			publisher.submit(i);
+		}
+		executor.runAll();
+
+		assertThat(subscriber.subscription).isNotNull();
+		assertThat(subscriber.items).isEmpty();
+
+		subscriber.subscription.request(2);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(0, 1);
+
+		subscriber.subscription.request(10);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(0, 1, 2, 3, 4);
+		assertThat(publisher.getDroppedCount()).isZero();
+	}
+
+
+	@Test
+	void submit_dropOldest_keepsNewestItems()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.DROP_OLDEST, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		for (int i = 0; i < 10; i++)
+		{
+			publisher.submit(i);
+		}
+		subscriber.subscription.request(Long.MAX_VALUE);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(7, 8, 9);
+		assertThat(publisher.getDroppedCount()).isEqualTo(7);
+	}
+
+
+	@Test
+	void submit_latestOnly_keepsLatestItem()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.LATEST_ONLY, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		for (int i = 0; i < 10; i++)
+		{
+			publisher.submit(i);
+		}
+		subscriber.subscription.request(Long.MAX_VALUE);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(9);
+		assertThat(publisher.getDroppedCount()).isEqualTo(9);
+	}
+
+
+	@Test
+	void submit_bufferOverflow_error()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.BUFFER, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		for (int i = 0; i < 4; i++)
+		{
+			publisher.submit(i);
+		}
+		executor.runAll();
+
+		assertThat(subscriber.items).isEmpty();
+		assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+		assertThat(publisher.hasSubscribers()).isFalse();
+	}
+
+
+	@Test
+	void request_notPositive_error()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.BUFFER, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		subscriber.subscription.request(0);
+		executor.runAll();
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		assertThat(publisher.getSubscriberCount()).isZero();
+	}
+
+
+	@Test
+	void cancel_noMoreItems()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.BUFFER, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		publisher.submit(1);
+		executor.runAll();
+		subscriber.subscription.cancel();
+		publisher.submit(2);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(1);
+		assertThat(subscriber.completed).isFalse();
+		assertThat(publisher.hasSubscribers()).isFalse();
+	}
+
+
+	@Test
+	void close_completesAfterBufferedItems()
+	{
+		EventPublisher<Integer> publisher = new EventPublisher<>(executor,
+				OverflowStrategy.BUFFER, 3);
+		RecordingSubscriber<Integer> subscriber = subscribe(publisher);
+
+		publisher.submit(1);
+		publisher.close();
+		publisher.submit(2);
+		executor.runAll();
+
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.subscription.request(1);
+		executor.runAll();
+
+		assertThat(subscriber.items).containsExactly(1);
+		assertThat(subscriber.completed).isTrue();
+		assertThat(subscribe(publisher).completed).isTrue();
+	}
+
+
+	@Test
+	void leapEventPublishers_deliversFramesOnExecutor() throws InterruptedException
+	{
+		ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor(
+				runnable -> new Thread(runnable, "test delivery thread"));
+		LeapEventPublishers publishers = new LeapEventPublishers(deliveryExecutor,
+				OverflowStrategy.DROP_OLDEST, 4);
+		CountDownLatch frames = new CountDownLatch(5);
+		AtomicReference<Thread> subscriberThread = new AtomicReference<>();
+		List<Long> frameIds = new ArrayList<>();
+
+		publishers.getTracking().subscribe(new RecordingSubscriber<FrameSnapshot>()
+		{
+			@Override
+			public void onSubscribe(Flow.Subscription subscription)
+			{
+				subscription.request(5);
+			}
+
+
+			@Override
+			public void onNext(FrameSnapshot item)
+			{
+				subscriberThread.set(Thread.currentThread());
+				frameIds.add(item.frameId());
+				frames.countDown();
+			}
+		});
+
+		try (LeapSession session = new LeapSession(new LeapCSimulator(200, 1),
+				publishers))
+		{
+			session.start();
+			assertThat(frames.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+		}
+		finally
+		{
+			publishers.close();
+			deliveryExecutor.shutdown();
+			deliveryExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+
+		assertThat(subscriberThread.get().getName()).isEqualTo("test delivery thread");
+		assertThat(frameIds).hasSize(5).isSorted();
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.Structures;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+import komposten.leapjna.leapc.views.HandView;
+
+
+class FrameMailboxTest
+{
+	private static final int EVENT_SIZE = Structures.sizeOf(LEAP_TRACKING_EVENT.class);
+	private static final int MAX_HANDS = 2;
+
+	private Memory memory;
+	private LEAP_TRACKING_EVENT event;
+	private LEAP_HAND[] hands;
+	private FrameMailbox mailbox;
+
+
+	@BeforeEach
+	void setup()
+	{
+		memory = new Memory(EVENT_SIZE + (long) MAX_HANDS * HandView.SIZE);
+		memory.clear();
+		event = new LEAP_TRACKING_EVENT(memory);
+		hands = new LEAP_HAND[MAX_HANDS];
+		for (int i = 0; i < MAX_HANDS; i++)
+		{
+			hands[i] = new LEAP_HAND(memory.share(EVENT_SIZE + (long) i * HandView.SIZE));
+		}
+
+		mailbox = new FrameMailbox();
+	}
+
+
+	/** Publishes a frame with the given ID, whose hands have the frame ID as their IDs. */
+	private void publish(int frameId, int handCount)
+	{
+		event.info.frame_id = frameId;
+		event.nHands = handCount;
+		event.pHands = memory.share(EVENT_SIZE);
+		event.info.writeField("frame_id");
+		event.writeField("nHands");
+		event.writeField("pHands");
+
+		for (int i = 0; i < handCount; i++)
+		{
+			hands[i].id = frameId;
+			hands[i].writeField("id");
+		}
+
+		mailbox.publish(memory);
+	}
+
+
+	@Test
+	void poll_nothingPublished_null()
+	{
+		assertThat(mailbox.poll()).isNull();
+	}
+
+
+	@Test
+	void poll_severalPublished_latestFrameAndOverwrittenCount()
+	{
+		publish(1, 1);
+		publish(2, 1);
+		publish(3, 1);
+
+		FrameSnapshot frame = mailbox.poll();
+
+		assertThat(frame.frameId()).isEqualTo(3);
+		assertThat(frame.hand(0).id()).isEqualTo(3);
+		assertThat(mailbox.poll()).isNull();
+		assertThat(mailbox.getPublishedCount()).isEqualTo(3);
+		assertThat(mailbox.getOverwrittenCount()).isEqualTo(2);
+	}
+
+
+	@Test
+	void poll_publishAfterPoll_polledFrameUnchanged()
+	{
+		publish(1, 1);
+		FrameSnapshot frame = mailbox.poll();
+
+		publish(2, 2);
+		publish(3, 2);
+		publish(4, 2);
+
+		assertThat(frame.frameId()).isEqualTo(1);
+		assertThat(frame.handCount()).isEqualTo(1);
+		assertThat(mailbox.poll().frameId()).isEqualTo(4);
+	}
+
+
+	@Test
+	void take_noFrame_timesOut() throws InterruptedException
+	{
+		assertThat(mailbox.take(10, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+
+	@Test
+	void take_framePublishedLater_returnsFrame() throws Exception
+	{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			Future<Long> result = executor.submit(() ->
+			{
+				FrameSnapshot frame = mailbox.take(5, TimeUnit.SECONDS);
+				return frame != null ? frame.frameId() : null;
+			});
+
+			Thread.sleep(20);
+			publish(42, 1);
+
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+
+	@Test
+	void concurrentConsumer_neverReadsTornFrames() throws Exception
+	{
+		int frameCount = 20_000;
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			Future<Long> result = executor.submit(() ->
+			{
+				long previousId = -1;
+				long framesRead = 0;
+				FrameSnapshot frame;
+
+				while (previousId < frameCount - 1
+						&& (frame = mailbox.take(5, TimeUnit.SECONDS)) != null)
+				{
+					assertThat(frame.frameId()).isGreaterThan(previousId);
+					for (int i = 0; i < frame.handCount(); i++)
+					{
+						assertThat(frame.hand(i).id()).isEqualTo(frame.frameId());
+					}
+
+					previousId = frame.frameId();
+					framesRead++;
+				}
+
+				return framesRead;
+			});
+
+			for (int i = 0; i < frameCount; i++)
+			{
+				publish(i, i % (MAX_HANDS + 1));
+			}
+
+			long framesRead = result.get(10, TimeUnit.SECONDS);
+			assertThat(framesRead + mailbox.getOverwrittenCount()).isEqualTo(frameCount);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.sun.jna.Memory;
+
+import komposten.leapjna.leapc.data.LEAP_HAND;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.util.Structures;
+import komposten.leapjna.leapc.views.FrameSnapshot;
+import komposten.leapjna.leapc.views.HandView;
+import komposten.leapjna.util.FrameRingBuffer.Reader;
+import komposten.leapjna.util.FrameRingBuffer.WaitStrategy;
+
+
+class FrameRingBufferTest
+{
+	private static final int EVENT_SIZE = Structures.sizeOf(LEAP_TRACKING_EVENT.class);
+	private static final int MAX_HANDS = 2;
+
+	private Memory memory;
+	private LEAP_TRACKING_EVENT event;
+	private LEAP_HAND[] hands;
+
+
+	@BeforeEach
+	void setup()
+	{
+		memory = new Memory(EVENT_SIZE + (long) MAX_HANDS * HandView.SIZE);
+		memory.clear();
+		event = new LEAP_TRACKING_EVENT(memory);
+		hands = new LEAP_HAND[MAX_HANDS];
+		for (int i = 0; i < MAX_HANDS; i++)
+		{
+			hands[i] = new LEAP_HAND(memory.share(EVENT_SIZE + (long) i * HandView.SIZE));
+		}
+	}
+
+
+	/** Writes a frame with the given ID, whose hands have the frame ID as their IDs. */
+	private void writeFrame(int frameId, int handCount)
+	{
+		event.info.frame_id = frameId;
+		event.nHands = handCount;
+		event.pHands = memory.share(EVENT_SIZE);
+		event.info.writeField("frame_id");
+		event.writeField("nHands");
+		event.writeField("pHands");
+
+		for (int i = 0; i < handCount; i++)
+		{
+			hands[i].id = frameId;
+			hands[i].writeField("id");
+		}
+	}
+
+
+	private void publish(FrameRingBuffer buffer, int frameId)
+	{
+		writeFrame(frameId, 1);
+		buffer.publish(memory);
+	}
+
+
+	@Test
+	void constructor_notPowerOfTwo_exception()
+	{
+		assertThatThrownBy(() -> new FrameRingBuffer(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new FrameRingBuffer(12))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+
+	@Test
+	void poll_everyReaderReadsEveryFrame()
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(8);
+		Reader reader1 = buffer.newReader(WaitStrategy.BLOCKING);
+		Reader reader2 = buffer.newReader(WaitStrategy.BUSY_SPIN);
+		FrameSnapshot frame = new FrameSnapshot();
+
+		for (int i = 0; i < 3; i++)
+		{
+			publish(buffer, i);
+		}
+
+		for (Reader reader : new Reader[] { reader1, reader2 })
+		{
+			assertThat(reader.getLag()).isEqualTo(3);
+			for (int i = 0; i < 3; i++)
+			{
+				assertThat(reader.poll(frame)).isTrue();
+				assertThat(frame.frameId()).isEqualTo(i);
+				assertThat(frame.hand(0).id()).isEqualTo(i);
+			}
+
+			assertThat(reader.poll(frame)).isFalse();
+			assertThat(reader.getLag()).isZero();
+			assertThat(reader.getOverrunCount()).isZero();
+		}
+	}
+
+
+	@Test
+	void newReader_startsAtNextFrame()
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(8);
+		publish(buffer, 0);
+		Reader reader = buffer.newReader(WaitStrategy.YIELDING);
+		FrameSnapshot frame = new FrameSnapshot();
+
+		assertThat(reader.poll(frame)).isFalse();
+
+		publish(buffer, 1);
+
+		assertThat(reader.poll(frame)).isTrue();
+		assertThat(frame.frameId()).isEqualTo(1);
+	}
+
+
+	@Test
+	void poll_readerOverrun_skipsToOldestFrame()
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(4);
+		Reader reader = buffer.newReader(WaitStrategy.BLOCKING);
+		FrameSnapshot frame = new FrameSnapshot();
+
+		for (int i = 0; i < 10; i++)
+		{
+			publish(buffer, i);
+		}
+
+		assertThat(reader.getLag()).isEqualTo(10);
+		assertThat(buffer.getMaxLag()).isEqualTo(10);
+		assertThat(reader.poll(frame)).isTrue();
+		assertThat(frame.frameId()).isEqualTo(6);
+		assertThat(reader.getOverrunCount()).isEqualTo(6);
+		assertThat(reader.getLag()).isEqualTo(3);
+	}
+
+
+	@Test
+	void close_removesReaderFromMaxLag()
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(4);
+		Reader reader = buffer.newReader(WaitStrategy.BLOCKING);
+		publish(buffer, 0);
+
+		assertThat(buffer.getMaxLag()).isEqualTo(1);
+
+		reader.close();
+
+		assertThat(buffer.getMaxLag()).isZero();
+	}
+
+
+	@Test
+	void take_noFrame_timesOut() throws InterruptedException
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(4);
+		Reader reader = buffer.newReader(WaitStrategy.BLOCKING);
+
+		assertThat(reader.take(new FrameSnapshot(), 10, TimeUnit.MILLISECONDS)).isFalse();
+	}
+
+
+	@ParameterizedTest
+	@EnumSource(WaitStrategy.class)
+	void take_framePublishedLater_returnsFrame(WaitStrategy waitStrategy) throws Exception
+	{
+		FrameRingBuffer buffer = new FrameRingBuffer(4);
+		Reader reader = buffer.newReader(waitStrategy);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			Future<FrameSnapshot> result = executor.submit(() ->
+			{
+				FrameSnapshot frame = new FrameSnapshot();
+				return reader.take(frame, 5, TimeUnit.SECONDS) ? frame : null;
+			});
+
+			Thread.sleep(20);
+			publish(buffer, 42);
+
+			assertThat(result.get(5, TimeUnit.SECONDS).frameId()).isEqualTo(42);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+
+	@Test
+	void concurrentReader_neverReadsTornFrames() throws Exception
+	{
+		int frameCount = 20_000;
+		FrameRingBuffer buffer = new FrameRingBuffer(4);
+		Reader reader = buffer.newReader(WaitStrategy.BUSY_SPIN);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			Future<Long> result = executor.submit(() ->
+			{
+				FrameSnapshot frame = new FrameSnapshot();
+				long previousId = -1;
+				long framesRead = 0;
+
+				while (previousId < frameCount - 1 && reader.take(frame, 5, TimeUnit.SECONDS))
+				{
+					assertThat(frame.frameId()).isGreaterThan(previousId);
+					for (int i = 0; i < frame.handCount(); i++)
+					{
+						assertThat(frame.hand(i).id()).isEqualTo(frame.frameId());
+					}
+
+					previousId = frame.frameId();
+					framesRead++;
+				}
+
+				return framesRead;
+			});
+
+			for (int i = 0; i < frameCount; i++)
+			{
+				writeFrame(i, i % (MAX_HANDS + 1));
+				buffer.publish(memory);
+			}
+
+			long framesRead = result.get(10, TimeUnit.SECONDS);
+			assertThat(framesRead + reader.getOverrunCount()).isEqualTo(frameCount);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
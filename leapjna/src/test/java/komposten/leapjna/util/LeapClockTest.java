@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class LeapClockTest
+{
+	private static final long NANOS_PER_CALL = 200;
+	private static final long LEAP_OFFSET = 5_000_000_000L;
+
+	private AtomicLong nanos;
+	private volatile double leapRate;
+	private volatile long leapOffset;
+
+
+	@BeforeEach
+	void setup()
+	{
+		nanos = new AtomicLong(1_000_000_000L);
+		leapRate = 1.0;
+		leapOffset = LEAP_OFFSET;
+	}
+
+
+	private long nanoTime()
+	{
+		return nanos.getAndAdd(NANOS_PER_CALL);
+	}
+
+
+	private long leapNow()
+	{
+		return leapTimeAt(nanos.get());
+	}
+
+
+	private long leapTimeAt(long nanoTime)
+	{
+		return leapOffset + Math.round(nanoTime * leapRate / 1000);
+	}
+
+
+	private LeapClock createClock()
+	{
+		return new LeapClock(this::leapNow, this::nanoTime);
+	}
+
+
+	@Test
+	void now_afterCreation_matchesLeapTime()
+	{
+		LeapClock clock = createClock();
+
+		long expected = leapTimeAt(nanos.get());
+		assertThat(clock.now()).isCloseTo(expected, within(1L));
+		assertThat(clock.getCalibrationCount()).isEqualTo(1);
+		assertThat(clock.getUncertaintyNanos()).isEqualTo(NANOS_PER_CALL / 2);
+	}
+
+
+	@Test
+	void toNanoTime_inverseOfToLeapTime()
+	{
+		LeapClock clock = createClock();
+
+		long nanoTime = nanos.get() + 12_345_678;
+		assertThat(clock.toNanoTime(clock.toLeapTime(nanoTime)))
+				.isCloseTo(nanoTime, within(1000L));
+	}
+
+
+	@Test
+	void calibrate_driftingClock_correctsRateAndOffset()
+	{
+		leapRate = 1.0005;
+		LeapClock clock = createClock();
+
+		for (int i = 0; i < 10; i++)
+		{
+			nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+			clock.calibrate();
+		}
+
+		assertThat(clock.getRate()).isCloseTo(1.0005, within(1e-6));
+
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(clock.now()).isCloseTo(leapTimeAt(nanos.get()), within(5L));
+		assertThat(clock.getResyncCount()).isZero();
+	}
+
+
+	@Test
+	void calibrate_clockJump_resynchronises()
+	{
+		LeapClock clock = createClock();
+
+		leapOffset += TimeUnit.SECONDS.toMicros(10);
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		clock.calibrate();
+
+		assertThat(clock.getResyncCount()).isEqualTo(1);
+		assertThat(clock.now()).isCloseTo(leapTimeAt(nanos.get()), within(1L));
+	}
+
+
+	@Test
+	void start_periodicCalibration_calibratesUntilClosed() throws InterruptedException
+	{
+		LeapClock clock = new LeapClock(() -> leapTimeAt(System.nanoTime()));
+
+		try
+		{
+			clock.start(5, TimeUnit.MILLISECONDS);
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (clock.getCalibrationCount() < 3 && System.nanoTime() < deadline)
+			{
+				Thread.sleep(5);
+			}
+
+			assertThat(clock.getCalibrationCount()).isGreaterThanOrEqualTo(3);
+		}
+		finally
+		{
+			clock.close();
+		}
+
+		Thread.sleep(20);
+		long count = clock.getCalibrationCount();
+		Thread.sleep(50);
+		assertThat(clock.getCalibrationCount()).isEqualTo(count);
+	}
+
+
+	@Test
+	void start_calibrationThrows_keepsCalibrating() throws InterruptedException
+	{
+		AtomicLong calls = new AtomicLong();
+		LeapClock clock = new LeapClock(() ->
+		{
+			// Fail the first periodic calibration (after the one in the constructor).
+			if (calls.incrementAndGet() == LeapClock.SAMPLES_PER_CALIBRATION + 1)
+			{
+				throw new IllegalStateException("LeapGetNow failed");
+			}
+
+			return leapTimeAt(System.nanoTime());
+		});
+
+		try
+		{
+			clock.start(5, TimeUnit.MILLISECONDS);
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (clock.getCalibrationCount() < 3 && System.nanoTime() < deadline)
+			{
+				Thread.sleep(5);
+			}
+
+			assertThat(clock.getCalibrationCount()).isGreaterThanOrEqualTo(3);
+			assertThat(clock.getFailedCalibrationCount()).isEqualTo(1);
+			assertThat(clock.getLastCalibrationFailure())
+					.isInstanceOf(IllegalStateException.class);
+		}
+		finally
+		{
+			clock.close();
+		}
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.jna.Pointer;
+
+import komposten.leapjna.leapc.StubLeapC;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_CONFIG;
+import komposten.leapjna.leapc.data.LEAP_CONNECTION_MESSAGE;
+import komposten.leapjna.leapc.enums.eLeapEventType;
+import komposten.leapjna.leapc.enums.eLeapRS;
+import komposten.leapjna.leapc.events.EventHandler;
+import komposten.leapjna.leapc.events.LEAP_CONNECTION_EVENT;
+import komposten.leapjna.leapc.events.LEAP_TRACKING_EVENT;
+import komposten.leapjna.leapc.metrics.MetricsSnapshot;
+import komposten.leapjna.simulator.LeapCSimulator;
+
+
+class LeapSessionTest
+{
+	private static final long TIMEOUT_SECONDS = 5;
+
+
+	@Test
+	void start_dispatchesEventsOnPollThread() throws InterruptedException
+	{
+		CountDownLatch connected = new CountDownLatch(1);
+		CountDownLatch frames = new CountDownLatch(10);
+		AtomicReference<Thread> handlerThread = new AtomicReference<>();
+
+		LeapSession session = new LeapSession(new LeapCSimulator(200, 1), new EventHandler()
+		{
+			@Override
+			public void onConnection(LEAP_CONNECTION_EVENT event, int deviceId)
+			{
+				connected.countDown();
+			}
+
+
+			@Override
+			public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+			{
+				handlerThread.set(Thread.currentThread());
+				frames.countDown();
+			}
+		});
+		session.setThreadFactory(runnable -> new Thread(runnable, "test poll thread"));
+
+		try (session)
+		{
+			assertThat(session.start()).isEqualTo(eLeapRS.Success);
+			assertThat(session.isRunning()).isTrue();
+			assertThat(session.getConnectionHandle()).isNotNull();
+			assertThat(connected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+			assertThat(frames.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(session.isRunning()).isFalse();
+		assertThat(handlerThread.get().getName()).isEqualTo("test poll thread");
+		assertThat(handlerThread.get().isAlive()).isFalse();
+
+		MetricsSnapshot timings = session.getTimings();
+		assertThat(timings.getFunction("poll").getCallCount()).isGreaterThanOrEqualTo(11);
+		assertThat(timings.getFunction("decode").getCallCount()).isGreaterThanOrEqualTo(11);
+		assertThat(timings.getFunction("dispatch").getCallCount())
+				.isEqualTo(timings.getFunction("decode").getCallCount());
+	}
+
+
+	@Test
+	void start_createFails_returnsResultWithoutThread()
+	{
+		LeapSession session = new LeapSession(new StubLeapC(), new EventHandler() {});
+
+		assertThat(session.start()).isEqualTo(eLeapRS.Unsupported);
+		assertThat(session.isRunning()).isFalse();
+		assertThat(session.getConnectionHandle()).isNull();
+		assertThatThrownBy(session::start).isInstanceOf(IllegalStateException.class);
+
+		session.close();
+	}
+
+
+	@Test
+	void start_openFails_destroysConnection()
+	{
+		ScriptedLeapC leapC = new ScriptedLeapC(eLeapRS.NotAvailable);
+		LeapSession session = new LeapSession(leapC, new EventHandler() {});
+
+		assertThat(session.start()).isEqualTo(eLeapRS.NotAvailable);
+		assertThat(session.isRunning()).isFalse();
+		assertThat(leapC.calls).containsExactly("create", "open", "destroy");
+	}
+
+
+	@Test
+	void pollFailures_reportedToListener() throws InterruptedException
+	{
+		ScriptedLeapC leapC = new ScriptedLeapC(eLeapRS.Success);
+		List<Integer> failures = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+
+		try (LeapSession session = new LeapSession(leapC, new EventHandler() {}))
+		{
+			session.setPollListener((result, consecutiveFailures) ->
+			{
+				assertThat(result).isEqualTo(eLeapRS.Timeout);
+				failures.add(consecutiveFailures);
+				latch.countDown();
+			});
+			session.start();
+
+			assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(failures.subList(0, 3)).containsExactly(1, 2, 3);
+		assertThat(leapC.calls).endsWith("close", "destroy");
+	}
+
+
+	@Test
+	void handlerThrows_reportedToListenerAndKeepsPolling() throws InterruptedException
+	{
+		List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+
+		try (LeapSession session = new LeapSession(new LeapCSimulator(200, 1),
+				new EventHandler()
+				{
+					@Override
+					public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+					{
+						throw new IllegalStateException("Handler failure");
+					}
+				}))
+		{
+			session.setPollListener(new LeapSession.PollListener()
+			{
+				@Override
+				public void onPollFailed(eLeapRS result, int consecutiveFailures)
+				{}
+
+
+				@Override
+				public void onHandlerFailed(RuntimeException exception)
+				{
+					failures.add(exception);
+					latch.countDown();
+				}
+			});
+			session.start();
+
+			assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+			assertThat(session.isRunning()).isTrue();
+		}
+
+		assertThat(failures).allSatisfy(exception -> assertThat(exception)
+				.isInstanceOf(IllegalStateException.class).hasMessage("Handler failure"));
+	}
+
+
+	@Test
+	void pollListenerThrows_reportedToListenerAndKeepsPolling() throws InterruptedException
+	{
+		ScriptedLeapC leapC = new ScriptedLeapC(eLeapRS.Success);
+		AtomicInteger polls = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(3);
+
+		try (LeapSession session = new LeapSession(leapC, new EventHandler() {}))
+		{
+			session.setPollListener(new LeapSession.PollListener()
+			{
+				@Override
+				public void onPollFailed(eLeapRS result, int consecutiveFailures)
+				{
+					polls.incrementAndGet();
+					throw new IllegalStateException("Listener failure");
+				}
+
+
+				@Override
+				public void onHandlerFailed(RuntimeException exception)
+				{
+					assertThat(exception).hasMessage("Listener failure");
+					latch.countDown();
+				}
+			});
+			session.start();
+
+			assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+			assertThat(session.isRunning()).isTrue();
+		}
+
+		assertThat(polls).hasValueGreaterThanOrEqualTo(3);
+	}
+
+
+	@Test
+	void adaptivePollTimeout_shortWhileStreamingAndLongWhilePaused()
+			throws InterruptedException
+	{
+		LeapCSimulator simulator = new LeapCSimulator(120, 1);
+		AdaptivePollTimeout timeout = new AdaptivePollTimeout(5, 100);
+		CountDownLatch frames = new CountDownLatch(20);
+		CountDownLatch timeouts = new CountDownLatch(1);
+
+		try (LeapSession session = new LeapSession(simulator, new EventHandler()
+		{
+			@Override
+			public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+			{
+				frames.countDown();
+			}
+		}))
+		{
+			session.setAdaptivePollTimeout(timeout);
+			session.setPollListener((result, consecutiveFailures) ->
+			{
+				if (consecutiveFailures >= 2)
+				{
+					timeouts.countDown();
+				}
+			});
+
+			assertThat(session.getPollTimeout()).isEqualTo(100);
+
+			session.start();
+			assertThat(frames.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+			assertThat(session.getPollTimeout()).isBetween(25, 99);
+
+			simulator.LeapSetPause(session.getConnectionHandle(), 1);
+			assertThat(timeouts.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+			assertThat(session.getPollTimeout()).isEqualTo(100);
+		}
+	}
+
+
+	@Test
+	void close_fromHandler_stopsPollThread() throws InterruptedException
+	{
+		AtomicInteger frames = new AtomicInteger();
+		AtomicReference<LeapSession> sessionReference = new AtomicReference<>();
+
+		LeapSession session = new LeapSession(new LeapCSimulator(200, 1), new EventHandler()
+		{
+			@Override
+			public void onTracking(LEAP_TRACKING_EVENT event, int deviceId)
+			{
+				frames.incrementAndGet();
+				sessionReference.get().close();
+			}
+		});
+		sessionReference.set(session);
+
+		session.start();
+
+		assertThat(session.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+		assertThat(session.isRunning()).isFalse();
+		assertThat(frames.get()).isEqualTo(1);
+	}
+
+
+	@Test
+	void configuration_afterStart_throws()
+	{
+		try (LeapSession session = new LeapSession(new StubLeapC(), new EventHandler() {}))
+		{
+			session.start();
+
+			assertThatThrownBy(() -> session.setThreadFactory(Thread::new))
+					.isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> session.setReuseEvents(true))
+					.isInstanceOf(IllegalStateException.class);
+			assertThatThrownBy(() -> session.setPollTimeout(-1))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+
+	/**
+	 * Creates connections successfully, returns the given result from
+	 * <code>LeapOpenConnection</code> and times out on every poll.
+	 */
+	private static class ScriptedLeapC extends StubLeapC
+	{
+		final List<String> calls = new CopyOnWriteArrayList<>();
+		private final eLeapRS openResult;
+
+
+		ScriptedLeapC(eLeapRS openResult)
+		{
+			this.openResult = openResult;
+		}
+
+
+		@Override
+		public eLeapRS LeapCreateConnection(LEAP_CONNECTION_CONFIG pConfig,
+				LEAP_CONNECTION phConnection)
+		{
+			calls.add("create");
+			phConnection.handle = new Pointer(1);
+			return eLeapRS.Success;
+		}
+
+
+		@Override
+		public eLeapRS LeapOpenConnection(Pointer hConnection)
+		{
+			calls.add("open");
+			return openResult;
+		}
+
+
+		@Override
+		public eLeapRS LeapPollConnection(Pointer hConnection, int timeout,
+				LEAP_CONNECTION_MESSAGE message)
+		{
+			message.setFields(message.size(), eLeapEventType.None.value, null, 0);
+			return eLeapRS.Timeout;
+		}
+
+
+		@Override
+		public void LeapCloseConnection(Pointer hConnection)
+		{
+			calls.add("close");
+		}
+
+
+		@Override
+		public void LeapDestroyConnection(Pointer hConnection)
+		{
+			calls.add("destroy");
+		}
+	}
+}
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+
+/**
+ * <p>
+ * Generates a <code>&lt;Structure&gt;_Layout</code> class for every JNA structure
+ * annotated with <code>@FieldOrder</code>. The generated class contains the offset of
+ * each field, the size of the structure, and static <code>read</code> and
+ * <code>write</code> methods which access the fields directly through
+ * <code>Pointer.getInt/getFloat/...</code> instead of through JNA's reflective
+ * <code>Structure.read()</code> and <code>Structure.write()</code>.
+ * </p>
+ * <p>
+ * The offsets assume that the structures are packed (<code>ALIGN_NONE</code>), and
+ * pointer-sized fields are expressed in terms of <code>Native.POINTER_SIZE</code>.
+ * Supported field types are the primitives (except <code>char</code>),
+ * <code>Pointer</code>, <code>String</code> (read-only) and nested structures with
+ * layouts. Structures with other field types (arrays, unions, callbacks, etc.) are
+ * skipped with a note.
+ * </p>
+ */
+@SupportedAnnotationTypes(LayoutProcessor.FIELD_ORDER)
+public class LayoutProcessor extends AbstractProcessor
+{
+	static final String FIELD_ORDER = "com.sun.jna.Structure.FieldOrder";
+
+	private static final String STRUCTURE = "com.sun.jna.Structure";
+	private static final String UNION = "com.sun.jna.Union";
+	private static final String BY_REFERENCE = "com.sun.jna.Structure.ByReference";
+	private static final String POINTER = "com.sun.jna.Pointer";
+	private static final String STRING = "java.lang.String";
+
+	private final Map<String, Layout> layouts = new HashMap<>();
+
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element instanceof TypeElement && getFieldOrder((TypeElement) element) != null)
+				{
+					Layout layout = getLayout((TypeElement) element);
+
+					if (layout.unsupportedReason != null)
+					{
+						processingEnv.getMessager().printMessage(Kind.NOTE, String.format(
+								"No layout generated for %s: %s", layout.typeName,
+								layout.unsupportedReason), element);
+					}
+					else
+					{
+						generate(layout, element);
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+
+	/**
+	 * @return The field names in the <code>@FieldOrder</code> annotation declared directly
+	 *         on <code>type</code>, or <code>null</code> if it has none.
+	 */
+	private List<String> getFieldOrder(TypeElement type)
+	{
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(FIELD_ORDER))
+			{
+				List<String> fieldNames = new ArrayList<>();
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror
+						.getElementValues().entrySet())
+				{
+					if (entry.getKey().getSimpleName().contentEquals("value"))
+					{
+						for (Object value : (List<?>) entry.getValue().getValue())
+						{
+							fieldNames.add((String) ((AnnotationValue) value).getValue());
+						}
+					}
+				}
+				return fieldNames;
+			}
+		}
+
+		return null;
+	}
+
+
+	/**
+	 * @return The type that declares the <code>@FieldOrder</code> used by
+	 *         <code>type</code> (i.e. <code>type</code> or one of its superclasses), or
+	 *         <code>null</code> if none does.
+	 */
+	private TypeElement getFieldOrderType(TypeElement type)
+	{
+		TypeElement current = type;
+		while (current != null)
+		{
+			if (getFieldOrder(current) != null)
+			{
+				return current;
+			}
+
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED
+					? (TypeElement) ((DeclaredType) superclass).asElement()
+					: null;
+		}
+
+		return null;
+	}
+
+
+	private Layout getLayout(TypeElement type)
+	{
+		String name = type.getQualifiedName().toString();
+		Layout layout = layouts.get(name);
+
+		if (layout == null)
+		{
+			layout = new Layout(type, getPackageName(type), getTypeName(type));
+			layout.deprecated = processingEnv.getElementUtils().isDeprecated(type);
+			// Store it before computing it to stop recursive structures from looping.
+			layouts.put(name, layout);
+			layout.unsupportedReason = "it contains itself";
+			layout.unsupportedReason = computeLayout(layout);
+		}
+
+		return layout;
+	}
+
+
+	private String computeLayout(Layout layout)
+	{
+		for (String fieldName : getFieldOrder(layout.type))
+		{
+			VariableElement field = findField(layout.type, fieldName);
+			if (field == null)
+			{
+				return "field " + fieldName + " does not exist";
+			}
+
+			Field layoutField = new Field(fieldName, layout.size);
+			String reason = resolveType(layoutField, field.asType());
+
+			if (reason != null)
+			{
+				return "field " + fieldName + " " + reason;
+			}
+
+			layout.fields.add(layoutField);
+			layout.size = layout.size.plus(layoutField.size);
+			layout.writable &= layoutField.kind != FieldKind.STRING
+					&& (layoutField.layout == null || layoutField.layout.writable);
+		}
+
+		return null;
+	}
+
+
+	private String resolveType(Field field, TypeMirror type)
+	{
+		switch (type.getKind())
+		{
+			case BYTE:
+				return field.primitive(FieldKind.PRIMITIVE, "Byte", 1);
+			case SHORT:
+				return field.primitive(FieldKind.PRIMITIVE, "Short", 2);
+			case INT:
+				return field.primitive(FieldKind.PRIMITIVE, "Int", 4);
+			case LONG:
+				return field.primitive(FieldKind.PRIMITIVE, "Long", 8);
+			case FLOAT:
+				return field.primitive(FieldKind.PRIMITIVE, "Float", 4);
+			case DOUBLE:
+				return field.primitive(FieldKind.PRIMITIVE, "Double", 8);
+			case BOOLEAN:
+				// JNA maps boolean to a 32-bit int.
+				return field.primitive(FieldKind.BOOLEAN, "Int", 4);
+			case ARRAY:
+				return "is an array (the length is not known at compile time)";
+			case DECLARED:
+				return resolveDeclaredType(field, (DeclaredType) type);
+			default:
+				return "has an unsupported type: " + type;
+		}
+	}
+
+
+	private String resolveDeclaredType(Field field, DeclaredType type)
+	{
+		TypeElement element = (TypeElement) type.asElement();
+		String name = element.getQualifiedName().toString();
+
+		if (name.equals(POINTER))
+		{
+			return field.pointer(FieldKind.POINTER);
+		}
+		else if (name.equals(STRING))
+		{
+			return field.pointer(FieldKind.STRING);
+		}
+		else if (isSubtype(type, UNION))
+		{
+			return "is a union";
+		}
+		else if (isSubtype(type, BY_REFERENCE))
+		{
+			return "is a structure by reference";
+		}
+		else if (isSubtype(type, STRUCTURE))
+		{
+			TypeElement layoutType = getFieldOrderType(element);
+			if (layoutType == null)
+			{
+				return "is a structure without @FieldOrder";
+			}
+
+			Layout nested = getLayout(layoutType);
+			if (nested.unsupportedReason != null)
+			{
+				return "has no layout (" + nested.unsupportedReason + ")";
+			}
+
+			field.kind = FieldKind.STRUCTURE;
+			field.layout = nested;
+			field.size = nested.size;
+			return null;
+		}
+
+		return "has an unsupported type: " + name;
+	}
+
+
+	private boolean isSubtype(TypeMirror type, String supertypeName)
+	{
+		TypeElement supertype = processingEnv.getElementUtils().getTypeElement(supertypeName);
+		return supertype != null && processingEnv.getTypeUtils().isAssignable(type,
+				processingEnv.getTypeUtils().erasure(supertype.asType()));
+	}
+
+
+	private VariableElement findField(TypeElement type, String name)
+	{
+		TypeElement current = type;
+		while (current != null)
+		{
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements()))
+			{
+				if (field.getSimpleName().contentEquals(name)
+						&& !field.getModifiers().contains(Modifier.STATIC))
+				{
+					return field;
+				}
+			}
+
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED
+					? (TypeElement) ((DeclaredType) superclass).asElement()
+					: null;
+		}
+
+		return null;
+	}
+
+
+	private String getPackageName(TypeElement type)
+	{
+		return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+				.toString();
+	}
+
+
+	/**
+	 * @return The name of <code>type</code> relative to its package, e.g.
+	 *         <code>LEAP_HAND.DigitStruct</code>.
+	 */
+	private String getTypeName(TypeElement type)
+	{
+		String qualifiedName = type.getQualifiedName().toString();
+		String packageName = getPackageName(type);
+		return packageName.isEmpty() ? qualifiedName
+				: qualifiedName.substring(packageName.length() + 1);
+	}
+
+
+	private void generate(Layout layout, Element origin)
+	{
+		String className = layout.getClassName();
+		String qualifiedName = layout.packageName.isEmpty() ? className
+				: layout.packageName + "." + className;
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, origin)
+				.openWriter(); PrintWriter out = new PrintWriter(writer))
+		{
+			new LayoutWriter(layout, out).write();
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Failed to generate " + qualifiedName + ": " + e, origin);
+		}
+	}
+
+
+	enum FieldKind
+	{
+		PRIMITIVE, BOOLEAN, POINTER, STRING, STRUCTURE
+	}
+
+
+	/**
+	 * A size or offset, in bytes plus a number of pointers.
+	 */
+	static final class Size
+	{
+		static final Size ZERO = new Size(0, 0);
+
+		final int bytes;
+		final int pointers;
+
+
+		Size(int bytes, int pointers)
+		{
+			this.bytes = bytes;
+			this.pointers = pointers;
+		}
+
+
+		Size plus(Size other)
+		{
+			return new Size(bytes + other.bytes, pointers + other.pointers);
+		}
+
+
+		/**
+		 * @return A Java expression for this size. It is a compile-time constant if the size
+		 *         does not depend on the pointer size.
+		 */
+		String toExpression()
+		{
+			if (pointers == 0)
+			{
+				return Integer.toString(bytes);
+			}
+
+			String pointerPart = pointers == 1 ? "Native.POINTER_SIZE"
+					: pointers + " * Native.POINTER_SIZE";
+			return bytes == 0 ? pointerPart : bytes + " + " + pointerPart;
+		}
+	}
+
+
+	static final class Field
+	{
+		final String name;
+		final Size offset;
+		FieldKind kind;
+		String accessor;
+		Size size;
+		Layout layout;
+
+
+		Field(String name, Size offset)
+		{
+			this.name = name;
+			this.offset = offset;
+		}
+
+
+		String primitive(FieldKind kind, String accessor, int size)
+		{
+			this.kind = kind;
+			this.accessor = accessor;
+			this.size = new Size(size, 0);
+			return null;
+		}
+
+
+		String pointer(FieldKind kind)
+		{
+			this.kind = kind;
+			this.accessor = "Pointer";
+			this.size = new Size(0, 1);
+			return null;
+		}
+
+
+		String getConstantName()
+		{
+			return Names.toConstantName(name);
+		}
+	}
+
+
+	static final class Layout
+	{
+		final TypeElement type;
+		final String packageName;
+		final String typeName;
+		final List<Field> fields = new ArrayList<>();
+		Size size = Size.ZERO;
+		boolean writable = true;
+		boolean deprecated;
+		String unsupportedReason;
+
+
+		Layout(TypeElement type, String packageName, String typeName)
+		{
+			this.type = type;
+			this.packageName = packageName;
+			this.typeName = typeName;
+		}
+
+
+		String getClassName()
+		{
+			return Names.toLayoutName(typeName);
+		}
+
+
+		boolean usesNative()
+		{
+			if (size.pointers > 0)
+			{
+				return true;
+			}
+
+			for (Field field : fields)
+			{
+				if (field.offset.pointers > 0)
+				{
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+
+		/**
+		 * @return <code>true</code> if any of the fields is a structure whose layout is
+		 *         deprecated.
+		 */
+		boolean usesDeprecatedLayouts()
+		{
+			for (Field field : fields)
+			{
+				if (field.layout != null && field.layout.deprecated)
+				{
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+
+		Set<String> getImports()
+		{
+			Set<String> imports = new TreeSet<>();
+			imports.add(POINTER);
+			if (usesNative())
+			{
+				imports.add("com.sun.jna.Native");
+			}
+
+			for (Field field : fields)
+			{
+				if (field.layout != null && !field.layout.packageName.equals(packageName))
+				{
+					imports.add(field.layout.packageName + "." + field.layout.getClassName());
+				}
+			}
+
+			return imports;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.processor;
+
+import java.io.PrintWriter;
+
+import komposten.leapjna.processor.LayoutProcessor.Field;
+import komposten.leapjna.processor.LayoutProcessor.Layout;
+
+
+/**
+ * Writes the source code of a <code>_Layout</code> class.
+ */
+class LayoutWriter
+{
+	private final Layout layout;
+	private final PrintWriter out;
+
+
+	LayoutWriter(Layout layout, PrintWriter out)
+	{
+		this.layout = layout;
+		this.out = out;
+	}
+
+
+	void write()
+	{
+		if (!layout.packageName.isEmpty())
+		{
+			out.printf("package %s;%n%n", layout.packageName);
+		}
+
+		out.println("import javax.annotation.processing.Generated;");
+		out.println();
+		String previousGroup = null;
+		for (String importName : layout.getImports())
+		{
+			String group = importName.substring(0, importName.indexOf('.'));
+			if (previousGroup != null && !group.equals(previousGroup))
+			{
+				out.println();
+			}
+			out.printf("import %s;%n", importName);
+			previousGroup = group;
+		}
+		out.println();
+		out.println();
+
+		writeClassComment();
+		// Mirror the structure's deprecation, so using it here does not cause warnings.
+		if (layout.deprecated)
+		{
+			out.println("@Deprecated");
+		}
+		else if (layout.usesDeprecatedLayouts())
+		{
+			out.println("@SuppressWarnings(\"deprecation\")");
+		}
+		out.printf("@Generated(\"%s\")%n", LayoutProcessor.class.getName());
+		out.printf("public final class %s%n", layout.getClassName());
+		out.println("{");
+
+		out.printf("\t/** The size of a <code>%s</code>, in bytes. */%n", layout.typeName);
+		out.printf("\tpublic static final int BYTES = %s;%n", layout.size.toExpression());
+
+		for (Field field : layout.fields)
+		{
+			out.println();
+			out.printf("\t/** The offset of {@link %s#%s}, in bytes. */%n", layout.typeName,
+					field.name);
+			out.printf("\tpublic static final int %s = %s;%n", field.getConstantName(),
+					field.offset.toExpression());
+		}
+
+		out.println();
+		out.println();
+		out.printf("\tprivate %s()%n", layout.getClassName());
+		out.println("\t{}");
+
+		writeRead();
+		if (layout.writable)
+		{
+			writeWrite();
+		}
+
+		out.println("}");
+	}
+
+
+	private void writeClassComment()
+	{
+		out.println("/**");
+		out.println(" * <p>");
+		out.printf(" * The memory layout of {@link %s}, generated from its%n", layout.typeName);
+		out.println(" * <code>@FieldOrder</code>.");
+		out.println(" * </p>");
+		out.println(" * <p>");
+		out.println(" * The field offsets are relative to the start of the structure. The read and write");
+		out.println(" * methods access the fields in <code>@FieldOrder</code> directly, without");
+		out.println(" * reflection, and do not run any custom logic in the structure's own");
+		out.println(" * <code>read()</code> or <code>write()</code>.");
+		out.println(" * </p>");
+		out.println(" */");
+	}
+
+
+	private void writeRead()
+	{
+		out.println();
+		out.println();
+		out.println("\t/**");
+		out.printf("\t * Reads a <code>%s</code> from native memory into <code>struct</code>.%n",
+				layout.typeName);
+		out.println("\t *");
+		out.println("\t * @param pointer The memory to read from.");
+		out.println("\t * @param offset The offset of the structure in <code>pointer</code>.");
+		out.println("\t * @param struct The structure to read into.");
+		out.println("\t */");
+		out.printf("\tpublic static void read(Pointer pointer, long offset, %s struct)%n",
+				layout.typeName);
+		out.println("\t{");
+
+		for (Field field : layout.fields)
+		{
+			String position = "offset + " + field.getConstantName();
+
+			switch (field.kind)
+			{
+				case PRIMITIVE:
+				case POINTER:
+					out.printf("\t\tstruct.%s = pointer.get%s(%s);%n", field.name, field.accessor,
+							position);
+					break;
+				case BOOLEAN:
+					out.printf("\t\tstruct.%s = pointer.getInt(%s) != 0;%n", field.name, position);
+					break;
+				case STRING:
+					out.printf("\t\tPointer %s = pointer.getPointer(%s);%n", field.name, position);
+					out.printf("\t\tstruct.%1$s = %1$s != null ? %1$s.getString(0) : null;%n",
+							field.name);
+					break;
+				case STRUCTURE:
+					out.printf("\t\t%s.read(pointer, %s, struct.%s);%n",
+							field.layout.getClassName(), position, field.name);
+					break;
+			}
+		}
+
+		out.println("\t}");
+	}
+
+
+	private void writeWrite()
+	{
+		out.println();
+		out.println();
+		out.println("\t/**");
+		out.printf("\t * Writes <code>struct</code> to native memory as a <code>%s</code>.%n",
+				layout.typeName);
+		out.println("\t *");
+		out.println("\t * @param pointer The memory to write to.");
+		out.println("\t * @param offset The offset of the structure in <code>pointer</code>.");
+		out.println("\t * @param struct The structure to write.");
+		out.println("\t */");
+		out.printf("\tpublic static void write(Pointer pointer, long offset, %s struct)%n",
+				layout.typeName);
+		out.println("\t{");
+
+		for (Field field : layout.fields)
+		{
+			String position = "offset + " + field.getConstantName();
+
+			switch (field.kind)
+			{
+				case PRIMITIVE:
+				case POINTER:
+					out.printf("\t\tpointer.set%s(%s, struct.%s);%n", field.accessor, position,
+							field.name);
+					break;
+				case BOOLEAN:
+					out.printf("\t\tpointer.setInt(%s, struct.%s ? 1 : 0);%n", position,
+							field.name);
+					break;
+				case STRUCTURE:
+					out.printf("\t\t%s.write(pointer, %s, struct.%s);%n",
+							field.layout.getClassName(), position, field.name);
+					break;
+				default:
+					throw new IllegalStateException(
+							"Cannot write " + field.kind + " field " + field.name);
+			}
+		}
+
+		out.println("\t}");
+	}
+}
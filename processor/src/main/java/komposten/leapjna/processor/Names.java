@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Jakob Hjelm (Komposten)
+ *
+ * This file is part of LeapJna.
+ *
+ * LeapJna is a free Java library: you can use, redistribute it and/or modify
+ * it under the terms of the MIT license as written in the LICENSE file in the root
+ * of this project.
+ */
+package komposten.leapjna.processor;
+
+import java.util.Locale;
+
+
+/**
+ * The naming rules for generated layout classes and constants.
+ */
+final class Names
+{
+	static final String LAYOUT_SUFFIX = "_Layout";
+
+
+	private Names()
+	{}
+
+
+	/**
+	 * @param typeName The name of a structure relative to its package, e.g.
+	 *          <code>LEAP_HAND.DigitStruct</code>.
+	 * @return The simple name of the structure's layout class, e.g.
+	 *         <code>LEAP_HAND_DigitStruct_Layout</code>.
+	 */
+	static String toLayoutName(String typeName)
+	{
+		return typeName.replace('.', '_') + LAYOUT_SUFFIX;
+	}
+
+
+	/**
+	 * Converts a field name to a constant name, e.g. <code>pHands</code> to
+	 * <code>P_HANDS</code> and <code>frame_id</code> to <code>FRAME_ID</code>.
+	 */
+	static String toConstantName(String fieldName)
+	{
+		StringBuilder builder = new StringBuilder(fieldName.length() + 4);
+		for (int i = 0; i < fieldName.length(); i++)
+		{
+			char c = fieldName.charAt(i);
+			if (i > 0 && Character.isUpperCase(c)
+					&& Character.isLowerCase(fieldName.charAt(i - 1)))
+			{
+				builder.append('_');
+			}
+			builder.append(c);
+		}
+		return builder.toString().toUpperCase(Locale.ROOT);
+	}
+}